@@ -0,0 +1,223 @@
+/**
+ * File: MKZ_UtilsLib::VectorApiKernels.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.math.simd;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The Class VectorApiKernels. SIMD implementation of the kernels using the Vector API (JDK 17+, module
+ * jdk.incubator.vector). Compiled from the source folder src-jdk17 by the Maven profile "vector-api" and only loaded
+ * reflectively by {@link mkz.util.math.simd.VectorKernels VectorKernels}. The lanes use separate mul and add (no fma)
+ * so that the results are identical to the scalar loops, the tails are computed by the scalar kernels.
+ */
+public class VectorApiKernels extends ScalarKernels
+{
+	/** The double species (preferred width of the CPU). */
+	private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+	/** The float species (preferred width of the CPU). */
+	private static final VectorSpecies<Float> FLOATS = FloatVector.SPECIES_PREFERRED;
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.simd.ScalarKernels#add(double[], double[], double[])
+	 */
+	@Override
+	public void add(double[] aA, double[] aB, double[] rOut)
+	{
+		_checkLength(aA.length, aB.length, rOut.length);
+		int lBound = DOUBLES.loopBound(rOut.length);
+		int i = 0;
+		for (; i < lBound; i += DOUBLES.length())
+		{
+			DoubleVector.fromArray(DOUBLES, aA, i).add(DoubleVector.fromArray(DOUBLES, aB, i)).intoArray(rOut, i);
+		}
+		for (; i < rOut.length; i++) rOut[i] = aA[i] + aB[i];
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.simd.ScalarKernels#sub(double[], double[], double[])
+	 */
+	@Override
+	public void sub(double[] aA, double[] aB, double[] rOut)
+	{
+		_checkLength(aA.length, aB.length, rOut.length);
+		int lBound = DOUBLES.loopBound(rOut.length);
+		int i = 0;
+		for (; i < lBound; i += DOUBLES.length())
+		{
+			DoubleVector.fromArray(DOUBLES, aA, i).sub(DoubleVector.fromArray(DOUBLES, aB, i)).intoArray(rOut, i);
+		}
+		for (; i < rOut.length; i++) rOut[i] = aA[i] - aB[i];
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.simd.ScalarKernels#mpl(double[], double[], double[])
+	 */
+	@Override
+	public void mpl(double[] aA, double[] aB, double[] rOut)
+	{
+		_checkLength(aA.length, aB.length, rOut.length);
+		int lBound = DOUBLES.loopBound(rOut.length);
+		int i = 0;
+		for (; i < lBound; i += DOUBLES.length())
+		{
+			DoubleVector.fromArray(DOUBLES, aA, i).mul(DoubleVector.fromArray(DOUBLES, aB, i)).intoArray(rOut, i);
+		}
+		for (; i < rOut.length; i++) rOut[i] = aA[i] * aB[i];
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.simd.ScalarKernels#scale(double[], double, double[])
+	 */
+	@Override
+	public void scale(double[] aA, double aScale, double[] rOut)
+	{
+		_checkLength(aA.length, rOut.length, rOut.length);
+		int lBound = DOUBLES.loopBound(rOut.length);
+		int i = 0;
+		for (; i < lBound; i += DOUBLES.length())
+		{
+			DoubleVector.fromArray(DOUBLES, aA, i).mul(aScale).intoArray(rOut, i);
+		}
+		for (; i < rOut.length; i++) rOut[i] = aA[i] * aScale;
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.simd.ScalarKernels#axpy(double, double[], int, double[], int, int)
+	 */
+	@Override
+	public void axpy(double aAlpha, double[] aX, int aOffX, double[] rY, int aOffY, int aLength)
+	{
+		int lBound = DOUBLES.loopBound(aLength);
+		int i = 0;
+		for (; i < lBound; i += DOUBLES.length())
+		{
+			DoubleVector.fromArray(DOUBLES, aX, aOffX + i).mul(aAlpha).add(DoubleVector.fromArray(DOUBLES, rY, aOffY + i)).intoArray(rY, aOffY + i);
+		}
+		for (; i < aLength; i++) rY[aOffY + i] += aAlpha * aX[aOffX + i];
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.simd.ScalarKernels#dot(double[], double[])
+	 */
+	@Override
+	public double dot(double[] aA, double[] aB)
+	{
+		_checkLength(aA.length, aB.length, aA.length);
+		int lBound = DOUBLES.loopBound(aA.length);
+		DoubleVector lSum = DoubleVector.zero(DOUBLES);
+		int i = 0;
+		for (; i < lBound; i += DOUBLES.length())
+		{
+			lSum = DoubleVector.fromArray(DOUBLES, aA, i).mul(DoubleVector.fromArray(DOUBLES, aB, i)).add(lSum);
+		}
+		double rVal = lSum.reduceLanes(VectorOperators.ADD);
+		for (; i < aA.length; i++) rVal += aA[i] * aB[i];
+		return rVal;
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.simd.ScalarKernels#add(float[], float[], float[])
+	 */
+	@Override
+	public void add(float[] aA, float[] aB, float[] rOut)
+	{
+		_checkLength(aA.length, aB.length, rOut.length);
+		int lBound = FLOATS.loopBound(rOut.length);
+		int i = 0;
+		for (; i < lBound; i += FLOATS.length())
+		{
+			FloatVector.fromArray(FLOATS, aA, i).add(FloatVector.fromArray(FLOATS, aB, i)).intoArray(rOut, i);
+		}
+		for (; i < rOut.length; i++) rOut[i] = aA[i] + aB[i];
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.simd.ScalarKernels#sub(float[], float[], float[])
+	 */
+	@Override
+	public void sub(float[] aA, float[] aB, float[] rOut)
+	{
+		_checkLength(aA.length, aB.length, rOut.length);
+		int lBound = FLOATS.loopBound(rOut.length);
+		int i = 0;
+		for (; i < lBound; i += FLOATS.length())
+		{
+			FloatVector.fromArray(FLOATS, aA, i).sub(FloatVector.fromArray(FLOATS, aB, i)).intoArray(rOut, i);
+		}
+		for (; i < rOut.length; i++) rOut[i] = aA[i] - aB[i];
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.simd.ScalarKernels#mpl(float[], float[], float[])
+	 */
+	@Override
+	public void mpl(float[] aA, float[] aB, float[] rOut)
+	{
+		_checkLength(aA.length, aB.length, rOut.length);
+		int lBound = FLOATS.loopBound(rOut.length);
+		int i = 0;
+		for (; i < lBound; i += FLOATS.length())
+		{
+			FloatVector.fromArray(FLOATS, aA, i).mul(FloatVector.fromArray(FLOATS, aB, i)).intoArray(rOut, i);
+		}
+		for (; i < rOut.length; i++) rOut[i] = aA[i] * aB[i];
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.simd.ScalarKernels#scale(float[], float, float[])
+	 */
+	@Override
+	public void scale(float[] aA, float aScale, float[] rOut)
+	{
+		_checkLength(aA.length, rOut.length, rOut.length);
+		int lBound = FLOATS.loopBound(rOut.length);
+		int i = 0;
+		for (; i < lBound; i += FLOATS.length())
+		{
+			FloatVector.fromArray(FLOATS, aA, i).mul(aScale).intoArray(rOut, i);
+		}
+		for (; i < rOut.length; i++) rOut[i] = aA[i] * aScale;
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.simd.ScalarKernels#axpy(float, float[], int, float[], int, int)
+	 */
+	@Override
+	public void axpy(float aAlpha, float[] aX, int aOffX, float[] rY, int aOffY, int aLength)
+	{
+		int lBound = FLOATS.loopBound(aLength);
+		int i = 0;
+		for (; i < lBound; i += FLOATS.length())
+		{
+			FloatVector.fromArray(FLOATS, aX, aOffX + i).mul(aAlpha).add(FloatVector.fromArray(FLOATS, rY, aOffY + i)).intoArray(rY, aOffY + i);
+		}
+		for (; i < aLength; i++) rY[aOffY + i] += aAlpha * aX[aOffX + i];
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.simd.ScalarKernels#dot(float[], float[])
+	 */
+	@Override
+	public float dot(float[] aA, float[] aB)
+	{
+		_checkLength(aA.length, aB.length, aA.length);
+		int lBound = FLOATS.loopBound(aA.length);
+		FloatVector lSum = FloatVector.zero(FLOATS);
+		int i = 0;
+		for (; i < lBound; i += FLOATS.length())
+		{
+			lSum = FloatVector.fromArray(FLOATS, aA, i).mul(FloatVector.fromArray(FLOATS, aB, i)).add(lSum);
+		}
+		float rVal = lSum.reduceLanes(VectorOperators.ADD);
+		for (; i < aA.length; i++) rVal += aA[i] * aB[i];
+		return rVal;
+	}
+}
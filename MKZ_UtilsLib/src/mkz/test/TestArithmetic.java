@@ -1,21 +1,50 @@
-package mkz.test;
-
-import mkz.util.math.AOP;
-
-public class TestArithmetic
-{
-	public static void main(String[] args)
-	{
-		Integer[] i = new Integer[]{45,55,25,65};
-		System.out.println(AOP.INT.gcd(i));
-		
-//		// following is invalid -> fractals not allowed
-//		Double[] d = new Double[]{45.4,55d,25d,65d}; 
-//		System.out.println(AOP.DOUBLE.gcd(d));
-		
-		Double d2 = -32.43;
-		System.out.println(AOP.DOUBLE.abs(d2));
-		
-		
-	}
-}
+package mkz.test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import mkz.util.math.AOP;
+import mkz.util.math.op.DoubleArithmeticOperator;
+import mkz.util.math.op.IntArithmeticOperator;
+
+public class TestArithmetic
+{
+	public static void main(String[] args)
+	{
+		Integer[] i = new Integer[]{45,55,25,65};
+		System.out.println(AOP.INT.gcd(i));
+		
+//		// following is invalid -> fractals not allowed
+//		Double[] d = new Double[]{45.4,55d,25d,65d}; 
+//		System.out.println(AOP.DOUBLE.gcd(d));
+		
+		Double d2 = -32.43;
+		System.out.println(AOP.DOUBLE.abs(d2));
+		
+		// primitive functions (no boxing)
+		System.out.println(AOP.PRIM.DOUBLE.absAsDouble(-32.43)+" "+AOP.PRIM.LONG.mplAsLong(1L<<40, 3L)+" "+AOP.PRIM.INT.modAsInt(47, 5));
+		
+		// bulk functions
+		double[] x = new double[]{1,2,3,4};
+		double[] y = new double[]{10,20,30,40};
+		AOP.PRIM.DOUBLE.axpy(2, x, y);
+		AOP.PRIM.DOUBLE.prefixSum(x, x);
+		System.out.println(Arrays.toString(y)+" "+Arrays.toString(x)+" dot="+AOP.PRIM.DOUBLE.dot(x, y)+" sum="+AOP.PRIM.DOUBLE.sum(y));
+		System.out.println("boxed dot="+AOP.BIG_DECIMAL.dot(new BigDecimal[]{BigDecimal.ONE, BigDecimal.TEN}, new BigDecimal[]{BigDecimal.TEN, BigDecimal.TEN})+" sum="+AOP.INT.sum(new Integer[]{1,2,3}));
+
+		// builtin loops of AOP.DOUBLE and AOP.INT equal the functions of an equivalent operator
+		DoubleArithmeticOperator lDouble = new DoubleArithmeticOperator(0d,1d,(a,b)->a+b,(a,b)->a-b,(a,b)->a*b,(a,b)->a/b,(a,b)->a%b);
+		IntArithmeticOperator lInt = new IntArithmeticOperator(0,1,(a,b)->a+b,(a,b)->a-b,(a,b)->a*b,(a,b)->a/b,(a,b)->a%b);
+		double[] lD1 = new double[37], lD2 = new double[37], lD3 = new double[37];
+		int[] lI1 = new int[37], lI2 = new int[37], lI3 = new int[37];
+		for(int iN=0;iN<37;iN++) { lD1[iN] = Math.random(); lD2[iN] = Math.random(); lI1[iN] = iN*7919; lI2[iN] = iN*104729+1; }
+		AOP.PRIM.DOUBLE.mpl(lD1, lD2, lD3);
+		lDouble.mpl(lD1, lD2, lD1);
+		AOP.PRIM.INT.mpl(lI1, lI2, lI3);
+		lInt.mpl(lI1, lI2, lI1);
+		System.out.println("builtin equals functions (expected: true true true true): "+(AOP.PRIM.DOUBLE.isBuiltin() && !lDouble.isBuiltin())+" "+Arrays.equals(lD3, lD1)+" "+Arrays.equals(lI3, lI1)
+				+" "+(AOP.PRIM.DOUBLE.dot(lD1, lD2)==lDouble.dot(lD1, lD2) && AOP.PRIM.INT.dot(lI1, lI2)==lInt.dot(lI1, lI2)));
+
+		
+	}
+}
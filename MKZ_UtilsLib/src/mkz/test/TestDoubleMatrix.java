@@ -0,0 +1,101 @@
+package mkz.test;
+
+import mkz.util.math.AOP;
+import mkz.util.math.matrix.DoubleMatrix;
+import mkz.util.math.matrix.Matrix;
+import mkz.util.math.matrix.decomp.CholeskyDecomposition;
+import mkz.util.math.matrix.decomp.DoubleLUDecomposition;
+import mkz.util.math.matrix.decomp.QRDecomposition;
+import mkz.util.math.simd.VectorKernels;
+
+public class TestDoubleMatrix
+{
+
+	public static void main(String[] args)
+	{
+		try
+		{
+			Matrix<Double> m1 = Matrix.createVector(new Double[]{0d,0d,3d,0d});
+			m1 = Matrix.createAssembly(m1, Matrix.createVector(new Double[]{1d,0d,6d,5d}), false);
+			m1 = Matrix.createAssembly(m1, Matrix.createVector(new Double[]{6d,3d,9d,7d}), false);
+			m1 = Matrix.createAssembly(m1, Matrix.createVector(new Double[]{2d,6d,9d,6d}), false);
+
+			DoubleMatrix d1 = DoubleMatrix.createFrom(m1);
+
+			System.out.println("Printing D1:");
+			System.out.println(d1);
+			System.out.println();
+
+			System.out.println("Printing ltm(D1):");
+			System.out.println(AOP.PRIM.MTX_DOUBLE.ltm(d1));
+			System.out.println();
+
+			System.out.println("Det(M1) = "+AOP.PRIM.MTX_DOUBLE.det(m1)+", Det(D1) = "+AOP.PRIM.MTX_DOUBLE.det(d1));
+			System.out.println();
+
+			DoubleMatrix d1Inv = AOP.PRIM.MTX_DOUBLE.invert(d1);
+			System.out.println("Printing D1^-1:");
+			System.out.println(d1Inv);
+			System.out.println();
+
+			System.out.println("Printing D1*D1^-1 (expected: identity):");
+			System.out.println(AOP.PRIM.MTX_DOUBLE.mpl(d1, d1Inv));
+			System.out.println();
+
+			DoubleMatrix d2 = new DoubleMatrix(5,4,Math::random);
+			Matrix<Double> m2 = d2.toMatrix();
+
+			System.out.println("Printing D1*D2 - M1*M2 (expected: zero):");
+			System.out.println(AOP.PRIM.MTX_DOUBLE.sub(AOP.PRIM.MTX_DOUBLE.mpl(d1, d2), DoubleMatrix.createFrom(AOP.PRIM.MTX_DOUBLE.mpl(m1, m2))));
+			System.out.println();
+
+			System.out.println("Printing 2*D2+D2-D2:");
+			System.out.println(AOP.PRIM.MTX_DOUBLE.sub(AOP.PRIM.MTX_DOUBLE.add(AOP.PRIM.MTX_DOUBLE.scale(d2, 2d), d2), d2));
+			System.out.println();
+
+			System.out.println("Printing 2*D2+D2-D2 in place - 2*D2 (expected: zero):");
+			DoubleMatrix d3 = d2.copy();
+			AOP.PRIM.MTX_DOUBLE.subInPlace(AOP.PRIM.MTX_DOUBLE.addInPlace(AOP.PRIM.MTX_DOUBLE.scaleInPlace(d3, 2d), d2), d2);
+			System.out.println(AOP.PRIM.MTX_DOUBLE.sub(d3, AOP.PRIM.MTX_DOUBLE.scale(d2, 2d), d3));
+			System.out.println();
+
+			System.out.println("Printing M2+M2 into a target - 2*M2 (5x4, expected: zero):");
+			Matrix<Double> m3 = new Matrix<Double>(5, 4, 0d);
+			AOP.PRIM.MTX_DOUBLE.add(m2, m2, m3);
+			System.out.println(AOP.PRIM.MTX_DOUBLE.sub(m3, AOP.PRIM.MTX_DOUBLE.scaleInPlace(m2.copy(), 2d)));
+			System.out.println();
+
+			System.out.println("Printing SIMD kernels (vectorized: " + VectorKernels.isVectorized() + "), D5*D6 - M5*M6 (37x37, expected: zero):");
+			DoubleMatrix d5 = new DoubleMatrix(37,37,Math::random);
+			DoubleMatrix d6 = new DoubleMatrix(37,37,Math::random);
+			DoubleMatrix d7 = AOP.PRIM.MTX_DOUBLE.sub(AOP.PRIM.MTX_DOUBLE.mpl(d5, d6), DoubleMatrix.createFrom(AOP.PRIM.MTX_DOUBLE.mpl(d5.toMatrix(), d6.toMatrix())));
+			System.out.println(VectorKernels.get().dot(d7.getData(), d7.getData()));
+			System.out.println();
+
+			System.out.println("Printing Cholesky solve of D5^T*D5 (SPD) and QR least squares of D2^T (expected: residual, Q^T*residual near zero, det ratio and rank):");
+			DoubleMatrix d8 = AOP.PRIM.MTX_DOUBLE.mpl(DoubleMatrix.createTransposed(d5), d5);
+			DoubleMatrix b8 = new DoubleMatrix(2,37,Math::random);
+			CholeskyDecomposition lCholesky = AOP.PRIM.MTX_DOUBLE.cholesky(d8);
+			DoubleMatrix r8 = AOP.PRIM.MTX_DOUBLE.sub(AOP.PRIM.MTX_DOUBLE.mpl(d8, lCholesky.solve(b8)), b8);
+			System.out.println(VectorKernels.get().dot(r8.getData(), r8.getData()) + ", det: " + lCholesky.det() / AOP.PRIM.MTX_DOUBLE.det(d8));
+			DoubleMatrix b2 = new DoubleMatrix(1,5,Math::random);
+			DoubleMatrix d9 = DoubleMatrix.createTransposed(d2);
+			QRDecomposition lQr = AOP.PRIM.MTX_DOUBLE.qr(d9);
+			DoubleMatrix r2 = AOP.PRIM.MTX_DOUBLE.sub(AOP.PRIM.MTX_DOUBLE.mpl(d9, lQr.solve(b2)), b2);
+			System.out.println("Q^T*residual: " + AOP.PRIM.MTX_DOUBLE.mpl(DoubleMatrix.createTransposed(lQr.getQ()), r2) + ", rank: " + lQr.getRank());
+			System.out.println();
+
+			System.out.println("Printing LU solve and div of D5 (expected: residuals near zero, det ratio 1):");
+			DoubleLUDecomposition lLu = AOP.PRIM.MTX_DOUBLE.lu(d5);
+			DoubleMatrix r5 = AOP.PRIM.MTX_DOUBLE.sub(AOP.PRIM.MTX_DOUBLE.mpl(d5, lLu.solve(d6)), d6);
+			DoubleMatrix r6 = AOP.PRIM.MTX_DOUBLE.sub(AOP.PRIM.MTX_DOUBLE.mpl(AOP.PRIM.MTX_DOUBLE.div(d6, d5), d5), d6);
+			System.out.println(VectorKernels.get().dot(r5.getData(), r5.getData()) + ", " + VectorKernels.get().dot(r6.getData(), r6.getData()) + ", det: " + lLu.det() / AOP.PRIM.MTX_DOUBLE.det(d5));
+			System.out.println();
+		}
+		catch (Exception e)
+		{
+			e.printStackTrace();
+		}
+	}
+
+}
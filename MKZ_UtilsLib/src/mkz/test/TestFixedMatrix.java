@@ -0,0 +1,61 @@
+package mkz.test;
+
+import mkz.util.math.AOP;
+import mkz.util.math.matrix.Matrix;
+import mkz.util.math.matrix.debug.MatrixException;
+import mkz.util.math.matrix.fixed.Matrix2;
+import mkz.util.math.matrix.fixed.Matrix3;
+import mkz.util.math.matrix.fixed.Matrix4;
+
+public class TestFixedMatrix
+{
+
+	public static void main(String[] args)
+	{
+		try
+		{
+			Matrix3 m1 = new Matrix3(0d,1d,6d, 0d,0d,3d, 3d,6d,9d);
+			Matrix4 m2 = new Matrix4(0d,1d,6d,2d, 0d,0d,3d,6d, 3d,6d,9d,9d, 0d,5d,7d,6d);
+
+			System.out.println("Printing M1:");
+			System.out.println(m1);
+			System.out.println();
+
+			System.out.println("Det(M1) = "+m1.det()+", Det(M2) = "+m2.det()+" = "+AOP.MTX.DOUBLE.det(m2.toMatrix()));
+			System.out.println();
+
+			System.out.println("Printing M1*M1^-1 (expected: identity):");
+			System.out.println(m1.mpl(m1.invert()));
+			System.out.println();
+
+			System.out.println("Printing M2^-1 - Gauss Jordan (expected: zero):");
+			Matrix<Double> m2Inv = AOP.MTX.DOUBLE.invert(m2.toMatrix());
+			System.out.println(m2.invert().sub(Matrix4.createFrom(m2Inv)));
+			System.out.println();
+
+			System.out.println("Printing (M2*M2)^T computed in place, M3*M3^T and M3*(1,2):");
+			m2.mpl(m2, m2).transpose(m2);
+			System.out.println(m2);
+			Matrix2 m3 = new Matrix2(1d,2d, 3d,4d);
+			System.out.println(m3.mpl(m3.transpose(), new Matrix2()));
+			double[] v = m3.transform(new double[]{1d,2d}, new double[2]);
+			System.out.println(v[0]+","+v[1]);
+			System.out.println();
+
+			System.out.println("Inverting a singular matrix (expected: Matrix is singular.):");
+			try
+			{
+				new Matrix3(1d,2d,3d, 2d,4d,6d, 0d,0d,1d).invert();
+			}
+			catch (MatrixException e)
+			{
+				System.out.println(e.getMessage());
+			}
+		}
+		catch (Exception e)
+		{
+			e.printStackTrace();
+		}
+	}
+
+}
@@ -1,63 +1,197 @@
-package mkz.test;
-
-import java.util.ArrayList;
-
-import mkz.util.io.IO;
-
-public class TestIO
-{
-
-	public static void main(String[] args)
-	{
-//		IO.Options.PRINT_FORMAT_OVERRIDE=(aLogLevel, aClass, aMethod, aLineNumber)-> {return "CL: "+aClass+" MT: "+aMethod;};
-//		IO.Options.DEBUG_PRINT_OVERRIDE = System.out::print; // expected: all in one line
-		IO.Options.word_wrap=true;
-		IO.Options.line_wrap=30;
-		
-		//		IO.jIn("hello", new Integer());
-		
-		
-//		IO.dbOut("Hello", 1);
-		IO.jOut("Hello");
-		
-		
-		try
-		{
-			doSomething(null);
-		}
-		catch (Exception lE)
-		{
-			IO.dbOutE(lE);
-		}
-		
-		IO.tryCatch(2,(v)->{doSomething((Integer)v);}, (e) -> IO.dbOutE(e), null); // one fucking line to replace all the upper!
-		
-		
-//		IO.dbOutD("Hello");
-		printSt();
-		IO.Options.line_wrap=10;
-		
-		String lTestStr = "hello world hello world hello world hello world thiswordistoolongtobewrapped";
-		ArrayList<String> lArr=IO._getWrappedLines(lTestStr);
-		
-		for(String iStr:lArr)
-		{
-			IO.jOut(iStr);
-		}
-		
-	}
-
-	public static void doSomething(Integer aValue)
-	{
-		int bla = aValue+3;
-		IO.jOut("bla = "+bla, true);
-	}
-	
-	private static void printSt()
-	{
-		IO.dbOutD("Hello");
-		IO.dbOutD("Hello");
-		IO.dbOutD("Hello");
-		
-	}
-}
+package mkz.test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+
+import mkz.util.io.AsyncLogWriter;
+import mkz.util.io.IO;
+import mkz.util.io.RollingFileSink;
+
+public class TestIO
+{
+
+	public static void main(String[] args)
+	{
+//		IO.Options.PRINT_FORMAT_OVERRIDE=(aLogLevel, aClass, aMethod, aLineNumber)-> {return "CL: "+aClass+" MT: "+aMethod;};
+//		IO.Options.DEBUG_PRINT_OVERRIDE = System.out::print; // expected: all in one line
+		IO.Options.word_wrap=true;
+		IO.Options.line_wrap=30;
+		
+		//		IO.jIn("hello", new Integer());
+		
+		
+//		IO.dbOut("Hello", 1);
+		IO.jOut("Hello");
+		
+		
+		try
+		{
+			doSomething(null);
+		}
+		catch (Exception lE)
+		{
+			IO.dbOutE(lE);
+		}
+		
+		IO.tryCatch(2,(v)->{doSomething((Integer)v);}, (e) -> IO.dbOutE(e), null); // one fucking line to replace all the upper!
+		
+		
+//		IO.dbOutD("Hello");
+		printSt();
+		IO.Options.line_wrap=10;
+		
+		String lTestStr = "hello world hello world hello world hello world thiswordistoolongtobewrapped";
+		ArrayList<String> lArr=IO._getWrappedLines(lTestStr);
+		
+		for(String iStr:lArr)
+		{
+			IO.jOut(iStr);
+		}
+		
+		testAsync();
+		testTraceLevel();
+		testLazy();
+		testFileSink();
+		testFileSinkTimeRotation();
+	}
+	
+	private static void testFileSink()
+	{
+		IO.jOut("Rolling file sink, 1000 bytes per file, gzip, 3 rotated files, app.log.bak kept (expected: [.gz, .gz, .gz, app.log, app.log.bak], last line in app.log (print after close ignored): true)");
+		IO.tryCatch(() ->
+		{
+			Path lDir = Files.createTempDirectory("mkz-sink");
+			RollingFileSink lSink = new RollingFileSink(lDir.resolve("app.log").toString(), 4096);
+			lSink.setMaxFileSize(1000);
+			lSink.setCompress(true);
+			lSink.setMaxFiles(3);
+			Files.write(lDir.resolve("app.log.bak"), new byte[0]);
+			
+			IO.Options.debug_print_override = lSink;
+			for(int i=0;i<200;i++) IO.dbOutD("message {}", i);
+			IO.Options.debug_print_override = null;
+			lSink.close();
+			lSink.print("after close");
+			
+			ArrayList<String> lNames = new ArrayList<String>();
+			for(File iFile:lDir.toFile().listFiles()) lNames.add(iFile.getName().endsWith(".gz") ? ".gz" : iFile.getName());
+			Collections.sort(lNames);
+			String lLog = new String(Files.readAllBytes(lDir.resolve("app.log")), StandardCharsets.UTF_8);
+			IO.jOut(lNames+", last line in app.log (print after close ignored): "+lLog.trim().endsWith("message 199"));
+			
+			for(File iFile:lDir.toFile().listFiles()) iFile.delete();
+			Files.delete(lDir);
+		}, (e) -> IO.dbOutE(e), null);
+	}
+	
+	private static void testFileSinkTimeRotation()
+	{
+		IO.jOut("Rolling file sink, time rotation with fsync ALWAYS and a message bigger than the buffer (expected: rotated: true, message in app.log: true)");
+		IO.tryCatch(() ->
+		{
+			Path lDir = Files.createTempDirectory("mkz-sink");
+			RollingFileSink lSink = new RollingFileSink(lDir.resolve("app.log").toString(), 1024);
+			lSink.setRotationInterval(50);
+			lSink.setFsync(RollingFileSink.Fsync.ALWAYS);
+			
+			char[] lBig = new char[3000];
+			Arrays.fill(lBig, 'x');
+			lSink.print("first");
+			Thread.sleep(120);
+			lSink.print(new String(lBig));
+			lSink.close();
+			
+			String lLog = new String(Files.readAllBytes(lDir.resolve("app.log")), StandardCharsets.UTF_8);
+			IO.jOut("rotated: "+(lDir.toFile().listFiles().length==2)+", message in app.log: "+lLog.trim().equals(new String(lBig)));
+			
+			for(File iFile:lDir.toFile().listFiles()) iFile.delete();
+			Files.delete(lDir);
+		}, (e) -> IO.dbOutE(e), null);
+	}
+	
+	private static void testLazy()
+	{
+		IO.jOut("Supplier and {} formats (expected: 'a=1, b=two, {}', 'x y z', supplier not called: true)");
+		IO.dbOutD("a={}, b={}, {}", 1, "two");
+		IO.dbOutD("{} {} {}", "x", "y", "z");
+		
+		boolean[] lCalled = new boolean[1];
+		IO.Options.log_level = IO.Options.LOG_DEBUG;
+		IO.dbOutV(() -> { lCalled[0] = true; return "verbose"; });
+		IO.jOut("supplier not called: "+!lCalled[0]);
+	}
+	
+	private static void testTraceLevel()
+	{
+		IO.jOut("Trace level WARN (expected: Debug message without caller, Warning message with caller TestIO::testTraceLevel)");
+		IO.Options.trace_level = IO.Options.LOG_WARN;
+		IO.dbOutD("no caller");
+		IO.dbOutW("with caller");
+		IO.Options.trace_level = IO.Options.LOG_VERBOSE;
+	}
+	
+	private static void testAsync()
+	{
+		IO.Options.line_wrap=0;
+		IO.jOut("Async output, 4 threads with 1000 messages each (expected: 4000 messages, 0 dropped, in order per thread: true)");
+		
+		ArrayList<String> lOut = new ArrayList<String>();
+		IO.Options.debug_print_override = lOut::add;
+		IO.setAsync(true);
+		
+		Thread[] lThreads = new Thread[4];
+		for(int i=0;i<lThreads.length;i++)
+		{
+			final int lId = i;
+			lThreads[i] = new Thread(() -> { for(int j=0;j<1000;j++) IO.dbOutD(lId+":"+j); });
+			lThreads[i].start();
+		}
+		for(Thread iThread:lThreads) IO.tryCatch(iThread::join, null, null);
+		IO.flush();
+		
+		int[] lNext = new int[lThreads.length];
+		boolean lOrdered = true;
+		for(String iLine:lOut)
+		{
+			String[] lParts = iLine.substring(iLine.lastIndexOf(' ')+1).split(":");
+			int lId = Integer.parseInt(lParts[0]);
+			lOrdered &= Integer.parseInt(lParts[1]) == lNext[lId]++;
+		}
+		IO.jOut(lOut.size()+" messages, "+IO.getDropped()+" dropped, in order per thread: "+lOrdered);
+		IO.setAsync(false);
+		
+		IO.jOut("Async output with DROP_NEW, capacity 16 and a slow output (expected: written + dropped = 1000: true)");
+		lOut.clear();
+		IO.Options.debug_print_override = (m) -> { lOut.add(m); IO.tryCatch(() -> Thread.sleep(1), null, null); };
+		IO.Options.async_capacity = 16;
+		IO.Options.async_backpressure = AsyncLogWriter.Backpressure.DROP_NEW;
+		IO.setAsync(true);
+		for(int j=0;j<1000;j++) IO.dbOutD("message "+j);
+		long lDropped = IO.getDropped();
+		IO.setAsync(false);
+		IO.jOut(lOut.size()+" written, "+lDropped+" dropped: "+(lOut.size()+lDropped == 1000));
+		
+		IO.Options.debug_print_override = null;
+		IO.Options.async_capacity = 8192;
+		IO.Options.async_backpressure = AsyncLogWriter.Backpressure.BLOCK;
+	}
+
+	public static void doSomething(Integer aValue)
+	{
+		int bla = aValue+3;
+		IO.jOut("bla = "+bla, true);
+	}
+	
+	private static void printSt()
+	{
+		IO.dbOutD("Hello");
+		IO.dbOutD("Hello");
+		IO.dbOutD("Hello");
+		
+	}
+}
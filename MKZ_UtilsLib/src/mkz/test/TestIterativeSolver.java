@@ -0,0 +1,132 @@
+package mkz.test;
+
+import java.util.Arrays;
+
+import mkz.util.math.AOP;
+import mkz.util.math.matrix.DoubleMatrix;
+import mkz.util.math.matrix.debug.MatrixException;
+import mkz.util.math.matrix.solve.BiCGStab;
+import mkz.util.math.matrix.solve.ConjugateGradient;
+import mkz.util.math.matrix.solve.GMRES;
+import mkz.util.math.matrix.solve.ILU0Preconditioner;
+import mkz.util.math.matrix.solve.IterativeSolver;
+import mkz.util.math.matrix.solve.JacobiPreconditioner;
+import mkz.util.math.matrix.solve.LinearOperators;
+import mkz.util.math.matrix.solve.SolverOptions;
+import mkz.util.math.matrix.solve.SolverResult;
+import mkz.util.math.matrix.solve.definition.ILinearOperator;
+import mkz.util.math.matrix.sparse.CSRMatrix;
+
+public class TestIterativeSolver
+{
+
+	public static void main(String[] args)
+	{
+		try
+		{
+			// 2D poisson (5 point stencil) on a 30x30 grid, symmetric positive definite
+			int n = 30;
+			CSRMatrix<Double> poisson = createGrid(n, 0d);
+			ILinearOperator a = LinearOperators.createFrom(poisson);
+			double[] b = rhs(a);
+
+			System.out.println("CG on poisson "+n*n+"x"+n*n+" (expected: converged, error < 1e-5):");
+			print(new ConjugateGradient(), a, b);
+			SolverOptions options = new SolverOptions();
+			options.setPreconditioner(JacobiPreconditioner.createFrom(poisson));
+			print(new ConjugateGradient(options), a, b);
+			options.setPreconditioner(new ILU0Preconditioner(poisson));
+			print(new ConjugateGradient(options), a, b);
+			System.out.println();
+
+			// convection-diffusion, non symmetric
+			CSRMatrix<Double> convection = createGrid(n, 0.8d);
+			a = LinearOperators.createFrom(convection);
+			b = rhs(a);
+
+			System.out.println("BiCGSTAB and GMRES(30) on convection-diffusion (expected: converged, error < 1e-5):");
+			print(new BiCGStab(), a, b);
+			print(new GMRES(), a, b);
+			options = new SolverOptions();
+			options.setPreconditioner(new ILU0Preconditioner(convection));
+			print(new BiCGStab(options), a, b);
+			print(new GMRES(options), a, b);
+			System.out.println();
+
+			System.out.println("Residual listener, GMRES aborted after 5 iterations (expected: 5 lines, not converged):");
+			options = new SolverOptions();
+			options.setResidualListener((i, r) -> {
+				System.out.println("  "+i+": "+r);
+				return i < 5;
+			});
+			System.out.println(new GMRES(options).solve(a, b));
+			System.out.println();
+
+			System.out.println("Dense system vs. QR (expected: true):");
+			DoubleMatrix dense = new DoubleMatrix(8, 8, Math::random);
+			for (int i = 0; i < 8; i++) dense.set(i, i, dense.get(i, i)+8d);
+			double[] x = new GMRES().solve(LinearOperators.createFrom(dense), new double[]{1,2,3,4,5,6,7,8}).getSolution();
+			DoubleMatrix lu = AOP.PRIM.MTX_DOUBLE.qr(dense).solve(DoubleMatrix.createVector(new double[]{1,2,3,4,5,6,7,8}));
+			double max = 0d;
+			for (int i = 0; i < 8; i++) max = Math.max(max, Math.abs(x[i]-lu.get(0, i)));
+			System.out.println(max < 1e-6);
+			System.out.println();
+
+			System.out.println("CG on an indefinite matrix (expected: Matrix is not symmetric positive definite.):");
+			try
+			{
+				new ConjugateGradient().solve(LinearOperators.createFrom(new DoubleMatrix(2, 2, new double[]{1,0, 0,-1})), new double[]{1,1});
+			}
+			catch (MatrixException e)
+			{
+				System.out.println(e.getMessage());
+			}
+		}
+		catch (Exception e)
+		{
+			e.printStackTrace();
+		}
+	}
+
+	private static CSRMatrix<Double> createGrid(int n, double convection) throws MatrixException
+	{
+		int size = n*n;
+		int[] xs = new int[5*size], ys = new int[5*size];
+		Double[] values = new Double[5*size];
+		int k = 0;
+		for (int iY = 0; iY < n; iY++)
+		{
+			for (int iX = 0; iX < n; iX++)
+			{
+				int row = iY*n+iX;
+				xs[k] = row; ys[k] = row; values[k++] = 4d;
+				if (iX > 0) { xs[k] = row-1; ys[k] = row; values[k++] = -1d-convection; }
+				if (iX < n-1) { xs[k] = row+1; ys[k] = row; values[k++] = -1d+convection; }
+				if (iY > 0) { xs[k] = row-n; ys[k] = row; values[k++] = -1d; }
+				if (iY < n-1) { xs[k] = row+n; ys[k] = row; values[k++] = -1d; }
+			}
+		}
+		return CSRMatrix.createFromTriplets(size, size, Arrays.copyOf(xs, k), Arrays.copyOf(ys, k), Arrays.copyOf(values, k), AOP.DOUBLE);
+	}
+
+	// b = A*(1,2,3,...)
+	private static double[] rhs(ILinearOperator a)
+	{
+		double[] x = new double[a.getSize()];
+		for (int i = 0; i < x.length; i++) x[i] = i % 7 + 1;
+		double[] b = new double[x.length];
+		a.apply(x, b);
+		return b;
+	}
+
+	private static void print(IterativeSolver solver, ILinearOperator a, double[] b) throws MatrixException
+	{
+		SolverResult result = solver.solve(a, b);
+		double[] x = result.getSolution();
+		double error = 0d;
+		for (int i = 0; i < x.length; i++) error = Math.max(error, Math.abs(x[i]-(i % 7 + 1)));
+		String precond = solver.getOptions().getPreconditioner() == null ? "none" : solver.getOptions().getPreconditioner().getClass().getSimpleName();
+		System.out.println("  "+solver.getClass().getSimpleName()+" ("+precond+"): "+result+", error < 1e-5: "+(error < 1e-5));
+	}
+
+}
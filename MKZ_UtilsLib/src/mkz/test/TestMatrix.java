@@ -1,76 +1,167 @@
-package mkz.test;
-
-import mkz.util.math.AOP;
-import mkz.util.math.matrix.Matrix;
-
-public class TestMatrix
-{
-
-	public static void main(String[] args)
-	{
-		try
-		{
-			Matrix<Double> m1 = Matrix.createVector(new Double[]{0d,0d,3d,0d});
-			m1 = Matrix.createAssembly(m1, Matrix.createVector(new Double[]{1d,0d,6d,5d}), false);
-			m1 = Matrix.createAssembly(m1, Matrix.createVector(new Double[]{6d,3d,9d,7d}), false);
-			m1 = Matrix.createAssembly(m1, Matrix.createVector(new Double[]{2d,6d,9d,6d}), false);
-			
-//			m1 = Matrix.createAssembly(m1, Matrix.createIdentity(4, 0d, 1d), false);
-			
-			System.out.println("Printing M1:");
-			System.out.println(m1);
-			System.out.println();
-			
-			System.out.println("Printing ltm(M1) -> Gauss:");
-			System.out.println(AOP.MTX.DOUBLE.ltm(m1));//AOP.MTX.DOUBLE.ltmSort(m1));
-			System.out.println();
-			
-			Matrix<Double> m1Inv = AOP.MTX.DOUBLE.invert(m1);
-			System.out.println("Printing M1^-1 -> Gauss Jordan:");
-			System.out.println(m1Inv);//AOP.MTX.DOUBLE.ltmSort(m1));
-			System.out.println();
-			
-			System.out.println("Printing  M1^-1 harmonized:");
-			System.out.println(Matrix.oneByAllOperation(m1Inv, (a)->round(a,10))); // applies round(a) to all a element of A
-			System.out.println();
-			
-			System.out.println("Printing M1^-1*M1:");
-			Matrix<Double> m1InvTimesM1 = AOP.MTX.DOUBLE.mpl(m1, m1Inv);
-			System.out.println(m1InvTimesM1);
-			System.out.println();
-			
-			System.out.println("Printing M1^-1*M1 harmonized:");
-			System.out.println(Matrix.oneByAllOperation(m1InvTimesM1, (a)->round(a,10))); // applies round(a) to all a element of A
-			System.out.println();
-			
-			Matrix<Double> m2 = new Matrix<Double>(20,3,Math::random);
-			
-			System.out.println("Printing M2:");
-			System.out.println(m2);
-			System.out.println();
-			
-//			System.out.println("Printing M1*M2:");
-//			Matrix<Double> m3 = AOP.MTX.DOUBLE.mmult(m1, m2);
-//			System.out.println(m3);
-//			System.out.println();
-			
-//			System.out.println("Det(M1*M2) = "+AOP.MTX.DOUBLE.det(m3));
-		}
-		catch (Exception e)
-		{
-			e.printStackTrace();
-		}
-		
-	}
-
-	// http://stackoverflow.com/questions/2808535/round-a-double-to-2-decimal-places
-	public static double round(double value, int places) {
-	    if (places < 0) throw new IllegalArgumentException();
-
-	    long factor = (long) Math.pow(10, places);
-	    value = value * factor;
-	    long tmp = Math.round(value);
-	    return (double) tmp / factor;
-	}
-
-}
+package mkz.test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import mkz.util.math.AOP;
+import mkz.util.math.matrix.Matrix;
+import mkz.util.math.matrix.op.BatchResult;
+import mkz.util.math.matrix.op.MatrixOperator;
+
+public class TestMatrix
+{
+
+	public static void main(String[] args)
+	{
+		try
+		{
+			Matrix<Double> m1 = Matrix.createVector(new Double[]{0d,0d,3d,0d});
+			m1 = Matrix.createAssembly(m1, Matrix.createVector(new Double[]{1d,0d,6d,5d}), false);
+			m1 = Matrix.createAssembly(m1, Matrix.createVector(new Double[]{6d,3d,9d,7d}), false);
+			m1 = Matrix.createAssembly(m1, Matrix.createVector(new Double[]{2d,6d,9d,6d}), false);
+			
+//			m1 = Matrix.createAssembly(m1, Matrix.createIdentity(4, 0d, 1d), false);
+			
+			System.out.println("Printing M1:");
+			System.out.println(m1);
+			System.out.println();
+			
+			System.out.println("Printing ltm(M1) -> Gauss:");
+			System.out.println(AOP.MTX.DOUBLE.ltm(m1));//AOP.MTX.DOUBLE.ltmSort(m1));
+			System.out.println();
+			
+			Matrix<Double> m1Inv = AOP.MTX.DOUBLE.invert(m1);
+			System.out.println("Printing M1^-1 -> Gauss Jordan:");
+			System.out.println(m1Inv);//AOP.MTX.DOUBLE.ltmSort(m1));
+			System.out.println();
+			
+			System.out.println("Printing  M1^-1 harmonized:");
+			System.out.println(Matrix.oneByAllOperation(m1Inv, (a)->round(a,10))); // applies round(a) to all a element of A
+			System.out.println();
+			
+			System.out.println("Printing M1^-1*M1:");
+			Matrix<Double> m1InvTimesM1 = AOP.MTX.DOUBLE.mpl(m1, m1Inv);
+			System.out.println(m1InvTimesM1);
+			System.out.println();
+			
+			System.out.println("Printing M1^-1*M1 harmonized:");
+			System.out.println(Matrix.oneByAllOperation(m1InvTimesM1, (a)->round(a,10))); // applies round(a) to all a element of A
+			System.out.println();
+			
+			Matrix<Double> m2 = new Matrix<Double>(20,3,Math::random);
+			
+			System.out.println("Printing M2:");
+			System.out.println(m2);
+			System.out.println();
+			
+//			System.out.println("Printing M1*M2:");
+//			Matrix<Double> m3 = AOP.MTX.DOUBLE.mmult(m1, m2);
+//			System.out.println(m3);
+//			System.out.println();
+			
+//			System.out.println("Det(M1*M2) = "+AOP.MTX.DOUBLE.det(m3));
+
+			System.out.println("Printing views of M1 (transposed, sub grid (0,0), right half, M1|M1^-1):");
+			System.out.println(Matrix.createTransposedView(m1));
+			System.out.println();
+			System.out.println(Matrix.createSubGridView(m1, 0, 0));
+			System.out.println();
+			System.out.println(Matrix.createHorizontalSplittedView(m1, 2, false));
+			System.out.println();
+			System.out.println(Matrix.createAssemblyView(m1, m1Inv, false));
+			System.out.println();
+
+			System.out.println("Writing 42 through the transposed view at (0,1) -> M1(1,0):");
+			Matrix.createTransposedView(m1).set(0, 1, 42d);
+			System.out.println(m1.get(1, 0));
+			System.out.println();
+
+			System.out.println("Printing 2*M1+(M1^-1-M1) fused - stepwise (expected: zero):");
+			Matrix<Double> m4 = AOP.MTX.DOUBLE.expr(m1).scale(2d).add(AOP.MTX.DOUBLE.expr(m1Inv).sub(m1)).eval();
+			Matrix<Double> m5 = AOP.MTX.DOUBLE.add(AOP.MTX.DOUBLE.scale(m1, 2d), AOP.MTX.DOUBLE.sub(m1Inv, m1));
+			System.out.println(AOP.MTX.DOUBLE.expr(m4).sub(m5).eval(m4));
+			System.out.println();
+
+			System.out.println("Printing Strassen(M6*M7) equals M6*M7 (int, 37x29 * 29x41, cutoff 4, expected: true):");
+			Matrix<Integer> m6 = new Matrix<Integer>(29,37,()->(int)(Math.random()*100)-50);
+			Matrix<Integer> m7 = new Matrix<Integer>(41,29,()->(int)(Math.random()*100)-50);
+			MatrixOperator<Integer> lStrassenOp = new MatrixOperator<Integer>(AOP.INT);
+			lStrassenOp.setStrassenCutoff(4);
+			System.out.println(Arrays.deepEquals(lStrassenOp.mplStrassen(m6, m7).getData(), AOP.MTX.INT.mpl(m6, m7).getData()));
+			System.out.println();
+
+			System.out.println("Printing ltm(M9) (int, " + AOP.MTX.INT.getEliminationMode() + ", CROSS_GCD) and det(M9) Bareiss = cofactor:");
+			Matrix<Integer> m9 = new Matrix<Integer>(6,6,()->(int)(Math.random()*20)-10);
+			MatrixOperator<Integer> lGcdOp = new MatrixOperator<Integer>(AOP.INT);
+			lGcdOp.setEliminationMode(MatrixOperator.EliminationMode.CROSS_GCD);
+			System.out.println(AOP.MTX.INT.ltm(m9));
+			System.out.println();
+			System.out.println(lGcdOp.ltm(m9));
+			System.out.println();
+			System.out.println(AOP.MTX.INT.det(m9) + " = " + AOP.MTX.INT.detCofactor(m9));
+			System.out.println();
+
+			System.out.println("Batch invert of 1000 matrices, #10 and #500 not square (expected: 2 failed, [10, 500], #0 equals M1^-1):");
+			List<Matrix<Double>> lBatch = new ArrayList<Matrix<Double>>();
+			for (int i = 0; i < 1000; i++) lBatch.add(i == 0 ? m1 : new Matrix<Double>(4, i == 10 || i == 500 ? 3 : 4, Math::random));
+			BatchResult<Matrix<Double>> lInverses = AOP.MTX.DOUBLE.invertAll(lBatch);
+			System.out.println(lInverses.getFailureCount() + " failed, " + lInverses.getFailedIndices() + ", " + lInverses.getError(10).getClass().getSimpleName());
+			System.out.println(Arrays.deepEquals(lInverses.get(0).getData(), AOP.MTX.DOUBLE.invert(m1).getData()));
+			System.out.println();
+
+			System.out.println("Fast path of the predefined operators equals the generic implementation (double, float, int: mpl, invert, det, expected: true):");
+			Matrix<Double> m10 = new Matrix<Double>(12,12,Math::random);
+			Matrix<Float> m11 = new Matrix<Float>(12,12,()->(float)Math.random());
+			Matrix<Integer> m12 = new Matrix<Integer>(8,8,()->(int)(Math.random()*20)-10);
+			MatrixOperator<Double> lGenericDouble = new MatrixOperator<Double>(AOP.DOUBLE);
+			MatrixOperator<Float> lGenericFloat = new MatrixOperator<Float>(AOP.FLOAT);
+			MatrixOperator<Integer> lGenericInt = new MatrixOperator<Integer>(AOP.INT);
+			lGenericDouble.setFastPath(false);
+			lGenericFloat.setFastPath(false);
+			lGenericInt.setFastPath(false);
+			System.out.println(AOP.MTX.DOUBLE.isFastPath() && !lGenericDouble.isFastPath()
+					&& Arrays.deepEquals(AOP.MTX.DOUBLE.mpl(m10, m10).getData(), lGenericDouble.mpl(m10, m10).getData())
+					&& Arrays.deepEquals(AOP.MTX.DOUBLE.invert(m10).getData(), lGenericDouble.invert(m10).getData())
+					&& AOP.MTX.DOUBLE.det(m10).equals(lGenericDouble.det(m10))
+					&& Arrays.deepEquals(AOP.MTX.FLOAT.invert(m11).getData(), lGenericFloat.invert(m11).getData())
+					&& AOP.MTX.FLOAT.det(m11).equals(lGenericFloat.det(m11))
+					&& Arrays.deepEquals(AOP.MTX.INT.mpl(m12, m12).getData(), lGenericInt.mpl(m12, m12).getData())
+					&& AOP.MTX.INT.det(m12).equals(lGenericInt.det(m12)));
+			System.out.println();
+			
+			System.out.println("BigDecimal div(I, M13) and solve(M13, I), M13 = [[3,1],[1,1]] (expected: 2 x 0.5,-0.5 / -0.5,1.5):");
+			Matrix<BigDecimal> m13 = new Matrix<BigDecimal>(new Object[][] {{new BigDecimal(3), BigDecimal.ONE}, {BigDecimal.ONE, BigDecimal.ONE}});
+			Matrix<BigDecimal> lIdentity = new Matrix<BigDecimal>(new Object[][] {{BigDecimal.ONE, BigDecimal.ZERO}, {BigDecimal.ZERO, BigDecimal.ONE}});
+			System.out.println(AOP.MTX.BIG_DECIMAL.div(lIdentity, m13));
+			System.out.println(AOP.MTX.BIG_DECIMAL.solve(m13, lIdentity));
+			System.out.println();
+
+			System.out.println("solve(3*I, [3;6]) and div([3,6], 3*I), det 9 (expected: INT and BigDecimal 1;2 and 1,2):");
+			Matrix<Integer> m14 = new Matrix<Integer>(new Object[][] {{3, 0}, {0, 3}});
+			System.out.println(AOP.MTX.INT.solve(m14, new Matrix<Integer>(new Object[][] {{3}, {6}})));
+			System.out.println(AOP.MTX.INT.div(new Matrix<Integer>(new Object[][] {{3, 6}}), m14));
+			Matrix<BigDecimal> m15 = new Matrix<BigDecimal>(new Object[][] {{new BigDecimal(3), BigDecimal.ZERO}, {BigDecimal.ZERO, new BigDecimal(3)}});
+			System.out.println(AOP.MTX.BIG_DECIMAL.solve(m15, new Matrix<BigDecimal>(new Object[][] {{new BigDecimal(3)}, {new BigDecimal(6)}})));
+			System.out.println(AOP.MTX.BIG_DECIMAL.div(new Matrix<BigDecimal>(new Object[][] {{new BigDecimal(3), new BigDecimal(6)}}), m15));
+			System.out.println();
+		}
+		catch (Exception e)
+		{
+			e.printStackTrace();
+		}
+		
+	}
+
+	// http://stackoverflow.com/questions/2808535/round-a-double-to-2-decimal-places
+	public static double round(double value, int places) {
+	    if (places < 0) throw new IllegalArgumentException();
+
+	    long factor = (long) Math.pow(10, places);
+	    value = value * factor;
+	    long tmp = Math.round(value);
+	    return (double) tmp / factor;
+	}
+
+}
@@ -0,0 +1,54 @@
+package mkz.test;
+
+import mkz.util.math.AOP;
+import mkz.util.math.matrix.Matrix;
+import mkz.util.math.matrix.sparse.CSCMatrix;
+import mkz.util.math.matrix.sparse.CSRMatrix;
+
+public class TestSparseMatrix
+{
+
+	public static void main(String[] args)
+	{
+		try
+		{
+			Matrix<Integer> m1 = new Matrix<Integer>(new Object[][]{{1,0,0,2},{0,0,3,0},{0,4,0,0}});
+			Matrix<Integer> m2 = new Matrix<Integer>(new Object[][]{{0,1},{5,0},{0,0},{0,-1}});
+
+			CSRMatrix<Integer> s1 = AOP.SMTX.INT.toCSR(m1);
+			CSRMatrix<Integer> s2 = AOP.SMTX.INT.toCSR(m2);
+
+			System.out.println("Printing S1 (nnz="+s1.getNonZeros()+"):");
+			System.out.println(s1);
+			System.out.println();
+
+			System.out.println("Printing S1*S2 (expected: M1*M2):");
+			System.out.println(AOP.SMTX.INT.mpl(s1, s2));
+			System.out.println(AOP.MTX.INT.mpl(m1, m2));
+			System.out.println();
+
+			System.out.println("Printing S1*M2 and M1*CSC(M2) (expected: M1*M2):");
+			System.out.println(AOP.SMTX.INT.mpl(s1, m2));
+			System.out.println(AOP.SMTX.INT.mpl(m1, AOP.SMTX.INT.toCSC(m2)));
+			System.out.println();
+
+			System.out.println("Printing S1^T:");
+			System.out.println(AOP.SMTX.INT.transpose(s1));
+			System.out.println();
+
+			System.out.println("Printing 2*S1-S1-S1 (expected: zero, nnz=0):");
+			CSRMatrix<Integer> lZero = AOP.SMTX.INT.sub(AOP.SMTX.INT.sub(AOP.SMTX.INT.scale(s1, 2), s1), s1);
+			System.out.println(lZero+" (nnz="+lZero.getNonZeros()+")");
+			System.out.println();
+
+			CSCMatrix<Double> lTri = CSCMatrix.createFromTriplets(3, 3, new int[]{0,2,0,1}, new int[]{0,2,0,1}, new Object[]{1d,2d,3d,4d}, AOP.DOUBLE);
+			System.out.println("Printing triplets (duplicate (0,0) summed up):");
+			System.out.println(lTri);
+		}
+		catch (Exception e)
+		{
+			e.printStackTrace();
+		}
+	}
+
+}
@@ -1,69 +1,69 @@
-
-package mkz.util.generic;
-
-/**
- * The Class Pair. A combination of two generic elements.
- *
- * @param <T> the generic type
- * @param <Q> the generic type
- */
-public class Pair<T,Q>
-{
-	/** The member object1. */
-	private T mObject1=null;
-	
-	/** The member object2. */
-	private Q mObject2=null;
-	
-	/**
-	 * Instantiates a new pair.
-	 *
-	 * @param aObject1 the reference object1
-	 * @param aObject2 the reference object2
-	 */
-	public Pair(T aObject1,Q aObject2)
-	{
-		mObject1=aObject1;
-		mObject2=aObject2;
-	}
-
-	/**
-	 * Gets the object1.
-	 *
-	 * @return the object1
-	 */
-	public T getObject1()
-	{
-		return mObject1;
-	}
-
-	/**
-	 * Sets the object1.
-	 *
-	 * @param aObject1 the new object1
-	 */
-	public void setObject1(T aObject1)
-	{
-		mObject1 = aObject1;
-	}
-
-	/**
-	 * Gets the object2.
-	 *
-	 * @return the object2
-	 */
-	public Q getObject2()
-	{
-		return mObject2;
-	}
-
-	/**
-	 * Sets the object2.
-	 *
-	 * @param aObject2 the new object2
-	 */
-	public void setObject2(Q aObject2)
-	{
-		mObject2 = aObject2;
-	}
+
+package mkz.util.generic;
+
+/**
+ * The Class Pair. A combination of two generic elements.
+ *
+ * @param <T> the generic type
+ * @param <Q> the generic type
+ */
+public class Pair<T,Q>
+{
+	/** The member object1. */
+	private T mObject1=null;
+	
+	/** The member object2. */
+	private Q mObject2=null;
+	
+	/**
+	 * Instantiates a new pair.
+	 *
+	 * @param aObject1 the reference object1
+	 * @param aObject2 the reference object2
+	 */
+	public Pair(T aObject1,Q aObject2)
+	{
+		mObject1=aObject1;
+		mObject2=aObject2;
+	}
+
+	/**
+	 * Gets the object1.
+	 *
+	 * @return the object1
+	 */
+	public T getObject1()
+	{
+		return mObject1;
+	}
+
+	/**
+	 * Sets the object1.
+	 *
+	 * @param aObject1 the new object1
+	 */
+	public void setObject1(T aObject1)
+	{
+		mObject1 = aObject1;
+	}
+
+	/**
+	 * Gets the object2.
+	 *
+	 * @return the object2
+	 */
+	public Q getObject2()
+	{
+		return mObject2;
+	}
+
+	/**
+	 * Sets the object2.
+	 *
+	 * @param aObject2 the new object2
+	 */
+	public void setObject2(Q aObject2)
+	{
+		mObject2 = aObject2;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,284 @@
+/**
+ * File: MKZ_UtilsLib::AsyncLogWriter.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.io;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The Class AsyncLogWriter. Background writer of the asynchronous debug output (see
+ * {@link mkz.util.io.IO#setAsync(boolean) IO::setAsync}). The callers of the dbOut methods format the message (the
+ * trace has to be read on their thread) and offer it to a bounded lock-free {@link mkz.util.io.RingBuffer RingBuffer},
+ * a daemon thread drains the buffer in batches to the {@link mkz.util.io.IO.Options#debug_print_override
+ * debug_print_override} or, if not set, writes the wrapped lines of a whole batch with one System.out.print. A
+ * shutdown hook writes the pending messages when the JVM exits.
+ */
+public final class AsyncLogWriter
+{
+	/**
+	 * The Enum Backpressure, what a caller does if the buffer is full.
+	 */
+	public static enum Backpressure
+	{
+		/** Wait until the writer has made space. */
+		BLOCK,
+
+		/** Drop the oldest pending message. */
+		DROP_OLDEST,
+
+		/** Drop the new message. */
+		DROP_NEW
+	}
+
+	/** The Constant BATCH_SIZE, max number of messages written per batch. */
+	private static final int BATCH_SIZE = 256;
+
+	/** The Constant IDLE_NANOS, max park time of the idle writer. */
+	private static final long IDLE_NANOS = 10_000_000L;
+
+	/** The Constant WAIT_NANOS, park time of a waiting caller. */
+	private static final long WAIT_NANOS = 50_000L;
+
+	/** The member buffer. */
+	private final RingBuffer<String> mBuffer;
+
+	/** The member backpressure. */
+	private final Backpressure mBackpressure;
+
+	/** The member writer thread. */
+	private final Thread mThread;
+
+	/** The member shutdown hook. */
+	private final Thread mHook;
+
+	/** The member accepting flag (false once close has been called). */
+	private volatile boolean mAccepting = true;
+
+	/** The member running flag (false when the writer has to exit after the last drain). */
+	private volatile boolean mRunning = true;
+
+	/** The member idle flag (writer parked on an empty buffer). */
+	private volatile boolean mIdle = false;
+
+	/** The member number of callers in offer (close waits for them). */
+	private final AtomicInteger mActive = new AtomicInteger();
+
+	/** The member number of messages that have been written or dropped (oldest) after being offered. */
+	private final AtomicLong mDone = new AtomicLong();
+
+	/** The member number of dropped messages. */
+	private final AtomicLong mDropped = new AtomicLong();
+
+	/**
+	 * Instantiates a new async log writer and starts its thread.
+	 *
+	 * @param aCapacity the reference capacity (rounded up to a power of two)
+	 * @param aBackpressure the reference backpressure (null = BLOCK)
+	 */
+	public AsyncLogWriter(int aCapacity, Backpressure aBackpressure)
+	{
+		mBuffer = new RingBuffer<String>(aCapacity);
+		mBackpressure = aBackpressure != null ? aBackpressure : Backpressure.BLOCK;
+
+		mThread = new Thread(this::_run, "mkz-async-log");
+		mThread.setDaemon(true);
+		mThread.start();
+
+		mHook = new Thread(this::close, "mkz-async-log-flush");
+		Runtime.getRuntime().addShutdownHook(mHook);
+	}
+
+	/**
+	 * Gets the capacity.
+	 *
+	 * @return the capacity
+	 */
+	public int getCapacity()
+	{
+		return mBuffer.getCapacity();
+	}
+
+	/**
+	 * Gets the backpressure.
+	 *
+	 * @return the backpressure
+	 */
+	public Backpressure getBackpressure()
+	{
+		return mBackpressure;
+	}
+
+	/**
+	 * Gets the number of dropped messages.
+	 *
+	 * @return the dropped
+	 */
+	public long getDropped()
+	{
+		return mDropped.get();
+	}
+
+	/**
+	 * Offers a formatted message. Returns false if the writer is closed or if called by the writer thread itself (i.e.
+	 * from the debug_print_override), the caller has to write the message itself in that case. A message that is
+	 * dropped by the backpressure counts as accepted.
+	 *
+	 * @param aMessage the reference message
+	 * @return true, if accepted
+	 */
+	public boolean offer(String aMessage)
+	{
+		if (Thread.currentThread() == mThread) return false;
+
+		mActive.incrementAndGet();
+		try
+		{
+			if (!mAccepting) return false;
+
+			int lSpins = 0;
+			while (!mBuffer.offer(aMessage))
+			{
+				if (mBackpressure == Backpressure.DROP_NEW)
+				{
+					mDropped.incrementAndGet();
+					return true;
+				}
+				if (mBackpressure == Backpressure.DROP_OLDEST)
+				{
+					if (mBuffer.poll() != null)
+					{
+						mDropped.incrementAndGet();
+						mDone.incrementAndGet();
+					}
+					continue;
+				}
+
+				LockSupport.unpark(mThread);
+				if (++lSpins < 64) Thread.yield();
+				else LockSupport.parkNanos(this, WAIT_NANOS);
+			}
+
+			if (mIdle) LockSupport.unpark(mThread);
+			return true;
+		}
+		finally
+		{
+			mActive.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Waits until all messages that have been offered before the call are written (or dropped).
+	 */
+	public void flush()
+	{
+		if (Thread.currentThread() == mThread) return;
+
+		long lTarget = mBuffer.getOffered();
+		while (mDone.get() < lTarget && mThread.isAlive())
+		{
+			LockSupport.unpark(mThread);
+			LockSupport.parkNanos(this, WAIT_NANOS);
+		}
+	}
+
+	/**
+	 * Closes the writer, new messages are no longer accepted, the pending messages are written and the thread exits.
+	 * Called by the shutdown hook, can be called more than once.
+	 */
+	public void close()
+	{
+		mAccepting = false;
+		while (mActive.get() > 0) LockSupport.parkNanos(this, WAIT_NANOS);
+
+		mRunning = false;
+		LockSupport.unpark(mThread);
+		if (Thread.currentThread() != mThread)
+		{
+			try
+			{
+				mThread.join();
+			}
+			catch (InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		if (Thread.currentThread() != mHook)
+		{
+			try
+			{
+				Runtime.getRuntime().removeShutdownHook(mHook);
+			}
+			catch (IllegalStateException e)
+			{
+				// shutdown in progress, the hook closes this writer anyway
+			}
+		}
+	}
+
+	/**
+	 * [restricted] Writer loop, drains the buffer until closed (the last drain happens after mRunning is false).
+	 */
+	private void _run()
+	{
+		while (true)
+		{
+			boolean lRunning = mRunning;
+			if (_drain() > 0) continue;
+			if (!lRunning) return;
+
+			mIdle = true;
+			if (mBuffer.isEmpty()) LockSupport.parkNanos(this, IDLE_NANOS);
+			mIdle = false;
+		}
+	}
+
+	/**
+	 * [restricted] Writes one batch.
+	 *
+	 * @return the number of written messages
+	 */
+	private int _drain()
+	{
+		StringBuilder lOut = null;
+		int rVal = 0;
+
+		String lMessage;
+		while (rVal < BATCH_SIZE && (lMessage = mBuffer.poll()) != null)
+		{
+			try
+			{
+				if (IO.Options.debug_print_override != null)
+				{
+					IO.Options.debug_print_override.print(lMessage);
+				}
+				else
+				{
+					if (lOut == null) lOut = new StringBuilder();
+					LineWrapper.wrap(lMessage, lOut);
+				}
+			}
+			catch (RuntimeException e)
+			{
+				// a failing override must not stop the writer
+				e.printStackTrace();
+			}
+			rVal++;
+		}
+
+		if (lOut != null)
+		{
+			System.out.print(lOut);
+			System.out.flush();
+		}
+		mDone.addAndGet(rVal);
+		return rVal;
+	}
+}
@@ -0,0 +1,153 @@
+/**
+ * File: MKZ_UtilsLib::CallSite.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.io;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * The Class CallSite. Resolves the caller of the {@link mkz.util.io.IO IO} methods (first frame outside of the
+ * package internals). On Java 9+ a StackWalker (looked up by reflection, the library is built for Java 8) walks only
+ * the frames up to the caller, on Java 8 the stack trace of a Throwable is used. The formatted prefixes are cached
+ * per call site.
+ */
+final class CallSite
+{
+	/** The Constant MAX_CACHED, max number of cached prefixes (the cache is cleared if exceeded). */
+	private static final int MAX_CACHED = 4096;
+
+	/** The Constant WALKER, the StackWalker instance (null on Java 8). */
+	private static final Object WALKER;
+
+	/** The Constant WALK, StackWalker::walk as (Object, Function)Object. */
+	private static final MethodHandle WALK;
+
+	/** The Constant CLASS_NAME, StackFrame::getClassName as (Object)String. */
+	private static final MethodHandle CLASS_NAME;
+
+	/** The Constant TO_ELEMENT, StackFrame::toStackTraceElement as (Object)StackTraceElement. */
+	private static final MethodHandle TO_ELEMENT;
+
+	/** The Constant FIND_CALLER, the walk function (first frame outside of the internals). */
+	private static final Function<Stream<Object>, Object> FIND_CALLER = (aFrames) -> aFrames.filter(CallSite::_isCallerFrame).findFirst();
+
+	/** The Constant PREFIXES, the cached prefixes. */
+	private static final ConcurrentHashMap<StackTraceElement, String> PREFIXES = new ConcurrentHashMap<StackTraceElement, String>();
+
+	static
+	{
+		Object lWalker = null;
+		MethodHandle lWalk = null, lClassName = null, lToElement = null;
+		try
+		{
+			MethodHandles.Lookup lLookup = MethodHandles.lookup();
+			Class<?> lWalkerClass = Class.forName("java.lang.StackWalker");
+			Class<?> lFrameClass = Class.forName("java.lang.StackWalker$StackFrame");
+
+			lWalk = lLookup.findVirtual(lWalkerClass, "walk", MethodType.methodType(Object.class, Function.class)).asType(MethodType.methodType(Object.class, Object.class, Function.class));
+			lClassName = lLookup.findVirtual(lFrameClass, "getClassName", MethodType.methodType(String.class)).asType(MethodType.methodType(String.class, Object.class));
+			lToElement = lLookup.findVirtual(lFrameClass, "toStackTraceElement", MethodType.methodType(StackTraceElement.class)).asType(MethodType.methodType(StackTraceElement.class, Object.class));
+			lWalker = lWalkerClass.getMethod("getInstance").invoke(null);
+		}
+		catch (ReflectiveOperationException | RuntimeException e)
+		{
+			// Java 8, stack trace of a Throwable
+			lWalker = null;
+		}
+		WALKER = lWalker;
+		WALK = lWalk;
+		CLASS_NAME = lClassName;
+		TO_ELEMENT = lToElement;
+	}
+
+	/**
+	 * Instantiates a new call site (no instances).
+	 */
+	private CallSite()
+	{}
+
+	/**
+	 * Finds the caller, first frame that is not in the IO internals.
+	 *
+	 * @return the stack trace element, null if not found
+	 */
+	static StackTraceElement find()
+	{
+		if (WALKER != null)
+		{
+			try
+			{
+				Optional<?> lFrame = (Optional<?>) (Object) WALK.invokeExact(WALKER, (Function<?, ?>) FIND_CALLER);
+				return lFrame.isPresent() ? (StackTraceElement) TO_ELEMENT.invokeExact(lFrame.get()) : null;
+			}
+			catch (Throwable e)
+			{
+				// fall back to the stack trace
+			}
+		}
+
+		for (StackTraceElement iElement : new Throwable().getStackTrace())
+		{
+			if (_isCaller(iElement.getClassName())) return iElement;
+		}
+		return null;
+	}
+
+	/**
+	 * Gets the prefix of a call site, "class::method[line]: " (": " if the call site is null). Cached per call site.
+	 *
+	 * @param aElement the reference call site (may be null)
+	 * @return the prefix
+	 */
+	static String prefix(StackTraceElement aElement)
+	{
+		if (aElement == null) return ": ";
+
+		String rVal = PREFIXES.get(aElement);
+		if (rVal == null)
+		{
+			if (PREFIXES.size() >= MAX_CACHED) PREFIXES.clear();
+			rVal = aElement.getClassName() + "::" + aElement.getMethodName() + "[" + aElement.getLineNumber() + "]: ";
+			PREFIXES.put(aElement, rVal);
+		}
+		return rVal;
+	}
+
+	/**
+	 * [restricted] Checks if a frame of the StackWalker is the caller.
+	 *
+	 * @param aFrame the reference frame
+	 * @return true, if is caller
+	 */
+	private static boolean _isCallerFrame(Object aFrame)
+	{
+		try
+		{
+			return _isCaller((String) CLASS_NAME.invokeExact(aFrame));
+		}
+		catch (Throwable e)
+		{
+			return false;
+		}
+	}
+
+	/**
+	 * [restricted] Checks if a class is outside of the IO internals.
+	 *
+	 * @param aClassName the reference class name
+	 * @return true, if is caller
+	 */
+	private static boolean _isCaller(String aClassName)
+	{
+		return !aClassName.equals("mkz.util.io.IO") && !aClassName.equals("mkz.util.io.CallSite") && !aClassName.startsWith("java.lang.StackWalker") && !aClassName.startsWith("java.lang.StackStreamFactory");
+	}
+}
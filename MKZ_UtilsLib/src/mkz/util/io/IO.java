@@ -1,448 +1,748 @@
-package mkz.util.io;
-
-import java.io.PrintWriter;
-import java.io.StringWriter;
-import java.util.ArrayList;
-import java.util.Scanner;
-import java.util.function.Consumer;
-
-import mkz.util.io.definition.sysout.IIOPrintFormatOverride;
-import mkz.util.io.definition.sysout.IIOPrintOverride;
-import mkz.util.io.definition.trycatch.IIOTryConsumer;
-import mkz.util.io.definition.trycatch.IIOTryProcessor;
-
-public class IO
-{
-	private static Scanner scanner=null;
-
-	/** The Constant NEWLINE. Platform specific newline char */
-	private static final String NEWLINE = System.lineSeparator();
-//	private static final String EMPTY = "";
-	private static final String SPACE = " ";
-
-	public static class Options
-	{
-		// Constants
-		//
-		public static final int LOG_FATAL=0;
-		public static final int LOG_ERROR=1;
-		public static final int LOG_WARN=2;
-		public static final int LOG_DEBUG=3;
-		public static final int LOG_VERBOSE=4;
-		
-		// Options
-		//
-		public static int log_level = LOG_DEBUG;
-		public static IIOPrintOverride debug_print_override = null;
-		public static IIOPrintFormatOverride print_format_override = null;
-		public static IIOPrintOverride normal_print_override = null;
-		public static int line_wrap = 0;
-		public static boolean word_wrap = false;
-		public static int tab_size = 8;
-		
-//		public static int tab_output_width = 8;
-		
-	}
-
-	public static String jIn()
-	{
-		return jIn(null);
-	}
-	
-	public static String jIn(String aText)
-	{
-		return jIn(aText,true);
-	}
-	
-	public static String jIn(String aText, boolean newLine)
-	{
-		if(aText!=null) jOut(aText, newLine);
-		return _getScanner().nextLine();
-	}
-	
-	public static Object jIn(String aText, Type aType)
-	{
-		return jIn(aText,aType,true);
-	}
-	
-	public static Object jIn(String aText, Type aType, boolean newLine)
-	{
-		if(aText!=null) jOut(aText,newLine);
-		switch(aType)
-		{
-			case STRING: _getScanner().nextLine();
-			case INTEGER: _getScanner().nextInt();
-			case DOUBLE: _getScanner().nextDouble();
-			case BOOLEAN: _getScanner().nextBoolean();
-			case BYTE:  _getScanner().nextByte();
-			case FLOAT: _getScanner().nextFloat();
-			case LONG: _getScanner().nextLong();
-			case SHORT: _getScanner().nextShort();
-			case BIGDECIMAL: _getScanner().nextBigDecimal();
-			case BIGINTEGER: _getScanner().nextBigInteger();
-			default: return _getScanner().nextLine();
-		}
-	}
-	
-	public static void jOut(String aText)
-	{
-		jOut(aText, true);
-	}
-	
-	public static void jOut(String aText, boolean newLine)
-	{
-		jOut(aText, newLine, false);
-	}
-	
-	public static void jOut(String aText, boolean newLine, boolean showTrace)
-	{
-		StringBuilder sb = new StringBuilder();
-		if(showTrace) sb.append(_getTraceStr(4));
-		sb.append(aText);
-		
-		if(Options.normal_print_override!=null) Options.normal_print_override.print(sb.toString());
-		else 
-		{
-			ArrayList<String> lLines = _getWrappedLines(sb.toString());
-			for(String iLine:lLines) System.out.println(iLine);
-			if(newLine) System.out.println();
-		}
-	}
-	
-//	public static void dbOut(){}
-//	
-//	public static void dbOutV(){}
-//	public static void dbOutD(){}
-//	public static void dbOutW(){}
-//	public static void dbOutE(){}
-//	public static void dbOutF(){}
-	
-	
-	
-	public static enum Type
-	{
-		STRING,INTEGER,DOUBLE,BOOLEAN,BYTE,FLOAT,LONG,SHORT,BIGDECIMAL,BIGINTEGER
-	}
-	
-	
-	/**
-	 * Output current method tree and a message text, 
-	 * log-level: Verbose
-	 *
-	 * @param message the message
-	 */
-	public static void dbOutV(String aMessage)
-	{
-		_dbOut(aMessage, Options.LOG_VERBOSE);
-	}
-	
-	/**
-	 * Output current method tree and a message text, 
-	 * log-level: Debug
-	 *
-	 * @param message the message
-	 */
-	public static void dbOutD(String aMessage)
-	{
-		_dbOut(aMessage, Options.LOG_DEBUG);
-	}
-	
-	/**
-	 * Output current method tree and a message text, 
-	 * log-level: Warning
-	 *
-	 * @param message the message
-	 */
-	public static void dbOutW(String aMessage)
-	{
-		_dbOut(aMessage, Options.LOG_WARN);
-	}
-	
-	/**
-	 * Output current method tree and a message text, 
-	 * log-level: Error
-	 *
-	 * @param message the message
-	 */
-	public static void dbOutE(String aMessage)
-	{
-		_dbOut(aMessage, Options.LOG_ERROR);
-	}
-	
-	/**
-	 * Output current method tree and a message text, 
-	 * log-level: Error
-	 *
-	 * @param t the message
-	 */
-	public static void dbOutE(Throwable t)
-	{
-		StringBuilder sb = new StringBuilder();
-		sb.append("Exception thrown: "+t+", Message: "+t.getMessage()+NEWLINE);
-		sb.append(NEWLINE+"Exception details: ");
-		sb.append(_getStackTrace(t));
-		
-		_dbOut(sb.toString(), Options.LOG_ERROR);
-	}
-	
-	
-	/**
-	 * Output current method tree and a message text, 
-	 * log-level: Fatal Error (will always be shown)
-	 *
-	 * @param t the message
-	 */
-	public static void dbOutF(Throwable t)
-	{
-		StringBuilder sb = new StringBuilder();
-		sb.append("Exception thrown: "+t+", Message: "+t.getMessage()+NEWLINE);
-		sb.append(NEWLINE+"Exception details: ");
-		sb.append(_getStackTrace(t));
-		
-		_dbOut(sb.toString(), Options.LOG_FATAL);
-	}
-
-	/**
-	 * Output current method tree and a message text, 
-	 * log-level: Fatal Error (will always be shown)
-	 *
-	 * @param message the message
-	 */
-	public static void dbOutF(String aMessage)
-	{
-		_dbOut(aMessage, Options.LOG_FATAL);
-	}
-	
-//	public interface ITryConsumer
-//	{
-//		public <T> void process(T aValue) throws Exception;
-//	}
-//
-//	public interface ITryProcessor
-//	{
-//		public <T> void process(T aValue) throws Exception;
-//	}
-	
-	public static boolean tryCatch(IIOTryProcessor aTry, Consumer<Exception> aCatch,Runnable aFinally)
-	{
-		boolean rVal = false;
-		try
-		{
-			if(aTry != null) aTry.process();
-			rVal=true;
-		}
-		catch (Exception e)
-		{
-			if(aCatch != null) aCatch.accept(e);
-		}
-		finally
-		{
-			if(aFinally != null) aFinally.run();
-		}
-		return rVal;
-	}
-	
-	
-	public static <T> boolean tryCatch(T aValue,IIOTryConsumer<T> aTry,Consumer<Exception> aCatch,Consumer<T> aFinally)
-	{
-		boolean rVal = false;
-		try
-		{
-			if(aTry != null) aTry.process(aValue);
-		}
-		catch (Exception e)
-		{
-			if(aCatch != null) aCatch.accept(e);
-		}
-		finally
-		{
-			if(aFinally != null) aFinally.accept(aValue);
-		}
-		return rVal;
-	}
-	
-	/**
-	 * System out - Shows current method tree
-	 * and a debug message (if provided that the Application
-	 * error level is greater or equal to the message error level)
-	 *
-	 * @param message the message
-	 * @param errorLevel the error level
-	 */
-	private static void _dbOut(String aMessage, int errorLevel)
-	{
-		if(Options.log_level<errorLevel)
-		{
-			return;
-		}
-		
-		StringBuilder msg = new StringBuilder();
-		
-		if(Options.print_format_override != null) 
-		{
-			StackTraceElement lStTr=_getTrace(4);
-			if(lStTr!=null)	msg.append(Options.print_format_override.format(errorLevel, lStTr.getClassName(), lStTr.getMethodName(), lStTr.getLineNumber()));
-			else msg.append(Options.print_format_override.format(errorLevel, null, null, null));
-		}
-		else
-		{
-			msg.append(getErrorLvTxt(errorLevel));
-			msg.append(".");
-			msg.append(_getTraceStr(5));
-			msg.append(aMessage);
-		}
-		
-		
-		if(Options.debug_print_override!=null) Options.debug_print_override.print(msg.toString());
-		else
-		{
-			ArrayList<String> lLines = _getWrappedLines(msg.toString());
-			for(String iLine:lLines) System.out.println(iLine);
-		}
-	}
-	
-	private static StackTraceElement _getTrace(int aOffset)
-	{
-		StackTraceElement[] el=Thread.currentThread().getStackTrace();
-
-		if(el.length>aOffset)
-		{
-			return el[aOffset];
-		}
-		else return null;
-	}
-	
-	private static String _getTraceStr(int aOffset)
-	{
-		StringBuilder msg = new StringBuilder();
-
-		StackTraceElement lStTr=_getTrace(aOffset);
-		if(lStTr!=null)
-		{
-			msg.append(lStTr.getClassName());
-			msg.append("::"+lStTr.getMethodName());
-			msg.append("["+lStTr.getLineNumber()+"]");
-		}
-		msg.append(": ");
-		
-		return msg.toString();
-	}
-	
-	/**
-	 * Gets the error level text.
-	 *
-	 * @param level the level
-	 * @return the error level text
-	 */
-	private static String getErrorLvTxt(int aLevel)
-	{
-		switch(aLevel)
-		{
-		case(Options.LOG_VERBOSE):
-			return "Verbose"; 
-		case(Options.LOG_DEBUG):
-			return "Debug"; 
-		case(Options.LOG_WARN):
-			return "WARNING"; 
-		case(Options.LOG_ERROR):
-			return "ERROR"; 
-		case(Options.LOG_FATAL):
-			return "!!FATAL!!"; 
-		default:
-			return "<UNKNOWN>"; 
-		}
-	}
-	
-	private static String _getStackTrace(Throwable t)
-	{
-		StringWriter sw = new StringWriter();
-		PrintWriter pw = new PrintWriter(sw);
-		t.printStackTrace(pw);
-		return sw.toString();
-	}
-	
-	private static Scanner _getScanner()
-	{
-		if(scanner == null) scanner = new Scanner(System.in);
-		return scanner;
-	}
-	
-	public static ArrayList<String> _getWrappedLines(String aStr)
-	{
-		ArrayList<String> rVal = new ArrayList<String>();
-		
-		for(String iStr:aStr.split(NEWLINE))
-		{
-			if(Options.line_wrap<=0)
-			{
-				rVal.add(iStr);
-			}
-			else
-			{
-				String lStr=_replaceTabulators(iStr);
-				
-				if(Options.word_wrap)
-				{
-					
-					while(lStr.length() > Options.line_wrap+1)
-					{
-						int lIdx=lStr.indexOf(SPACE);
-						int lLastIdx=0;
-						
-						while(lIdx!=-1  && lIdx < Options.line_wrap+1 && lIdx < lStr.length()-1)
-						{
-							lLastIdx=lIdx;
-							lIdx=lStr.indexOf(SPACE,lIdx+1);
-						}
-						
-						if(lLastIdx==0 /*&& (lIdx>=Options.line_wrap+1 || lIdx==-1)*/)
-						{
-							rVal.add(lStr.substring(0, Options.line_wrap));
-							lStr=lStr.substring(Options.line_wrap);						
-						}
-						else
-						{
-							rVal.add(lStr.substring(0,lLastIdx));
-							lStr=lStr.substring(lLastIdx+1);
-						}
-						
-					}
-					
-					if(lStr.length()>0) rVal.add(lStr);
-				}
-				else
-				{
-					while(lStr.length()>Options.line_wrap)
-					{
-						rVal.add(lStr.substring(0, Options.line_wrap));
-						lStr=lStr.substring(Options.line_wrap);
-//						System.out.println("New String is: "+lStr);
-					}
-					
-					rVal.add(lStr);
-				}
-			}
-		}
-
-		return rVal;
-	}
-	
-	private static String _replaceTabulators(String aStr)
-	{
-		return aStr.replaceAll("\t", _getTabWS());
-		
-	}
-	
-	// Dynamic update...
-	private static String tabReplacement = null;
-	private static String _getTabWS()
-	{
-		if(tabReplacement==null || tabReplacement.length()<Options.tab_size)
-		{
-			tabReplacement = "";
-			for(int i = 0;i<Options.tab_size;i++) tabReplacement+=" ";
-		}
-		return tabReplacement;
-	}
-
-}
+package mkz.util.io;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Scanner;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import mkz.util.io.definition.sysout.IIOPrintFormatOverride;
+import mkz.util.io.definition.sysout.IIOPrintOverride;
+import mkz.util.io.definition.trycatch.IIOTryConsumer;
+import mkz.util.io.definition.trycatch.IIOTryProcessor;
+
+public class IO
+{
+	private static Scanner scanner=null;
+	
+	/** The async writer, null if the debug output is synchronous. */
+	private static volatile AsyncLogWriter asyncWriter = null;
+
+	/** The Constant NEWLINE. Platform specific newline char */
+	private static final String NEWLINE = System.lineSeparator();
+//	private static final String EMPTY = "";
+	
+	/** The Constant BUILDER_CAPACITY, initial capacity of the message builders. */
+	private static final int BUILDER_CAPACITY = 256;
+	
+	/** The Constant BUILDER_MAX_CAPACITY, message builders that have grown bigger are not kept. */
+	private static final int BUILDER_MAX_CAPACITY = 8192;
+	
+	/** The message builder of the thread (null while in use). */
+	private static final ThreadLocal<StringBuilder> builder = new ThreadLocal<StringBuilder>();
+
+	public static class Options
+	{
+		// Constants
+		//
+		public static final int LOG_FATAL=0;
+		public static final int LOG_ERROR=1;
+		public static final int LOG_WARN=2;
+		public static final int LOG_DEBUG=3;
+		public static final int LOG_VERBOSE=4;
+		
+		// Options
+		//
+		public static int log_level = LOG_DEBUG;
+		public static IIOPrintOverride debug_print_override = null;
+		public static IIOPrintFormatOverride print_format_override = null;
+		public static IIOPrintOverride normal_print_override = null;
+		/** The trace level, the caller (class, method and line) is only resolved for messages up to this level. */
+		public static int trace_level = LOG_VERBOSE;
+		public static int line_wrap = 0;
+		public static boolean word_wrap = false;
+		public static int tab_size = 8;
+		
+		/** The async capacity, size of the buffer of the asynchronous debug output (see IO::setAsync). */
+		public static int async_capacity = 8192;
+		
+		/** The async backpressure, what a dbOut call does if the buffer of the asynchronous debug output is full. */
+		public static AsyncLogWriter.Backpressure async_backpressure = AsyncLogWriter.Backpressure.BLOCK;
+		
+//		public static int tab_output_width = 8;
+		
+	}
+
+	public static String jIn()
+	{
+		return jIn(null);
+	}
+	
+	public static String jIn(String aText)
+	{
+		return jIn(aText,true);
+	}
+	
+	public static String jIn(String aText, boolean newLine)
+	{
+		if(aText!=null) jOut(aText, newLine);
+		return _getScanner().nextLine();
+	}
+	
+	public static Object jIn(String aText, Type aType)
+	{
+		return jIn(aText,aType,true);
+	}
+	
+	public static Object jIn(String aText, Type aType, boolean newLine)
+	{
+		if(aText!=null) jOut(aText,newLine);
+		switch(aType)
+		{
+			case STRING: _getScanner().nextLine();
+			case INTEGER: _getScanner().nextInt();
+			case DOUBLE: _getScanner().nextDouble();
+			case BOOLEAN: _getScanner().nextBoolean();
+			case BYTE:  _getScanner().nextByte();
+			case FLOAT: _getScanner().nextFloat();
+			case LONG: _getScanner().nextLong();
+			case SHORT: _getScanner().nextShort();
+			case BIGDECIMAL: _getScanner().nextBigDecimal();
+			case BIGINTEGER: _getScanner().nextBigInteger();
+			default: return _getScanner().nextLine();
+		}
+	}
+	
+	public static void jOut(String aText)
+	{
+		jOut(aText, true);
+	}
+	
+	public static void jOut(String aText, boolean newLine)
+	{
+		jOut(aText, newLine, false);
+	}
+	
+	public static void jOut(String aText, boolean newLine, boolean showTrace)
+	{
+		StringBuilder sb = new StringBuilder();
+		if(showTrace) sb.append(CallSite.prefix(CallSite.find()));
+		sb.append(aText);
+		
+		if(Options.normal_print_override!=null) Options.normal_print_override.print(sb.toString());
+		else 
+		{
+			StringBuilder lOut = _takeBuilder();
+			LineWrapper.wrap(sb.toString(), lOut);
+			if(newLine) lOut.append(NEWLINE);
+			System.out.print(lOut);
+			_releaseBuilder(lOut);
+		}
+	}
+	
+//	public static void dbOut(){}
+//	
+//	public static void dbOutV(){}
+//	public static void dbOutD(){}
+//	public static void dbOutW(){}
+//	public static void dbOutE(){}
+//	public static void dbOutF(){}
+	
+	
+	
+	public static enum Type
+	{
+		STRING,INTEGER,DOUBLE,BOOLEAN,BYTE,FLOAT,LONG,SHORT,BIGDECIMAL,BIGINTEGER
+	}
+	
+	
+	/**
+	 * Output current method tree and a message text, 
+	 * log-level: Verbose
+	 *
+	 * @param message the message
+	 */
+	public static void dbOutV(String aMessage)
+	{
+		_dbOut(aMessage, Options.LOG_VERBOSE);
+	}
+	
+	/**
+	 * Output current method tree and a message text, 
+	 * log-level: Debug
+	 *
+	 * @param message the message
+	 */
+	public static void dbOutD(String aMessage)
+	{
+		_dbOut(aMessage, Options.LOG_DEBUG);
+	}
+	
+	/**
+	 * Output current method tree and a message text, 
+	 * log-level: Warning
+	 *
+	 * @param message the message
+	 */
+	public static void dbOutW(String aMessage)
+	{
+		_dbOut(aMessage, Options.LOG_WARN);
+	}
+	
+	/**
+	 * Output current method tree and a message text, 
+	 * log-level: Error
+	 *
+	 * @param message the message
+	 */
+	public static void dbOutE(String aMessage)
+	{
+		_dbOut(aMessage, Options.LOG_ERROR);
+	}
+	
+	/**
+	 * Output current method tree and a message text, 
+	 * log-level: Error
+	 *
+	 * @param t the message
+	 */
+	public static void dbOutE(Throwable t)
+	{
+		StringBuilder sb = new StringBuilder();
+		sb.append("Exception thrown: "+t+", Message: "+t.getMessage()+NEWLINE);
+		sb.append(NEWLINE+"Exception details: ");
+		sb.append(_getStackTrace(t));
+		
+		_dbOut(sb.toString(), Options.LOG_ERROR);
+	}
+	
+	
+	/**
+	 * Output current method tree and a message text, 
+	 * log-level: Fatal Error (will always be shown)
+	 *
+	 * @param t the message
+	 */
+	public static void dbOutF(Throwable t)
+	{
+		StringBuilder sb = new StringBuilder();
+		sb.append("Exception thrown: "+t+", Message: "+t.getMessage()+NEWLINE);
+		sb.append(NEWLINE+"Exception details: ");
+		sb.append(_getStackTrace(t));
+		
+		_dbOut(sb.toString(), Options.LOG_FATAL);
+	}
+
+	/**
+	 * Output current method tree and a message text, 
+	 * log-level: Fatal Error (will always be shown)
+	 *
+	 * @param message the message
+	 */
+	public static void dbOutF(String aMessage)
+	{
+		_dbOut(aMessage, Options.LOG_FATAL);
+	}
+	
+	/**
+	 * Output current method tree and a message text, the supplier is only called if the level is enabled,
+	 * log-level: Verbose
+	 *
+	 * @param aMessage the message supplier
+	 */
+	public static void dbOutV(Supplier<String> aMessage)
+	{
+		if(Options.log_level>=Options.LOG_VERBOSE) _dbOut(Options.LOG_VERBOSE, aMessage.get(), null);
+	}
+	
+	/**
+	 * Output current method tree and a message text, each {} of the format is replaced by the next argument 
+	 * (only if the level is enabled), log-level: Verbose
+	 *
+	 * @param aFormat the message format
+	 * @param aArg the argument
+	 */
+	public static void dbOutV(String aFormat, Object aArg)
+	{
+		if(Options.log_level>=Options.LOG_VERBOSE) _dbOut(Options.LOG_VERBOSE, aFormat, new Object[]{aArg});
+	}
+	
+	/**
+	 * Output current method tree and a message text, each {} of the format is replaced by the next argument 
+	 * (only if the level is enabled), log-level: Verbose
+	 *
+	 * @param aFormat the message format
+	 * @param aArg0 the first argument
+	 * @param aArg1 the second argument
+	 */
+	public static void dbOutV(String aFormat, Object aArg0, Object aArg1)
+	{
+		if(Options.log_level>=Options.LOG_VERBOSE) _dbOut(Options.LOG_VERBOSE, aFormat, new Object[]{aArg0, aArg1});
+	}
+	
+	/**
+	 * Output current method tree and a message text, each {} of the format is replaced by the next argument 
+	 * (only if the level is enabled), log-level: Verbose
+	 *
+	 * @param aFormat the message format
+	 * @param aArgs the arguments
+	 */
+	public static void dbOutV(String aFormat, Object... aArgs)
+	{
+		if(Options.log_level>=Options.LOG_VERBOSE) _dbOut(Options.LOG_VERBOSE, aFormat, aArgs);
+	}
+	
+	/**
+	 * Output current method tree and a message text, the supplier is only called if the level is enabled,
+	 * log-level: Debug
+	 *
+	 * @param aMessage the message supplier
+	 */
+	public static void dbOutD(Supplier<String> aMessage)
+	{
+		if(Options.log_level>=Options.LOG_DEBUG) _dbOut(Options.LOG_DEBUG, aMessage.get(), null);
+	}
+	
+	/**
+	 * Output current method tree and a message text, each {} of the format is replaced by the next argument 
+	 * (only if the level is enabled), log-level: Debug
+	 *
+	 * @param aFormat the message format
+	 * @param aArg the argument
+	 */
+	public static void dbOutD(String aFormat, Object aArg)
+	{
+		if(Options.log_level>=Options.LOG_DEBUG) _dbOut(Options.LOG_DEBUG, aFormat, new Object[]{aArg});
+	}
+	
+	/**
+	 * Output current method tree and a message text, each {} of the format is replaced by the next argument 
+	 * (only if the level is enabled), log-level: Debug
+	 *
+	 * @param aFormat the message format
+	 * @param aArg0 the first argument
+	 * @param aArg1 the second argument
+	 */
+	public static void dbOutD(String aFormat, Object aArg0, Object aArg1)
+	{
+		if(Options.log_level>=Options.LOG_DEBUG) _dbOut(Options.LOG_DEBUG, aFormat, new Object[]{aArg0, aArg1});
+	}
+	
+	/**
+	 * Output current method tree and a message text, each {} of the format is replaced by the next argument 
+	 * (only if the level is enabled), log-level: Debug
+	 *
+	 * @param aFormat the message format
+	 * @param aArgs the arguments
+	 */
+	public static void dbOutD(String aFormat, Object... aArgs)
+	{
+		if(Options.log_level>=Options.LOG_DEBUG) _dbOut(Options.LOG_DEBUG, aFormat, aArgs);
+	}
+	
+	/**
+	 * Output current method tree and a message text, the supplier is only called if the level is enabled,
+	 * log-level: Warning
+	 *
+	 * @param aMessage the message supplier
+	 */
+	public static void dbOutW(Supplier<String> aMessage)
+	{
+		if(Options.log_level>=Options.LOG_WARN) _dbOut(Options.LOG_WARN, aMessage.get(), null);
+	}
+	
+	/**
+	 * Output current method tree and a message text, each {} of the format is replaced by the next argument 
+	 * (only if the level is enabled), log-level: Warning
+	 *
+	 * @param aFormat the message format
+	 * @param aArg the argument
+	 */
+	public static void dbOutW(String aFormat, Object aArg)
+	{
+		if(Options.log_level>=Options.LOG_WARN) _dbOut(Options.LOG_WARN, aFormat, new Object[]{aArg});
+	}
+	
+	/**
+	 * Output current method tree and a message text, each {} of the format is replaced by the next argument 
+	 * (only if the level is enabled), log-level: Warning
+	 *
+	 * @param aFormat the message format
+	 * @param aArg0 the first argument
+	 * @param aArg1 the second argument
+	 */
+	public static void dbOutW(String aFormat, Object aArg0, Object aArg1)
+	{
+		if(Options.log_level>=Options.LOG_WARN) _dbOut(Options.LOG_WARN, aFormat, new Object[]{aArg0, aArg1});
+	}
+	
+	/**
+	 * Output current method tree and a message text, each {} of the format is replaced by the next argument 
+	 * (only if the level is enabled), log-level: Warning
+	 *
+	 * @param aFormat the message format
+	 * @param aArgs the arguments
+	 */
+	public static void dbOutW(String aFormat, Object... aArgs)
+	{
+		if(Options.log_level>=Options.LOG_WARN) _dbOut(Options.LOG_WARN, aFormat, aArgs);
+	}
+	
+	/**
+	 * Output current method tree and a message text, the supplier is only called if the level is enabled,
+	 * log-level: Error
+	 *
+	 * @param aMessage the message supplier
+	 */
+	public static void dbOutE(Supplier<String> aMessage)
+	{
+		if(Options.log_level>=Options.LOG_ERROR) _dbOut(Options.LOG_ERROR, aMessage.get(), null);
+	}
+	
+	/**
+	 * Output current method tree and a message text, each {} of the format is replaced by the next argument 
+	 * (only if the level is enabled), log-level: Error
+	 *
+	 * @param aFormat the message format
+	 * @param aArg the argument
+	 */
+	public static void dbOutE(String aFormat, Object aArg)
+	{
+		if(Options.log_level>=Options.LOG_ERROR) _dbOut(Options.LOG_ERROR, aFormat, new Object[]{aArg});
+	}
+	
+	/**
+	 * Output current method tree and a message text, each {} of the format is replaced by the next argument 
+	 * (only if the level is enabled), log-level: Error
+	 *
+	 * @param aFormat the message format
+	 * @param aArg0 the first argument
+	 * @param aArg1 the second argument
+	 */
+	public static void dbOutE(String aFormat, Object aArg0, Object aArg1)
+	{
+		if(Options.log_level>=Options.LOG_ERROR) _dbOut(Options.LOG_ERROR, aFormat, new Object[]{aArg0, aArg1});
+	}
+	
+	/**
+	 * Output current method tree and a message text, each {} of the format is replaced by the next argument 
+	 * (only if the level is enabled), log-level: Error
+	 *
+	 * @param aFormat the message format
+	 * @param aArgs the arguments
+	 */
+	public static void dbOutE(String aFormat, Object... aArgs)
+	{
+		if(Options.log_level>=Options.LOG_ERROR) _dbOut(Options.LOG_ERROR, aFormat, aArgs);
+	}
+	
+	/**
+	 * Output current method tree and a message text, the supplier is only called if the level is enabled,
+	 * log-level: Fatal Error (will always be shown)
+	 *
+	 * @param aMessage the message supplier
+	 */
+	public static void dbOutF(Supplier<String> aMessage)
+	{
+		if(Options.log_level>=Options.LOG_FATAL) _dbOut(Options.LOG_FATAL, aMessage.get(), null);
+	}
+	
+	/**
+	 * Output current method tree and a message text, each {} of the format is replaced by the next argument 
+	 * (only if the level is enabled), log-level: Fatal Error (will always be shown)
+	 *
+	 * @param aFormat the message format
+	 * @param aArg the argument
+	 */
+	public static void dbOutF(String aFormat, Object aArg)
+	{
+		if(Options.log_level>=Options.LOG_FATAL) _dbOut(Options.LOG_FATAL, aFormat, new Object[]{aArg});
+	}
+	
+	/**
+	 * Output current method tree and a message text, each {} of the format is replaced by the next argument 
+	 * (only if the level is enabled), log-level: Fatal Error (will always be shown)
+	 *
+	 * @param aFormat the message format
+	 * @param aArg0 the first argument
+	 * @param aArg1 the second argument
+	 */
+	public static void dbOutF(String aFormat, Object aArg0, Object aArg1)
+	{
+		if(Options.log_level>=Options.LOG_FATAL) _dbOut(Options.LOG_FATAL, aFormat, new Object[]{aArg0, aArg1});
+	}
+	
+	/**
+	 * Output current method tree and a message text, each {} of the format is replaced by the next argument 
+	 * (only if the level is enabled), log-level: Fatal Error (will always be shown)
+	 *
+	 * @param aFormat the message format
+	 * @param aArgs the arguments
+	 */
+	public static void dbOutF(String aFormat, Object... aArgs)
+	{
+		if(Options.log_level>=Options.LOG_FATAL) _dbOut(Options.LOG_FATAL, aFormat, aArgs);
+	}
+	
+//	public interface ITryConsumer
+//	{
+//		public <T> void process(T aValue) throws Exception;
+//	}
+//
+//	public interface ITryProcessor
+//	{
+//		public <T> void process(T aValue) throws Exception;
+//	}
+	
+	/**
+	 * Enables or disables the asynchronous debug output. If enabled, the dbOut methods only format the message
+	 * and enqueue it (capacity and backpressure from the Options), a background thread writes it to the
+	 * debug_print_override or System.out. Disabling writes the pending messages first, the pending messages are
+	 * also written at JVM shutdown. The order of dbOut messages is kept, jOut is still written directly.
+	 *
+	 * @param isAsync the new async flag
+	 */
+	public static synchronized void setAsync(boolean isAsync)
+	{
+		AsyncLogWriter lWriter = asyncWriter;
+		if(isAsync == (lWriter != null)) return;
+		
+		if(isAsync)
+		{
+			asyncWriter = new AsyncLogWriter(Options.async_capacity, Options.async_backpressure);
+		}
+		else
+		{
+			asyncWriter = null;
+			lWriter.close();
+		}
+	}
+	
+	/**
+	 * Checks if the debug output is asynchronous.
+	 *
+	 * @return true, if is async
+	 */
+	public static boolean isAsync()
+	{
+		return asyncWriter != null;
+	}
+	
+	/**
+	 * Waits until all debug messages of the asynchronous output that have been enqueued before are written
+	 * (does nothing if the output is synchronous).
+	 */
+	public static void flush()
+	{
+		AsyncLogWriter lWriter = asyncWriter;
+		if(lWriter != null) lWriter.flush();
+	}
+	
+	/**
+	 * Gets the number of debug messages dropped by the backpressure of the current asynchronous output.
+	 *
+	 * @return the dropped messages (0 if synchronous)
+	 */
+	public static long getDropped()
+	{
+		AsyncLogWriter lWriter = asyncWriter;
+		return lWriter != null ? lWriter.getDropped() : 0L;
+	}
+	
+	public static boolean tryCatch(IIOTryProcessor aTry, Consumer<Exception> aCatch,Runnable aFinally)
+	{
+		boolean rVal = false;
+		try
+		{
+			if(aTry != null) aTry.process();
+			rVal=true;
+		}
+		catch (Exception e)
+		{
+			if(aCatch != null) aCatch.accept(e);
+		}
+		finally
+		{
+			if(aFinally != null) aFinally.run();
+		}
+		return rVal;
+	}
+	
+	
+	public static <T> boolean tryCatch(T aValue,IIOTryConsumer<T> aTry,Consumer<Exception> aCatch,Consumer<T> aFinally)
+	{
+		boolean rVal = false;
+		try
+		{
+			if(aTry != null) aTry.process(aValue);
+		}
+		catch (Exception e)
+		{
+			if(aCatch != null) aCatch.accept(e);
+		}
+		finally
+		{
+			if(aFinally != null) aFinally.accept(aValue);
+		}
+		return rVal;
+	}
+	
+	/**
+	 * System out - Shows current method tree
+	 * and a debug message (if provided that the Application
+	 * error level is greater or equal to the message error level)
+	 *
+	 * @param message the message
+	 * @param errorLevel the error level
+	 */
+	private static void _dbOut(String aMessage, int errorLevel)
+	{
+		if(Options.log_level<errorLevel)
+		{
+			return;
+		}
+		
+		_dbOut(errorLevel, aMessage, null);
+	}
+	
+	/**
+	 * System out - Shows current method tree and a debug message (the level has already been checked),
+	 * the message is built in the builder of the thread.
+	 *
+	 * @param errorLevel the error level
+	 * @param aFormat the message or format
+	 * @param aArgs the arguments of the format (null if aFormat is the message)
+	 */
+	private static void _dbOut(int errorLevel, String aFormat, Object[] aArgs)
+	{
+		StringBuilder msg = _takeBuilder();
+		StackTraceElement lStTr = errorLevel<=Options.trace_level ? CallSite.find() : null;
+		
+		if(Options.print_format_override != null) 
+		{
+			if(lStTr!=null)	msg.append(Options.print_format_override.format(errorLevel, lStTr.getClassName(), lStTr.getMethodName(), lStTr.getLineNumber()));
+			else msg.append(Options.print_format_override.format(errorLevel, null, null, null));
+		}
+		else
+		{
+			msg.append(getErrorLvTxt(errorLevel));
+			msg.append(".");
+			msg.append(CallSite.prefix(lStTr));
+			if(aArgs==null) msg.append(aFormat);
+			else _appendFormatted(msg, aFormat, aArgs);
+		}
+		
+		String lMessage = msg.toString();
+		_releaseBuilder(msg);
+		
+		AsyncLogWriter lWriter = asyncWriter;
+		if(lWriter!=null && lWriter.offer(lMessage)) return;
+		
+		if(Options.debug_print_override!=null) Options.debug_print_override.print(lMessage);
+		else
+		{
+			StringBuilder lOut = _takeBuilder();
+			LineWrapper.wrap(lMessage, lOut);
+			System.out.print(lOut);
+			_releaseBuilder(lOut);
+		}
+	}
+	
+	/**
+	 * Appends a format, each {} is replaced by the next argument (String.valueOf), placeholders without 
+	 * argument stay as they are.
+	 *
+	 * @param aBuilder the builder
+	 * @param aFormat the format
+	 * @param aArgs the arguments
+	 */
+	private static void _appendFormatted(StringBuilder aBuilder, String aFormat, Object[] aArgs)
+	{
+		if(aFormat==null)
+		{
+			aBuilder.append((String)null);
+			return;
+		}
+		
+		int lPos = 0;
+		for(int i=0;i<aArgs.length;i++)
+		{
+			int lIdx = aFormat.indexOf("{}", lPos);
+			if(lIdx<0) break;
+			
+			aBuilder.append(aFormat, lPos, lIdx);
+			aBuilder.append(aArgs[i]);
+			lPos = lIdx+2;
+		}
+		aBuilder.append(aFormat, lPos, aFormat.length());
+	}
+	
+	/**
+	 * Takes the message builder of the thread (a new one if it is in use, e.g. a toString of an argument logs too).
+	 *
+	 * @return the string builder (empty)
+	 */
+	private static StringBuilder _takeBuilder()
+	{
+		StringBuilder rVal = builder.get();
+		if(rVal==null) return new StringBuilder(BUILDER_CAPACITY);
+		
+		builder.set(null);
+		rVal.setLength(0);
+		return rVal;
+	}
+	
+	/**
+	 * Gives the message builder back to the thread (unless it has grown too big to be kept).
+	 *
+	 * @param aBuilder the builder
+	 */
+	private static void _releaseBuilder(StringBuilder aBuilder)
+	{
+		if(aBuilder.capacity()<=BUILDER_MAX_CAPACITY) builder.set(aBuilder);
+	}
+	
+	/**
+	 * Gets the error level text.
+	 *
+	 * @param level the level
+	 * @return the error level text
+	 */
+	private static String getErrorLvTxt(int aLevel)
+	{
+		switch(aLevel)
+		{
+		case(Options.LOG_VERBOSE):
+			return "Verbose"; 
+		case(Options.LOG_DEBUG):
+			return "Debug"; 
+		case(Options.LOG_WARN):
+			return "WARNING"; 
+		case(Options.LOG_ERROR):
+			return "ERROR"; 
+		case(Options.LOG_FATAL):
+			return "!!FATAL!!"; 
+		default:
+			return "<UNKNOWN>"; 
+		}
+	}
+	
+	private static String _getStackTrace(Throwable t)
+	{
+		StringWriter sw = new StringWriter();
+		PrintWriter pw = new PrintWriter(sw);
+		t.printStackTrace(pw);
+		return sw.toString();
+	}
+	
+	private static Scanner _getScanner()
+	{
+		if(scanner == null) scanner = new Scanner(System.in);
+		return scanner;
+	}
+	
+	/**
+	 * Gets the lines of a text wrapped with the current options (line_wrap, word_wrap, tab_size).
+	 *
+	 * @param aStr the text
+	 * @return the wrapped lines
+	 */
+	public static ArrayList<String> _getWrappedLines(String aStr)
+	{
+		ArrayList<String> rVal = new ArrayList<String>();
+		LineWrapper.wrap(aStr, rVal);
+		return rVal;
+	}
+
+}
@@ -0,0 +1,166 @@
+/**
+ * File: MKZ_UtilsLib::LineWrapper.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.io;
+
+import java.util.List;
+
+/**
+ * The Class LineWrapper. Single pass line wrapping of the {@link mkz.util.io.IO IO} output (line_wrap, word_wrap and
+ * tab_size of the {@link mkz.util.io.IO.Options Options}). The text is split at the newlines, tabs are expanded and
+ * the lines are cut by index, the parts are passed to a sink as ranges of the text (no substrings), so the cost is
+ * linear in the length of the text. The lines are the same as the ones of the former split/replaceAll/substring
+ * implementation: trailing empty lines are dropped, tabs are only expanded if wrapping, a line is hard wrapped after
+ * line_wrap chars, with word_wrap a line is only wrapped if it is longer than line_wrap+1, at the last space within
+ * line_wrap+1 chars (the space is dropped) or after line_wrap chars if there is none, and empty lines are dropped.
+ */
+final class LineWrapper
+{
+	/**
+	 * The Interface ILineSink, receives the wrapped lines as ranges of a char sequence.
+	 */
+	@FunctionalInterface
+	static interface ILineSink
+	{
+		/**
+		 * Receives a line, only valid during the call (the sequence may be a reused buffer).
+		 *
+		 * @param aText the reference text
+		 * @param aStart the reference start (inclusive)
+		 * @param aEnd the reference end (exclusive)
+		 */
+		void line(CharSequence aText, int aStart, int aEnd);
+	}
+
+	/** The Constant NEWLINE. */
+	private static final String NEWLINE = System.lineSeparator();
+
+	/**
+	 * Instantiates a new line wrapper (no instances).
+	 */
+	private LineWrapper()
+	{}
+
+	/**
+	 * Wraps a text with the current options and appends every line followed by a newline.
+	 *
+	 * @param aText the reference text
+	 * @param rOut the out builder
+	 */
+	static void wrap(String aText, StringBuilder rOut)
+	{
+		wrap(aText, IO.Options.line_wrap, IO.Options.word_wrap, IO.Options.tab_size, (aLine, aStart, aEnd) -> rOut.append(aLine, aStart, aEnd).append(NEWLINE));
+	}
+
+	/**
+	 * Wraps a text with the current options and adds the lines to a list.
+	 *
+	 * @param aText the reference text
+	 * @param rLines the out lines
+	 */
+	static void wrap(String aText, List<String> rLines)
+	{
+		wrap(aText, IO.Options.line_wrap, IO.Options.word_wrap, IO.Options.tab_size, (aLine, aStart, aEnd) -> rLines.add(aLine.subSequence(aStart, aEnd).toString()));
+	}
+
+	/**
+	 * Wraps a text.
+	 *
+	 * @param aText the reference text
+	 * @param aWidth the reference line width (&lt;= 0: no wrapping)
+	 * @param isWordWrap if true, lines are wrapped at spaces
+	 * @param aTabSize the reference number of spaces per tab
+	 * @param aSink the reference sink
+	 */
+	static void wrap(String aText, int aWidth, boolean isWordWrap, int aTabSize, ILineSink aSink)
+	{
+		int lSepLen = NEWLINE.length();
+
+		// String::split drops the trailing empty lines (all of them for a text of newlines only, none for "")
+		int lEnd = aText.length();
+		while (lEnd >= lSepLen && aText.startsWith(NEWLINE, lEnd - lSepLen)) lEnd -= lSepLen;
+		if (lEnd == 0 && aText.length() > 0) return;
+
+		StringBuilder lExpanded = null;
+		int lStart = 0;
+		int lTab = aWidth > 0 ? aText.indexOf('\t') : -1;
+		while (true)
+		{
+			int lSep = aText.indexOf(NEWLINE, lStart);
+			int lLineEnd = lSep < 0 || lSep >= lEnd ? lEnd : lSep;
+			if (lTab >= 0 && lTab < lStart) lTab = aText.indexOf('\t', lStart);
+
+			if (aWidth <= 0)
+			{
+				aSink.line(aText, lStart, lLineEnd);
+			}
+			else if (lTab < 0 || lTab >= lLineEnd)
+			{
+				_wrapLine(aText, lStart, lLineEnd, aWidth, isWordWrap, aSink);
+			}
+			else
+			{
+				if (lExpanded == null) lExpanded = new StringBuilder(lLineEnd - lStart + 8 * aTabSize);
+				lExpanded.setLength(0);
+				for (int i = lStart; i < lLineEnd; i++)
+				{
+					char lChar = aText.charAt(i);
+					if (lChar != '\t') lExpanded.append(lChar);
+					else for (int iS = 0; iS < aTabSize; iS++) lExpanded.append(' ');
+				}
+				_wrapLine(lExpanded, 0, lExpanded.length(), aWidth, isWordWrap, aSink);
+			}
+
+			if (lLineEnd >= lEnd) return;
+			lStart = lLineEnd + lSepLen;
+		}
+	}
+
+	/**
+	 * [restricted] Wraps one line (without newlines and tabs).
+	 *
+	 * @param aText the reference text
+	 * @param aStart the reference start of the line
+	 * @param aEnd the reference end of the line
+	 * @param aWidth the reference width (&gt; 0)
+	 * @param isWordWrap the reference word wrap flag
+	 * @param aSink the reference sink
+	 */
+	private static void _wrapLine(CharSequence aText, int aStart, int aEnd, int aWidth, boolean isWordWrap, ILineSink aSink)
+	{
+		int lPos = aStart;
+		if (!isWordWrap)
+		{
+			while (aEnd - lPos > aWidth)
+			{
+				aSink.line(aText, lPos, lPos + aWidth);
+				lPos += aWidth;
+			}
+			aSink.line(aText, lPos, aEnd);
+			return;
+		}
+
+		while (aEnd - lPos > aWidth + 1)
+		{
+			// last space at an offset in [1, min(width+1, length-1)), at offset 0 it doesn't count
+			int lLimit = lPos + Math.min(aWidth + 1, aEnd - lPos - 1);
+			int lSpace = lLimit - 1;
+			while (lSpace > lPos && aText.charAt(lSpace) != ' ') lSpace--;
+
+			if (lSpace > lPos)
+			{
+				aSink.line(aText, lPos, lSpace);
+				lPos = lSpace + 1;
+			}
+			else
+			{
+				aSink.line(aText, lPos, lPos + aWidth);
+				lPos += aWidth;
+			}
+		}
+		if (aEnd > lPos) aSink.line(aText, lPos, aEnd);
+	}
+}
@@ -0,0 +1,149 @@
+/**
+ * File: MKZ_UtilsLib::RingBuffer.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.io;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The Class RingBuffer. Bounded lock-free queue (D. Vyukov), every slot has a sequence number that tells producers
+ * and consumers whether the slot is free or filled for their position, so offer and poll only need one CAS on the
+ * tail respectively the head. Used by the {@link mkz.util.io.AsyncLogWriter AsyncLogWriter} with many producers and
+ * one consumer, producers may also poll (drop the oldest element if the buffer is full).
+ *
+ * @param <E> the element type
+ */
+final class RingBuffer<E>
+{
+	/** The member elements. */
+	private final AtomicReferenceArray<E> mElements;
+
+	/** The member sequences (slot i is free for position p if seq = p, filled if seq = p+1). */
+	private final AtomicLongArray mSequences;
+
+	/** The member mask (capacity - 1). */
+	private final int mMask;
+
+	/** The member tail (next position to offer). */
+	private final AtomicLong mTail = new AtomicLong();
+
+	/** The member head (next position to poll). */
+	private final AtomicLong mHead = new AtomicLong();
+
+	/**
+	 * Instantiates a new ring buffer.
+	 *
+	 * @param aCapacity the reference capacity (rounded up to a power of two, at least 2)
+	 */
+	RingBuffer(int aCapacity)
+	{
+		int lCapacity = Integer.highestOneBit(Math.max(2, Math.min(aCapacity, 1 << 30)) - 1) << 1;
+		mElements = new AtomicReferenceArray<E>(lCapacity);
+		mSequences = new AtomicLongArray(lCapacity);
+		for (int i = 0; i < lCapacity; i++) mSequences.set(i, i);
+		mMask = lCapacity - 1;
+	}
+
+	/**
+	 * Gets the capacity.
+	 *
+	 * @return the capacity
+	 */
+	int getCapacity()
+	{
+		return mMask + 1;
+	}
+
+	/**
+	 * Offers an element.
+	 *
+	 * @param aElement the reference element (not null)
+	 * @return true, if successful (false if the buffer is full)
+	 */
+	boolean offer(E aElement)
+	{
+		long lPos = mTail.get();
+		while (true)
+		{
+			int lIdx = (int) lPos & mMask;
+			long lDif = mSequences.get(lIdx) - lPos;
+			if (lDif == 0)
+			{
+				if (mTail.compareAndSet(lPos, lPos + 1))
+				{
+					mElements.lazySet(lIdx, aElement);
+					mSequences.lazySet(lIdx, lPos + 1);
+					return true;
+				}
+				lPos = mTail.get();
+			}
+			else if (lDif < 0)
+			{
+				return false;
+			}
+			else
+			{
+				lPos = mTail.get();
+			}
+		}
+	}
+
+	/**
+	 * Polls the oldest element.
+	 *
+	 * @return the element, null if the buffer is empty
+	 */
+	E poll()
+	{
+		long lPos = mHead.get();
+		while (true)
+		{
+			int lIdx = (int) lPos & mMask;
+			long lDif = mSequences.get(lIdx) - (lPos + 1);
+			if (lDif == 0)
+			{
+				if (mHead.compareAndSet(lPos, lPos + 1))
+				{
+					E rVal = mElements.get(lIdx);
+					mElements.lazySet(lIdx, null);
+					mSequences.lazySet(lIdx, lPos + mMask + 1);
+					return rVal;
+				}
+				lPos = mHead.get();
+			}
+			else if (lDif < 0)
+			{
+				return null;
+			}
+			else
+			{
+				lPos = mHead.get();
+			}
+		}
+	}
+
+	/**
+	 * Checks if the buffer is empty (snapshot).
+	 *
+	 * @return true, if is empty
+	 */
+	boolean isEmpty()
+	{
+		return mHead.get() >= mTail.get();
+	}
+
+	/**
+	 * Gets the number of offered elements (snapshot).
+	 *
+	 * @return the offered
+	 */
+	long getOffered()
+	{
+		return mTail.get();
+	}
+}
@@ -0,0 +1,588 @@
+/**
+ * File: MKZ_UtilsLib::RollingFileSink.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.io;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+import mkz.util.io.definition.sysout.IIOPrintOverride;
+
+/**
+ * The Class RollingFileSink. File output for the {@link mkz.util.io.IO IO} (e.g.
+ * <code>IO.Options.debug_print_override = new RollingFileSink("app.log")</code>). The messages are encoded (UTF-8)
+ * into a direct buffer that is written to a FileChannel when it is full, when the flush interval has passed (checked
+ * on print), on flush, rotation and close. The file is rotated when it has reached the max size or at the end of the
+ * rotation interval (aligned to UTC), the rotated file is renamed to file.yyyyMMdd-HHmmss-SSS (UTC), compressed by a
+ * background thread (file.yyyyMMdd-HHmmss-SSS.gz) and only the newest max files rotated files are kept. The file is
+ * opened on the first print, the settings (except the buffer size) can be changed at any time. The sink is flushed
+ * and closed at JVM shutdown (after {@link mkz.util.io.IO#flush() IO::flush}) unless it has been closed before,
+ * messages printed after close are ignored.
+ */
+public class RollingFileSink implements IIOPrintOverride, Flushable, Closeable
+{
+	/**
+	 * The Enum Fsync, when the written data is forced to the storage device.
+	 */
+	public static enum Fsync
+	{
+		/** Never, left to the operating system. */
+		NEVER,
+
+		/** When the buffer is written to the file (and on rotation and close). */
+		ON_FLUSH,
+
+		/** After every message (the buffer is written and forced, slow). */
+		ALWAYS
+	}
+
+	/** The Constant DEFAULT_BUFFER_SIZE. */
+	public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+	/** The Constant DEFAULT_FLUSH_INTERVAL (ms). */
+	public static final long DEFAULT_FLUSH_INTERVAL = 1000L;
+
+	/** The Constant NEWLINE_BYTES. */
+	private static final byte[] NEWLINE_BYTES = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+
+	/** The member path. */
+	private final Path mPath;
+
+	/** The member buffer (direct). */
+	private final ByteBuffer mBuffer;
+
+	/** The member channel (null if not open). */
+	private FileChannel mChannel = null;
+
+	/** The member size of the file (including the buffered bytes). */
+	private long mSize = 0L;
+
+	/** The member time of the next rotation (ms, Long.MAX_VALUE if none). */
+	private long mNextRotation = Long.MAX_VALUE;
+
+	/** The member time of the last write to the channel (ms). */
+	private long mLastFlush = 0L;
+
+	/** The member max file size (bytes, 0 = unlimited). */
+	private long mMaxFileSize = 0L;
+
+	/** The member rotation interval (ms, 0 = none). */
+	private long mRotationInterval = 0L;
+
+	/** The member flush interval (ms). */
+	private long mFlushInterval = DEFAULT_FLUSH_INTERVAL;
+
+	/** The member max number of rotated files (0 = unlimited). */
+	private int mMaxFiles = 0;
+
+	/** The member compress flag. */
+	private boolean mCompress = false;
+
+	/** The member fsync. */
+	private Fsync mFsync = Fsync.NEVER;
+
+	/** The member compressor (created on the first rotation with compression). */
+	private ExecutorService mCompressor = null;
+
+	/** The member shutdown hook. */
+	private final Thread mHook;
+
+	/** The member closed flag (messages printed after close are ignored). */
+	private boolean mClosed = false;
+
+	/**
+	 * Instantiates a new rolling file sink with the default buffer size.
+	 *
+	 * @param aPath the reference path of the file
+	 */
+	public RollingFileSink(String aPath)
+	{
+		this(aPath, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Instantiates a new rolling file sink.
+	 *
+	 * @param aPath the reference path of the file
+	 * @param aBufferSize the reference buffer size (at least 1024)
+	 */
+	public RollingFileSink(String aPath, int aBufferSize)
+	{
+		mPath = Paths.get(aPath).toAbsolutePath();
+		mBuffer = ByteBuffer.allocateDirect(Math.max(1024, aBufferSize));
+
+		mHook = new Thread(() ->
+		{
+			IO.flush();
+			close();
+		}, "mkz-file-sink-close");
+		Runtime.getRuntime().addShutdownHook(mHook);
+	}
+
+	/**
+	 * Gets the path.
+	 *
+	 * @return the path
+	 */
+	public Path getPath()
+	{
+		return mPath;
+	}
+
+	/**
+	 * Gets the max file size.
+	 *
+	 * @return the max file size (bytes, 0 = unlimited)
+	 */
+	public synchronized long getMaxFileSize()
+	{
+		return mMaxFileSize;
+	}
+
+	/**
+	 * Sets the max file size, the file is rotated after the message that reaches it.
+	 *
+	 * @param aMaxFileSize the new max file size (bytes, 0 = unlimited)
+	 */
+	public synchronized void setMaxFileSize(long aMaxFileSize)
+	{
+		mMaxFileSize = Math.max(0L, aMaxFileSize);
+	}
+
+	/**
+	 * Gets the rotation interval.
+	 *
+	 * @return the rotation interval (ms, 0 = none)
+	 */
+	public synchronized long getRotationInterval()
+	{
+		return mRotationInterval;
+	}
+
+	/**
+	 * Sets the rotation interval, aligned to UTC (e.g. 86400000 rotates at midnight UTC).
+	 *
+	 * @param aRotationInterval the new rotation interval (ms, 0 = none)
+	 */
+	public synchronized void setRotationInterval(long aRotationInterval)
+	{
+		mRotationInterval = Math.max(0L, aRotationInterval);
+		mNextRotation = _nextRotation(System.currentTimeMillis());
+	}
+
+	/**
+	 * Gets the flush interval.
+	 *
+	 * @return the flush interval (ms)
+	 */
+	public synchronized long getFlushInterval()
+	{
+		return mFlushInterval;
+	}
+
+	/**
+	 * Sets the flush interval, max age of the buffered data when a message is printed.
+	 *
+	 * @param aFlushInterval the new flush interval (ms, 0 = every message)
+	 */
+	public synchronized void setFlushInterval(long aFlushInterval)
+	{
+		mFlushInterval = Math.max(0L, aFlushInterval);
+	}
+
+	/**
+	 * Gets the max number of rotated files.
+	 *
+	 * @return the max files (0 = unlimited)
+	 */
+	public synchronized int getMaxFiles()
+	{
+		return mMaxFiles;
+	}
+
+	/**
+	 * Sets the max number of rotated files, the oldest are deleted.
+	 *
+	 * @param aMaxFiles the new max files (0 = unlimited)
+	 */
+	public synchronized void setMaxFiles(int aMaxFiles)
+	{
+		mMaxFiles = Math.max(0, aMaxFiles);
+	}
+
+	/**
+	 * Checks if the rotated files are compressed.
+	 *
+	 * @return true, if is compress
+	 */
+	public synchronized boolean isCompress()
+	{
+		return mCompress;
+	}
+
+	/**
+	 * Sets the compress flag (gzip of the rotated files by a background thread).
+	 *
+	 * @param isCompress the new compress flag
+	 */
+	public synchronized void setCompress(boolean isCompress)
+	{
+		mCompress = isCompress;
+	}
+
+	/**
+	 * Gets the fsync.
+	 *
+	 * @return the fsync
+	 */
+	public synchronized Fsync getFsync()
+	{
+		return mFsync;
+	}
+
+	/**
+	 * Sets the fsync.
+	 *
+	 * @param aFsync the new fsync (null = NEVER)
+	 */
+	public synchronized void setFsync(Fsync aFsync)
+	{
+		mFsync = aFsync != null ? aFsync : Fsync.NEVER;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see mkz.util.io.definition.sysout.IIOPrintOverride#print(java.lang.String)
+	 */
+	@Override
+	public synchronized void print(String aMessage)
+	{
+		if (mClosed) return;
+
+		try
+		{
+			long lNow = System.currentTimeMillis();
+			if (mChannel == null) _open(lNow);
+			else if (lNow >= mNextRotation)
+			{
+				_rotate(lNow);
+				_open(lNow);
+			}
+
+			// encoded on the heap, then one bulk copy into the direct buffer
+			_append(String.valueOf(aMessage).getBytes(StandardCharsets.UTF_8));
+			_append(NEWLINE_BYTES);
+
+			if (mMaxFileSize > 0 && mSize >= mMaxFileSize) _rotate(lNow);
+			else if (mFsync == Fsync.ALWAYS || lNow - mLastFlush >= mFlushInterval) _flush(lNow);
+		}
+		catch (IOException e)
+		{
+			// the sink must not break the caller, the message is lost
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Writes the buffered data to the file (forced if fsync is not NEVER).
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Override
+	public synchronized void flush() throws IOException
+	{
+		if (!mClosed && mChannel != null) _flush(System.currentTimeMillis());
+	}
+
+	/**
+	 * Flushes and closes the file, waits for the pending compressions and removes the shutdown hook. Messages
+	 * printed after close are ignored, can be called more than once.
+	 */
+	@Override
+	public void close()
+	{
+		ExecutorService lCompressor;
+		synchronized (this)
+		{
+			if (mClosed) return;
+			mClosed = true;
+
+			try
+			{
+				_close();
+			}
+			catch (IOException e)
+			{
+				e.printStackTrace();
+			}
+			lCompressor = mCompressor;
+			mCompressor = null;
+		}
+
+		if (lCompressor != null)
+		{
+			lCompressor.shutdown();
+			try
+			{
+				lCompressor.awaitTermination(1, TimeUnit.MINUTES);
+			}
+			catch (InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		if (Thread.currentThread() != mHook)
+		{
+			try
+			{
+				Runtime.getRuntime().removeShutdownHook(mHook);
+			}
+			catch (IllegalStateException e)
+			{
+				// shutdown in progress, the hook finds the sink closed
+			}
+		}
+	}
+
+	/**
+	 * [restricted] Opens the file (append).
+	 *
+	 * @param aNow the reference current time
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	private void _open(long aNow) throws IOException
+	{
+		Path lParent = mPath.getParent();
+		if (lParent != null) Files.createDirectories(lParent);
+
+		mChannel = FileChannel.open(mPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+		mSize = mChannel.size() + mBuffer.position();
+		mLastFlush = aNow;
+		mNextRotation = _nextRotation(aNow);
+	}
+
+	/**
+	 * [restricted] Flushes and closes the channel.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	private void _close() throws IOException
+	{
+		if (mChannel == null) return;
+		try
+		{
+			_flush(System.currentTimeMillis());
+		}
+		finally
+		{
+			mChannel.close();
+			mChannel = null;
+		}
+	}
+
+	/**
+	 * [restricted] Writes the buffer to the channel, no-op if the file is not open (the data stays buffered).
+	 *
+	 * @param aNow the reference current time
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	private void _flush(long aNow) throws IOException
+	{
+		if (mChannel == null) return;
+
+		((Buffer) mBuffer).flip();
+		try
+		{
+			while (mBuffer.hasRemaining()) mChannel.write(mBuffer);
+		}
+		finally
+		{
+			((Buffer) mBuffer).clear();
+		}
+		if (mFsync != Fsync.NEVER) mChannel.force(false);
+		mLastFlush = aNow;
+	}
+
+	/**
+	 * [restricted] Appends bytes to the buffer, the buffer is written to the channel whenever it is full.
+	 *
+	 * @param aBytes the reference bytes
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	private void _append(byte[] aBytes) throws IOException
+	{
+		int lPos = 0;
+		while (lPos < aBytes.length)
+		{
+			if (!mBuffer.hasRemaining()) _flush(System.currentTimeMillis());
+
+			int lLen = Math.min(mBuffer.remaining(), aBytes.length - lPos);
+			mBuffer.put(aBytes, lPos, lLen);
+			lPos += lLen;
+		}
+		mSize += aBytes.length;
+	}
+
+	/**
+	 * [restricted] Rotates the file: closes it, renames it, compresses it (background) or applies the retention,
+	 * the file is opened again right away by a time rotation, on the next print by a size rotation.
+	 *
+	 * @param aNow the reference current time
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	private void _rotate(long aNow) throws IOException
+	{
+		_close();
+		mNextRotation = _nextRotation(aNow);
+		if (mSize == 0L) return;
+
+		SimpleDateFormat lFormat = new SimpleDateFormat("yyyyMMdd-HHmmss-SSS");
+		lFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
+		String lName = mPath.getFileName() + "." + lFormat.format(new Date(aNow));
+		Path lTarget = mPath.resolveSibling(lName);
+		for (int i = 1; Files.exists(lTarget) || Files.exists(lTarget.resolveSibling(lTarget.getFileName() + ".gz")); i++)
+		{
+			lTarget = mPath.resolveSibling(lName + "." + i);
+		}
+		Files.move(mPath, lTarget);
+		mSize = 0L;
+
+		int lMaxFiles = mMaxFiles;
+		if (mCompress)
+		{
+			if (mCompressor == null)
+			{
+				mCompressor = Executors.newSingleThreadExecutor((aRunnable) ->
+				{
+					Thread rVal = new Thread(aRunnable, "mkz-file-sink-gzip");
+					rVal.setDaemon(true);
+					return rVal;
+				});
+			}
+
+			Path lRotated = lTarget;
+			mCompressor.execute(() ->
+			{
+				_compress(lRotated);
+				_retain(lMaxFiles, true);
+			});
+		}
+		else
+		{
+			_retain(lMaxFiles, false);
+		}
+	}
+
+	/**
+	 * [restricted] Gets the time of the next rotation.
+	 *
+	 * @param aNow the reference current time
+	 * @return the next rotation (Long.MAX_VALUE if none)
+	 */
+	private long _nextRotation(long aNow)
+	{
+		return mRotationInterval > 0 ? (aNow / mRotationInterval + 1) * mRotationInterval : Long.MAX_VALUE;
+	}
+
+	/**
+	 * [restricted] Compresses a rotated file (file.gz) and deletes it.
+	 *
+	 * @param aFile the reference file
+	 */
+	private static void _compress(Path aFile)
+	{
+		Path lTarget = aFile.resolveSibling(aFile.getFileName() + ".gz");
+		try
+		{
+			try (InputStream lIn = Files.newInputStream(aFile); OutputStream lOut = new GZIPOutputStream(Files.newOutputStream(lTarget), 64 * 1024))
+			{
+				byte[] lBuffer = new byte[64 * 1024];
+				int lRead;
+				while ((lRead = lIn.read(lBuffer)) > 0) lOut.write(lBuffer, 0, lRead);
+			}
+			Files.delete(aFile);
+		}
+		catch (IOException e)
+		{
+			// keep the uncompressed file
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * [restricted] Deletes the oldest rotated files (file.yyyyMMdd-HHmmss-SSS[.n][.gz], other files are not touched)
+	 * so that at most aMaxFiles are left, ordered by the time and number in the name. With compression only the
+	 * compressed files are counted (the others are still waiting for the compressor).
+	 *
+	 * @param aMaxFiles the reference max files (0 = unlimited)
+	 * @param isCompressed if true, only file.*.gz is counted
+	 */
+	private void _retain(int aMaxFiles, boolean isCompressed)
+	{
+		if (aMaxFiles <= 0) return;
+
+		Pattern lPattern = Pattern.compile(Pattern.quote(mPath.getFileName().toString()) + "\\.(\\d{8}-\\d{6}-\\d{3})(?:\\.(\\d{1,9}))?(\\.gz)?");
+		File[] lFiles = mPath.toFile().getParentFile().listFiles((aDir, aName) ->
+		{
+			Matcher lMatcher = lPattern.matcher(aName);
+			return lMatcher.matches() && (!isCompressed || lMatcher.group(3) != null);
+		});
+		if (lFiles == null || lFiles.length <= aMaxFiles) return;
+
+		// the time stamp has a fixed width (ordered as text), then the number that made the name unique
+		List<File> lRotated = new ArrayList<File>(Arrays.asList(lFiles));
+		lRotated.sort(Comparator.comparing((File aFile) -> _rotationKey(lPattern, aFile, 1)).thenComparingInt((File aFile) ->
+		{
+			String lNumber = _rotationKey(lPattern, aFile, 2);
+			return lNumber != null ? Integer.parseInt(lNumber) : 0;
+		}));
+		for (int i = 0; i < lRotated.size() - aMaxFiles; i++)
+		{
+			// not logged through the IO, this sink may be its output
+			if (!lRotated.get(i).delete()) System.err.println("unable to delete rotated file: " + lRotated.get(i));
+		}
+	}
+
+	/**
+	 * [restricted] Gets a group of the rotation name of a file.
+	 *
+	 * @param aPattern the reference rotation name pattern
+	 * @param aFile the reference file (matching the pattern)
+	 * @param aGroup the reference group (1 = time stamp, 2 = number)
+	 * @return the group, null if not present
+	 */
+	private static String _rotationKey(Pattern aPattern, File aFile, int aGroup)
+	{
+		Matcher lMatcher = aPattern.matcher(aFile.getName());
+		return lMatcher.matches() ? lMatcher.group(aGroup) : null;
+	}
+}
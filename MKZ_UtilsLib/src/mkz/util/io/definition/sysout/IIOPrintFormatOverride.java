@@ -1,7 +1,7 @@
-package mkz.util.io.definition.sysout;
-
-@FunctionalInterface
-public interface IIOPrintFormatOverride
-{
-	public String format(int aLogLevel, String aClass, String aMethod, Integer aLineNumber);
+package mkz.util.io.definition.sysout;
+
+@FunctionalInterface
+public interface IIOPrintFormatOverride
+{
+	public String format(int aLogLevel, String aClass, String aMethod, Integer aLineNumber);
 }
\ No newline at end of file
@@ -1,7 +1,7 @@
-package mkz.util.io.definition.sysout;
-
-@FunctionalInterface
-public interface IIOPrintOverride
-{
-	public void print(String aMessage);
-}
+package mkz.util.io.definition.sysout;
+
+@FunctionalInterface
+public interface IIOPrintOverride
+{
+	public void print(String aMessage);
+}
@@ -1,7 +1,7 @@
-package mkz.util.io.definition.trycatch;
-
-@FunctionalInterface
-public interface IIOTryConsumer<T>
-{
-	public void process(T aValue) throws Exception;
+package mkz.util.io.definition.trycatch;
+
+@FunctionalInterface
+public interface IIOTryConsumer<T>
+{
+	public void process(T aValue) throws Exception;
 }
\ No newline at end of file
@@ -1,7 +1,7 @@
-package mkz.util.io.definition.trycatch;
-
-@FunctionalInterface
-public interface IIOTryProcessor
-{
-	public void process() throws Exception;
-}
+package mkz.util.io.definition.trycatch;
+
+@FunctionalInterface
+public interface IIOTryProcessor
+{
+	public void process() throws Exception;
+}
@@ -1,14 +1,14 @@
-package mkz.util.jcli.debug;
-
-public class JCLI_CommandNotFoundEx extends JCLI_Exception
-{
-	/**
-	 * 
-	 */
-	private static final long serialVersionUID = 1L;
-
-	public JCLI_CommandNotFoundEx(String aMsg)
-	{
-		super(aMsg);
-	}
-}
+package mkz.util.jcli.debug;
+
+public class JCLI_CommandNotFoundEx extends JCLI_Exception
+{
+	/**
+	 * 
+	 */
+	private static final long serialVersionUID = 1L;
+
+	public JCLI_CommandNotFoundEx(String aMsg)
+	{
+		super(aMsg);
+	}
+}
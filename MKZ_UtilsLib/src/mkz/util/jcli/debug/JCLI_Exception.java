@@ -1,14 +1,14 @@
-package mkz.util.jcli.debug;
-
-public class JCLI_Exception extends Exception
-{
-	/**
-	 * 
-	 */
-	private static final long serialVersionUID = 1L;
-
-	public JCLI_Exception(String aMsg)
-	{
-		super(aMsg);
-	}
-}
+package mkz.util.jcli.debug;
+
+public class JCLI_Exception extends Exception
+{
+	/**
+	 * 
+	 */
+	private static final long serialVersionUID = 1L;
+
+	public JCLI_Exception(String aMsg)
+	{
+		super(aMsg);
+	}
+}
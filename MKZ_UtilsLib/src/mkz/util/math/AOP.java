@@ -1,103 +1,177 @@
-/**
- * File: MKZ_UtilsLib::AOP.java
- *
- * @author Aleistar Markczy
- * 
- */
-package mkz.util.math;
-
-import java.math.BigDecimal;
-
-import mkz.util.math.cnum.op.ComplexNumberOperator;
-import mkz.util.math.matrix.op.MatrixOperator;
-import mkz.util.math.op.ArithmeticOperator;
-
-/**
- * ---------------------------------------------------------------------------------<br/>
- * AOP - The Arithmetic OPeration database for standard java types.<br/>
- * ---------------------------------------------------------------------------------<br/>
- * 
- * Supported Operators:<p>
- * 
- * {@link mkz.util.math.AOP#BYTE AOP::BYTE} : Byte number operator<br/>
- * {@link mkz.util.math.AOP#INT AOP::INT} : Integer number operator<br/>
- * {@link mkz.util.math.AOP#DOUBLE AOP::DOUBLE} : Double number operator<br/>
- * {@link mkz.util.math.AOP#FLOAT AOP::FLOAT} : Float number operator<br/>
- * {@link mkz.util.math.AOP#BIG_DECIMAL AOP::BIG_DECIMAL} : BigDecimal number operator<p>
- * 
- * More advanced Operators:<p>
- * 
- * {@link mkz.util.math.AOP.MTX AOP::MTX} : Matrix Operators<br/>
- * {@link mkz.util.math.AOP.C AOP::C} : Complex number Operators<br/>
- */
-public class AOP
-{
-	/** Predefined Operator for Operations of the java type Byte. */
-	public static final ArithmeticOperator<Byte> BYTE = new ArithmeticOperator<Byte>((byte)0,(byte)1,(a,b)->(byte)(a+b),(a,b)->(byte)(a-b),(a,b)->(byte)(a*b),(a,b)->(byte)(a/b),(a,b)->(byte)(a%b), Byte::compare); 
-	
-	/** Predefined Operator for Operations of the java type Integer. */
-	public static final ArithmeticOperator<Integer> INT = new ArithmeticOperator<Integer>(0,1,(a,b)->a+b,(a,b)->a-b,(a,b)->a*b,(a,b)->a/b,(a,b)->a%b, Integer::compare); 
-	
-	/** Predefined Operator for Operations of the java type Double. */
-	public static final ArithmeticOperator<Double> DOUBLE = new ArithmeticOperator<Double>(0d,1d,(a,b)->a+b,(a,b)->a-b,(a,b)->a*b,(a,b)->a/b,(a,b)->a%b, Double::compare); 
-	
-	/** Predefined Operator for Operations of the java type Float. */
-	public static final ArithmeticOperator<Float> FLOAT = new ArithmeticOperator<Float>(0f,1f,(a,b)->a+b,(a,b)->a-b,(a,b)->a*b,(a,b)->a/b,(a,b)->a%b, Float::compare); 
-	
-	/** Predefined Operator for Operations of the java type BigDecimal. */
-	public static final ArithmeticOperator<BigDecimal> BIG_DECIMAL = new ArithmeticOperator<BigDecimal>(BigDecimal.ZERO,BigDecimal.ONE,BigDecimal::add,BigDecimal::subtract,BigDecimal::multiply,BigDecimal::divide,BigDecimal::remainder, BigDecimal::compareTo); 
-
-	/**
-	 * MTX - Matrix Operators.<p>
-	 * 
-	 * {@link mkz.util.math.AOP.MTX#BYTE AOP::MTX::BYTE} : Byte matrix operator<br/>
-	 * {@link mkz.util.math.AOP.MTX#INT AOP::MTX::INT} : Integer matrix operator<br/>
-	 * {@link mkz.util.math.AOP.MTX#DOUBLE AOP::MTX::DOUBLE} : Double matrix operator<br/>
-	 * {@link mkz.util.math.AOP.MTX#FLOAT AOP::MTX::FLOAT} : Float matrix operator<br/>
-	 * {@link mkz.util.math.AOP.MTX#BIG_DECIMAL AOP::MTX::BIG_DECIMAL} : BigDecimal matrix operator<p>
-	 */
-	public static final class MTX
-	{
-		/** Predefined Operator for Operations with Matrices of the java type Byte. */
-		public static final MatrixOperator<Byte> BYTE = new MatrixOperator<Byte>(AOP.BYTE); 
-		
-		/** Predefined Operator for Operations with Matrices of the java type Integer. */
-		public static final MatrixOperator<Integer> INT = new MatrixOperator<Integer>(AOP.INT); 
-		
-		/** Predefined Operator for Operations with Matrices of the java type Double. */
-		public static final MatrixOperator<Double> DOUBLE = new MatrixOperator<Double>(AOP.DOUBLE); 
-		
-		/** Predefined Operator for Operations with Matrices of the java type Float. */
-		public static final MatrixOperator<Float> FLOAT = new MatrixOperator<Float>(AOP.FLOAT); 
-		
-		/** Predefined Operator for Operations with Matrices of the java type BigDecimal. */
-		public static final MatrixOperator<BigDecimal> BIG_DECIMAL = new MatrixOperator<BigDecimal>(AOP.BIG_DECIMAL); 
-	}
-	
-	/**
-	 * C - Complex Number Operators.<p>
-	 * 
-	 * {@link mkz.util.math.AOP.C#BYTE AOP::C::BYTE} : Byte complex number operator<br/>
-	 * {@link mkz.util.math.AOP.C#INT AOP::C::INT} : Integer complex number operator<br/>
-	 * {@link mkz.util.math.AOP.C#DOUBLE AOP::C::DOUBLE} : Double complex number operator<br/>
-	 * {@link mkz.util.math.AOP.C#FLOAT AOP::C::FLOAT} : Float complex number operator<br/>
-	 * {@link mkz.util.math.AOP.C#BIG_DECIMAL AOP::C::BIG_DECIMAL} : BigDecimal complex number operator<p>
-	 */
-	public static final class C
-	{
-		/** Predefined Operator for Operations with Complex Numbers of the java type Byte. */
-		public static final ComplexNumberOperator<Byte> BYTE = new ComplexNumberOperator<Byte>(AOP.BYTE); 
-		
-		/** Predefined Operator for Operations with Complex Numbers of the java type Integer. */
-		public static final ComplexNumberOperator<Integer> INT = new ComplexNumberOperator<Integer>(AOP.INT); 
-		
-		/** Predefined Operator for Operations with Complex Numbers of the java type Double. */
-		public static final ComplexNumberOperator<Double> DOUBLE = new ComplexNumberOperator<Double>(AOP.DOUBLE); 
-		
-		/** Predefined Operator for Operations with Complex Numbers of the java type Float. */
-		public static final ComplexNumberOperator<Float> FLOAT = new ComplexNumberOperator<Float>(AOP.FLOAT); 
-		
-		/** Predefined Operator for Operations with Complex Numbers of the java type BigDecimal. */
-		public static final ComplexNumberOperator<BigDecimal> BIG_DECIMAL = new ComplexNumberOperator<BigDecimal>(AOP.BIG_DECIMAL); 
-	}
-}
+/**
+ * File: MKZ_UtilsLib::AOP.java
+ *
+ * @author Aleistar MarkÃ³czy
+ * 
+ */
+package mkz.util.math;
+
+import java.math.BigDecimal;
+
+import mkz.util.math.cnum.op.ComplexNumberOperator;
+import mkz.util.math.matrix.op.DoubleMatrixOperator;
+import mkz.util.math.matrix.op.MatrixOperator;
+import mkz.util.math.matrix.sparse.op.SparseMatrixOperator;
+import mkz.util.math.op.ArithmeticOperator;
+import mkz.util.math.op.DoubleArithmeticOperator;
+import mkz.util.math.op.IntArithmeticOperator;
+import mkz.util.math.op.LongArithmeticOperator;
+
+/**
+ * ---------------------------------------------------------------------------------<br/>
+ * AOP - The Arithmetic OPeration database for standard java types.<br/>
+ * ---------------------------------------------------------------------------------<br/>
+ * 
+ * Supported Operators:<p>
+ * 
+ * {@link mkz.util.math.AOP#BYTE AOP::BYTE} : Byte number operator<br/>
+ * {@link mkz.util.math.AOP#INT AOP::INT} : Integer number operator (primitive int functions)<br/>
+ * {@link mkz.util.math.AOP#LONG AOP::LONG} : Long number operator (primitive long functions)<br/>
+ * {@link mkz.util.math.AOP#DOUBLE AOP::DOUBLE} : Double number operator (primitive double functions)<br/>
+ * {@link mkz.util.math.AOP#FLOAT AOP::FLOAT} : Float number operator<br/>
+ * {@link mkz.util.math.AOP#BIG_DECIMAL AOP::BIG_DECIMAL} : BigDecimal number operator<p>
+ * 
+ * More advanced Operators:<p>
+ * 
+ * {@link mkz.util.math.AOP.MTX AOP::MTX} : Matrix Operators<br/>
+ * {@link mkz.util.math.AOP.SMTX AOP::SMTX} : Sparse Matrix Operators<br/>
+ * {@link mkz.util.math.AOP.C AOP::C} : Complex number Operators<br/>
+ * {@link mkz.util.math.AOP.PRIM AOP::PRIM} : Primitive Operators (typed access)<br/>
+ */
+public class AOP
+{
+	/** Predefined Operator for Operations of the java type Byte. */
+	public static final ArithmeticOperator<Byte> BYTE = new ArithmeticOperator<Byte>((byte)0,(byte)1,(a,b)->(byte)(a+b),(a,b)->(byte)(a-b),(a,b)->(byte)(a*b),(a,b)->(byte)(a/b),(a,b)->(byte)(a%b), Byte::compare); 
+	
+	/** Predefined Operator for Operations of the java type Integer. */
+	public static final ArithmeticOperator<Integer> INT = new IntArithmeticOperator(0,1,(a,b)->a+b,(a,b)->a-b,(a,b)->a*b,(a,b)->a/b,(a,b)->a%b); 
+	
+	/** Predefined Operator for Operations of the java type Long. */
+	public static final ArithmeticOperator<Long> LONG = new LongArithmeticOperator(0L,1L,(a,b)->a+b,(a,b)->a-b,(a,b)->a*b,(a,b)->a/b,(a,b)->a%b); 
+	
+	/** Predefined Operator for Operations of the java type Double. */
+	public static final ArithmeticOperator<Double> DOUBLE = new DoubleArithmeticOperator(0d,1d,(a,b)->a+b,(a,b)->a-b,(a,b)->a*b,(a,b)->a/b,(a,b)->a%b); 
+	
+	/** Predefined Operator for Operations of the java type Float. */
+	public static final ArithmeticOperator<Float> FLOAT = new ArithmeticOperator<Float>(0f,1f,(a,b)->a+b,(a,b)->a-b,(a,b)->a*b,(a,b)->a/b,(a,b)->a%b, Float::compare); 
+	
+	/** Predefined Operator for Operations of the java type BigDecimal. */
+	public static final ArithmeticOperator<BigDecimal> BIG_DECIMAL = new ArithmeticOperator<BigDecimal>(BigDecimal.ZERO,BigDecimal.ONE,BigDecimal::add,BigDecimal::subtract,BigDecimal::multiply,BigDecimal::divide,BigDecimal::remainder, BigDecimal::compareTo); 
+
+	/**
+	 * MTX - Matrix Operators.<p>
+	 * 
+	 * {@link mkz.util.math.AOP.MTX#BYTE AOP::MTX::BYTE} : Byte matrix operator<br/>
+	 * {@link mkz.util.math.AOP.MTX#INT AOP::MTX::INT} : Integer matrix operator<br/>
+	 * {@link mkz.util.math.AOP.MTX#LONG AOP::MTX::LONG} : Long matrix operator<br/>
+	 * {@link mkz.util.math.AOP.MTX#DOUBLE AOP::MTX::DOUBLE} : Double matrix operator<br/>
+	 * {@link mkz.util.math.AOP.MTX#FLOAT AOP::MTX::FLOAT} : Float matrix operator<br/>
+	 * {@link mkz.util.math.AOP.MTX#BIG_DECIMAL AOP::MTX::BIG_DECIMAL} : BigDecimal matrix operator<p>
+	 */
+	public static final class MTX
+	{
+		/** Predefined Operator for Operations with Matrices of the java type Byte. */
+		public static final MatrixOperator<Byte> BYTE = new MatrixOperator<Byte>(AOP.BYTE); 
+		
+		/** Predefined Operator for Operations with Matrices of the java type Integer. */
+		public static final MatrixOperator<Integer> INT = new MatrixOperator<Integer>(AOP.INT); 
+		
+		/** Predefined Operator for Operations with Matrices of the java type Long. */
+		public static final MatrixOperator<Long> LONG = new MatrixOperator<Long>(AOP.LONG); 
+		
+		/** Predefined Operator for Operations with Matrices of the java type Double (a DoubleMatrixOperator, see {@link mkz.util.math.AOP.PRIM#MTX_DOUBLE AOP::PRIM::MTX_DOUBLE}). */
+		public static final MatrixOperator<Double> DOUBLE = new DoubleMatrixOperator(); 
+		
+		/** Predefined Operator for Operations with Matrices of the java type Float. */
+		public static final MatrixOperator<Float> FLOAT = new MatrixOperator<Float>(AOP.FLOAT); 
+		
+		/** Predefined Operator for Operations with Matrices of the java type BigDecimal. */
+		public static final MatrixOperator<BigDecimal> BIG_DECIMAL = new MatrixOperator<BigDecimal>(AOP.BIG_DECIMAL); 
+	}
+	
+	/**
+	 * SMTX - Sparse Matrix Operators.<p>
+	 * 
+	 * {@link mkz.util.math.AOP.SMTX#BYTE AOP::SMTX::BYTE} : Byte sparse matrix operator<br/>
+	 * {@link mkz.util.math.AOP.SMTX#INT AOP::SMTX::INT} : Integer sparse matrix operator<br/>
+	 * {@link mkz.util.math.AOP.SMTX#LONG AOP::SMTX::LONG} : Long sparse matrix operator<br/>
+	 * {@link mkz.util.math.AOP.SMTX#DOUBLE AOP::SMTX::DOUBLE} : Double sparse matrix operator<br/>
+	 * {@link mkz.util.math.AOP.SMTX#FLOAT AOP::SMTX::FLOAT} : Float sparse matrix operator<br/>
+	 * {@link mkz.util.math.AOP.SMTX#BIG_DECIMAL AOP::SMTX::BIG_DECIMAL} : BigDecimal sparse matrix operator<p>
+	 */
+	public static final class SMTX
+	{
+		/** Predefined Operator for Operations with Sparse Matrices of the java type Byte. */
+		public static final SparseMatrixOperator<Byte> BYTE = new SparseMatrixOperator<Byte>(AOP.BYTE); 
+		
+		/** Predefined Operator for Operations with Sparse Matrices of the java type Integer. */
+		public static final SparseMatrixOperator<Integer> INT = new SparseMatrixOperator<Integer>(AOP.INT); 
+		
+		/** Predefined Operator for Operations with Sparse Matrices of the java type Long. */
+		public static final SparseMatrixOperator<Long> LONG = new SparseMatrixOperator<Long>(AOP.LONG); 
+		
+		/** Predefined Operator for Operations with Sparse Matrices of the java type Double. */
+		public static final SparseMatrixOperator<Double> DOUBLE = new SparseMatrixOperator<Double>(AOP.DOUBLE); 
+		
+		/** Predefined Operator for Operations with Sparse Matrices of the java type Float. */
+		public static final SparseMatrixOperator<Float> FLOAT = new SparseMatrixOperator<Float>(AOP.FLOAT); 
+		
+		/** Predefined Operator for Operations with Sparse Matrices of the java type BigDecimal. */
+		public static final SparseMatrixOperator<BigDecimal> BIG_DECIMAL = new SparseMatrixOperator<BigDecimal>(AOP.BIG_DECIMAL); 
+	}
+	
+	/**
+	 * C - Complex Number Operators.<p>
+	 * 
+	 * {@link mkz.util.math.AOP.C#BYTE AOP::C::BYTE} : Byte complex number operator<br/>
+	 * {@link mkz.util.math.AOP.C#INT AOP::C::INT} : Integer complex number operator<br/>
+	 * {@link mkz.util.math.AOP.C#LONG AOP::C::LONG} : Long complex number operator<br/>
+	 * {@link mkz.util.math.AOP.C#DOUBLE AOP::C::DOUBLE} : Double complex number operator<br/>
+	 * {@link mkz.util.math.AOP.C#FLOAT AOP::C::FLOAT} : Float complex number operator<br/>
+	 * {@link mkz.util.math.AOP.C#BIG_DECIMAL AOP::C::BIG_DECIMAL} : BigDecimal complex number operator<p>
+	 */
+	public static final class C
+	{
+		/** Predefined Operator for Operations with Complex Numbers of the java type Byte. */
+		public static final ComplexNumberOperator<Byte> BYTE = new ComplexNumberOperator<Byte>(AOP.BYTE); 
+		
+		/** Predefined Operator for Operations with Complex Numbers of the java type Integer. */
+		public static final ComplexNumberOperator<Integer> INT = new ComplexNumberOperator<Integer>(AOP.INT); 
+		
+		/** Predefined Operator for Operations with Complex Numbers of the java type Long. */
+		public static final ComplexNumberOperator<Long> LONG = new ComplexNumberOperator<Long>(AOP.LONG); 
+		
+		/** Predefined Operator for Operations with Complex Numbers of the java type Double. */
+		public static final ComplexNumberOperator<Double> DOUBLE = new ComplexNumberOperator<Double>(AOP.DOUBLE); 
+		
+		/** Predefined Operator for Operations with Complex Numbers of the java type Float. */
+		public static final ComplexNumberOperator<Float> FLOAT = new ComplexNumberOperator<Float>(AOP.FLOAT); 
+		
+		/** Predefined Operator for Operations with Complex Numbers of the java type BigDecimal. */
+		public static final ComplexNumberOperator<BigDecimal> BIG_DECIMAL = new ComplexNumberOperator<BigDecimal>(AOP.BIG_DECIMAL); 
+	}
+	
+	/**
+	 * PRIM - Primitive Operators, the predefined operators with their specialized type (same instances, e.g.
+	 * AOP.PRIM.DOUBLE == AOP.DOUBLE) for the primitive and bulk functions.<p>
+	 * 
+	 * {@link mkz.util.math.AOP.PRIM#INT AOP::PRIM::INT} : {@link mkz.util.math.AOP#INT AOP::INT} as IntArithmeticOperator<br/>
+	 * {@link mkz.util.math.AOP.PRIM#LONG AOP::PRIM::LONG} : {@link mkz.util.math.AOP#LONG AOP::LONG} as LongArithmeticOperator<br/>
+	 * {@link mkz.util.math.AOP.PRIM#DOUBLE AOP::PRIM::DOUBLE} : {@link mkz.util.math.AOP#DOUBLE AOP::DOUBLE} as DoubleArithmeticOperator<br/>
+	 * {@link mkz.util.math.AOP.PRIM#MTX_DOUBLE AOP::PRIM::MTX_DOUBLE} : {@link mkz.util.math.AOP.MTX#DOUBLE AOP::MTX::DOUBLE} as DoubleMatrixOperator<p>
+	 */
+	public static final class PRIM
+	{
+		/** Predefined Operator for Operations of the java type Integer with primitive (int) functions. */
+		public static final IntArithmeticOperator INT = (IntArithmeticOperator) AOP.INT; 
+		
+		/** Predefined Operator for Operations of the java type Long with primitive (long) functions. */
+		public static final LongArithmeticOperator LONG = (LongArithmeticOperator) AOP.LONG; 
+		
+		/** Predefined Operator for Operations of the java type Double with primitive (double) functions. */
+		public static final DoubleArithmeticOperator DOUBLE = (DoubleArithmeticOperator) AOP.DOUBLE; 
+		
+		/** Predefined Operator for Operations with Matrices of the java type Double and the primitive DoubleMatrix. */
+		public static final DoubleMatrixOperator MTX_DOUBLE = (DoubleMatrixOperator) AOP.MTX.DOUBLE; 
+	}
+}
\ No newline at end of file
@@ -1,110 +1,249 @@
-/**
- * File: MKZ_UtilsLib::ComplexNumberOperator.java
- *
- * @author Aleistar Markczy
- * 
- */
-package mkz.util.math.cnum.op;
-
-import mkz.util.math.cnum.ComplexNumber;
-import mkz.util.math.op.ArithmeticOperator;
-
-
-/**
- * The Class ComplexNumberOperator.
- *
- * @param <T> the generic type
- */
-public class ComplexNumberOperator<T>
-{
-	
-	/** The member operator. */
-	private ArithmeticOperator<T> mOp = null;
-	
-	/**
-	 * Instantiates a new complex number operator.
-	 *
-	 * @param aOperationBase the reference operation base
-	 */
-	public ComplexNumberOperator(ArithmeticOperator<T> aOperationBase)
-	{
-		mOp = aOperationBase;
-	}
-	
-	/**
-	 * Addition.
-	 *
-	 * @param aA the reference a
-	 * @param aB the reference b
-	 * @return the complex number
-	 */
-	public ComplexNumber<T> add(ComplexNumber<T> aA,ComplexNumber<T> aB)
-	{
-		return new ComplexNumber<T>(mOp.add(aA.getReal(),aB.getReal()), mOp.add(aA.getImaginary(),aB.getImaginary()));
-	}
-	
-	/**
-	 * Subtraction.
-	 *
-	 * @param aA the reference a
-	 * @param aB the reference b
-	 * @return the complex number
-	 */
-	public ComplexNumber<T> sub(ComplexNumber<T> aA,ComplexNumber<T> aB)
-	{
-		return new ComplexNumber<T>(mOp.sub(aA.getReal(),aB.getReal()), mOp.sub(aA.getImaginary(),aB.getImaginary()));
-	}
-
-	/**
-	 * Multiplication.
-	 *
-	 * @param aA the reference a
-	 * @param aB the reference b
-	 * @return the complex number
-	 */
-	public ComplexNumber<T> mpl(ComplexNumber<T> aA,ComplexNumber<T> aB)
-	{
-		// (a + bi) (x + yi) = ax + ayi + bxi - by = (ax - by) + (ay + bx)i 
-		return new ComplexNumber<T>(mOp.sub(mOp.mpl(aA.getReal(), aB.getReal()), mOp.mpl(aA.getImaginary(), aB.getImaginary())), // ax - by 
-				mOp.add(mOp.mpl(aA.getReal(), aB.getImaginary()), mOp.mpl(aA.getImaginary(), aB.getReal()))); // ay + bx
-	}
-	
-	/**
-	 * Division.
-	 *
-	 * @param aA the reference a
-	 * @param aB the reference b
-	 * @return the complex number
-	 */
-	public ComplexNumber<T> div(ComplexNumber<T> aA,ComplexNumber<T> aB)
-	{
-		// ((ax + by) / (x - y^2)) + ((ay + bx) / (x - y^2))
-		T lDivisor = mOp.sub(aA.getReal(), mOp.mpl(aB.getImaginary(), aB.getImaginary()));
-		return new ComplexNumber<T>(mOp.div(mOp.add(mOp.mpl(aA.getReal(), aB.getReal()), mOp.mpl(aA.getImaginary(), aB.getImaginary())),lDivisor), // (ax + by) / (x - y^2) 
-				mOp.div(mOp.add(mOp.mpl(aA.getReal(), aB.getImaginary()), mOp.mpl(aA.getImaginary(), aB.getReal())),lDivisor)); // ay + bx / (x - y^2) 
-	}
-	
-	/**
-	 * Magnitude.
-	 *
-	 * @param aA the reference a
-	 * @return the t
-	 */
-	public T magnitude(ComplexNumber<T> aA)
-	{
-		// a^2 + b^2
-		return mOp.add(mOp.mpl(aA.getReal(),aA.getReal()),mOp.mpl(aA.getImaginary(),aA.getImaginary()));
-	}
-	
-	/**
-	 * Conjugate (gets complex conjucated -> a-bi).
-	 *
-	 * @param aA the reference a
-	 * @return the complex number
-	 */
-	public ComplexNumber<T> conjugate(ComplexNumber<T> aA)
-	{
-		return new ComplexNumber<T>(aA.getReal(),mOp.sub(aA.getImaginary(),mOp.add(aA.getImaginary(), aA.getImaginary()))); // XXX hacked -b = (b-(b+b))
-	}
-
-}
+/**
+ * File: MKZ_UtilsLib::ComplexNumberOperator.java
+ *
+ * @author Aleistar MarkÃ³czy
+ * 
+ */
+package mkz.util.math.cnum.op;
+
+import mkz.util.math.cnum.ComplexNumber;
+import mkz.util.math.op.ArithmeticOperator;
+import mkz.util.math.op.DoubleArithmeticOperator;
+import mkz.util.math.op.IntArithmeticOperator;
+import mkz.util.math.op.LongArithmeticOperator;
+
+
+/**
+ * The Class ComplexNumberOperator.
+ *
+ * @param <T> the generic type
+ */
+public class ComplexNumberOperator<T>
+{
+	
+	/** The member operator. */
+	private ArithmeticOperator<T> mOp = null;
+	
+	/** The member primitive double operator (null if the operator is not of this type). */
+	private DoubleArithmeticOperator mDoubleOp = null;
+	
+	/** The member primitive long operator (null if the operator is not of this type). */
+	private LongArithmeticOperator mLongOp = null;
+	
+	/** The member primitive int operator (null if the operator is not of this type). */
+	private IntArithmeticOperator mIntOp = null;
+	
+	/**
+	 * Instantiates a new complex number operator.
+	 *
+	 * @param aOperationBase the reference operation base
+	 */
+	public ComplexNumberOperator(ArithmeticOperator<T> aOperationBase)
+	{
+		mOp = aOperationBase;
+		if(mOp instanceof DoubleArithmeticOperator) mDoubleOp = (DoubleArithmeticOperator) mOp;
+		else if(mOp instanceof LongArithmeticOperator) mLongOp = (LongArithmeticOperator) mOp;
+		else if(mOp instanceof IntArithmeticOperator) mIntOp = (IntArithmeticOperator) mOp;
+	}
+	
+	/**
+	 * Addition.
+	 *
+	 * @param aA the reference a
+	 * @param aB the reference b
+	 * @return the complex number
+	 */
+	public ComplexNumber<T> add(ComplexNumber<T> aA,ComplexNumber<T> aB)
+	{
+		return new ComplexNumber<T>(mOp.add(aA.getReal(),aB.getReal()), mOp.add(aA.getImaginary(),aB.getImaginary()));
+	}
+	
+	/**
+	 * Subtraction.
+	 *
+	 * @param aA the reference a
+	 * @param aB the reference b
+	 * @return the complex number
+	 */
+	public ComplexNumber<T> sub(ComplexNumber<T> aA,ComplexNumber<T> aB)
+	{
+		return new ComplexNumber<T>(mOp.sub(aA.getReal(),aB.getReal()), mOp.sub(aA.getImaginary(),aB.getImaginary()));
+	}
+
+	/**
+	 * Multiplication.
+	 *
+	 * @param aA the reference a
+	 * @param aB the reference b
+	 * @return the complex number
+	 */
+	public ComplexNumber<T> mpl(ComplexNumber<T> aA,ComplexNumber<T> aB)
+	{
+		// (a + bi) (x + yi) = ax + ayi + bxi - by = (ax - by) + (ay + bx)i 
+		if(mDoubleOp!=null)
+		{
+			DoubleArithmeticOperator lOp = mDoubleOp;
+			double lA = _d(aA.getReal()), lB = _d(aA.getImaginary()), lX = _d(aB.getReal()), lY = _d(aB.getImaginary());
+			return _complex(lOp.subAsDouble(lOp.mplAsDouble(lA, lX), lOp.mplAsDouble(lB, lY)), lOp.addAsDouble(lOp.mplAsDouble(lA, lY), lOp.mplAsDouble(lB, lX)));
+		}
+		if(mLongOp!=null)
+		{
+			LongArithmeticOperator lOp = mLongOp;
+			long lA = _l(aA.getReal()), lB = _l(aA.getImaginary()), lX = _l(aB.getReal()), lY = _l(aB.getImaginary());
+			return _complex(lOp.subAsLong(lOp.mplAsLong(lA, lX), lOp.mplAsLong(lB, lY)), lOp.addAsLong(lOp.mplAsLong(lA, lY), lOp.mplAsLong(lB, lX)));
+		}
+		if(mIntOp!=null)
+		{
+			IntArithmeticOperator lOp = mIntOp;
+			int lA = _i(aA.getReal()), lB = _i(aA.getImaginary()), lX = _i(aB.getReal()), lY = _i(aB.getImaginary());
+			return _complex(lOp.subAsInt(lOp.mplAsInt(lA, lX), lOp.mplAsInt(lB, lY)), lOp.addAsInt(lOp.mplAsInt(lA, lY), lOp.mplAsInt(lB, lX)));
+		}
+		
+		return new ComplexNumber<T>(mOp.sub(mOp.mpl(aA.getReal(), aB.getReal()), mOp.mpl(aA.getImaginary(), aB.getImaginary())), // ax - by 
+				mOp.add(mOp.mpl(aA.getReal(), aB.getImaginary()), mOp.mpl(aA.getImaginary(), aB.getReal()))); // ay + bx
+	}
+	
+	/**
+	 * Division.
+	 *
+	 * @param aA the reference a
+	 * @param aB the reference b
+	 * @return the complex number
+	 */
+	public ComplexNumber<T> div(ComplexNumber<T> aA,ComplexNumber<T> aB)
+	{
+		// ((ax + by) / (x - y^2)) + ((ay + bx) / (x - y^2))
+		if(mDoubleOp!=null)
+		{
+			DoubleArithmeticOperator lOp = mDoubleOp;
+			double lA = _d(aA.getReal()), lB = _d(aA.getImaginary()), lX = _d(aB.getReal()), lY = _d(aB.getImaginary());
+			double lDivisor = lOp.subAsDouble(lA, lOp.mplAsDouble(lY, lY));
+			return _complex(lOp.divAsDouble(lOp.addAsDouble(lOp.mplAsDouble(lA, lX), lOp.mplAsDouble(lB, lY)), lDivisor), lOp.divAsDouble(lOp.addAsDouble(lOp.mplAsDouble(lA, lY), lOp.mplAsDouble(lB, lX)), lDivisor));
+		}
+		if(mLongOp!=null)
+		{
+			LongArithmeticOperator lOp = mLongOp;
+			long lA = _l(aA.getReal()), lB = _l(aA.getImaginary()), lX = _l(aB.getReal()), lY = _l(aB.getImaginary());
+			long lDivisor = lOp.subAsLong(lA, lOp.mplAsLong(lY, lY));
+			return _complex(lOp.divAsLong(lOp.addAsLong(lOp.mplAsLong(lA, lX), lOp.mplAsLong(lB, lY)), lDivisor), lOp.divAsLong(lOp.addAsLong(lOp.mplAsLong(lA, lY), lOp.mplAsLong(lB, lX)), lDivisor));
+		}
+		if(mIntOp!=null)
+		{
+			IntArithmeticOperator lOp = mIntOp;
+			int lA = _i(aA.getReal()), lB = _i(aA.getImaginary()), lX = _i(aB.getReal()), lY = _i(aB.getImaginary());
+			int lDivisor = lOp.subAsInt(lA, lOp.mplAsInt(lY, lY));
+			return _complex(lOp.divAsInt(lOp.addAsInt(lOp.mplAsInt(lA, lX), lOp.mplAsInt(lB, lY)), lDivisor), lOp.divAsInt(lOp.addAsInt(lOp.mplAsInt(lA, lY), lOp.mplAsInt(lB, lX)), lDivisor));
+		}
+		
+		T lDivisor = mOp.sub(aA.getReal(), mOp.mpl(aB.getImaginary(), aB.getImaginary()));
+		return new ComplexNumber<T>(mOp.div(mOp.add(mOp.mpl(aA.getReal(), aB.getReal()), mOp.mpl(aA.getImaginary(), aB.getImaginary())),lDivisor), // (ax + by) / (x - y^2) 
+				mOp.div(mOp.add(mOp.mpl(aA.getReal(), aB.getImaginary()), mOp.mpl(aA.getImaginary(), aB.getReal())),lDivisor)); // ay + bx / (x - y^2) 
+	}
+	
+	/**
+	 * Magnitude.
+	 *
+	 * @param aA the reference a
+	 * @return the t
+	 */
+	public T magnitude(ComplexNumber<T> aA)
+	{
+		// a^2 + b^2
+		if(mDoubleOp!=null) return _value(mDoubleOp.addAsDouble(mDoubleOp.mplAsDouble(_d(aA.getReal()), _d(aA.getReal())), mDoubleOp.mplAsDouble(_d(aA.getImaginary()), _d(aA.getImaginary()))));
+		if(mLongOp!=null) return _value(mLongOp.addAsLong(mLongOp.mplAsLong(_l(aA.getReal()), _l(aA.getReal())), mLongOp.mplAsLong(_l(aA.getImaginary()), _l(aA.getImaginary()))));
+		if(mIntOp!=null) return _value(mIntOp.addAsInt(mIntOp.mplAsInt(_i(aA.getReal()), _i(aA.getReal())), mIntOp.mplAsInt(_i(aA.getImaginary()), _i(aA.getImaginary()))));
+		return mOp.add(mOp.mpl(aA.getReal(),aA.getReal()),mOp.mpl(aA.getImaginary(),aA.getImaginary()));
+	}
+	
+	/**
+	 * Conjugate (gets complex conjucated -> a-bi).
+	 *
+	 * @param aA the reference a
+	 * @return the complex number
+	 */
+	public ComplexNumber<T> conjugate(ComplexNumber<T> aA)
+	{
+		return new ComplexNumber<T>(aA.getReal(),mOp.sub(aA.getImaginary(),mOp.add(aA.getImaginary(), aA.getImaginary()))); // XXX hacked -b = (b-(b+b))
+	}
+	
+	/**
+	 * [restricted] Unboxes a double component.
+	 *
+	 * @param aValue the reference value
+	 * @return the double
+	 */
+	private static double _d(Object aValue)
+	{
+		return (Double) aValue;
+	}
+	
+	/**
+	 * [restricted] Unboxes a long component.
+	 *
+	 * @param aValue the reference value
+	 * @return the long
+	 */
+	private static long _l(Object aValue)
+	{
+		return (Long) aValue;
+	}
+	
+	/**
+	 * [restricted] Unboxes an int component.
+	 *
+	 * @param aValue the reference value
+	 * @return the int
+	 */
+	private static int _i(Object aValue)
+	{
+		return (Integer) aValue;
+	}
+	
+	/**
+	 * [restricted] Boxes a primitive result (the generic type matches the primitive operator).
+	 *
+	 * @param aValue the reference value
+	 * @return the t
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> T _value(Object aValue)
+	{
+		return (T) aValue;
+	}
+	
+	/**
+	 * [restricted] Creates a complex number of primitive double components.
+	 *
+	 * @param aReal the reference real
+	 * @param aImaginary the reference imaginary
+	 * @return the complex number
+	 */
+	private ComplexNumber<T> _complex(double aReal, double aImaginary)
+	{
+		return new ComplexNumber<T>(_value(aReal), _value(aImaginary));
+	}
+	
+	/**
+	 * [restricted] Creates a complex number of primitive long components.
+	 *
+	 * @param aReal the reference real
+	 * @param aImaginary the reference imaginary
+	 * @return the complex number
+	 */
+	private ComplexNumber<T> _complex(long aReal, long aImaginary)
+	{
+		return new ComplexNumber<T>(_value(aReal), _value(aImaginary));
+	}
+	
+	/**
+	 * [restricted] Creates a complex number of primitive int components.
+	 *
+	 * @param aReal the reference real
+	 * @param aImaginary the reference imaginary
+	 * @return the complex number
+	 */
+	private ComplexNumber<T> _complex(int aReal, int aImaginary)
+	{
+		return new ComplexNumber<T>(_value(aReal), _value(aImaginary));
+	}
+}
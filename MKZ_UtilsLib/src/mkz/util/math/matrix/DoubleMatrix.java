@@ -0,0 +1,314 @@
+/**
+ * File: MKZ_UtilsLib::DoubleMatrix.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.math.matrix;
+
+import java.util.Arrays;
+import java.util.function.DoubleSupplier;
+
+import mkz.util.math.matrix.debug.MatrixDimensionException;
+import mkz.util.math.matrix.debug.MatrixException;
+
+/**
+ * The Class DoubleMatrix. A matrix of primitive double values that are stored in one contiguous array
+ * in row-major order (the field x/y is found at index y*sizeX+x). Unlike {@link mkz.util.math.matrix.Matrix Matrix}
+ * no element is boxed, which makes it the preferred type for large numeric workloads. Arithmetic operations
+ * are provided by {@link mkz.util.math.matrix.op.DoubleMatrixOperator DoubleMatrixOperator}
+ * (or {@link mkz.util.math.AOP.PRIM#MTX_DOUBLE AOP::PRIM::MTX_DOUBLE}).
+ */
+public class DoubleMatrix
+{
+	/** The member data (row-major). */
+	private double[] mData = null;
+
+	/** The member size x. */
+	private int mSizeX = 0;
+
+	/** The member size y. */
+	private int mSizeY = 0;
+
+	/**
+	 * Instantiates a new matrix filled with zeros.
+	 *
+	 * @param aSizeX the reference size x
+	 * @param aSizeY the reference size y
+	 */
+	public DoubleMatrix(int aSizeX, int aSizeY)
+	{
+		mSizeX = aSizeX;
+		mSizeY = aSizeY;
+		mData = new double[aSizeX * aSizeY];
+	}
+
+	/**
+	 * Instantiates a new matrix.
+	 *
+	 * @param aSizeX the reference size x
+	 * @param aSizeY the reference size y
+	 * @param aDefault the reference default
+	 */
+	public DoubleMatrix(int aSizeX, int aSizeY, double aDefault)
+	{
+		this(aSizeX, aSizeY);
+		if (aDefault != 0d) Arrays.fill(mData, aDefault);
+	}
+
+	/**
+	 * Instantiates a new matrix.
+	 *
+	 * @param aSizeX the reference size x
+	 * @param aSizeY the reference size y
+	 * @param aGenerator the reference generator
+	 */
+	public DoubleMatrix(int aSizeX, int aSizeY, DoubleSupplier aGenerator)
+	{
+		this(aSizeX, aSizeY);
+		for (int i = 0; i < mData.length; i++) mData[i] = aGenerator.getAsDouble();
+	}
+
+	/**
+	 * Instantiates a new matrix on top of existing row-major data (the array is not copied).
+	 *
+	 * @param aSizeX the reference size x
+	 * @param aSizeY the reference size y
+	 * @param aData the reference data
+	 * @throws MatrixDimensionException if the data length does not match sizeX*sizeY
+	 */
+	public DoubleMatrix(int aSizeX, int aSizeY, double[] aData) throws MatrixDimensionException
+	{
+		if (aData.length != aSizeX * aSizeY) throw new MatrixDimensionException("Data length must be sizeX*sizeY: length=" + aData.length + "; sizeX=" + aSizeX + "; sizeY=" + aSizeY);
+		mSizeX = aSizeX;
+		mSizeY = aSizeY;
+		mData = aData;
+	}
+
+	/**
+	 * Gets the.
+	 *
+	 * @param x the x
+	 * @param y the y
+	 * @return the double
+	 * @throws MatrixDimensionException the matrix dimension exception
+	 */
+	public double get(int x, int y) throws MatrixDimensionException
+	{
+		if (x >= 0 && y >= 0 && x < mSizeX && y < mSizeY) return mData[y * mSizeX + x];
+		else throw new MatrixDimensionException("Invalid field x=" + x + "; y=" + y + "; sizeX=" + mSizeX + "; sizeY=" + mSizeY);
+	}
+
+	/**
+	 * Sets the.
+	 *
+	 * @param x the x
+	 * @param y the y
+	 * @param aValue the reference value
+	 * @throws MatrixDimensionException the matrix dimension exception
+	 */
+	public void set(int x, int y, double aValue) throws MatrixDimensionException
+	{
+		if (x >= 0 && y >= 0 && x < mSizeX && y < mSizeY) mData[y * mSizeX + x] = aValue;
+		else throw new MatrixDimensionException("Invalid field x=" + x + "; y=" + y + "; sizeX=" + mSizeX + "; sizeY=" + mSizeY);
+	}
+
+	/**
+	 * Gets the size y.
+	 *
+	 * @return the size y
+	 */
+	public int getSizeY()
+	{
+		return mSizeY;
+	}
+
+	/**
+	 * Gets the size x.
+	 *
+	 * @return the size x
+	 */
+	public int getSizeX()
+	{
+		return mSizeX;
+	}
+
+	/**
+	 * Gets the data. The returned array is the backing row-major storage (no copy).
+	 *
+	 * @return the data
+	 */
+	public double[] getData()
+	{
+		return mData;
+	}
+
+	/**
+	 * Swap lines.
+	 *
+	 * @param aLine1 the reference line1
+	 * @param aLine2 the reference line2
+	 * @param swapColumns the swap columns
+	 */
+	public void swapLines(int aLine1, int aLine2, boolean swapColumns)
+	{
+		if (aLine1 == aLine2) return;
+
+		if (!swapColumns)
+		{
+			int lOff1 = aLine1 * mSizeX;
+			int lOff2 = aLine2 * mSizeX;
+			for (int iX = 0; iX < mSizeX; iX++)
+			{
+				double lVal = mData[lOff1 + iX];
+				mData[lOff1 + iX] = mData[lOff2 + iX];
+				mData[lOff2 + iX] = lVal;
+			}
+		}
+		else
+		{
+			for (int iRow = 0; iRow < mSizeY; iRow++)
+			{
+				int lOff = iRow * mSizeX;
+				double lVal = mData[lOff + aLine1];
+				mData[lOff + aLine1] = mData[lOff + aLine2];
+				mData[lOff + aLine2] = lVal;
+			}
+		}
+	}
+
+	/**
+	 * Copy.
+	 *
+	 * @return the double matrix
+	 */
+	public DoubleMatrix copy()
+	{
+		DoubleMatrix rVal = new DoubleMatrix(mSizeX, mSizeY);
+		System.arraycopy(mData, 0, rVal.mData, 0, mData.length);
+		return rVal;
+	}
+
+	/**
+	 * Converts to a generic matrix (each value is boxed once).
+	 *
+	 * @return the matrix
+	 */
+	public Matrix<Double> toMatrix()
+	{
+		Object[][] lContent = new Object[mSizeY][mSizeX];
+
+		for (int iY = 0; iY < mSizeY; iY++)
+		{
+			int lOff = iY * mSizeX;
+			for (int iX = 0; iX < mSizeX; iX++)
+			{
+				lContent[iY][iX] = mData[lOff + iX];
+			}
+		}
+
+		return new Matrix<Double>(lContent);
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString()
+	{
+		StringBuilder sb = new StringBuilder();
+
+		for (int iY = 0; iY < mSizeY; iY++)
+		{
+			for (int iX = 0; iX < mSizeX; iX++)
+			{
+				sb.append(mData[iY * mSizeX + iX]);
+				if (iX < mSizeX - 1)
+					sb.append(',');
+			}
+
+			if (iY < mSizeY - 1)
+				sb.append('\n');
+		}
+
+		return sb.toString();
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////////
+	// FACTORY TOOLS
+	//////////////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Creates a double matrix from a generic matrix (each value is unboxed once).
+	 *
+	 * @param aMatrix the reference matrix
+	 * @return the double matrix
+	 * @throws MatrixException the matrix exception
+	 */
+	public static DoubleMatrix createFrom(Matrix<Double> aMatrix) throws MatrixException
+	{
+		int lSizeX = aMatrix.getSizeX();
+		int lSizeY = aMatrix.getSizeY();
+		DoubleMatrix rVal = new DoubleMatrix(lSizeX, lSizeY);
+
+		for (int iY = 0; iY < lSizeY; iY++)
+		{
+			int lOff = iY * lSizeX;
+			for (int iX = 0; iX < lSizeX; iX++)
+			{
+				rVal.mData[lOff + iX] = aMatrix.get(iX, iY);
+			}
+		}
+
+		return rVal;
+	}
+
+	/**
+	 * Creates a vector.
+	 *
+	 * @param aValues the reference values
+	 * @return the double matrix
+	 */
+	public static DoubleMatrix createVector(double[] aValues)
+	{
+		DoubleMatrix rVal = new DoubleMatrix(1, aValues.length);
+		System.arraycopy(aValues, 0, rVal.mData, 0, aValues.length);
+		return rVal;
+	}
+
+	/**
+	 * Creates a identity.
+	 *
+	 * @param aSize the reference size
+	 * @return the double matrix
+	 */
+	public static DoubleMatrix createIdentity(int aSize)
+	{
+		DoubleMatrix rVal = new DoubleMatrix(aSize, aSize);
+		for (int i = 0; i < aSize; i++) rVal.mData[i * aSize + i] = 1d;
+		return rVal;
+	}
+
+	/**
+	 * Creates the transposed.
+	 *
+	 * @param aMatrix the reference matrix
+	 * @return the double matrix
+	 */
+	public static DoubleMatrix createTransposed(DoubleMatrix aMatrix)
+	{
+		int lSizeX = aMatrix.mSizeX;
+		int lSizeY = aMatrix.mSizeY;
+		DoubleMatrix rVal = new DoubleMatrix(lSizeY, lSizeX);
+
+		for (int iY = 0; iY < lSizeY; iY++)
+		{
+			for (int iX = 0; iX < lSizeX; iX++)
+			{
+				rVal.mData[iX * lSizeY + iY] = aMatrix.mData[iY * lSizeX + iX];
+			}
+		}
+
+		return rVal;
+	}
+}
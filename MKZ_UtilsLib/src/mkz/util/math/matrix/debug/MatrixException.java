@@ -1,11 +1,11 @@
-package mkz.util.math.matrix.debug;
-
-public class MatrixException extends Exception
-{
-	//
-	// E --> ME --> MDE
-	//
-	private static final long serialVersionUID = 1L;
-	public MatrixException() { super();}
-	public MatrixException(String aMsg) { super(aMsg);}
-}
+package mkz.util.math.matrix.debug;
+
+public class MatrixException extends Exception
+{
+	//
+	// E --> ME --> MDE
+	//
+	private static final long serialVersionUID = 1L;
+	public MatrixException() { super();}
+	public MatrixException(String aMsg) { super(aMsg);}
+}
@@ -0,0 +1,192 @@
+/**
+ * File: MKZ_UtilsLib::CholeskyDecomposition.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.math.matrix.decomp;
+
+import mkz.util.math.matrix.DoubleMatrix;
+import mkz.util.math.matrix.debug.MatrixDimensionException;
+import mkz.util.math.matrix.debug.MatrixException;
+
+/**
+ * The Class CholeskyDecomposition. Factorization A = L*L^T of a symmetric positive definite matrix A where L is a
+ * lower triangle matrix with a positive diagonal. Needs half the operations of the LU decomposition (n^3/3) and no
+ * pivoting. Only the lower triangle of A is read (the symmetry is not checked). The factorization is computed once
+ * and can then be reused for solves and the determinant. Instances are created by
+ * {@link mkz.util.math.matrix.op.DoubleMatrixOperator#cholesky(DoubleMatrix) DoubleMatrixOperator::cholesky}.
+ */
+public class CholeskyDecomposition
+{
+	/** The member L data (row major, lower triangle, the upper triangle is zero). */
+	protected double[] mL = null;
+
+	/** The member size. */
+	protected int mSize = 0;
+
+	/** The member spd flag (false if a diagonal value of L would not be positive). */
+	protected boolean mSpd = true;
+
+	/**
+	 * Instantiates a new cholesky decomposition (the input matrix is not modified).
+	 *
+	 * @param aMatrix the reference matrix (symmetric positive definite)
+	 * @throws MatrixDimensionException if the matrix is not square
+	 */
+	public CholeskyDecomposition(DoubleMatrix aMatrix) throws MatrixDimensionException
+	{
+		mSize = aMatrix.getSizeX();
+		if (aMatrix.getSizeY() != mSize) throw new MatrixDimensionException("Matrix must be square (sizeX=" + mSize + ", sizeY=" + aMatrix.getSizeY() + ")");
+
+		double[] lA = aMatrix.getData();
+		mL = new double[mSize * mSize];
+
+		// Cholesky-Banachiewicz, row by row, the inner products read both rows sequentially
+		for (int iY = 0; iY < mSize && mSpd; iY++)
+		{
+			int lOffY = iY * mSize;
+			for (int iX = 0; iX <= iY; iX++)
+			{
+				int lOffX = iX * mSize;
+				double lSum = lA[lOffY + iX];
+				for (int iK = 0; iK < iX; iK++) lSum -= mL[lOffY + iK] * mL[lOffX + iK];
+
+				if (iX < iY)
+				{
+					mL[lOffY + iX] = lSum / mL[lOffX + iX];
+				}
+				else if (lSum > 0d)
+				{
+					mL[lOffY + iX] = Math.sqrt(lSum);
+				}
+				else
+				{
+					mSpd = false;
+					break;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Gets the size.
+	 *
+	 * @return the size
+	 */
+	public int getSize()
+	{
+		return mSize;
+	}
+
+	/**
+	 * Checks if the decomposed matrix is symmetric positive definite (i.e. the factorization succeeded).
+	 *
+	 * @return true, if is spd
+	 */
+	public boolean isSpd()
+	{
+		return mSpd;
+	}
+
+	/**
+	 * Determinant, square of the product of the diagonal of L.
+	 *
+	 * @return the double
+	 * @throws MatrixException if the matrix is not symmetric positive definite
+	 */
+	public double det() throws MatrixException
+	{
+		_checkSpd();
+
+		double rVal = 1d;
+		for (int i = 0; i < mSize; i++) rVal *= mL[i * mSize + i];
+		return rVal * rVal;
+	}
+
+	/**
+	 * Gets the lower triangle factor L.
+	 *
+	 * @return the l
+	 * @throws MatrixException if the matrix is not symmetric positive definite
+	 */
+	public DoubleMatrix getL() throws MatrixException
+	{
+		_checkSpd();
+		return new DoubleMatrix(mSize, mSize, mL.clone());
+	}
+
+	/**
+	 * Solves A*X = B for X (A is the decomposed matrix). All columns of B are solved in one pass.
+	 *
+	 * @param aB the reference right hand side (not modified)
+	 * @return the solution x
+	 * @throws MatrixException if the sizes mismatch or A is not symmetric positive definite
+	 */
+	public DoubleMatrix solve(DoubleMatrix aB) throws MatrixException
+	{
+		DoubleMatrix rVal = aB.copy();
+		solveInPlace(rVal);
+		return rVal;
+	}
+
+	/**
+	 * Solves A*X = B for X (A is the decomposed matrix) in place, B is overwritten by the solution.
+	 * Forward substitution L*Y = B, then back substitution L^T*X = Y, row operations over all columns of B.
+	 *
+	 * @param aB the reference right hand side (overwritten by the solution)
+	 * @throws MatrixException if the sizes mismatch or A is not symmetric positive definite
+	 */
+	public void solveInPlace(DoubleMatrix aB) throws MatrixException
+	{
+		if (aB.getSizeY() != mSize) throw new MatrixDimensionException("B.sizeY must match the size of A (sizeY=" + aB.getSizeY() + ", size=" + mSize + ")");
+		_checkSpd();
+
+		double[] lB = aB.getData();
+		int lSizeX = aB.getSizeX();
+
+		// L*Y = B
+		for (int iY = 0; iY < mSize; iY++)
+		{
+			int lOffY = iY * lSizeX;
+			for (int iK = 0; iK < iY; iK++)
+			{
+				double lFactor = mL[iY * mSize + iK];
+				if (lFactor == 0d) continue;
+
+				int lOffK = iK * lSizeX;
+				for (int iX = 0; iX < lSizeX; iX++) lB[lOffY + iX] -= lFactor * lB[lOffK + iX];
+			}
+
+			double lDivisor = mL[iY * mSize + iY];
+			for (int iX = 0; iX < lSizeX; iX++) lB[lOffY + iX] /= lDivisor;
+		}
+
+		// L^T*X = Y
+		for (int iY = mSize - 1; iY >= 0; iY--)
+		{
+			int lOffY = iY * lSizeX;
+			for (int iK = iY + 1; iK < mSize; iK++)
+			{
+				double lFactor = mL[iK * mSize + iY];
+				if (lFactor == 0d) continue;
+
+				int lOffK = iK * lSizeX;
+				for (int iX = 0; iX < lSizeX; iX++) lB[lOffY + iX] -= lFactor * lB[lOffK + iX];
+			}
+
+			double lDivisor = mL[iY * mSize + iY];
+			for (int iX = 0; iX < lSizeX; iX++) lB[lOffY + iX] /= lDivisor;
+		}
+	}
+
+	/**
+	 * [restricted] Checks that the factorization succeeded.
+	 *
+	 * @throws MatrixException if the matrix is not symmetric positive definite
+	 */
+	private void _checkSpd() throws MatrixException
+	{
+		if (!mSpd) throw new MatrixException("Matrix is not symmetric positive definite.");
+	}
+}
@@ -0,0 +1,264 @@
+/**
+ * File: MKZ_UtilsLib::DoubleLUDecomposition.java
+ *
+ * @author Aleistar Markóczy
+ *
+ */
+package mkz.util.math.matrix.decomp;
+
+import java.util.Arrays;
+
+import mkz.util.math.matrix.DoubleMatrix;
+import mkz.util.math.matrix.debug.MatrixDimensionException;
+import mkz.util.math.matrix.debug.MatrixException;
+
+/**
+ * The Class DoubleLUDecomposition. Factorization P*A = L*U of a square {@link mkz.util.math.matrix.DoubleMatrix
+ * DoubleMatrix} with partial pivoting, same as the {@link mkz.util.math.matrix.decomp.LUDecomposition
+ * LUDecomposition} but on the flat row major double[] (no boxing). The factorization is computed once in O(n^3) and
+ * can then be reused for solves and the determinant. Instances are created by
+ * {@link mkz.util.math.matrix.op.DoubleMatrixOperator#lu(DoubleMatrix) DoubleMatrixOperator::lu}.
+ */
+public class DoubleLUDecomposition
+{
+	/** The member LU data (row major, L below the diagonal without its ones, U on and above the diagonal). */
+	protected double[] mLU = null;
+
+	/** The member size. */
+	protected int mSize = 0;
+
+	/** The member pivot (row i of the factorization is row mPivot[i] of the input). */
+	protected int[] mPivot = null;
+
+	/** The member even permutation (false if an odd number of rows has been swapped). */
+	protected boolean mEvenPermutation = true;
+
+	/** The member singular flag. */
+	protected boolean mSingular = false;
+
+	/**
+	 * Instantiates a new LU decomposition (the input matrix is not modified).
+	 *
+	 * @param aMatrix the reference matrix
+	 * @throws MatrixDimensionException if the matrix is not square
+	 */
+	public DoubleLUDecomposition(DoubleMatrix aMatrix) throws MatrixDimensionException
+	{
+		mSize = aMatrix.getSizeX();
+		if (aMatrix.getSizeY() != mSize) throw new MatrixDimensionException("Matrix must be square (sizeX=" + mSize + ", sizeY=" + aMatrix.getSizeY() + ")");
+
+		mLU = aMatrix.getData().clone();
+		mPivot = new int[mSize];
+		for (int i = 0; i < mSize; i++) mPivot[i] = i;
+
+		for (int iK = 0; iK < mSize; iK++)
+		{
+			// partial pivoting, row with the biggest absolute value
+			int lPivotRow = iK;
+			double lMax = Math.abs(mLU[iK * mSize + iK]);
+			for (int iY = iK + 1; iY < mSize; iY++)
+			{
+				double lAbs = Math.abs(mLU[iY * mSize + iK]);
+				if (lAbs > lMax)
+				{
+					lMax = lAbs;
+					lPivotRow = iY;
+				}
+			}
+			if (lMax == 0d)
+			{
+				mSingular = true;
+				continue;
+			}
+
+			if (lPivotRow != iK)
+			{
+				_swapRows(mLU, mSize, iK, lPivotRow);
+
+				int lIdx = mPivot[iK];
+				mPivot[iK] = mPivot[lPivotRow];
+				mPivot[lPivotRow] = lIdx;
+
+				mEvenPermutation = !mEvenPermutation;
+			}
+
+			int lOffP = iK * mSize;
+			double lPivot = mLU[lOffP + iK];
+			for (int iY = iK + 1; iY < mSize; iY++)
+			{
+				int lOffC = iY * mSize;
+				double lCur = mLU[lOffC + iK];
+				if (lCur == 0d) continue;
+
+				double lFactor = lCur / lPivot;
+				mLU[lOffC + iK] = lFactor;
+				for (int iX = iK + 1; iX < mSize; iX++) mLU[lOffC + iX] -= lFactor * mLU[lOffP + iX];
+			}
+		}
+	}
+
+	/**
+	 * Gets the size.
+	 *
+	 * @return the size
+	 */
+	public int getSize()
+	{
+		return mSize;
+	}
+
+	/**
+	 * Checks if the decomposed matrix is singular.
+	 *
+	 * @return true, if is singular
+	 */
+	public boolean isSingular()
+	{
+		return mSingular;
+	}
+
+	/**
+	 * Gets the pivot. Row i of L*U is row pivot[i] of the decomposed matrix.
+	 *
+	 * @return the pivot (copy)
+	 */
+	public int[] getPivot()
+	{
+		return Arrays.copyOf(mPivot, mPivot.length);
+	}
+
+	/**
+	 * Determinant, product of the diagonal of U (negated for an odd permutation).
+	 *
+	 * @return the double
+	 */
+	public double det()
+	{
+		if (mSingular) return 0d;
+
+		double rVal = 1d;
+		for (int i = 0; i < mSize; i++) rVal *= mLU[i * mSize + i];
+		return mEvenPermutation ? rVal : -rVal;
+	}
+
+	/**
+	 * Gets the lower triangle factor L (with ones on the diagonal).
+	 *
+	 * @return the l
+	 * @throws MatrixException the matrix exception
+	 */
+	public DoubleMatrix getL() throws MatrixException
+	{
+		double[] lContent = new double[mSize * mSize];
+		for (int iY = 0; iY < mSize; iY++)
+		{
+			int lOffY = iY * mSize;
+			System.arraycopy(mLU, lOffY, lContent, lOffY, iY);
+			lContent[lOffY + iY] = 1d;
+		}
+		return new DoubleMatrix(mSize, mSize, lContent);
+	}
+
+	/**
+	 * Gets the upper triangle factor U.
+	 *
+	 * @return the u
+	 * @throws MatrixException the matrix exception
+	 */
+	public DoubleMatrix getU() throws MatrixException
+	{
+		double[] lContent = new double[mSize * mSize];
+		for (int iY = 0; iY < mSize; iY++)
+		{
+			int lOffY = iY * mSize;
+			System.arraycopy(mLU, lOffY + iY, lContent, lOffY + iY, mSize - iY);
+		}
+		return new DoubleMatrix(mSize, mSize, lContent);
+	}
+
+	/**
+	 * Solves A*X = B for X (A is the decomposed matrix). All columns of B are solved in one pass.
+	 *
+	 * @param aB the reference right hand side (not modified)
+	 * @return the solution x
+	 * @throws MatrixException if the sizes mismatch or A is singular
+	 */
+	public DoubleMatrix solve(DoubleMatrix aB) throws MatrixException
+	{
+		DoubleMatrix rVal = aB.copy();
+		solveInPlace(rVal);
+		return rVal;
+	}
+
+	/**
+	 * Solves A*X = B for X (A is the decomposed matrix) in place, B is overwritten by the solution.
+	 * The rows are permuted, then forward substitution L*Y = P*B and back substitution U*X = Y, row operations over
+	 * all columns of B.
+	 *
+	 * @param aB the reference right hand side (overwritten by the solution)
+	 * @throws MatrixException if the sizes mismatch or A is singular
+	 */
+	public void solveInPlace(DoubleMatrix aB) throws MatrixException
+	{
+		if (aB.getSizeY() != mSize) throw new MatrixDimensionException("B.sizeY must match the size of A (sizeY=" + aB.getSizeY() + ", size=" + mSize + ")");
+		if (mSingular) throw new MatrixException("Matrix is singular.");
+
+		double[] lB = aB.getData();
+		int lSizeX = aB.getSizeX();
+
+		// P*B
+		double[] lSrc = lB.clone();
+		for (int i = 0; i < mSize; i++) System.arraycopy(lSrc, mPivot[i] * lSizeX, lB, i * lSizeX, lSizeX);
+
+		// L*Y = P*B
+		for (int iY = 1; iY < mSize; iY++)
+		{
+			int lOffY = iY * lSizeX;
+			for (int iK = 0; iK < iY; iK++)
+			{
+				double lFactor = mLU[iY * mSize + iK];
+				if (lFactor == 0d) continue;
+
+				int lOffK = iK * lSizeX;
+				for (int iX = 0; iX < lSizeX; iX++) lB[lOffY + iX] -= lFactor * lB[lOffK + iX];
+			}
+		}
+
+		// U*X = Y
+		for (int iY = mSize - 1; iY >= 0; iY--)
+		{
+			int lOffY = iY * lSizeX;
+			for (int iK = iY + 1; iK < mSize; iK++)
+			{
+				double lFactor = mLU[iY * mSize + iK];
+				if (lFactor == 0d) continue;
+
+				int lOffK = iK * lSizeX;
+				for (int iX = 0; iX < lSizeX; iX++) lB[lOffY + iX] -= lFactor * lB[lOffK + iX];
+			}
+
+			double lDivisor = mLU[iY * mSize + iY];
+			for (int iX = 0; iX < lSizeX; iX++) lB[lOffY + iX] /= lDivisor;
+		}
+	}
+
+	/**
+	 * [restricted] Swaps two rows of a row major array.
+	 *
+	 * @param aData the reference data
+	 * @param aSizeX the reference row length
+	 * @param aRow1 the reference row 1
+	 * @param aRow2 the reference row 2
+	 */
+	private static void _swapRows(double[] aData, int aSizeX, int aRow1, int aRow2)
+	{
+		int lOff1 = aRow1 * aSizeX;
+		int lOff2 = aRow2 * aSizeX;
+		for (int iX = 0; iX < aSizeX; iX++)
+		{
+			double lVal = aData[lOff1 + iX];
+			aData[lOff1 + iX] = aData[lOff2 + iX];
+			aData[lOff2 + iX] = lVal;
+		}
+	}
+}
@@ -0,0 +1,336 @@
+/**
+ * File: MKZ_UtilsLib::LUDecomposition.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.math.matrix.decomp;
+
+import java.util.Arrays;
+
+import mkz.util.math.matrix.Matrix;
+import mkz.util.math.matrix.debug.MatrixDimensionException;
+import mkz.util.math.matrix.debug.MatrixException;
+import mkz.util.math.op.ArithmeticOperator;
+
+/**
+ * The Class LUDecomposition. Factorization P*A = L*U of a square matrix A where P is a row permutation,
+ * L is a lower triangle matrix with ones on the diagonal and U is an upper triangle matrix. The factorization
+ * is computed once in O(n^3) and can then be queried (determinant, factors) without recomputing it.
+ * Instances are created by {@link mkz.util.math.matrix.op.MatrixOperator#lu(Matrix) MatrixOperator::lu}.
+ *
+ * @param <T> the generic type
+ */
+public class LUDecomposition<T>
+{
+	/** The member operator. */
+	protected ArithmeticOperator<T> mOp = null;
+
+	/** The member LU data (L below the diagonal without its ones, U on and above the diagonal). */
+	protected Object[][] mLU = null;
+
+	/** The member pivot (row i of the factorization is row mPivot[i] of the input). */
+	protected int[] mPivot = null;
+
+	/** The member even permutation (false if an odd number of rows has been swapped). */
+	protected boolean mEvenPermutation = true;
+
+	/** The member singular flag. */
+	protected boolean mSingular = false;
+
+	/**
+	 * Instantiates a new LU decomposition (the input matrix is not modified).
+	 *
+	 * @param aMatrix the reference matrix
+	 * @param aOp the reference arithmetic operator
+	 * @param isPivoting if true, the row with the biggest absolute value becomes the pivot (partial pivoting, recommended
+	 *        for floating types), otherwise the first row with a non zero value
+	 * @throws MatrixDimensionException if the matrix is not square
+	 */
+	@SuppressWarnings("unchecked")
+	public LUDecomposition(Matrix<T> aMatrix, ArithmeticOperator<T> aOp, boolean isPivoting) throws MatrixDimensionException
+	{
+		int lSize = aMatrix.getSizeX();
+		if (aMatrix.getSizeY() != lSize) throw new MatrixDimensionException("Matrix must be square (sizeX=" + lSize + ", sizeY=" + aMatrix.getSizeY() + ")");
+
+		mOp = aOp;
+		mPivot = new int[lSize];
+		mLU = new Object[lSize][];
+
+		// the data of a view is already a materialized copy
+		Object[][] lSrc = aMatrix.getData();
+		for (int i = 0; i < lSize; i++)
+		{
+			mLU[i] = aMatrix.isView() ? lSrc[i] : Arrays.copyOf(lSrc[i], lSize);
+			mPivot[i] = i;
+		}
+
+		for (int iK = 0; iK < lSize; iK++)
+		{
+			int lPivotRow = _findPivot(iK, isPivoting);
+			if (lPivotRow < 0)
+			{
+				mSingular = true;
+				continue;
+			}
+
+			if (lPivotRow != iK)
+			{
+				Object[] lRow = mLU[iK];
+				mLU[iK] = mLU[lPivotRow];
+				mLU[lPivotRow] = lRow;
+
+				int lIdx = mPivot[iK];
+				mPivot[iK] = mPivot[lPivotRow];
+				mPivot[lPivotRow] = lIdx;
+
+				mEvenPermutation = !mEvenPermutation;
+			}
+
+			Object[] lRowP = mLU[iK];
+			T lPivot = (T) lRowP[iK];
+
+			for (int iY = iK + 1; iY < lSize; iY++)
+			{
+				Object[] lRowC = mLU[iY];
+				T lCur = (T) lRowC[iK];
+				if (_isZero(lCur)) continue;
+
+				T lFactor = mOp.div(lCur, lPivot);
+				lRowC[iK] = lFactor;
+				for (int iX = iK + 1; iX < lSize; iX++)
+				{
+					lRowC[iX] = mOp.sub((T) lRowC[iX], mOp.mpl(lFactor, (T) lRowP[iX]));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Gets the size.
+	 *
+	 * @return the size
+	 */
+	public int getSize()
+	{
+		return mLU.length;
+	}
+
+	/**
+	 * Checks if the decomposed matrix is singular.
+	 *
+	 * @return true, if is singular
+	 */
+	public boolean isSingular()
+	{
+		return mSingular;
+	}
+
+	/**
+	 * Gets the pivot. Row i of L*U is row pivot[i] of the decomposed matrix.
+	 *
+	 * @return the pivot (copy)
+	 */
+	public int[] getPivot()
+	{
+		return Arrays.copyOf(mPivot, mPivot.length);
+	}
+
+	/**
+	 * Determinant, product of the diagonal of U (negated for an odd permutation).
+	 *
+	 * @return the t
+	 */
+	@SuppressWarnings("unchecked")
+	public T det()
+	{
+		if (mSingular) return mOp.getZero();
+
+		T rVal = mOp.getOne();
+		for (int i = 0; i < mLU.length; i++) rVal = mOp.mpl(rVal, (T) mLU[i][i]);
+		return mEvenPermutation ? rVal : mOp.sub(mOp.getZero(), rVal);
+	}
+
+	/**
+	 * Solves A*X = B for X (A is the decomposed matrix). All columns of B are solved in one pass.
+	 *
+	 * @param aB the reference right hand side (not modified)
+	 * @return the solution x
+	 * @throws MatrixException if the sizes mismatch or A is singular
+	 */
+	public Matrix<T> solve(Matrix<T> aB) throws MatrixException
+	{
+		Matrix<T> rVal = aB.copy();
+		solveInPlace(rVal);
+		return rVal;
+	}
+
+	/**
+	 * Solves A*X = B for X (A is the decomposed matrix) in place, B is overwritten by the solution.
+	 * The rows are permuted, then forward and back substitution are applied to all columns of
+	 * B at once without allocating intermediate rows.
+	 *
+	 * @param aB the reference right hand side (overwritten by the solution)
+	 * @throws MatrixException if the sizes mismatch or A is singular
+	 */
+	@SuppressWarnings("unchecked")
+	public void solveInPlace(Matrix<T> aB) throws MatrixException
+	{
+		int lSize = mLU.length;
+		if (aB.getSizeY() != lSize) throw new MatrixDimensionException("B.sizeY must match the size of A (sizeY=" + aB.getSizeY() + ", size=" + lSize + ")");
+		if (mSingular) throw new MatrixException("Matrix is singular.");
+
+		if (aB.isView())
+		{
+			// no backing data to work on, solve a copy and write it back through the view
+			Matrix<T> lCopy = aB.copy();
+			solveInPlace(lCopy);
+			for (int iY = 0; iY < lSize; iY++)
+			{
+				for (int iX = 0; iX < aB.getSizeX(); iX++) aB.set(iX, iY, lCopy.get(iX, iY));
+			}
+			return;
+		}
+
+		Object[][] lRows = aB.getData();
+		int lSizeX = aB.getSizeX();
+
+		// P*B
+		Object[][] lPermuted = new Object[lSize][];
+		for (int i = 0; i < lSize; i++) lPermuted[i] = lRows[mPivot[i]];
+		System.arraycopy(lPermuted, 0, lRows, 0, lSize);
+
+		// L*Y = P*B
+		for (int iK = 0; iK < lSize; iK++)
+		{
+			Object[] lRowK = lRows[iK];
+			for (int iY = iK + 1; iY < lSize; iY++)
+			{
+				T lFactor = (T) mLU[iY][iK];
+				if (_isZero(lFactor)) continue;
+
+				Object[] lRowC = lRows[iY];
+				for (int iX = 0; iX < lSizeX; iX++) lRowC[iX] = mOp.sub((T) lRowC[iX], mOp.mpl(lFactor, (T) lRowK[iX]));
+			}
+		}
+
+		// U*X = Y
+		for (int iK = lSize - 1; iK >= 0; iK--)
+		{
+			Object[] lRowK = lRows[iK];
+			T lDivisor = (T) mLU[iK][iK];
+			for (int iX = 0; iX < lSizeX; iX++) lRowK[iX] = mOp.div((T) lRowK[iX], lDivisor);
+
+			for (int iY = 0; iY < iK; iY++)
+			{
+				T lFactor = (T) mLU[iY][iK];
+				if (_isZero(lFactor)) continue;
+
+				Object[] lRowC = lRows[iY];
+				for (int iX = 0; iX < lSizeX; iX++) lRowC[iX] = mOp.sub((T) lRowC[iX], mOp.mpl(lFactor, (T) lRowK[iX]));
+			}
+		}
+	}
+
+	/**
+	 * Gets the lower triangle factor L (with ones on the diagonal).
+	 *
+	 * @return the l
+	 */
+	public Matrix<T> getL()
+	{
+		int lSize = mLU.length;
+		Object[][] lContent = new Object[lSize][lSize];
+
+		for (int iY = 0; iY < lSize; iY++)
+		{
+			for (int iX = 0; iX < lSize; iX++)
+			{
+				if (iX < iY) lContent[iY][iX] = mLU[iY][iX];
+				else if (iX == iY) lContent[iY][iX] = mOp.getOne();
+				else lContent[iY][iX] = mOp.getZero();
+			}
+		}
+
+		return new Matrix<T>(lContent);
+	}
+
+	/**
+	 * Gets the upper triangle factor U.
+	 *
+	 * @return the u
+	 */
+	public Matrix<T> getU()
+	{
+		int lSize = mLU.length;
+		Object[][] lContent = new Object[lSize][lSize];
+
+		for (int iY = 0; iY < lSize; iY++)
+		{
+			for (int iX = 0; iX < lSize; iX++)
+			{
+				lContent[iY][iX] = iX >= iY ? mLU[iY][iX] : mOp.getZero();
+			}
+		}
+
+		return new Matrix<T>(lContent);
+	}
+
+	/**
+	 * Gets the permutation matrix P (P*A = L*U).
+	 *
+	 * @return the p
+	 */
+	public Matrix<T> getP()
+	{
+		int lSize = mLU.length;
+		Matrix<T> rVal = Matrix.createIdentity(lSize, mOp.getZero(), mOp.getOne());
+		Object[][] lContent = new Object[lSize][];
+		Object[][] lIdentity = rVal.getData();
+
+		for (int i = 0; i < lSize; i++) lContent[i] = lIdentity[mPivot[i]];
+		rVal.setData(lContent);
+		return rVal;
+	}
+
+	/**
+	 * [restricted] Finds the pivot row for the column aK.
+	 *
+	 * @param aK the reference column
+	 * @param isPivoting the is pivoting
+	 * @return the pivot row, -1 if all candidates are zero
+	 */
+	@SuppressWarnings("unchecked")
+	private int _findPivot(int aK, boolean isPivoting)
+	{
+		int rVal = -1;
+		T lMax = null;
+
+		for (int iY = aK; iY < mLU.length; iY++)
+		{
+			T lVal = (T) mLU[iY][aK];
+			if (_isZero(lVal)) continue;
+			if (!isPivoting) return iY;
+
+			T lAbs = mOp.abs(lVal);
+			if (lMax == null || mOp.compare(lAbs, lMax) > 0)
+			{
+				lMax = lAbs;
+				rVal = iY;
+			}
+		}
+
+		return rVal;
+	}
+
+	/**
+	 * [restricted] Checks if a value is zero.
+	 *
+	 * @param aValue the reference value
+	 * @return true, if is zero
+	 */
+	protected boolean _isZero(T aValue)
+	{
+		return mOp.compare(aValue, mOp.getZero()) == 0;
+	}
+}
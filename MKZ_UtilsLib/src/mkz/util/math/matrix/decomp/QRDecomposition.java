@@ -0,0 +1,247 @@
+/**
+ * File: MKZ_UtilsLib::QRDecomposition.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.math.matrix.decomp;
+
+import mkz.util.math.matrix.DoubleMatrix;
+import mkz.util.math.matrix.debug.MatrixDimensionException;
+import mkz.util.math.matrix.debug.MatrixException;
+
+/**
+ * The Class QRDecomposition. Householder factorization A = Q*R of a matrix A with sizeY &gt;= sizeX (m*n) where Q is
+ * an orthogonal m*n matrix and R an upper triangle n*n matrix. Solves least squares problems (min |A*X - B|) without
+ * forming the normal equations A^T*A (whose condition is the square of the one of A). The factorization is computed
+ * once and can then be reused for solves, the rank and the determinant. Instances are created by
+ * {@link mkz.util.math.matrix.op.DoubleMatrixOperator#qr(DoubleMatrix) DoubleMatrixOperator::qr}.
+ */
+public class QRDecomposition
+{
+	/** The member householder vectors (column k stored contiguously at k*m, on and below the diagonal). */
+	protected double[] mQRt = null;
+
+	/** The member R data (row major, upper triangle). */
+	protected double[] mR = null;
+
+	/** The member size y (m). */
+	protected int mSizeY = 0;
+
+	/** The member size x (n). */
+	protected int mSizeX = 0;
+
+	/** The member number of reflections (columns that weren't zero below the diagonal). */
+	protected int mReflections = 0;
+
+	/**
+	 * Instantiates a new QR decomposition (the input matrix is not modified).
+	 *
+	 * @param aMatrix the reference matrix (sizeY &gt;= sizeX)
+	 * @throws MatrixDimensionException if sizeY &lt; sizeX
+	 */
+	public QRDecomposition(DoubleMatrix aMatrix) throws MatrixDimensionException
+	{
+		mSizeY = aMatrix.getSizeY();
+		mSizeX = aMatrix.getSizeX();
+		if (mSizeY < mSizeX) throw new MatrixDimensionException("SizeY must at least be sizeX (sizeX=" + mSizeX + ", sizeY=" + mSizeY + ")");
+
+		// transposed copy, the reflections work on columns
+		double[] lA = aMatrix.getData();
+		mQRt = new double[mSizeX * mSizeY];
+		for (int iY = 0; iY < mSizeY; iY++)
+		{
+			for (int iX = 0; iX < mSizeX; iX++) mQRt[iX * mSizeY + iY] = lA[iY * mSizeX + iX];
+		}
+
+		mR = new double[mSizeX * mSizeX];
+		for (int iK = 0; iK < mSizeX; iK++)
+		{
+			int lOffK = iK * mSizeY;
+
+			double lNorm = 0d;
+			for (int i = iK; i < mSizeY; i++) lNorm = Math.hypot(lNorm, mQRt[lOffK + i]);
+
+			if (lNorm != 0d)
+			{
+				// v = x/norm + e_k (sign of x_k), H = I - v*v^T/v_k
+				if (mQRt[lOffK + iK] < 0d) lNorm = -lNorm;
+				for (int i = iK; i < mSizeY; i++) mQRt[lOffK + i] /= lNorm;
+				mQRt[lOffK + iK] += 1d;
+
+				for (int iJ = iK + 1; iJ < mSizeX; iJ++) _reflect(lOffK, iK, mQRt, iJ * mSizeY);
+				mReflections++;
+			}
+
+			mR[iK * mSizeX + iK] = -lNorm;
+			for (int iJ = iK + 1; iJ < mSizeX; iJ++) mR[iK * mSizeX + iJ] = mQRt[iJ * mSizeY + iK];
+		}
+	}
+
+	/**
+	 * Gets the size y.
+	 *
+	 * @return the size y
+	 */
+	public int getSizeY()
+	{
+		return mSizeY;
+	}
+
+	/**
+	 * Gets the size x.
+	 *
+	 * @return the size x
+	 */
+	public int getSizeX()
+	{
+		return mSizeX;
+	}
+
+	/**
+	 * Gets the numerical rank, number of diagonal values of R bigger than max(m,n)*eps*max|R(i,i)|. Without column
+	 * pivoting this is an estimate (exact for full rank matrices).
+	 *
+	 * @return the rank
+	 */
+	public int getRank()
+	{
+		double lMax = 0d;
+		for (int i = 0; i < mSizeX; i++) lMax = Math.max(lMax, Math.abs(mR[i * mSizeX + i]));
+
+		double lTolerance = Math.max(mSizeY, mSizeX) * Math.ulp(lMax);
+		int rVal = 0;
+		for (int i = 0; i < mSizeX; i++)
+		{
+			if (Math.abs(mR[i * mSizeX + i]) > lTolerance) rVal++;
+		}
+		return rVal;
+	}
+
+	/**
+	 * Checks if the decomposed matrix has full (column) rank.
+	 *
+	 * @return true, if is full rank
+	 */
+	public boolean isFullRank()
+	{
+		return getRank() == mSizeX;
+	}
+
+	/**
+	 * Determinant of a square matrix, product of the diagonal of R (every reflection has the determinant -1).
+	 *
+	 * @return the double
+	 * @throws MatrixDimensionException if the matrix is not square
+	 */
+	public double det() throws MatrixDimensionException
+	{
+		if (mSizeY != mSizeX) throw new MatrixDimensionException("Matrix must be square.");
+
+		double rVal = mReflections % 2 == 0 ? 1d : -1d;
+		for (int i = 0; i < mSizeX; i++) rVal *= mR[i * mSizeX + i];
+		return rVal;
+	}
+
+	/**
+	 * Gets the upper triangle factor R (n*n).
+	 *
+	 * @return the r
+	 * @throws MatrixDimensionException the matrix dimension exception
+	 */
+	public DoubleMatrix getR() throws MatrixDimensionException
+	{
+		return new DoubleMatrix(mSizeX, mSizeX, mR.clone());
+	}
+
+	/**
+	 * Gets the orthogonal factor Q (m*n, the first n columns of H1*..*Hn).
+	 *
+	 * @return the q
+	 * @throws MatrixDimensionException the matrix dimension exception
+	 */
+	public DoubleMatrix getQ() throws MatrixDimensionException
+	{
+		// columns of Q transposed, Hk is applied backwards to the unit vectors
+		double[] lQt = new double[mSizeX * mSizeY];
+		for (int iJ = 0; iJ < mSizeX; iJ++) lQt[iJ * mSizeY + iJ] = 1d;
+
+		for (int iK = mSizeX - 1; iK >= 0; iK--)
+		{
+			int lOffK = iK * mSizeY;
+			if (mQRt[lOffK + iK] == 0d) continue;
+			for (int iJ = iK; iJ < mSizeX; iJ++) _reflect(lOffK, iK, lQt, iJ * mSizeY);
+		}
+
+		double[] lQ = new double[mSizeY * mSizeX];
+		for (int iY = 0; iY < mSizeY; iY++)
+		{
+			for (int iX = 0; iX < mSizeX; iX++) lQ[iY * mSizeX + iX] = lQt[iX * mSizeY + iY];
+		}
+		return new DoubleMatrix(mSizeX, mSizeY, lQ);
+	}
+
+	/**
+	 * Solves A*X = B in the least squares sense (min |A*X - B|, exact for a square A), all columns of B are
+	 * solved in one pass: Y = Q^T*B, then back substitution R*X = Y.
+	 *
+	 * @param aB the reference right hand side (A.sizeY rows, not modified)
+	 * @return the solution x (A.sizeX rows)
+	 * @throws MatrixException if the sizes mismatch or A is rank deficient
+	 */
+	public DoubleMatrix solve(DoubleMatrix aB) throws MatrixException
+	{
+		if (aB.getSizeY() != mSizeY) throw new MatrixDimensionException("B.sizeY must match A.sizeY (sizeY=" + aB.getSizeY() + ", A.sizeY=" + mSizeY + ")");
+		if (!isFullRank()) throw new MatrixException("Matrix is rank deficient.");
+
+		int lCols = aB.getSizeX();
+		double[] lB = aB.getData();
+
+		// transposed copy of B, Q^T is applied to its columns
+		double[] lBt = new double[lCols * mSizeY];
+		for (int iY = 0; iY < mSizeY; iY++)
+		{
+			for (int iX = 0; iX < lCols; iX++) lBt[iX * mSizeY + iY] = lB[iY * lCols + iX];
+		}
+
+		for (int iK = 0; iK < mSizeX; iK++)
+		{
+			int lOffK = iK * mSizeY;
+			if (mQRt[lOffK + iK] == 0d) continue;
+			for (int iJ = 0; iJ < lCols; iJ++) _reflect(lOffK, iK, lBt, iJ * mSizeY);
+		}
+
+		// R*X = Y (first n rows of Y)
+		double[] lX = new double[mSizeX * lCols];
+		for (int iJ = 0; iJ < lCols; iJ++)
+		{
+			int lOffJ = iJ * mSizeY;
+			for (int iY = mSizeX - 1; iY >= 0; iY--)
+			{
+				double lSum = lBt[lOffJ + iY];
+				int lOffR = iY * mSizeX;
+				for (int iK = iY + 1; iK < mSizeX; iK++) lSum -= mR[lOffR + iK] * lX[iK * lCols + iJ];
+				lX[iY * lCols + iJ] = lSum / mR[lOffR + iY];
+			}
+		}
+
+		return new DoubleMatrix(lCols, mSizeX, lX);
+	}
+
+	/**
+	 * [restricted] Applies the reflection k to a column (rows k..m-1): c = c - v*(v^T*c)/v_k.
+	 *
+	 * @param aOffK the reference offset of the householder vector k
+	 * @param aK the reference k
+	 * @param aData the reference data of the column
+	 * @param aOffC the reference offset of the column
+	 */
+	private void _reflect(int aOffK, int aK, double[] aData, int aOffC)
+	{
+		double lDot = 0d;
+		for (int i = aK; i < mSizeY; i++) lDot += mQRt[aOffK + i] * aData[aOffC + i];
+
+		double lFactor = -lDot / mQRt[aOffK + aK];
+		for (int i = aK; i < mSizeY; i++) aData[aOffC + i] += lFactor * mQRt[aOffK + i];
+	}
+}
@@ -0,0 +1,60 @@
+/**
+ * File: MKZ_UtilsLib::BinaryExpression.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.math.matrix.expr;
+
+import java.util.function.BiFunction;
+
+/**
+ * The Class BinaryExpression. Combines the fields of two expressions of the same size.
+ *
+ * @param <T> the generic type
+ */
+class BinaryExpression<T> extends MatrixExpression<T>
+{
+	/** The member left operand. */
+	private final MatrixExpression<T> mLeft;
+
+	/** The member right operand. */
+	private final MatrixExpression<T> mRight;
+
+	/** The member operation. */
+	private final BiFunction<T, T, T> mOperation;
+
+	/**
+	 * Instantiates a new binary expression.
+	 *
+	 * @param aLeft the reference left operand
+	 * @param aRight the reference right operand
+	 * @param aOperation the reference operation
+	 */
+	BinaryExpression(MatrixExpression<T> aLeft, MatrixExpression<T> aRight, BiFunction<T, T, T> aOperation)
+	{
+		super(aLeft.mOp, aLeft.mSizeX, aLeft.mSizeY);
+		mLeft = aLeft;
+		mRight = aRight;
+		mOperation = aOperation;
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.matrix.expr.MatrixExpression#_prepare()
+	 */
+	@Override
+	protected void _prepare()
+	{
+		mLeft._prepare();
+		mRight._prepare();
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.matrix.expr.MatrixExpression#_get(int, int)
+	 */
+	@Override
+	protected T _get(int x, int y)
+	{
+		return mOperation.apply(mLeft._get(x, y), mRight._get(x, y));
+	}
+}
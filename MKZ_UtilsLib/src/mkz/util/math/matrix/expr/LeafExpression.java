@@ -0,0 +1,55 @@
+/**
+ * File: MKZ_UtilsLib::LeafExpression.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.math.matrix.expr;
+
+import mkz.util.math.matrix.Matrix;
+import mkz.util.math.op.ArithmeticOperator;
+
+/**
+ * The Class LeafExpression. Reads the fields of a matrix.
+ *
+ * @param <T> the generic type
+ */
+class LeafExpression<T> extends MatrixExpression<T>
+{
+	/** The member matrix. */
+	private final Matrix<T> mMatrix;
+
+	/** The member rows (bound by _prepare, a materialized copy for views). */
+	private Object[][] mRows = null;
+
+	/**
+	 * Instantiates a new leaf expression.
+	 *
+	 * @param aMatrix the reference matrix
+	 * @param aOp the reference arithmetic operator
+	 */
+	LeafExpression(Matrix<T> aMatrix, ArithmeticOperator<T> aOp)
+	{
+		super(aOp, aMatrix.getSizeX(), aMatrix.getSizeY());
+		mMatrix = aMatrix;
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.matrix.expr.MatrixExpression#_prepare()
+	 */
+	@Override
+	protected void _prepare()
+	{
+		mRows = mMatrix.getData();
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.matrix.expr.MatrixExpression#_get(int, int)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	protected T _get(int x, int y)
+	{
+		return (T) mRows[y][x];
+	}
+}
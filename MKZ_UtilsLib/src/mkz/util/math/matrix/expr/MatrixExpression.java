@@ -0,0 +1,280 @@
+/**
+ * File: MKZ_UtilsLib::MatrixExpression.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.math.matrix.expr;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import mkz.util.math.matrix.Matrix;
+import mkz.util.math.matrix.debug.MatrixDimensionException;
+import mkz.util.math.op.ArithmeticOperator;
+
+/**
+ * The Class MatrixExpression. Lazy tree of element-wise matrix operations. Combining expressions (add, sub, scale, ...)
+ * only builds the tree, nothing is computed until {@link #eval()} is called. The whole tree is then evaluated in one
+ * pass over the fields, i.e. add(scale(A, a), sub(B, C)) reads every field of A, B and C once and writes the result
+ * once without creating intermediate matrices. Expressions are created by
+ * {@link mkz.util.math.matrix.op.MatrixOperator#expr(Matrix) MatrixOperator::expr}.
+ *
+ * @param <T> the generic type
+ */
+public abstract class MatrixExpression<T>
+{
+	/** The member operator. */
+	protected final ArithmeticOperator<T> mOp;
+
+	/** The member size x. */
+	protected final int mSizeX;
+
+	/** The member size y. */
+	protected final int mSizeY;
+
+	/**
+	 * Instantiates a new matrix expression.
+	 *
+	 * @param aOp the reference arithmetic operator
+	 * @param aSizeX the reference size x
+	 * @param aSizeY the reference size y
+	 */
+	protected MatrixExpression(ArithmeticOperator<T> aOp, int aSizeX, int aSizeY)
+	{
+		mOp = aOp;
+		mSizeX = aSizeX;
+		mSizeY = aSizeY;
+	}
+
+	/**
+	 * Creates the expression of a matrix (leaf of the tree). The matrix is read when the expression is evaluated,
+	 * not when it is created.
+	 *
+	 * @param <T> the generic type
+	 * @param aM the reference m
+	 * @param aOp the reference arithmetic operator
+	 * @return the matrix expression
+	 */
+	public static <T> MatrixExpression<T> of(Matrix<T> aM, ArithmeticOperator<T> aOp)
+	{
+		return new LeafExpression<T>(aM, aOp);
+	}
+
+	/**
+	 * Gets the size x.
+	 *
+	 * @return the size x
+	 */
+	public int getSizeX()
+	{
+		return mSizeX;
+	}
+
+	/**
+	 * Gets the size y.
+	 *
+	 * @return the size y
+	 */
+	public int getSizeY()
+	{
+		return mSizeY;
+	}
+
+	/**
+	 * Adds the.
+	 *
+	 * @param aOther the reference other
+	 * @return the matrix expression
+	 * @throws MatrixDimensionException the matrix dimension exception
+	 */
+	public MatrixExpression<T> add(MatrixExpression<T> aOther) throws MatrixDimensionException
+	{
+		return combine(aOther, mOp::add);
+	}
+
+	/**
+	 * Adds the.
+	 *
+	 * @param aM the reference m
+	 * @return the matrix expression
+	 * @throws MatrixDimensionException the matrix dimension exception
+	 */
+	public MatrixExpression<T> add(Matrix<T> aM) throws MatrixDimensionException
+	{
+		return add(of(aM, mOp));
+	}
+
+	/**
+	 * Sub.
+	 *
+	 * @param aOther the reference other
+	 * @return the matrix expression
+	 * @throws MatrixDimensionException the matrix dimension exception
+	 */
+	public MatrixExpression<T> sub(MatrixExpression<T> aOther) throws MatrixDimensionException
+	{
+		return combine(aOther, mOp::sub);
+	}
+
+	/**
+	 * Sub.
+	 *
+	 * @param aM the reference m
+	 * @return the matrix expression
+	 * @throws MatrixDimensionException the matrix dimension exception
+	 */
+	public MatrixExpression<T> sub(Matrix<T> aM) throws MatrixDimensionException
+	{
+		return sub(of(aM, mOp));
+	}
+
+	/**
+	 * Element-wise mpl (not the matrix product).
+	 *
+	 * @param aOther the reference other
+	 * @return the matrix expression
+	 * @throws MatrixDimensionException the matrix dimension exception
+	 */
+	public MatrixExpression<T> mplElements(MatrixExpression<T> aOther) throws MatrixDimensionException
+	{
+		return combine(aOther, mOp::mpl);
+	}
+
+	/**
+	 * Element-wise mpl (not the matrix product).
+	 *
+	 * @param aM the reference m
+	 * @return the matrix expression
+	 * @throws MatrixDimensionException the matrix dimension exception
+	 */
+	public MatrixExpression<T> mplElements(Matrix<T> aM) throws MatrixDimensionException
+	{
+		return mplElements(of(aM, mOp));
+	}
+
+	/**
+	 * Scale.
+	 *
+	 * @param aScale the reference scale
+	 * @return the matrix expression
+	 */
+	public MatrixExpression<T> scale(T aScale)
+	{
+		return map((a) -> mOp.mpl(a, aScale));
+	}
+
+	/**
+	 * Negate.
+	 *
+	 * @return the matrix expression
+	 */
+	public MatrixExpression<T> negate()
+	{
+		return map((a) -> mOp.sub(mOp.getZero(), a));
+	}
+
+	/**
+	 * Applies an operation to every field.
+	 *
+	 * @param aOperation the reference operation
+	 * @return the matrix expression
+	 */
+	public MatrixExpression<T> map(Function<T, T> aOperation)
+	{
+		return new UnaryExpression<T>(this, aOperation);
+	}
+
+	/**
+	 * Combines the fields of this and another expression at the same position.
+	 *
+	 * @param aOther the reference other
+	 * @param aOperation the reference operation
+	 * @return the matrix expression
+	 * @throws MatrixDimensionException if the sizes mismatch
+	 */
+	public MatrixExpression<T> combine(MatrixExpression<T> aOther, BiFunction<T, T, T> aOperation) throws MatrixDimensionException
+	{
+		if (mSizeX != aOther.mSizeX || mSizeY != aOther.mSizeY)
+		{
+			throw new MatrixDimensionException("Expression sizes must match (sizeX=" + mSizeX + ", sizeY=" + mSizeY + ", other sizeX=" + aOther.mSizeX + ", sizeY=" + aOther.mSizeY + ")");
+		}
+		return new BinaryExpression<T>(this, aOther, aOperation);
+	}
+
+	/**
+	 * Evaluates the expression into a new matrix.
+	 *
+	 * @return the matrix
+	 */
+	public Matrix<T> eval()
+	{
+		Matrix<T> rVal = new Matrix<T>(new Object[mSizeY][mSizeX]);
+		_prepare();
+		_evalInto(rVal.getData());
+		return rVal;
+	}
+
+	/**
+	 * Evaluates the expression into the target (no allocation for plain matrices). Since every field only depends
+	 * on the fields at the same position, the target may be one of the matrices of the expression.
+	 *
+	 * @param aTarget the reference target
+	 * @return the target
+	 * @throws MatrixDimensionException if the target size mismatches
+	 */
+	public Matrix<T> eval(Matrix<T> aTarget) throws MatrixDimensionException
+	{
+		if (aTarget.getSizeX() != mSizeX || aTarget.getSizeY() != mSizeY)
+		{
+			throw new MatrixDimensionException("Target size must match (sizeX=" + aTarget.getSizeX() + ", sizeY=" + aTarget.getSizeY() + ", expected sizeX=" + mSizeX + ", sizeY=" + mSizeY + ")");
+		}
+
+		_prepare();
+		if (!aTarget.isView())
+		{
+			_evalInto(aTarget.getData());
+			return aTarget;
+		}
+
+		for (int iY = 0; iY < mSizeY; iY++)
+		{
+			for (int iX = 0; iX < mSizeX; iX++)
+			{
+				aTarget.set(iX, iY, _get(iX, iY));
+			}
+		}
+		return aTarget;
+	}
+
+	/**
+	 * [restricted] Binds the leaves to the current storage of their matrices, called once before the evaluation.
+	 */
+	protected abstract void _prepare();
+
+	/**
+	 * [restricted] Computes one field of the expression.
+	 *
+	 * @param x the x
+	 * @param y the y
+	 * @return the t
+	 */
+	protected abstract T _get(int x, int y);
+
+	/**
+	 * [restricted] Evaluates all fields row by row into the rows.
+	 *
+	 * @param rRows the return rows
+	 */
+	private void _evalInto(Object[][] rRows)
+	{
+		for (int iY = 0; iY < mSizeY; iY++)
+		{
+			Object[] lRow = rRows[iY];
+			for (int iX = 0; iX < mSizeX; iX++)
+			{
+				lRow[iX] = _get(iX, iY);
+			}
+		}
+	}
+}
@@ -0,0 +1,54 @@
+/**
+ * File: MKZ_UtilsLib::UnaryExpression.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.math.matrix.expr;
+
+import java.util.function.Function;
+
+/**
+ * The Class UnaryExpression. Applies an operation to the fields of one expression.
+ *
+ * @param <T> the generic type
+ */
+class UnaryExpression<T> extends MatrixExpression<T>
+{
+	/** The member operand. */
+	private final MatrixExpression<T> mOperand;
+
+	/** The member operation. */
+	private final Function<T, T> mOperation;
+
+	/**
+	 * Instantiates a new unary expression.
+	 *
+	 * @param aOperand the reference operand
+	 * @param aOperation the reference operation
+	 */
+	UnaryExpression(MatrixExpression<T> aOperand, Function<T, T> aOperation)
+	{
+		super(aOperand.mOp, aOperand.mSizeX, aOperand.mSizeY);
+		mOperand = aOperand;
+		mOperation = aOperation;
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.matrix.expr.MatrixExpression#_prepare()
+	 */
+	@Override
+	protected void _prepare()
+	{
+		mOperand._prepare();
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.matrix.expr.MatrixExpression#_get(int, int)
+	 */
+	@Override
+	protected T _get(int x, int y)
+	{
+		return mOperation.apply(mOperand._get(x, y));
+	}
+}
@@ -0,0 +1,181 @@
+/**
+ * File: MKZ_UtilsLib::FixedMatrix.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.math.matrix.fixed;
+
+import mkz.util.math.matrix.DoubleMatrix;
+import mkz.util.math.matrix.Matrix;
+import mkz.util.math.matrix.debug.MatrixDimensionException;
+import mkz.util.math.matrix.debug.MatrixException;
+
+/**
+ * The Class FixedMatrix. Base of the small square double matrices of a fixed size ({@link Matrix2}, {@link Matrix3},
+ * {@link Matrix4}). The values are held in fields (no array, no boxing) and the operations are unrolled, every operation
+ * has a variant that writes into an existing instance (which may be an operand) so that hot loops don't allocate.
+ * Converts from and to {@link mkz.util.math.matrix.Matrix Matrix} (e.g. for the {@link mkz.util.math.matrix.op.MatrixOperator
+ * MatrixOperator}) and {@link mkz.util.math.matrix.DoubleMatrix DoubleMatrix}.
+ */
+public abstract class FixedMatrix
+{
+	/**
+	 * Gets the size (number of rows and columns).
+	 *
+	 * @return the size
+	 */
+	public abstract int getSize();
+
+	/**
+	 * [restricted] Gets the value of a field that is known to be valid.
+	 *
+	 * @param x the x
+	 * @param y the y
+	 * @return the double
+	 */
+	protected abstract double _get(int x, int y);
+
+	/**
+	 * [restricted] Sets the value of a field that is known to be valid.
+	 *
+	 * @param x the x
+	 * @param y the y
+	 * @param aValue the reference value
+	 */
+	protected abstract void _set(int x, int y, double aValue);
+
+	/**
+	 * Gets the.
+	 *
+	 * @param x the x
+	 * @param y the y
+	 * @return the double
+	 * @throws MatrixDimensionException the matrix dimension exception
+	 */
+	public double get(int x, int y) throws MatrixDimensionException
+	{
+		_checkRange(x, y);
+		return _get(x, y);
+	}
+
+	/**
+	 * Sets the.
+	 *
+	 * @param x the x
+	 * @param y the y
+	 * @param aValue the reference value
+	 * @throws MatrixDimensionException the matrix dimension exception
+	 */
+	public void set(int x, int y, double aValue) throws MatrixDimensionException
+	{
+		_checkRange(x, y);
+		_set(x, y, aValue);
+	}
+
+	/**
+	 * Converts to a generic matrix (each value is boxed once).
+	 *
+	 * @return the matrix
+	 */
+	public Matrix<Double> toMatrix()
+	{
+		int lSize = getSize();
+		Object[][] lContent = new Object[lSize][lSize];
+		for (int iY = 0; iY < lSize; iY++)
+		{
+			for (int iX = 0; iX < lSize; iX++) lContent[iY][iX] = _get(iX, iY);
+		}
+		return new Matrix<Double>(lContent);
+	}
+
+	/**
+	 * Converts to a double matrix.
+	 *
+	 * @return the double matrix
+	 */
+	public DoubleMatrix toDoubleMatrix()
+	{
+		int lSize = getSize();
+		DoubleMatrix rVal = new DoubleMatrix(lSize, lSize);
+		double[] lData = rVal.getData();
+		for (int iY = 0; iY < lSize; iY++)
+		{
+			for (int iX = 0; iX < lSize; iX++) lData[iY * lSize + iX] = _get(iX, iY);
+		}
+		return rVal;
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString()
+	{
+		int lSize = getSize();
+		StringBuilder sb = new StringBuilder();
+
+		for (int iY = 0; iY < lSize; iY++)
+		{
+			for (int iX = 0; iX < lSize; iX++)
+			{
+				sb.append(_get(iX, iY));
+				if (iX < lSize - 1)
+					sb.append(',');
+			}
+
+			if (iY < lSize - 1)
+				sb.append('\n');
+		}
+
+		return sb.toString();
+	}
+
+	/**
+	 * [restricted] Copies the values of a generic matrix of the same size.
+	 *
+	 * @param aMatrix the reference matrix
+	 * @throws MatrixException if the size mismatches
+	 */
+	protected void _setFrom(Matrix<Double> aMatrix) throws MatrixException
+	{
+		int lSize = getSize();
+		if (aMatrix.getSizeX() != lSize || aMatrix.getSizeY() != lSize) throw new MatrixDimensionException("Matrix must be " + lSize + "x" + lSize + " (sizeX=" + aMatrix.getSizeX() + ", sizeY=" + aMatrix.getSizeY() + ")");
+
+		for (int iY = 0; iY < lSize; iY++)
+		{
+			for (int iX = 0; iX < lSize; iX++) _set(iX, iY, aMatrix.get(iX, iY));
+		}
+	}
+
+	/**
+	 * [restricted] Copies the values of a double matrix of the same size.
+	 *
+	 * @param aMatrix the reference matrix
+	 * @throws MatrixDimensionException if the size mismatches
+	 */
+	protected void _setFrom(DoubleMatrix aMatrix) throws MatrixDimensionException
+	{
+		int lSize = getSize();
+		if (aMatrix.getSizeX() != lSize || aMatrix.getSizeY() != lSize) throw new MatrixDimensionException("Matrix must be " + lSize + "x" + lSize + " (sizeX=" + aMatrix.getSizeX() + ", sizeY=" + aMatrix.getSizeY() + ")");
+
+		double[] lData = aMatrix.getData();
+		for (int iY = 0; iY < lSize; iY++)
+		{
+			for (int iX = 0; iX < lSize; iX++) _set(iX, iY, lData[iY * lSize + iX]);
+		}
+	}
+
+	/**
+	 * [restricted] Checks that the field is in range.
+	 *
+	 * @param x the x
+	 * @param y the y
+	 * @throws MatrixDimensionException if the field is out of range
+	 */
+	private void _checkRange(int x, int y) throws MatrixDimensionException
+	{
+		int lSize = getSize();
+		if (x < 0 || y < 0 || x >= lSize || y >= lSize) throw new MatrixDimensionException("Invalid field x=" + x + "; y=" + y + "; sizeX=" + lSize + "; sizeY=" + lSize);
+	}
+}
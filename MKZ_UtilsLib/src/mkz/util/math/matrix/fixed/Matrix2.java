@@ -0,0 +1,367 @@
+/**
+ * File: MKZ_UtilsLib::Matrix2.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.math.matrix.fixed;
+
+import mkz.util.math.matrix.DoubleMatrix;
+import mkz.util.math.matrix.Matrix;
+import mkz.util.math.matrix.debug.MatrixDimensionException;
+import mkz.util.math.matrix.debug.MatrixException;
+
+/**
+ * The Class Matrix2. Mutable 2x2 double matrix with unrolled operations, see {@link FixedMatrix}. The field mYX
+ * holds the value of row y and column x (i.e. get(x,y)).
+ */
+public class Matrix2 extends FixedMatrix
+{
+	/** The member values of row 0. */
+	protected double m00, m01;
+
+	/** The member values of row 1. */
+	protected double m10, m11;
+
+	/**
+	 * Instantiates a new matrix filled with zeros.
+	 */
+	public Matrix2()
+	{
+	}
+
+	/**
+	 * Instantiates a new matrix (values in row-major order).
+	 *
+	 * @param a00 the reference value of row 0, column 0
+	 * @param a01 the reference value of row 0, column 1
+	 * @param a10 the reference value of row 1, column 0
+	 * @param a11 the reference value of row 1, column 1
+	 */
+	public Matrix2(double a00, double a01, double a10, double a11)
+	{
+		m00 = a00;
+		m01 = a01;
+		m10 = a10;
+		m11 = a11;
+	}
+
+	/**
+	 * Instantiates a new matrix as copy.
+	 *
+	 * @param aM the reference m
+	 */
+	public Matrix2(Matrix2 aM)
+	{
+		set(aM);
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.matrix.fixed.FixedMatrix#getSize()
+	 */
+	@Override
+	public int getSize()
+	{
+		return 2;
+	}
+
+	/**
+	 * Sets all values to the values of m.
+	 *
+	 * @param aM the reference m
+	 * @return this
+	 */
+	public Matrix2 set(Matrix2 aM)
+	{
+		m00 = aM.m00;
+		m01 = aM.m01;
+		m10 = aM.m10;
+		m11 = aM.m11;
+		return this;
+	}
+
+	/**
+	 * Sets this matrix to the identity.
+	 *
+	 * @return this
+	 */
+	public Matrix2 setIdentity()
+	{
+		m00 = 1d;
+		m01 = 0d;
+		m10 = 0d;
+		m11 = 1d;
+		return this;
+	}
+
+	/**
+	 * Mpl (this*m).
+	 *
+	 * @param aM the reference m
+	 * @return the matrix
+	 */
+	public Matrix2 mpl(Matrix2 aM)
+	{
+		return mpl(aM, new Matrix2());
+	}
+
+	/**
+	 * Mpl (this*m), the result is written to the target (no allocation).
+	 *
+	 * @param aM the reference m
+	 * @param aTarget the reference target (may be this or m)
+	 * @return the target
+	 */
+	public Matrix2 mpl(Matrix2 aM, Matrix2 aTarget)
+	{
+		double l00 = m00 * aM.m00 + m01 * aM.m10;
+		double l01 = m00 * aM.m01 + m01 * aM.m11;
+		double l10 = m10 * aM.m00 + m11 * aM.m10;
+		double l11 = m10 * aM.m01 + m11 * aM.m11;
+		aTarget.m00 = l00;
+		aTarget.m01 = l01;
+		aTarget.m10 = l10;
+		aTarget.m11 = l11;
+		return aTarget;
+	}
+
+	/**
+	 * Adds the.
+	 *
+	 * @param aM the reference m
+	 * @return the matrix
+	 */
+	public Matrix2 add(Matrix2 aM)
+	{
+		return add(aM, new Matrix2());
+	}
+
+	/**
+	 * Adds the, the result is written to the target (no allocation).
+	 *
+	 * @param aM the reference m
+	 * @param aTarget the reference target (may be this or m)
+	 * @return the target
+	 */
+	public Matrix2 add(Matrix2 aM, Matrix2 aTarget)
+	{
+		aTarget.m00 = m00 + aM.m00;
+		aTarget.m01 = m01 + aM.m01;
+		aTarget.m10 = m10 + aM.m10;
+		aTarget.m11 = m11 + aM.m11;
+		return aTarget;
+	}
+
+	/**
+	 * Sub.
+	 *
+	 * @param aM the reference m
+	 * @return the matrix
+	 */
+	public Matrix2 sub(Matrix2 aM)
+	{
+		return sub(aM, new Matrix2());
+	}
+
+	/**
+	 * Sub, the result is written to the target (no allocation).
+	 *
+	 * @param aM the reference m
+	 * @param aTarget the reference target (may be this or m)
+	 * @return the target
+	 */
+	public Matrix2 sub(Matrix2 aM, Matrix2 aTarget)
+	{
+		aTarget.m00 = m00 - aM.m00;
+		aTarget.m01 = m01 - aM.m01;
+		aTarget.m10 = m10 - aM.m10;
+		aTarget.m11 = m11 - aM.m11;
+		return aTarget;
+	}
+
+	/**
+	 * Scale.
+	 *
+	 * @param aScale the reference scale
+	 * @return the matrix
+	 */
+	public Matrix2 scale(double aScale)
+	{
+		return scale(aScale, new Matrix2());
+	}
+
+	/**
+	 * Scale, the result is written to the target (no allocation).
+	 *
+	 * @param aScale the reference scale
+	 * @param aTarget the reference target (may be this)
+	 * @return the target
+	 */
+	public Matrix2 scale(double aScale, Matrix2 aTarget)
+	{
+		aTarget.m00 = m00 * aScale;
+		aTarget.m01 = m01 * aScale;
+		aTarget.m10 = m10 * aScale;
+		aTarget.m11 = m11 * aScale;
+		return aTarget;
+	}
+
+	/**
+	 * Transposed.
+	 *
+	 * @return the matrix
+	 */
+	public Matrix2 transpose()
+	{
+		return transpose(new Matrix2());
+	}
+
+	/**
+	 * Transposed, the result is written to the target (no allocation).
+	 *
+	 * @param aTarget the reference target (may be this)
+	 * @return the target
+	 */
+	public Matrix2 transpose(Matrix2 aTarget)
+	{
+		double l01 = m01;
+		aTarget.m01 = m10;
+		aTarget.m10 = l01;
+		aTarget.m00 = m00;
+		aTarget.m11 = m11;
+		return aTarget;
+	}
+
+	/**
+	 * Multiplies a vector (out = this*v).
+	 *
+	 * @param aV the reference vector (length 2)
+	 * @param rOut the return output vector (length 2, may be v)
+	 * @return the output vector
+	 */
+	public double[] transform(double[] aV, double[] rOut)
+	{
+		double lV0 = aV[0]; double lV1 = aV[1];
+		rOut[0] = m00 * lV0 + m01 * lV1;
+		rOut[1] = m10 * lV0 + m11 * lV1;
+		return rOut;
+	}
+
+	/**
+	 * Det (ad-bc).
+	 *
+	 * @return the double
+	 */
+	public double det()
+	{
+		return m00 * m11 - m01 * m10;
+	}
+
+	/**
+	 * Invert, closed form (adjugate/det).
+	 *
+	 * @return the matrix
+	 * @throws MatrixException if the matrix is singular
+	 */
+	public Matrix2 invert() throws MatrixException
+	{
+		return invert(new Matrix2());
+	}
+
+	/**
+	 * Invert, closed form (adjugate/det), the result is written to the target (no allocation).
+	 *
+	 * @param aTarget the reference target (may be this)
+	 * @return the target
+	 * @throws MatrixException if the matrix is singular (the target is not modified)
+	 */
+	public Matrix2 invert(Matrix2 aTarget) throws MatrixException
+	{
+		double lDet = m00 * m11 - m01 * m10;
+		if (lDet == 0d) throw new MatrixException("Matrix is singular.");
+
+		double lInv = 1d / lDet;
+		double l00 = m11 * lInv, l01 = -m01 * lInv;
+		double l10 = -m10 * lInv, l11 = m00 * lInv;
+
+		aTarget.m00 = l00;
+		aTarget.m01 = l01;
+		aTarget.m10 = l10;
+		aTarget.m11 = l11;
+		return aTarget;
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.matrix.fixed.FixedMatrix#_get(int, int)
+	 */
+	@Override
+	protected double _get(int x, int y)
+	{
+		switch (y * 2 + x)
+		{
+		case 0: return m00;
+		case 1: return m01;
+		case 2: return m10;
+		case 3: return m11;
+		default: throw new IndexOutOfBoundsException("x=" + x + "; y=" + y);
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.matrix.fixed.FixedMatrix#_set(int, int, double)
+	 */
+	@Override
+	protected void _set(int x, int y, double aValue)
+	{
+		switch (y * 2 + x)
+		{
+		case 0: m00 = aValue; break;
+		case 1: m01 = aValue; break;
+		case 2: m10 = aValue; break;
+		case 3: m11 = aValue; break;
+		default: throw new IndexOutOfBoundsException("x=" + x + "; y=" + y);
+		}
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////////
+	// FACTORY TOOLS
+	//////////////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Creates a identity.
+	 *
+	 * @return the matrix
+	 */
+	public static Matrix2 createIdentity()
+	{
+		return new Matrix2().setIdentity();
+	}
+
+	/**
+	 * Creates a 2x2 matrix from a generic matrix.
+	 *
+	 * @param aMatrix the reference matrix (2x2)
+	 * @return the matrix
+	 * @throws MatrixException if the size mismatches
+	 */
+	public static Matrix2 createFrom(Matrix<Double> aMatrix) throws MatrixException
+	{
+		Matrix2 rVal = new Matrix2();
+		rVal._setFrom(aMatrix);
+		return rVal;
+	}
+
+	/**
+	 * Creates a 2x2 matrix from a double matrix.
+	 *
+	 * @param aMatrix the reference matrix (2x2)
+	 * @return the matrix
+	 * @throws MatrixDimensionException if the size mismatches
+	 */
+	public static Matrix2 createFrom(DoubleMatrix aMatrix) throws MatrixDimensionException
+	{
+		Matrix2 rVal = new Matrix2();
+		rVal._setFrom(aMatrix);
+		return rVal;
+	}
+}
@@ -0,0 +1,444 @@
+/**
+ * File: MKZ_UtilsLib::Matrix3.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.math.matrix.fixed;
+
+import mkz.util.math.matrix.DoubleMatrix;
+import mkz.util.math.matrix.Matrix;
+import mkz.util.math.matrix.debug.MatrixDimensionException;
+import mkz.util.math.matrix.debug.MatrixException;
+
+/**
+ * The Class Matrix3. Mutable 3x3 double matrix with unrolled operations, see {@link FixedMatrix}. The field mYX
+ * holds the value of row y and column x (i.e. get(x,y)).
+ */
+public class Matrix3 extends FixedMatrix
+{
+	/** The member values of row 0. */
+	protected double m00, m01, m02;
+
+	/** The member values of row 1. */
+	protected double m10, m11, m12;
+
+	/** The member values of row 2. */
+	protected double m20, m21, m22;
+
+	/**
+	 * Instantiates a new matrix filled with zeros.
+	 */
+	public Matrix3()
+	{
+	}
+
+	/**
+	 * Instantiates a new matrix (values in row-major order).
+	 *
+	 * @param a00 the reference value of row 0, column 0
+	 * @param a01 the reference value of row 0, column 1
+	 * @param a02 the reference value of row 0, column 2
+	 * @param a10 the reference value of row 1, column 0
+	 * @param a11 the reference value of row 1, column 1
+	 * @param a12 the reference value of row 1, column 2
+	 * @param a20 the reference value of row 2, column 0
+	 * @param a21 the reference value of row 2, column 1
+	 * @param a22 the reference value of row 2, column 2
+	 */
+	public Matrix3(double a00, double a01, double a02, double a10, double a11, double a12, double a20, double a21, double a22)
+	{
+		m00 = a00;
+		m01 = a01;
+		m02 = a02;
+		m10 = a10;
+		m11 = a11;
+		m12 = a12;
+		m20 = a20;
+		m21 = a21;
+		m22 = a22;
+	}
+
+	/**
+	 * Instantiates a new matrix as copy.
+	 *
+	 * @param aM the reference m
+	 */
+	public Matrix3(Matrix3 aM)
+	{
+		set(aM);
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.matrix.fixed.FixedMatrix#getSize()
+	 */
+	@Override
+	public int getSize()
+	{
+		return 3;
+	}
+
+	/**
+	 * Sets all values to the values of m.
+	 *
+	 * @param aM the reference m
+	 * @return this
+	 */
+	public Matrix3 set(Matrix3 aM)
+	{
+		m00 = aM.m00;
+		m01 = aM.m01;
+		m02 = aM.m02;
+		m10 = aM.m10;
+		m11 = aM.m11;
+		m12 = aM.m12;
+		m20 = aM.m20;
+		m21 = aM.m21;
+		m22 = aM.m22;
+		return this;
+	}
+
+	/**
+	 * Sets this matrix to the identity.
+	 *
+	 * @return this
+	 */
+	public Matrix3 setIdentity()
+	{
+		m00 = 1d;
+		m01 = 0d;
+		m02 = 0d;
+		m10 = 0d;
+		m11 = 1d;
+		m12 = 0d;
+		m20 = 0d;
+		m21 = 0d;
+		m22 = 1d;
+		return this;
+	}
+
+	/**
+	 * Mpl (this*m).
+	 *
+	 * @param aM the reference m
+	 * @return the matrix
+	 */
+	public Matrix3 mpl(Matrix3 aM)
+	{
+		return mpl(aM, new Matrix3());
+	}
+
+	/**
+	 * Mpl (this*m), the result is written to the target (no allocation).
+	 *
+	 * @param aM the reference m
+	 * @param aTarget the reference target (may be this or m)
+	 * @return the target
+	 */
+	public Matrix3 mpl(Matrix3 aM, Matrix3 aTarget)
+	{
+		double l00 = m00 * aM.m00 + m01 * aM.m10 + m02 * aM.m20;
+		double l01 = m00 * aM.m01 + m01 * aM.m11 + m02 * aM.m21;
+		double l02 = m00 * aM.m02 + m01 * aM.m12 + m02 * aM.m22;
+		double l10 = m10 * aM.m00 + m11 * aM.m10 + m12 * aM.m20;
+		double l11 = m10 * aM.m01 + m11 * aM.m11 + m12 * aM.m21;
+		double l12 = m10 * aM.m02 + m11 * aM.m12 + m12 * aM.m22;
+		double l20 = m20 * aM.m00 + m21 * aM.m10 + m22 * aM.m20;
+		double l21 = m20 * aM.m01 + m21 * aM.m11 + m22 * aM.m21;
+		double l22 = m20 * aM.m02 + m21 * aM.m12 + m22 * aM.m22;
+		aTarget.m00 = l00;
+		aTarget.m01 = l01;
+		aTarget.m02 = l02;
+		aTarget.m10 = l10;
+		aTarget.m11 = l11;
+		aTarget.m12 = l12;
+		aTarget.m20 = l20;
+		aTarget.m21 = l21;
+		aTarget.m22 = l22;
+		return aTarget;
+	}
+
+	/**
+	 * Adds the.
+	 *
+	 * @param aM the reference m
+	 * @return the matrix
+	 */
+	public Matrix3 add(Matrix3 aM)
+	{
+		return add(aM, new Matrix3());
+	}
+
+	/**
+	 * Adds the, the result is written to the target (no allocation).
+	 *
+	 * @param aM the reference m
+	 * @param aTarget the reference target (may be this or m)
+	 * @return the target
+	 */
+	public Matrix3 add(Matrix3 aM, Matrix3 aTarget)
+	{
+		aTarget.m00 = m00 + aM.m00;
+		aTarget.m01 = m01 + aM.m01;
+		aTarget.m02 = m02 + aM.m02;
+		aTarget.m10 = m10 + aM.m10;
+		aTarget.m11 = m11 + aM.m11;
+		aTarget.m12 = m12 + aM.m12;
+		aTarget.m20 = m20 + aM.m20;
+		aTarget.m21 = m21 + aM.m21;
+		aTarget.m22 = m22 + aM.m22;
+		return aTarget;
+	}
+
+	/**
+	 * Sub.
+	 *
+	 * @param aM the reference m
+	 * @return the matrix
+	 */
+	public Matrix3 sub(Matrix3 aM)
+	{
+		return sub(aM, new Matrix3());
+	}
+
+	/**
+	 * Sub, the result is written to the target (no allocation).
+	 *
+	 * @param aM the reference m
+	 * @param aTarget the reference target (may be this or m)
+	 * @return the target
+	 */
+	public Matrix3 sub(Matrix3 aM, Matrix3 aTarget)
+	{
+		aTarget.m00 = m00 - aM.m00;
+		aTarget.m01 = m01 - aM.m01;
+		aTarget.m02 = m02 - aM.m02;
+		aTarget.m10 = m10 - aM.m10;
+		aTarget.m11 = m11 - aM.m11;
+		aTarget.m12 = m12 - aM.m12;
+		aTarget.m20 = m20 - aM.m20;
+		aTarget.m21 = m21 - aM.m21;
+		aTarget.m22 = m22 - aM.m22;
+		return aTarget;
+	}
+
+	/**
+	 * Scale.
+	 *
+	 * @param aScale the reference scale
+	 * @return the matrix
+	 */
+	public Matrix3 scale(double aScale)
+	{
+		return scale(aScale, new Matrix3());
+	}
+
+	/**
+	 * Scale, the result is written to the target (no allocation).
+	 *
+	 * @param aScale the reference scale
+	 * @param aTarget the reference target (may be this)
+	 * @return the target
+	 */
+	public Matrix3 scale(double aScale, Matrix3 aTarget)
+	{
+		aTarget.m00 = m00 * aScale;
+		aTarget.m01 = m01 * aScale;
+		aTarget.m02 = m02 * aScale;
+		aTarget.m10 = m10 * aScale;
+		aTarget.m11 = m11 * aScale;
+		aTarget.m12 = m12 * aScale;
+		aTarget.m20 = m20 * aScale;
+		aTarget.m21 = m21 * aScale;
+		aTarget.m22 = m22 * aScale;
+		return aTarget;
+	}
+
+	/**
+	 * Transposed.
+	 *
+	 * @return the matrix
+	 */
+	public Matrix3 transpose()
+	{
+		return transpose(new Matrix3());
+	}
+
+	/**
+	 * Transposed, the result is written to the target (no allocation).
+	 *
+	 * @param aTarget the reference target (may be this)
+	 * @return the target
+	 */
+	public Matrix3 transpose(Matrix3 aTarget)
+	{
+		double l01 = m01;
+		double l02 = m02;
+		double l12 = m12;
+		aTarget.m01 = m10;
+		aTarget.m10 = l01;
+		aTarget.m02 = m20;
+		aTarget.m20 = l02;
+		aTarget.m12 = m21;
+		aTarget.m21 = l12;
+		aTarget.m00 = m00;
+		aTarget.m11 = m11;
+		aTarget.m22 = m22;
+		return aTarget;
+	}
+
+	/**
+	 * Multiplies a vector (out = this*v).
+	 *
+	 * @param aV the reference vector (length 3)
+	 * @param rOut the return output vector (length 3, may be v)
+	 * @return the output vector
+	 */
+	public double[] transform(double[] aV, double[] rOut)
+	{
+		double lV0 = aV[0]; double lV1 = aV[1]; double lV2 = aV[2];
+		rOut[0] = m00 * lV0 + m01 * lV1 + m02 * lV2;
+		rOut[1] = m10 * lV0 + m11 * lV1 + m12 * lV2;
+		rOut[2] = m20 * lV0 + m21 * lV1 + m22 * lV2;
+		return rOut;
+	}
+
+	/**
+	 * Det, closed form (rule of sarrus).
+	 *
+	 * @return the double
+	 */
+	public double det()
+	{
+		return m00 * (m11 * m22 - m12 * m21) - m01 * (m10 * m22 - m12 * m20) + m02 * (m10 * m21 - m11 * m20);
+	}
+
+	/**
+	 * Invert, closed form (adjugate/det).
+	 *
+	 * @return the matrix
+	 * @throws MatrixException if the matrix is singular
+	 */
+	public Matrix3 invert() throws MatrixException
+	{
+		return invert(new Matrix3());
+	}
+
+	/**
+	 * Invert, closed form (adjugate/det), the result is written to the target (no allocation).
+	 *
+	 * @param aTarget the reference target (may be this)
+	 * @return the target
+	 * @throws MatrixException if the matrix is singular (the target is not modified)
+	 */
+	public Matrix3 invert(Matrix3 aTarget) throws MatrixException
+	{
+		// cofactors, transposed (adjugate)
+		double l00 = m11 * m22 - m12 * m21, l01 = m02 * m21 - m01 * m22, l02 = m01 * m12 - m02 * m11;
+		double l10 = m12 * m20 - m10 * m22, l11 = m00 * m22 - m02 * m20, l12 = m02 * m10 - m00 * m12;
+		double l20 = m10 * m21 - m11 * m20, l21 = m01 * m20 - m00 * m21, l22 = m00 * m11 - m01 * m10;
+
+		double lDet = m00 * l00 + m01 * l10 + m02 * l20;
+		if (lDet == 0d) throw new MatrixException("Matrix is singular.");
+
+		double lInv = 1d / lDet;
+		l00 *= lInv; l01 *= lInv; l02 *= lInv;
+		l10 *= lInv; l11 *= lInv; l12 *= lInv;
+		l20 *= lInv; l21 *= lInv; l22 *= lInv;
+
+		aTarget.m00 = l00;
+		aTarget.m01 = l01;
+		aTarget.m02 = l02;
+		aTarget.m10 = l10;
+		aTarget.m11 = l11;
+		aTarget.m12 = l12;
+		aTarget.m20 = l20;
+		aTarget.m21 = l21;
+		aTarget.m22 = l22;
+		return aTarget;
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.matrix.fixed.FixedMatrix#_get(int, int)
+	 */
+	@Override
+	protected double _get(int x, int y)
+	{
+		switch (y * 3 + x)
+		{
+		case 0: return m00;
+		case 1: return m01;
+		case 2: return m02;
+		case 3: return m10;
+		case 4: return m11;
+		case 5: return m12;
+		case 6: return m20;
+		case 7: return m21;
+		case 8: return m22;
+		default: throw new IndexOutOfBoundsException("x=" + x + "; y=" + y);
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.matrix.fixed.FixedMatrix#_set(int, int, double)
+	 */
+	@Override
+	protected void _set(int x, int y, double aValue)
+	{
+		switch (y * 3 + x)
+		{
+		case 0: m00 = aValue; break;
+		case 1: m01 = aValue; break;
+		case 2: m02 = aValue; break;
+		case 3: m10 = aValue; break;
+		case 4: m11 = aValue; break;
+		case 5: m12 = aValue; break;
+		case 6: m20 = aValue; break;
+		case 7: m21 = aValue; break;
+		case 8: m22 = aValue; break;
+		default: throw new IndexOutOfBoundsException("x=" + x + "; y=" + y);
+		}
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////////
+	// FACTORY TOOLS
+	//////////////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Creates a identity.
+	 *
+	 * @return the matrix
+	 */
+	public static Matrix3 createIdentity()
+	{
+		return new Matrix3().setIdentity();
+	}
+
+	/**
+	 * Creates a 3x3 matrix from a generic matrix.
+	 *
+	 * @param aMatrix the reference matrix (3x3)
+	 * @return the matrix
+	 * @throws MatrixException if the size mismatches
+	 */
+	public static Matrix3 createFrom(Matrix<Double> aMatrix) throws MatrixException
+	{
+		Matrix3 rVal = new Matrix3();
+		rVal._setFrom(aMatrix);
+		return rVal;
+	}
+
+	/**
+	 * Creates a 3x3 matrix from a double matrix.
+	 *
+	 * @param aMatrix the reference matrix (3x3)
+	 * @return the matrix
+	 * @throws MatrixDimensionException if the size mismatches
+	 */
+	public static Matrix3 createFrom(DoubleMatrix aMatrix) throws MatrixDimensionException
+	{
+		Matrix3 rVal = new Matrix3();
+		rVal._setFrom(aMatrix);
+		return rVal;
+	}
+}
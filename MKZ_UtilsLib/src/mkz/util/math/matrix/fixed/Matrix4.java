@@ -0,0 +1,562 @@
+/**
+ * File: MKZ_UtilsLib::Matrix4.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.math.matrix.fixed;
+
+import mkz.util.math.matrix.DoubleMatrix;
+import mkz.util.math.matrix.Matrix;
+import mkz.util.math.matrix.debug.MatrixDimensionException;
+import mkz.util.math.matrix.debug.MatrixException;
+
+/**
+ * The Class Matrix4. Mutable 4x4 double matrix with unrolled operations, see {@link FixedMatrix}. The field mYX
+ * holds the value of row y and column x (i.e. get(x,y)).
+ */
+public class Matrix4 extends FixedMatrix
+{
+	/** The member values of row 0. */
+	protected double m00, m01, m02, m03;
+
+	/** The member values of row 1. */
+	protected double m10, m11, m12, m13;
+
+	/** The member values of row 2. */
+	protected double m20, m21, m22, m23;
+
+	/** The member values of row 3. */
+	protected double m30, m31, m32, m33;
+
+	/**
+	 * Instantiates a new matrix filled with zeros.
+	 */
+	public Matrix4()
+	{
+	}
+
+	/**
+	 * Instantiates a new matrix (values in row-major order).
+	 *
+	 * @param a00 the reference value of row 0, column 0
+	 * @param a01 the reference value of row 0, column 1
+	 * @param a02 the reference value of row 0, column 2
+	 * @param a03 the reference value of row 0, column 3
+	 * @param a10 the reference value of row 1, column 0
+	 * @param a11 the reference value of row 1, column 1
+	 * @param a12 the reference value of row 1, column 2
+	 * @param a13 the reference value of row 1, column 3
+	 * @param a20 the reference value of row 2, column 0
+	 * @param a21 the reference value of row 2, column 1
+	 * @param a22 the reference value of row 2, column 2
+	 * @param a23 the reference value of row 2, column 3
+	 * @param a30 the reference value of row 3, column 0
+	 * @param a31 the reference value of row 3, column 1
+	 * @param a32 the reference value of row 3, column 2
+	 * @param a33 the reference value of row 3, column 3
+	 */
+	public Matrix4(double a00, double a01, double a02, double a03, double a10, double a11, double a12, double a13, double a20, double a21, double a22, double a23, double a30, double a31, double a32, double a33)
+	{
+		m00 = a00;
+		m01 = a01;
+		m02 = a02;
+		m03 = a03;
+		m10 = a10;
+		m11 = a11;
+		m12 = a12;
+		m13 = a13;
+		m20 = a20;
+		m21 = a21;
+		m22 = a22;
+		m23 = a23;
+		m30 = a30;
+		m31 = a31;
+		m32 = a32;
+		m33 = a33;
+	}
+
+	/**
+	 * Instantiates a new matrix as copy.
+	 *
+	 * @param aM the reference m
+	 */
+	public Matrix4(Matrix4 aM)
+	{
+		set(aM);
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.matrix.fixed.FixedMatrix#getSize()
+	 */
+	@Override
+	public int getSize()
+	{
+		return 4;
+	}
+
+	/**
+	 * Sets all values to the values of m.
+	 *
+	 * @param aM the reference m
+	 * @return this
+	 */
+	public Matrix4 set(Matrix4 aM)
+	{
+		m00 = aM.m00;
+		m01 = aM.m01;
+		m02 = aM.m02;
+		m03 = aM.m03;
+		m10 = aM.m10;
+		m11 = aM.m11;
+		m12 = aM.m12;
+		m13 = aM.m13;
+		m20 = aM.m20;
+		m21 = aM.m21;
+		m22 = aM.m22;
+		m23 = aM.m23;
+		m30 = aM.m30;
+		m31 = aM.m31;
+		m32 = aM.m32;
+		m33 = aM.m33;
+		return this;
+	}
+
+	/**
+	 * Sets this matrix to the identity.
+	 *
+	 * @return this
+	 */
+	public Matrix4 setIdentity()
+	{
+		m00 = 1d;
+		m01 = 0d;
+		m02 = 0d;
+		m03 = 0d;
+		m10 = 0d;
+		m11 = 1d;
+		m12 = 0d;
+		m13 = 0d;
+		m20 = 0d;
+		m21 = 0d;
+		m22 = 1d;
+		m23 = 0d;
+		m30 = 0d;
+		m31 = 0d;
+		m32 = 0d;
+		m33 = 1d;
+		return this;
+	}
+
+	/**
+	 * Mpl (this*m).
+	 *
+	 * @param aM the reference m
+	 * @return the matrix
+	 */
+	public Matrix4 mpl(Matrix4 aM)
+	{
+		return mpl(aM, new Matrix4());
+	}
+
+	/**
+	 * Mpl (this*m), the result is written to the target (no allocation).
+	 *
+	 * @param aM the reference m
+	 * @param aTarget the reference target (may be this or m)
+	 * @return the target
+	 */
+	public Matrix4 mpl(Matrix4 aM, Matrix4 aTarget)
+	{
+		double l00 = m00 * aM.m00 + m01 * aM.m10 + m02 * aM.m20 + m03 * aM.m30;
+		double l01 = m00 * aM.m01 + m01 * aM.m11 + m02 * aM.m21 + m03 * aM.m31;
+		double l02 = m00 * aM.m02 + m01 * aM.m12 + m02 * aM.m22 + m03 * aM.m32;
+		double l03 = m00 * aM.m03 + m01 * aM.m13 + m02 * aM.m23 + m03 * aM.m33;
+		double l10 = m10 * aM.m00 + m11 * aM.m10 + m12 * aM.m20 + m13 * aM.m30;
+		double l11 = m10 * aM.m01 + m11 * aM.m11 + m12 * aM.m21 + m13 * aM.m31;
+		double l12 = m10 * aM.m02 + m11 * aM.m12 + m12 * aM.m22 + m13 * aM.m32;
+		double l13 = m10 * aM.m03 + m11 * aM.m13 + m12 * aM.m23 + m13 * aM.m33;
+		double l20 = m20 * aM.m00 + m21 * aM.m10 + m22 * aM.m20 + m23 * aM.m30;
+		double l21 = m20 * aM.m01 + m21 * aM.m11 + m22 * aM.m21 + m23 * aM.m31;
+		double l22 = m20 * aM.m02 + m21 * aM.m12 + m22 * aM.m22 + m23 * aM.m32;
+		double l23 = m20 * aM.m03 + m21 * aM.m13 + m22 * aM.m23 + m23 * aM.m33;
+		double l30 = m30 * aM.m00 + m31 * aM.m10 + m32 * aM.m20 + m33 * aM.m30;
+		double l31 = m30 * aM.m01 + m31 * aM.m11 + m32 * aM.m21 + m33 * aM.m31;
+		double l32 = m30 * aM.m02 + m31 * aM.m12 + m32 * aM.m22 + m33 * aM.m32;
+		double l33 = m30 * aM.m03 + m31 * aM.m13 + m32 * aM.m23 + m33 * aM.m33;
+		aTarget.m00 = l00;
+		aTarget.m01 = l01;
+		aTarget.m02 = l02;
+		aTarget.m03 = l03;
+		aTarget.m10 = l10;
+		aTarget.m11 = l11;
+		aTarget.m12 = l12;
+		aTarget.m13 = l13;
+		aTarget.m20 = l20;
+		aTarget.m21 = l21;
+		aTarget.m22 = l22;
+		aTarget.m23 = l23;
+		aTarget.m30 = l30;
+		aTarget.m31 = l31;
+		aTarget.m32 = l32;
+		aTarget.m33 = l33;
+		return aTarget;
+	}
+
+	/**
+	 * Adds the.
+	 *
+	 * @param aM the reference m
+	 * @return the matrix
+	 */
+	public Matrix4 add(Matrix4 aM)
+	{
+		return add(aM, new Matrix4());
+	}
+
+	/**
+	 * Adds the, the result is written to the target (no allocation).
+	 *
+	 * @param aM the reference m
+	 * @param aTarget the reference target (may be this or m)
+	 * @return the target
+	 */
+	public Matrix4 add(Matrix4 aM, Matrix4 aTarget)
+	{
+		aTarget.m00 = m00 + aM.m00;
+		aTarget.m01 = m01 + aM.m01;
+		aTarget.m02 = m02 + aM.m02;
+		aTarget.m03 = m03 + aM.m03;
+		aTarget.m10 = m10 + aM.m10;
+		aTarget.m11 = m11 + aM.m11;
+		aTarget.m12 = m12 + aM.m12;
+		aTarget.m13 = m13 + aM.m13;
+		aTarget.m20 = m20 + aM.m20;
+		aTarget.m21 = m21 + aM.m21;
+		aTarget.m22 = m22 + aM.m22;
+		aTarget.m23 = m23 + aM.m23;
+		aTarget.m30 = m30 + aM.m30;
+		aTarget.m31 = m31 + aM.m31;
+		aTarget.m32 = m32 + aM.m32;
+		aTarget.m33 = m33 + aM.m33;
+		return aTarget;
+	}
+
+	/**
+	 * Sub.
+	 *
+	 * @param aM the reference m
+	 * @return the matrix
+	 */
+	public Matrix4 sub(Matrix4 aM)
+	{
+		return sub(aM, new Matrix4());
+	}
+
+	/**
+	 * Sub, the result is written to the target (no allocation).
+	 *
+	 * @param aM the reference m
+	 * @param aTarget the reference target (may be this or m)
+	 * @return the target
+	 */
+	public Matrix4 sub(Matrix4 aM, Matrix4 aTarget)
+	{
+		aTarget.m00 = m00 - aM.m00;
+		aTarget.m01 = m01 - aM.m01;
+		aTarget.m02 = m02 - aM.m02;
+		aTarget.m03 = m03 - aM.m03;
+		aTarget.m10 = m10 - aM.m10;
+		aTarget.m11 = m11 - aM.m11;
+		aTarget.m12 = m12 - aM.m12;
+		aTarget.m13 = m13 - aM.m13;
+		aTarget.m20 = m20 - aM.m20;
+		aTarget.m21 = m21 - aM.m21;
+		aTarget.m22 = m22 - aM.m22;
+		aTarget.m23 = m23 - aM.m23;
+		aTarget.m30 = m30 - aM.m30;
+		aTarget.m31 = m31 - aM.m31;
+		aTarget.m32 = m32 - aM.m32;
+		aTarget.m33 = m33 - aM.m33;
+		return aTarget;
+	}
+
+	/**
+	 * Scale.
+	 *
+	 * @param aScale the reference scale
+	 * @return the matrix
+	 */
+	public Matrix4 scale(double aScale)
+	{
+		return scale(aScale, new Matrix4());
+	}
+
+	/**
+	 * Scale, the result is written to the target (no allocation).
+	 *
+	 * @param aScale the reference scale
+	 * @param aTarget the reference target (may be this)
+	 * @return the target
+	 */
+	public Matrix4 scale(double aScale, Matrix4 aTarget)
+	{
+		aTarget.m00 = m00 * aScale;
+		aTarget.m01 = m01 * aScale;
+		aTarget.m02 = m02 * aScale;
+		aTarget.m03 = m03 * aScale;
+		aTarget.m10 = m10 * aScale;
+		aTarget.m11 = m11 * aScale;
+		aTarget.m12 = m12 * aScale;
+		aTarget.m13 = m13 * aScale;
+		aTarget.m20 = m20 * aScale;
+		aTarget.m21 = m21 * aScale;
+		aTarget.m22 = m22 * aScale;
+		aTarget.m23 = m23 * aScale;
+		aTarget.m30 = m30 * aScale;
+		aTarget.m31 = m31 * aScale;
+		aTarget.m32 = m32 * aScale;
+		aTarget.m33 = m33 * aScale;
+		return aTarget;
+	}
+
+	/**
+	 * Transposed.
+	 *
+	 * @return the matrix
+	 */
+	public Matrix4 transpose()
+	{
+		return transpose(new Matrix4());
+	}
+
+	/**
+	 * Transposed, the result is written to the target (no allocation).
+	 *
+	 * @param aTarget the reference target (may be this)
+	 * @return the target
+	 */
+	public Matrix4 transpose(Matrix4 aTarget)
+	{
+		double l01 = m01;
+		double l02 = m02;
+		double l03 = m03;
+		double l12 = m12;
+		double l13 = m13;
+		double l23 = m23;
+		aTarget.m01 = m10;
+		aTarget.m10 = l01;
+		aTarget.m02 = m20;
+		aTarget.m20 = l02;
+		aTarget.m03 = m30;
+		aTarget.m30 = l03;
+		aTarget.m12 = m21;
+		aTarget.m21 = l12;
+		aTarget.m13 = m31;
+		aTarget.m31 = l13;
+		aTarget.m23 = m32;
+		aTarget.m32 = l23;
+		aTarget.m00 = m00;
+		aTarget.m11 = m11;
+		aTarget.m22 = m22;
+		aTarget.m33 = m33;
+		return aTarget;
+	}
+
+	/**
+	 * Multiplies a vector (out = this*v).
+	 *
+	 * @param aV the reference vector (length 4)
+	 * @param rOut the return output vector (length 4, may be v)
+	 * @return the output vector
+	 */
+	public double[] transform(double[] aV, double[] rOut)
+	{
+		double lV0 = aV[0]; double lV1 = aV[1]; double lV2 = aV[2]; double lV3 = aV[3];
+		rOut[0] = m00 * lV0 + m01 * lV1 + m02 * lV2 + m03 * lV3;
+		rOut[1] = m10 * lV0 + m11 * lV1 + m12 * lV2 + m13 * lV3;
+		rOut[2] = m20 * lV0 + m21 * lV1 + m22 * lV2 + m23 * lV3;
+		rOut[3] = m30 * lV0 + m31 * lV1 + m32 * lV2 + m33 * lV3;
+		return rOut;
+	}
+
+	/**
+	 * Det, closed form (laplace expansion by 2x2 determinants of the upper and lower two rows).
+	 *
+	 * @return the double
+	 */
+	public double det()
+	{
+		// 2x2 determinants of the upper (s) and lower (c) two rows
+		double lS0 = m00 * m11 - m10 * m01, lS1 = m00 * m12 - m10 * m02, lS2 = m00 * m13 - m10 * m03;
+		double lS3 = m01 * m12 - m11 * m02, lS4 = m01 * m13 - m11 * m03, lS5 = m02 * m13 - m12 * m03;
+		double lC5 = m22 * m33 - m32 * m23, lC4 = m21 * m33 - m31 * m23, lC3 = m21 * m32 - m31 * m22;
+		double lC2 = m20 * m33 - m30 * m23, lC1 = m20 * m32 - m30 * m22, lC0 = m20 * m31 - m30 * m21;
+
+		return lS0 * lC5 - lS1 * lC4 + lS2 * lC3 + lS3 * lC2 - lS4 * lC1 + lS5 * lC0;
+	}
+
+	/**
+	 * Invert, closed form (adjugate/det).
+	 *
+	 * @return the matrix
+	 * @throws MatrixException if the matrix is singular
+	 */
+	public Matrix4 invert() throws MatrixException
+	{
+		return invert(new Matrix4());
+	}
+
+	/**
+	 * Invert, closed form (adjugate/det), the result is written to the target (no allocation).
+	 *
+	 * @param aTarget the reference target (may be this)
+	 * @return the target
+	 * @throws MatrixException if the matrix is singular (the target is not modified)
+	 */
+	public Matrix4 invert(Matrix4 aTarget) throws MatrixException
+	{
+		// 2x2 determinants of the upper (s) and lower (c) two rows
+		double lS0 = m00 * m11 - m10 * m01, lS1 = m00 * m12 - m10 * m02, lS2 = m00 * m13 - m10 * m03;
+		double lS3 = m01 * m12 - m11 * m02, lS4 = m01 * m13 - m11 * m03, lS5 = m02 * m13 - m12 * m03;
+		double lC5 = m22 * m33 - m32 * m23, lC4 = m21 * m33 - m31 * m23, lC3 = m21 * m32 - m31 * m22;
+		double lC2 = m20 * m33 - m30 * m23, lC1 = m20 * m32 - m30 * m22, lC0 = m20 * m31 - m30 * m21;
+
+		double lDet = lS0 * lC5 - lS1 * lC4 + lS2 * lC3 + lS3 * lC2 - lS4 * lC1 + lS5 * lC0;
+		if (lDet == 0d) throw new MatrixException("Matrix is singular.");
+
+		double lInv = 1d / lDet;
+		double l00 = (m11 * lC5 - m12 * lC4 + m13 * lC3) * lInv;
+		double l01 = (-m01 * lC5 + m02 * lC4 - m03 * lC3) * lInv;
+		double l02 = (m31 * lS5 - m32 * lS4 + m33 * lS3) * lInv;
+		double l03 = (-m21 * lS5 + m22 * lS4 - m23 * lS3) * lInv;
+		double l10 = (-m10 * lC5 + m12 * lC2 - m13 * lC1) * lInv;
+		double l11 = (m00 * lC5 - m02 * lC2 + m03 * lC1) * lInv;
+		double l12 = (-m30 * lS5 + m32 * lS2 - m33 * lS1) * lInv;
+		double l13 = (m20 * lS5 - m22 * lS2 + m23 * lS1) * lInv;
+		double l20 = (m10 * lC4 - m11 * lC2 + m13 * lC0) * lInv;
+		double l21 = (-m00 * lC4 + m01 * lC2 - m03 * lC0) * lInv;
+		double l22 = (m30 * lS4 - m31 * lS2 + m33 * lS0) * lInv;
+		double l23 = (-m20 * lS4 + m21 * lS2 - m23 * lS0) * lInv;
+		double l30 = (-m10 * lC3 + m11 * lC1 - m12 * lC0) * lInv;
+		double l31 = (m00 * lC3 - m01 * lC1 + m02 * lC0) * lInv;
+		double l32 = (-m30 * lS3 + m31 * lS1 - m32 * lS0) * lInv;
+		double l33 = (m20 * lS3 - m21 * lS1 + m22 * lS0) * lInv;
+
+		aTarget.m00 = l00;
+		aTarget.m01 = l01;
+		aTarget.m02 = l02;
+		aTarget.m03 = l03;
+		aTarget.m10 = l10;
+		aTarget.m11 = l11;
+		aTarget.m12 = l12;
+		aTarget.m13 = l13;
+		aTarget.m20 = l20;
+		aTarget.m21 = l21;
+		aTarget.m22 = l22;
+		aTarget.m23 = l23;
+		aTarget.m30 = l30;
+		aTarget.m31 = l31;
+		aTarget.m32 = l32;
+		aTarget.m33 = l33;
+		return aTarget;
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.matrix.fixed.FixedMatrix#_get(int, int)
+	 */
+	@Override
+	protected double _get(int x, int y)
+	{
+		switch (y * 4 + x)
+		{
+		case 0: return m00;
+		case 1: return m01;
+		case 2: return m02;
+		case 3: return m03;
+		case 4: return m10;
+		case 5: return m11;
+		case 6: return m12;
+		case 7: return m13;
+		case 8: return m20;
+		case 9: return m21;
+		case 10: return m22;
+		case 11: return m23;
+		case 12: return m30;
+		case 13: return m31;
+		case 14: return m32;
+		case 15: return m33;
+		default: throw new IndexOutOfBoundsException("x=" + x + "; y=" + y);
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.matrix.fixed.FixedMatrix#_set(int, int, double)
+	 */
+	@Override
+	protected void _set(int x, int y, double aValue)
+	{
+		switch (y * 4 + x)
+		{
+		case 0: m00 = aValue; break;
+		case 1: m01 = aValue; break;
+		case 2: m02 = aValue; break;
+		case 3: m03 = aValue; break;
+		case 4: m10 = aValue; break;
+		case 5: m11 = aValue; break;
+		case 6: m12 = aValue; break;
+		case 7: m13 = aValue; break;
+		case 8: m20 = aValue; break;
+		case 9: m21 = aValue; break;
+		case 10: m22 = aValue; break;
+		case 11: m23 = aValue; break;
+		case 12: m30 = aValue; break;
+		case 13: m31 = aValue; break;
+		case 14: m32 = aValue; break;
+		case 15: m33 = aValue; break;
+		default: throw new IndexOutOfBoundsException("x=" + x + "; y=" + y);
+		}
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////////
+	// FACTORY TOOLS
+	//////////////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Creates a identity.
+	 *
+	 * @return the matrix
+	 */
+	public static Matrix4 createIdentity()
+	{
+		return new Matrix4().setIdentity();
+	}
+
+	/**
+	 * Creates a 4x4 matrix from a generic matrix.
+	 *
+	 * @param aMatrix the reference matrix (4x4)
+	 * @return the matrix
+	 * @throws MatrixException if the size mismatches
+	 */
+	public static Matrix4 createFrom(Matrix<Double> aMatrix) throws MatrixException
+	{
+		Matrix4 rVal = new Matrix4();
+		rVal._setFrom(aMatrix);
+		return rVal;
+	}
+
+	/**
+	 * Creates a 4x4 matrix from a double matrix.
+	 *
+	 * @param aMatrix the reference matrix (4x4)
+	 * @return the matrix
+	 * @throws MatrixDimensionException if the size mismatches
+	 */
+	public static Matrix4 createFrom(DoubleMatrix aMatrix) throws MatrixDimensionException
+	{
+		Matrix4 rVal = new Matrix4();
+		rVal._setFrom(aMatrix);
+		return rVal;
+	}
+}
@@ -0,0 +1,182 @@
+/**
+ * File: MKZ_UtilsLib::BareissElimination.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.math.matrix.op;
+
+import java.math.BigInteger;
+
+import mkz.util.math.AOP;
+import mkz.util.math.op.ArithmeticOperator;
+
+/**
+ * The Class BareissElimination. Fraction-free (Bareiss) elimination, used by the
+ * {@link mkz.util.math.matrix.op.MatrixOperator.EliminationMode#BAREISS BAREISS} mode of the
+ * {@link mkz.util.math.matrix.op.MatrixOperator MatrixOperator}. Every row operation is
+ * row[i] = (pivot*row[i] - row[i][k]*row[p]) / previous pivot, the division is always exact (the entries are minors
+ * of the input), so the entries of exact types (int, BigDecimal) stay bounded by the size of the determinant instead
+ * of growing exponentially as with plain cross multiplication. The products pivot*row[i] are bigger than the entries
+ * (product of two minors), for {@link mkz.util.math.AOP#INT AOP::INT} and {@link mkz.util.math.AOP#LONG AOP::LONG}
+ * they are computed without overflow (long, BigInteger if needed), so the result is exact as long as it fits the type.
+ *
+ * @param <T> the generic type
+ */
+final class BareissElimination<T>
+{
+	/** The member op. */
+	private final ArithmeticOperator<T> mOp;
+
+	/** The member rows (modified in place). */
+	private final Object[][] mRows;
+
+	/** The member rank (number of pivots found). */
+	private int mRank = 0;
+
+	/** The member fixed width flag (AOP.INT or AOP.LONG, computed in long). */
+	private final boolean mFixedWidth;
+
+	/** The member even permutation (false if an odd number of rows has been swapped). */
+	private boolean mEvenPermutation = true;
+
+	/**
+	 * Instantiates a new bareiss elimination, the rows are modified in place.
+	 *
+	 * @param aOp the reference arithmetic operator
+	 * @param aRows the reference rows (same length)
+	 */
+	BareissElimination(ArithmeticOperator<T> aOp, Object[][] aRows)
+	{
+		mOp = aOp;
+		mRows = aRows;
+		mFixedWidth = aOp == AOP.INT || aOp == AOP.LONG;
+	}
+
+	/**
+	 * Eliminates the columns 0..aCols-1. In echelon mode the entries below the pivots become zero (the last pivot
+	 * of a square matrix is its determinant), in reduced mode also the entries above (fraction-free Gauss-Jordan, all
+	 * pivots become the last pivot, i.e. [A|I] becomes [det*I|adj(A)] for a regular A).
+	 *
+	 * @param aCols the reference number of columns to eliminate
+	 * @param isReduced if true, the entries above the pivots are eliminated too
+	 * @return the rank
+	 */
+	@SuppressWarnings("unchecked")
+	int eliminate(int aCols, boolean isReduced)
+	{
+		int lSizeY = mRows.length;
+		T lPrev = mOp.getOne();
+
+		for (int iK = 0; iK < aCols && mRank < lSizeY; iK++)
+		{
+			int lPivotRow = _findPivot(iK);
+			if (lPivotRow < 0) continue;
+
+			if (lPivotRow != mRank)
+			{
+				Object[] lRow = mRows[mRank];
+				mRows[mRank] = mRows[lPivotRow];
+				mRows[lPivotRow] = lRow;
+				mEvenPermutation = !mEvenPermutation;
+			}
+
+			Object[] lRowP = mRows[mRank];
+			T lPivot = (T) lRowP[iK];
+
+			for (int iY = isReduced ? 0 : mRank + 1; iY < lSizeY; iY++)
+			{
+				if (iY == mRank) continue;
+
+				// rows with a zero in the pivot column still have to be scaled by pivot/prev
+				Object[] lRowC = mRows[iY];
+				T lCur = (T) lRowC[iK];
+				for (int iX = isReduced ? 0 : iK + 1; iX < lRowC.length; iX++)
+				{
+					if (iX == iK) continue;
+					lRowC[iX] = _step(lPivot, (T) lRowC[iX], lCur, (T) lRowP[iX], lPrev);
+				}
+				lRowC[iK] = mOp.getZero();
+			}
+
+			lPrev = lPivot;
+			mRank++;
+		}
+
+		return mRank;
+	}
+
+	/**
+	 * Determinant of the eliminated (square) matrix, last pivot (negated for an odd permutation) or zero
+	 * if the matrix is singular.
+	 *
+	 * @return the t
+	 */
+	@SuppressWarnings("unchecked")
+	T det()
+	{
+		if (mRank < mRows.length) return mOp.getZero();
+
+		T rVal = (T) mRows[mRows.length - 1][mRows.length - 1];
+		return mEvenPermutation ? rVal : mOp.sub(mOp.getZero(), rVal);
+	}
+
+	/**
+	 * [restricted] One step of the elimination, (aPivot*aVal - aCur*aPivotVal) / aPrev.
+	 *
+	 * @param aPivot the reference pivot
+	 * @param aVal the reference value of the current row
+	 * @param aCur the reference value of the current row in the pivot column
+	 * @param aPivotVal the reference value of the pivot row
+	 * @param aPrev the reference previous pivot
+	 * @return the t
+	 */
+	@SuppressWarnings("unchecked")
+	private T _step(T aPivot, T aVal, T aCur, T aPivotVal, T aPrev)
+	{
+		if (!mFixedWidth) return mOp.div(mOp.sub(mOp.mpl(aPivot, aVal), mOp.mpl(aCur, aPivotVal)), aPrev);
+
+		long rVal = step(((Number) aPivot).longValue(), ((Number) aVal).longValue(), ((Number) aCur).longValue(), ((Number) aPivotVal).longValue(), ((Number) aPrev).longValue());
+		return (T) (mOp == AOP.INT ? (Object) (int) rVal : (Object) rVal);
+	}
+
+	/**
+	 * One step of the elimination in long, (aPivot*aVal - aCur*aPivotVal) / aPrev. The products are computed in
+	 * BigInteger if they overflow, the result is truncated to long.
+	 *
+	 * @param aPivot the reference pivot
+	 * @param aVal the reference value of the current row
+	 * @param aCur the reference value of the current row in the pivot column
+	 * @param aPivotVal the reference value of the pivot row
+	 * @param aPrev the reference previous pivot
+	 * @return the long
+	 */
+	static long step(long aPivot, long aVal, long aCur, long aPivotVal, long aPrev)
+	{
+		try
+		{
+			return Math.subtractExact(Math.multiplyExact(aPivot, aVal), Math.multiplyExact(aCur, aPivotVal)) / aPrev;
+		}
+		catch (ArithmeticException e)
+		{
+			BigInteger lNum = BigInteger.valueOf(aPivot).multiply(BigInteger.valueOf(aVal)).subtract(BigInteger.valueOf(aCur).multiply(BigInteger.valueOf(aPivotVal)));
+			return lNum.divide(BigInteger.valueOf(aPrev)).longValue();
+		}
+	}
+
+	/**
+	 * [restricted] Finds the first row (starting at the rank) with a non zero value in column aK.
+	 *
+	 * @param aK the reference column
+	 * @return the pivot row, -1 if all candidates are zero
+	 */
+	@SuppressWarnings("unchecked")
+	private int _findPivot(int aK)
+	{
+		for (int iY = mRank; iY < mRows.length; iY++)
+		{
+			if (mOp.compare((T) mRows[iY][aK], mOp.getZero()) != 0) return iY;
+		}
+		return -1;
+	}
+}
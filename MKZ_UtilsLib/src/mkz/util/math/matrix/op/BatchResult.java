@@ -0,0 +1,136 @@
+/**
+ * File: MKZ_UtilsLib::BatchResult.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.math.matrix.op;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The Class BatchResult. Results of a batch of independent operations in the order of the inputs, see
+ * {@link mkz.util.math.matrix.op.MatrixOperator#batch(List, mkz.util.math.matrix.op.definition.IMatrixOperation) MatrixOperator::batch}.
+ * An operation that failed (e.g. {@link mkz.util.math.matrix.debug.MatrixDimensionException MatrixDimensionException},
+ * singular matrix) has no result but its exception, the other operations are not affected.
+ *
+ * @param <R> the type of the results
+ */
+public class BatchResult<R>
+{
+	/** The member results (null for failed operations). */
+	private final Object[] mResults;
+
+	/** The member errors (null for successful operations). */
+	private final Exception[] mErrors;
+
+	/**
+	 * Instantiates a new batch result.
+	 *
+	 * @param aResults the reference results
+	 * @param aErrors the reference errors
+	 */
+	BatchResult(Object[] aResults, Exception[] aErrors)
+	{
+		mResults = aResults;
+		mErrors = aErrors;
+	}
+
+	/**
+	 * Gets the number of operations.
+	 *
+	 * @return the size
+	 */
+	public int size()
+	{
+		return mResults.length;
+	}
+
+	/**
+	 * Gets the result of an operation.
+	 *
+	 * @param aIndex the reference index (of the input)
+	 * @return the result, null if the operation failed
+	 */
+	@SuppressWarnings("unchecked")
+	public R get(int aIndex)
+	{
+		return (R) mResults[aIndex];
+	}
+
+	/**
+	 * Gets the exception of an operation.
+	 *
+	 * @param aIndex the reference index (of the input)
+	 * @return the exception, null if the operation succeeded
+	 */
+	public Exception getError(int aIndex)
+	{
+		return mErrors[aIndex];
+	}
+
+	/**
+	 * Checks if an operation failed.
+	 *
+	 * @param aIndex the reference index (of the input)
+	 * @return true, if is failed
+	 */
+	public boolean isFailed(int aIndex)
+	{
+		return mErrors[aIndex] != null;
+	}
+
+	/**
+	 * Gets the number of failed operations.
+	 *
+	 * @return the failure count
+	 */
+	public int getFailureCount()
+	{
+		int rVal = 0;
+		for (Exception iError : mErrors)
+		{
+			if (iError != null) rVal++;
+		}
+		return rVal;
+	}
+
+	/**
+	 * Checks if all operations succeeded.
+	 *
+	 * @return true, if is success
+	 */
+	public boolean isSuccess()
+	{
+		return getFailureCount() == 0;
+	}
+
+	/**
+	 * Gets all results in the order of the inputs (null for failed operations).
+	 *
+	 * @return the results (unmodifiable)
+	 */
+	@SuppressWarnings("unchecked")
+	public List<R> getResults()
+	{
+		return Collections.unmodifiableList((List<R>) Arrays.asList(mResults.clone()));
+	}
+
+	/**
+	 * Gets the indices of the failed operations.
+	 *
+	 * @return the failed indices
+	 */
+	public List<Integer> getFailedIndices()
+	{
+		List<Integer> rVal = new ArrayList<Integer>();
+		for (int i = 0; i < mErrors.length; i++)
+		{
+			if (mErrors[i] != null) rVal.add(i);
+		}
+		return rVal;
+	}
+}
@@ -0,0 +1,561 @@
+/**
+ * File: MKZ_UtilsLib::BuiltinKernels.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.math.matrix.op;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import mkz.util.math.AOP;
+import mkz.util.math.op.ArithmeticOperator;
+
+/**
+ * The Class BuiltinKernels. Primitive kernels of the {@link mkz.util.math.matrix.op.MatrixOperator MatrixOperator}
+ * for the predefined operators {@link mkz.util.math.AOP#INT AOP::INT}, {@link mkz.util.math.AOP#LONG AOP::LONG},
+ * {@link mkz.util.math.AOP#FLOAT AOP::FLOAT} and {@link mkz.util.math.AOP#DOUBLE AOP::DOUBLE}. Their functions are
+ * known to be the plain java operators, so the kernels work on unboxed arrays with +,-,*,/ instead of calling the
+ * lambdas of the operator. Every kernel performs the same operations in the same order as the generic
+ * implementation (including its zero checks, e.g. -0.0 is not zero for equals), so the results are identical.
+ */
+final class BuiltinKernels
+{
+	/**
+	 * The predefined operator types with kernels.
+	 */
+	static enum Type
+	{
+		/** {@link mkz.util.math.AOP#INT AOP::INT}. */
+		INT,
+		/** {@link mkz.util.math.AOP#LONG AOP::LONG}. */
+		LONG,
+		/** {@link mkz.util.math.AOP#FLOAT AOP::FLOAT}. */
+		FLOAT,
+		/** {@link mkz.util.math.AOP#DOUBLE AOP::DOUBLE}. */
+		DOUBLE
+	}
+
+	/**
+	 * Instantiates a new builtin kernels.
+	 */
+	private BuiltinKernels()
+	{
+	}
+
+	/**
+	 * Gets the type of a predefined operator (identity, operators created by the user are never recognized).
+	 *
+	 * @param aOp the reference operator
+	 * @return the type, null if the operator is not predefined
+	 */
+	static Type of(ArithmeticOperator<?> aOp)
+	{
+		if (aOp == AOP.DOUBLE) return Type.DOUBLE;
+		if (aOp == AOP.INT) return Type.INT;
+		if (aOp == AOP.LONG) return Type.LONG;
+		if (aOp == AOP.FLOAT) return Type.FLOAT;
+		return null;
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////////
+	// ELEMENT-WISE
+	//////////////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Gets the add function.
+	 *
+	 * @param <T> the generic type
+	 * @param aType the reference type
+	 * @return the add function
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> BiFunction<T, T, T> add(Type aType)
+	{
+		switch (aType)
+		{
+			case INT: return (a, b) -> (T) (Integer) ((Integer) a + (Integer) b);
+			case LONG: return (a, b) -> (T) (Long) ((Long) a + (Long) b);
+			case FLOAT: return (a, b) -> (T) (Float) ((Float) a + (Float) b);
+			default: return (a, b) -> (T) (Double) ((Double) a + (Double) b);
+		}
+	}
+
+	/**
+	 * Gets the sub function.
+	 *
+	 * @param <T> the generic type
+	 * @param aType the reference type
+	 * @return the sub function
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> BiFunction<T, T, T> sub(Type aType)
+	{
+		switch (aType)
+		{
+			case INT: return (a, b) -> (T) (Integer) ((Integer) a - (Integer) b);
+			case LONG: return (a, b) -> (T) (Long) ((Long) a - (Long) b);
+			case FLOAT: return (a, b) -> (T) (Float) ((Float) a - (Float) b);
+			default: return (a, b) -> (T) (Double) ((Double) a - (Double) b);
+		}
+	}
+
+	/**
+	 * Gets the scale function (the scale is unboxed once).
+	 *
+	 * @param <T> the generic type
+	 * @param aType the reference type
+	 * @param aScale the reference scale
+	 * @return the scale function
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> Function<T, T> scale(Type aType, T aScale)
+	{
+		switch (aType)
+		{
+			case INT:
+			{
+				int lScale = (Integer) aScale;
+				return (a) -> (T) (Integer) ((Integer) a * lScale);
+			}
+			case LONG:
+			{
+				long lScale = (Long) aScale;
+				return (a) -> (T) (Long) ((Long) a * lScale);
+			}
+			case FLOAT:
+			{
+				float lScale = (Float) aScale;
+				return (a) -> (T) (Float) ((Float) a * lScale);
+			}
+			default:
+			{
+				double lScale = (Double) aScale;
+				return (a) -> (T) (Double) ((Double) a * lScale);
+			}
+		}
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////////
+	// CROSS ELIMINATION (FLOAT, DOUBLE)
+	//////////////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Ltm by cross multiplication (see {@link mkz.util.math.matrix.op.MatrixOperator#ltm(mkz.util.math.matrix.Matrix) MatrixOperator::ltm}).
+	 *
+	 * @param aType the reference type (FLOAT or DOUBLE)
+	 * @param aSorted the reference rows sorted by the ltm sort (sizeX &gt;= sizeY-1)
+	 * @return the eliminated rows
+	 */
+	static Object[][] ltmCross(Type aType, Object[][] aSorted)
+	{
+		if (aType == Type.FLOAT)
+		{
+			float[][] lRows = PrimitiveMpl.unboxFloat(aSorted);
+			_crossForward(lRows);
+			return PrimitiveMpl.box(lRows);
+		}
+
+		double[][] lRows = PrimitiveMpl.unboxDouble(aSorted);
+		_crossForward(lRows);
+		return PrimitiveMpl.box(lRows);
+	}
+
+	/**
+	 * Invert by cross multiplication (see {@link mkz.util.math.matrix.op.MatrixOperator#invert(mkz.util.math.matrix.Matrix) MatrixOperator::invert}).
+	 *
+	 * @param aType the reference type (FLOAT or DOUBLE)
+	 * @param aSorted the reference rows of [A|I] sorted by the ltm sort
+	 * @param aSize the reference size of A
+	 * @return the rows of the inverse
+	 */
+	static Object[][] invertCross(Type aType, Object[][] aSorted, int aSize)
+	{
+		if (aType == Type.FLOAT)
+		{
+			float[][] lRows = PrimitiveMpl.unboxFloat(aSorted);
+			_crossForward(lRows);
+			for (int iYP = aSize - 1; iYP > 0; iYP--)
+			{
+				float lPivot = lRows[iYP][iYP];
+				if (_isZero(lPivot)) continue;
+				for (int iYC = iYP - 1; iYC >= 0; iYC--) _crossRow(lRows[iYC], lRows[iYP], lPivot, iYP);
+			}
+
+			float[][] lInverse = new float[aSize][aSize];
+			for (int iY = 0; iY < aSize; iY++)
+			{
+				float lDivisor = lRows[iY][iY];
+				for (int iX = 0; iX < aSize; iX++) lInverse[iY][iX] = lRows[iY][aSize + iX] / lDivisor;
+			}
+			return PrimitiveMpl.box(lInverse);
+		}
+
+		double[][] lRows = PrimitiveMpl.unboxDouble(aSorted);
+		_crossForward(lRows);
+		for (int iYP = aSize - 1; iYP > 0; iYP--)
+		{
+			double lPivot = lRows[iYP][iYP];
+			if (_isZero(lPivot)) continue;
+			for (int iYC = iYP - 1; iYC >= 0; iYC--) _crossRow(lRows[iYC], lRows[iYP], lPivot, iYP);
+		}
+
+		double[][] lInverse = new double[aSize][aSize];
+		for (int iY = 0; iY < aSize; iY++)
+		{
+			double lDivisor = lRows[iY][iY];
+			for (int iX = 0; iX < aSize; iX++) lInverse[iY][iX] = lRows[iY][aSize + iX] / lDivisor;
+		}
+		return PrimitiveMpl.box(lInverse);
+	}
+
+	/**
+	 * [restricted] Eliminates below the diagonal, row = row*pivot - pivotRow*cur.
+	 *
+	 * @param aRows the reference rows (modified)
+	 */
+	private static void _crossForward(double[][] aRows)
+	{
+		for (int iYP = 0; iYP < aRows.length - 1; iYP++)
+		{
+			double lPivot = aRows[iYP][iYP];
+			if (_isZero(lPivot)) continue;
+			for (int iYC = iYP + 1; iYC < aRows.length; iYC++) _crossRow(aRows[iYC], aRows[iYP], lPivot, iYP);
+		}
+	}
+
+	/**
+	 * [restricted] Eliminates below the diagonal, row = row*pivot - pivotRow*cur.
+	 *
+	 * @param aRows the reference rows (modified)
+	 */
+	private static void _crossForward(float[][] aRows)
+	{
+		for (int iYP = 0; iYP < aRows.length - 1; iYP++)
+		{
+			float lPivot = aRows[iYP][iYP];
+			if (_isZero(lPivot)) continue;
+			for (int iYC = iYP + 1; iYC < aRows.length; iYC++) _crossRow(aRows[iYC], aRows[iYP], lPivot, iYP);
+		}
+	}
+
+	/**
+	 * [restricted] Eliminates the value of a row in the pivot column (skipped if it is zero).
+	 *
+	 * @param aRow the reference row (modified)
+	 * @param aRowP the reference pivot row
+	 * @param aPivot the reference pivot
+	 * @param aCol the reference pivot column
+	 */
+	private static void _crossRow(double[] aRow, double[] aRowP, double aPivot, int aCol)
+	{
+		double lCur = aRow[aCol];
+		if (_isZero(lCur)) return;
+		for (int i = 0; i < aRow.length; i++) aRow[i] = aRow[i] * aPivot - aRowP[i] * lCur;
+	}
+
+	/**
+	 * [restricted] Eliminates the value of a row in the pivot column (skipped if it is zero).
+	 *
+	 * @param aRow the reference row (modified)
+	 * @param aRowP the reference pivot row
+	 * @param aPivot the reference pivot
+	 * @param aCol the reference pivot column
+	 */
+	private static void _crossRow(float[] aRow, float[] aRowP, float aPivot, int aCol)
+	{
+		float lCur = aRow[aCol];
+		if (_isZero(lCur)) return;
+		for (int i = 0; i < aRow.length; i++) aRow[i] = aRow[i] * aPivot - aRowP[i] * lCur;
+	}
+
+	/**
+	 * [restricted] Zero check of the cross elimination, same as Double.equals(0d) (-0.0 is not zero).
+	 *
+	 * @param aValue the reference value
+	 * @return true, if is zero
+	 */
+	private static boolean _isZero(double aValue)
+	{
+		return Double.doubleToLongBits(aValue) == 0L;
+	}
+
+	/**
+	 * [restricted] Zero check of the cross elimination, same as Float.equals(0f) (-0.0 is not zero).
+	 *
+	 * @param aValue the reference value
+	 * @return true, if is zero
+	 */
+	private static boolean _isZero(float aValue)
+	{
+		return Float.floatToIntBits(aValue) == 0;
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////////
+	// LU DETERMINANT (FLOAT, DOUBLE)
+	//////////////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Determinant by LU decomposition with partial pivoting (see {@link mkz.util.math.matrix.decomp.LUDecomposition LUDecomposition}).
+	 *
+	 * @param aType the reference type (FLOAT or DOUBLE)
+	 * @param aData the reference data (square, not modified)
+	 * @return the determinant (boxed)
+	 */
+	static Object detLU(Type aType, Object[][] aData)
+	{
+		if (aType == Type.FLOAT)
+		{
+			float[][] lLU = PrimitiveMpl.unboxFloat(aData);
+			boolean isEven = true;
+			for (int iK = 0; iK < lLU.length; iK++)
+			{
+				int lPivotRow = -1;
+				float lMax = 0f;
+				for (int iY = iK; iY < lLU.length; iY++)
+				{
+					float lVal = lLU[iY][iK];
+					if (Float.compare(lVal, 0f) == 0) continue;
+					float lAbs = Float.compare(lVal, 0f) < 0 ? lVal - (lVal + lVal) : lVal;
+					if (lPivotRow < 0 || Float.compare(lAbs, lMax) > 0)
+					{
+						lMax = lAbs;
+						lPivotRow = iY;
+					}
+				}
+				if (lPivotRow < 0) return 0f;
+
+				if (lPivotRow != iK)
+				{
+					float[] lRow = lLU[iK];
+					lLU[iK] = lLU[lPivotRow];
+					lLU[lPivotRow] = lRow;
+					isEven = !isEven;
+				}
+
+				float[] lRowP = lLU[iK];
+				for (int iY = iK + 1; iY < lLU.length; iY++)
+				{
+					float[] lRowC = lLU[iY];
+					if (Float.compare(lRowC[iK], 0f) == 0) continue;
+					float lFactor = lRowC[iK] / lRowP[iK];
+					for (int iX = iK + 1; iX < lLU.length; iX++) lRowC[iX] = lRowC[iX] - lFactor * lRowP[iX];
+				}
+			}
+
+			float rVal = 1f;
+			for (int i = 0; i < lLU.length; i++) rVal = rVal * lLU[i][i];
+			return isEven ? rVal : 0f - rVal;
+		}
+
+		double[][] lLU = PrimitiveMpl.unboxDouble(aData);
+		boolean isEven = true;
+		for (int iK = 0; iK < lLU.length; iK++)
+		{
+			int lPivotRow = -1;
+			double lMax = 0d;
+			for (int iY = iK; iY < lLU.length; iY++)
+			{
+				double lVal = lLU[iY][iK];
+				if (Double.compare(lVal, 0d) == 0) continue;
+				double lAbs = Double.compare(lVal, 0d) < 0 ? lVal - (lVal + lVal) : lVal;
+				if (lPivotRow < 0 || Double.compare(lAbs, lMax) > 0)
+				{
+					lMax = lAbs;
+					lPivotRow = iY;
+				}
+			}
+			if (lPivotRow < 0) return 0d;
+
+			if (lPivotRow != iK)
+			{
+				double[] lRow = lLU[iK];
+				lLU[iK] = lLU[lPivotRow];
+				lLU[lPivotRow] = lRow;
+				isEven = !isEven;
+			}
+
+			double[] lRowP = lLU[iK];
+			for (int iY = iK + 1; iY < lLU.length; iY++)
+			{
+				double[] lRowC = lLU[iY];
+				if (Double.compare(lRowC[iK], 0d) == 0) continue;
+				double lFactor = lRowC[iK] / lRowP[iK];
+				for (int iX = iK + 1; iX < lLU.length; iX++) lRowC[iX] = lRowC[iX] - lFactor * lRowP[iX];
+			}
+		}
+
+		double rVal = 1d;
+		for (int i = 0; i < lLU.length; i++) rVal = rVal * lLU[i][i];
+		return isEven ? rVal : 0d - rVal;
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////////
+	// BAREISS ELIMINATION (INT, LONG)
+	//////////////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Ltm by fraction-free elimination (see {@link mkz.util.math.matrix.op.BareissElimination BareissElimination}).
+	 *
+	 * @param aType the reference type (INT or LONG)
+	 * @param aData the reference data (not modified)
+	 * @return the eliminated rows
+	 */
+	static Object[][] ltmBareiss(Type aType, Object[][] aData)
+	{
+		long[][] lRows = _unboxExact(aType, aData);
+		_bareiss(lRows, lRows.length == 0 ? 0 : lRows[0].length, false, aType == Type.INT, null);
+		return _boxExact(aType, lRows);
+	}
+
+	/**
+	 * Determinant by fraction-free elimination.
+	 *
+	 * @param aType the reference type (INT or LONG)
+	 * @param aData the reference data (square, not modified)
+	 * @return the determinant (boxed)
+	 */
+	static Object detBareiss(Type aType, Object[][] aData)
+	{
+		long[][] lRows = _unboxExact(aType, aData);
+		boolean[] lEven = new boolean[1];
+		int lSize = lRows.length;
+		long rVal = 0L;
+
+		if (_bareiss(lRows, lSize, false, aType == Type.INT, lEven) == lSize)
+		{
+			rVal = lRows[lSize - 1][lSize - 1];
+			if (!lEven[0]) rVal = 0L - rVal;
+		}
+		return aType == Type.INT ? (Object) (int) rVal : (Object) rVal;
+	}
+
+	/**
+	 * Solve by fraction-free Gauss-Jordan elimination of [A|B] to [det*I|adj(A)*B], then divides by det (exact if
+	 * the solution is integral). The inverse is solved with B = I.
+	 *
+	 * @param aType the reference type (INT or LONG)
+	 * @param aAssembly the reference rows of [A|B] (not modified)
+	 * @param aSize the reference size of A
+	 * @return the rows of X, null if the matrix is singular
+	 */
+	static Object[][] solveBareiss(Type aType, Object[][] aAssembly, int aSize)
+	{
+		boolean isInt = aType == Type.INT;
+		long[][] lRows = _unboxExact(aType, aAssembly);
+		if (_bareiss(lRows, aSize, true, isInt, null) < aSize) return null;
+
+		int lCols = aSize == 0 ? 0 : lRows[0].length - aSize;
+		long[][] lSolution = new long[aSize][lCols];
+		for (int iY = 0; iY < aSize; iY++)
+		{
+			long lDivisor = lRows[iY][iY];
+			for (int iX = 0; iX < lCols; iX++)
+			{
+				long lVal = lRows[iY][aSize + iX] / lDivisor;
+				lSolution[iY][iX] = isInt ? (int) lVal : lVal;
+			}
+		}
+		return _boxExact(aType, lSolution);
+	}
+
+	/**
+	 * [restricted] Eliminates the columns 0..aCols-1, same steps as {@link mkz.util.math.matrix.op.BareissElimination#eliminate(int, boolean) BareissElimination::eliminate}.
+	 *
+	 * @param aRows the reference rows (modified)
+	 * @param aCols the reference number of columns to eliminate
+	 * @param isReduced if true, the entries above the pivots are eliminated too
+	 * @param isInt if true, every value is truncated to int (as the operator does)
+	 * @param rEven the return even permutation flag (may be null)
+	 * @return the rank
+	 */
+	private static int _bareiss(long[][] aRows, int aCols, boolean isReduced, boolean isInt, boolean[] rEven)
+	{
+		int lSizeY = aRows.length;
+		int lRank = 0;
+		boolean isEven = true;
+		long lPrev = 1L;
+
+		for (int iK = 0; iK < aCols && lRank < lSizeY; iK++)
+		{
+			int lPivotRow = -1;
+			for (int iY = lRank; iY < lSizeY && lPivotRow < 0; iY++) if (aRows[iY][iK] != 0L) lPivotRow = iY;
+			if (lPivotRow < 0) continue;
+
+			if (lPivotRow != lRank)
+			{
+				long[] lRow = aRows[lRank];
+				aRows[lRank] = aRows[lPivotRow];
+				aRows[lPivotRow] = lRow;
+				isEven = !isEven;
+			}
+
+			long[] lRowP = aRows[lRank];
+			long lPivot = lRowP[iK];
+
+			for (int iY = isReduced ? 0 : lRank + 1; iY < lSizeY; iY++)
+			{
+				if (iY == lRank) continue;
+
+				long[] lRowC = aRows[iY];
+				long lCur = lRowC[iK];
+				for (int iX = isReduced ? 0 : iK + 1; iX < lRowC.length; iX++)
+				{
+					if (iX == iK) continue;
+					long lVal = BareissElimination.step(lPivot, lRowC[iX], lCur, lRowP[iX], lPrev);
+					lRowC[iX] = isInt ? (int) lVal : lVal;
+				}
+				lRowC[iK] = 0L;
+			}
+
+			lPrev = lPivot;
+			lRank++;
+		}
+
+		if (rEven != null) rEven[0] = isEven;
+		return lRank;
+	}
+
+	/**
+	 * [restricted] Unboxes integer or long data to long.
+	 *
+	 * @param aType the reference type (INT or LONG)
+	 * @param aData the reference data
+	 * @return the long[][]
+	 */
+	private static long[][] _unboxExact(Type aType, Object[][] aData)
+	{
+		if (aType == Type.LONG) return PrimitiveMpl.unboxLong(aData);
+
+		long[][] rVal = new long[aData.length][];
+		for (int iY = 0; iY < aData.length; iY++)
+		{
+			Object[] lRow = aData[iY];
+			long[] lOut = rVal[iY] = new long[lRow.length];
+			for (int iX = 0; iX < lRow.length; iX++) lOut[iX] = (Integer) lRow[iX];
+		}
+		return rVal;
+	}
+
+	/**
+	 * [restricted] Boxes long data as integer or long.
+	 *
+	 * @param aType the reference type (INT or LONG)
+	 * @param aData the reference data
+	 * @return the object[][]
+	 */
+	private static Object[][] _boxExact(Type aType, long[][] aData)
+	{
+		if (aType == Type.LONG) return PrimitiveMpl.box(aData);
+
+		Object[][] rVal = new Object[aData.length][];
+		for (int iY = 0; iY < aData.length; iY++)
+		{
+			long[] lRow = aData[iY];
+			Object[] lOut = rVal[iY] = new Object[lRow.length];
+			for (int iX = 0; iX < lRow.length; iX++) lOut[iX] = (int) lRow[iX];
+		}
+		return rVal;
+	}
+}
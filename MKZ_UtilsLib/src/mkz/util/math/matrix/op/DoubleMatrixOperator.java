@@ -0,0 +1,519 @@
+/**
+ * File: MKZ_UtilsLib::DoubleMatrixOperator.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.math.matrix.op;
+
+import mkz.util.math.AOP;
+import mkz.util.math.matrix.DoubleMatrix;
+import mkz.util.math.matrix.debug.MatrixDimensionException;
+import mkz.util.math.matrix.debug.MatrixException;
+import mkz.util.math.matrix.decomp.CholeskyDecomposition;
+import mkz.util.math.matrix.decomp.DoubleLUDecomposition;
+import mkz.util.math.matrix.decomp.QRDecomposition;
+import mkz.util.math.simd.VectorKernels;
+import mkz.util.math.simd.definition.IVectorKernels;
+
+/**
+ * Matrix operator for the java type Double. Works like any other {@link mkz.util.math.matrix.op.MatrixOperator MatrixOperator}
+ * on generic matrices and additionally provides primitive implementations for {@link mkz.util.math.matrix.DoubleMatrix DoubleMatrix}
+ * that operate directly on the row-major double arrays (no boxing, no per-row objects).
+ */
+public class DoubleMatrixOperator extends MatrixOperator<Double>
+{
+	/**
+	 * Instantiates a new double matrix operator.
+	 */
+	public DoubleMatrixOperator()
+	{
+		super(AOP.DOUBLE);
+	}
+
+	/**
+	 * Adds the.
+	 *
+	 * @param aM1 the reference m1
+	 * @param aM2 the reference m2
+	 * @return the double matrix
+	 * @throws MatrixException the matrix exception
+	 */
+	public DoubleMatrix add(DoubleMatrix aM1, DoubleMatrix aM2) throws MatrixException
+	{
+		_checkSameSize(aM1, aM2);
+		return add(aM1, aM2, new DoubleMatrix(aM1.getSizeX(), aM1.getSizeY()));
+	}
+
+	/**
+	 * Adds the, the result is written to the target (no allocation).
+	 *
+	 * @param aM1 the reference m1
+	 * @param aM2 the reference m2
+	 * @param aTarget the reference target (may be m1 or m2)
+	 * @return the target
+	 * @throws MatrixException the matrix exception
+	 */
+	public DoubleMatrix add(DoubleMatrix aM1, DoubleMatrix aM2, DoubleMatrix aTarget) throws MatrixException
+	{
+		_checkSameSize(aM1, aM2);
+		_checkSameSize(aM1, aTarget);
+
+		double[] lA = aM1.getData();
+		double[] lB = aM2.getData();
+		double[] lC = aTarget.getData();
+
+		VectorKernels.get().add(lA, lB, lC);
+		return aTarget;
+	}
+
+	/**
+	 * Adds m2 to m1 in place (m1 = m1 + m2).
+	 *
+	 * @param aM1 the reference m1 (overwritten)
+	 * @param aM2 the reference m2
+	 * @return m1
+	 * @throws MatrixException the matrix exception
+	 */
+	public DoubleMatrix addInPlace(DoubleMatrix aM1, DoubleMatrix aM2) throws MatrixException
+	{
+		return add(aM1, aM2, aM1);
+	}
+
+	/**
+	 * Sub.
+	 *
+	 * @param aM1 the reference m1
+	 * @param aM2 the reference m2
+	 * @return the double matrix
+	 * @throws MatrixException the matrix exception
+	 */
+	public DoubleMatrix sub(DoubleMatrix aM1, DoubleMatrix aM2) throws MatrixException
+	{
+		_checkSameSize(aM1, aM2);
+		return sub(aM1, aM2, new DoubleMatrix(aM1.getSizeX(), aM1.getSizeY()));
+	}
+
+	/**
+	 * Sub, the result is written to the target (no allocation).
+	 *
+	 * @param aM1 the reference m1
+	 * @param aM2 the reference m2
+	 * @param aTarget the reference target (may be m1 or m2)
+	 * @return the target
+	 * @throws MatrixException the matrix exception
+	 */
+	public DoubleMatrix sub(DoubleMatrix aM1, DoubleMatrix aM2, DoubleMatrix aTarget) throws MatrixException
+	{
+		_checkSameSize(aM1, aM2);
+		_checkSameSize(aM1, aTarget);
+
+		double[] lA = aM1.getData();
+		double[] lB = aM2.getData();
+		double[] lC = aTarget.getData();
+
+		VectorKernels.get().sub(lA, lB, lC);
+		return aTarget;
+	}
+
+	/**
+	 * Subtracts m2 from m1 in place (m1 = m1 - m2).
+	 *
+	 * @param aM1 the reference m1 (overwritten)
+	 * @param aM2 the reference m2
+	 * @return m1
+	 * @throws MatrixException the matrix exception
+	 */
+	public DoubleMatrix subInPlace(DoubleMatrix aM1, DoubleMatrix aM2) throws MatrixException
+	{
+		return sub(aM1, aM2, aM1);
+	}
+
+	/**
+	 * Scale.
+	 *
+	 * @param aM the reference m
+	 * @param aScale the reference scale
+	 * @return the double matrix
+	 */
+	public DoubleMatrix scale(DoubleMatrix aM, double aScale)
+	{
+		DoubleMatrix rVal = new DoubleMatrix(aM.getSizeX(), aM.getSizeY());
+		_scale(aM.getData(), aScale, rVal.getData());
+		return rVal;
+	}
+
+	/**
+	 * Scale, the result is written to the target (no allocation).
+	 *
+	 * @param aM the reference m
+	 * @param aScale the reference scale
+	 * @param aTarget the reference target (may be m)
+	 * @return the target
+	 * @throws MatrixException the matrix exception
+	 */
+	public DoubleMatrix scale(DoubleMatrix aM, double aScale, DoubleMatrix aTarget) throws MatrixException
+	{
+		_checkSameSize(aM, aTarget);
+		_scale(aM.getData(), aScale, aTarget.getData());
+		return aTarget;
+	}
+
+	/**
+	 * Scales m in place (m = m * scale).
+	 *
+	 * @param aM the reference m (overwritten)
+	 * @param aScale the reference scale
+	 * @return m
+	 */
+	public DoubleMatrix scaleInPlace(DoubleMatrix aM, double aScale)
+	{
+		_scale(aM.getData(), aScale, aM.getData());
+		return aM;
+	}
+
+	/**
+	 * Mpl. Tiled (cache blocked) multiplication in i-k-j loop order so that the rows of both the
+	 * right hand operand and the result are read sequentially, see {@link #setBlockSize(int)}
+	 * and {@link #setParallel(boolean)}.
+	 *
+	 * @param aM1 the reference m1
+	 * @param aM2 the reference m2
+	 * @return the double matrix
+	 * @throws MatrixException the matrix exception
+	 */
+	public DoubleMatrix mpl(DoubleMatrix aM1, DoubleMatrix aM2) throws MatrixException
+	{
+		if (aM1.getSizeX() != aM2.getSizeY()) throw new MatrixDimensionException("M1.sizeX must match M2.sizeY.");
+
+		int lSizeY = aM1.getSizeY();
+		int lSizeX = aM2.getSizeX();
+		int lSizeK = aM1.getSizeX();
+		int lBlock = getEffectiveBlockSize();
+
+		double[] lA = aM1.getData();
+		double[] lB = aM2.getData();
+		DoubleMatrix rVal = new DoubleMatrix(lSizeX, lSizeY);
+		double[] lC = rVal.getData();
+
+		if (isParallel(lSizeY, lSizeX, lSizeK))
+		{
+			getPool().invoke(new MplTask((y0, y1, x0, x1) -> _mplBlock(lA, lB, lC, y0, y1, x0, x1, lSizeK, lSizeX, lBlock), 0, lSizeY, 0, lSizeX, lBlock));
+		}
+		else
+		{
+			_mplBlock(lA, lB, lC, 0, lSizeY, 0, lSizeX, lSizeK, lSizeX, lBlock);
+		}
+
+		return rVal;
+	}
+
+	/**
+	 * [restricted] Multiplies the rows aY0..aY1 and columns aX0..aX1 of the result in tiles of aBlock*aBlock
+	 * elements (see {@link mkz.util.math.matrix.op.MatrixOperator#_mplBlock MatrixOperator::_mplBlock}), the
+	 * inner loop is the axpy kernel of {@link mkz.util.math.simd.VectorKernels VectorKernels}.
+	 *
+	 * @param aA the reference left operand data
+	 * @param aB the reference right operand data
+	 * @param aC the reference result data (initialized with zero)
+	 * @param aY0 the reference first row (inclusive)
+	 * @param aY1 the reference last row (exclusive)
+	 * @param aX0 the reference first column (inclusive)
+	 * @param aX1 the reference last column (exclusive)
+	 * @param aSizeK the reference inner size (m1.sizeX)
+	 * @param aSizeX the reference result size x (m2.sizeX)
+	 * @param aBlock the reference tile size
+	 */
+	protected static void _mplBlock(double[] aA, double[] aB, double[] aC, int aY0, int aY1, int aX0, int aX1, int aSizeK, int aSizeX, int aBlock)
+	{
+		IVectorKernels lKernels = VectorKernels.get();
+		for (int iKK = 0; iKK < aSizeK; iKK += aBlock)
+		{
+			int lKEnd = Math.min(iKK + aBlock, aSizeK);
+			for (int iXX = aX0; iXX < aX1; iXX += aBlock)
+			{
+				int lXEnd = Math.min(iXX + aBlock, aX1);
+				for (int iY = aY0; iY < aY1; iY++)
+				{
+					int lOffA = iY * aSizeK;
+					int lOffC = iY * aSizeX;
+					for (int iK = iKK; iK < lKEnd; iK++)
+					{
+						lKernels.axpy(aA[lOffA + iK], aB, iK * aSizeX + iXX, aC, lOffC + iXX, lXEnd - iXX);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Div. Computes m1*m2^-1 by solving X*m2 = m1 (i.e. m2^T*X^T = m1^T) through the LU decomposition of m2
+	 * instead of forming the inverse.
+	 *
+	 * @param aM1 the reference m1
+	 * @param aM2 the reference m2
+	 * @return the double matrix
+	 * @throws MatrixException the matrix exception
+	 */
+	public DoubleMatrix div(DoubleMatrix aM1, DoubleMatrix aM2) throws MatrixException
+	{
+		if (aM1.getSizeX() != aM2.getSizeY()) throw new MatrixDimensionException("M1.sizeX must match M2.sizeY.");
+
+		DoubleMatrix rVal = DoubleMatrix.createTransposed(aM1);
+		lu(DoubleMatrix.createTransposed(aM2)).solveInPlace(rVal);
+		return DoubleMatrix.createTransposed(rVal);
+	}
+
+	/**
+	 * Solve. Solves the linear system A*X = B for X using the LU decomposition of A, all columns of B are solved in
+	 * one pass. To solve several systems with the same A reuse {@link #lu(DoubleMatrix)}.
+	 *
+	 * @param aA the reference a (square)
+	 * @param aB the reference b (A.sizeY rows, any number of columns)
+	 * @return the matrix x
+	 * @throws MatrixException if the sizes mismatch or A is singular
+	 */
+	public DoubleMatrix solve(DoubleMatrix aA, DoubleMatrix aB) throws MatrixException
+	{
+		return lu(aA).solve(aB);
+	}
+
+	/**
+	 * Ltm. Gauss reduced matrix (row echelon form) using gaussian elimination with
+	 * partial pivoting.
+	 *
+	 * @param aMatrix the reference matrix
+	 * @return the double matrix
+	 */
+	public DoubleMatrix ltm(DoubleMatrix aMatrix)
+	{
+		DoubleMatrix rVal = aMatrix.copy();
+		double[] lData = rVal.getData();
+		int lSizeX = rVal.getSizeX();
+		int lSizeY = rVal.getSizeY();
+
+		int lRow = 0;
+		for (int iCol = 0; iCol < lSizeX && lRow < lSizeY; iCol++)
+		{
+			int lPivotRow = _findPivot(lData, lSizeX, lSizeY, iCol, lRow);
+			if (lData[lPivotRow * lSizeX + iCol] == 0d) continue;
+
+			rVal.swapLines(lRow, lPivotRow, false);
+			_eliminateBelow(lData, lSizeX, lSizeY, lRow, iCol);
+			lRow++;
+		}
+
+		return rVal;
+	}
+
+	/**
+	 * Invert. Gauss Jordan elimination with partial pivoting, performed in place on a copy
+	 * of the input and an identity matrix (no augmented matrix is built).
+	 *
+	 * @param aMatrix the reference matrix
+	 * @return the double matrix
+	 * @throws MatrixException if the matrix is not square or singular
+	 */
+	public DoubleMatrix invert(DoubleMatrix aMatrix) throws MatrixException
+	{
+		if (aMatrix.getSizeX() != aMatrix.getSizeY()) throw new MatrixDimensionException("Matrix must be square (sizeX=" + aMatrix.getSizeX() + ", sizeY=" + aMatrix.getSizeY() + ")");
+
+		int lSize = aMatrix.getSizeX();
+		DoubleMatrix lWork = aMatrix.copy();
+		DoubleMatrix rVal = DoubleMatrix.createIdentity(lSize);
+		double[] lA = lWork.getData();
+		double[] lI = rVal.getData();
+
+		for (int iCol = 0; iCol < lSize; iCol++)
+		{
+			int lPivotRow = _findPivot(lA, lSize, lSize, iCol, iCol);
+			if (lA[lPivotRow * lSize + iCol] == 0d) throw new MatrixException("Matrix is singular.");
+
+			lWork.swapLines(iCol, lPivotRow, false);
+			rVal.swapLines(iCol, lPivotRow, false);
+
+			int lOffP = iCol * lSize;
+			double lInv = 1d / lA[lOffP + iCol];
+			for (int iX = 0; iX < lSize; iX++)
+			{
+				lA[lOffP + iX] *= lInv;
+				lI[lOffP + iX] *= lInv;
+			}
+
+			for (int iY = 0; iY < lSize; iY++)
+			{
+				if (iY == iCol) continue;
+
+				int lOffC = iY * lSize;
+				double lFactor = lA[lOffC + iCol];
+				if (lFactor == 0d) continue;
+
+				for (int iX = 0; iX < lSize; iX++)
+				{
+					lA[lOffC + iX] -= lFactor * lA[lOffP + iX];
+					lI[lOffC + iX] -= lFactor * lI[lOffP + iX];
+				}
+			}
+		}
+
+		return rVal;
+	}
+
+	/**
+	 * Det. Computed from the gaussian elimination with partial pivoting in O(n^3).
+	 *
+	 * @param aM the reference m
+	 * @return the double
+	 * @throws MatrixException the matrix exception
+	 */
+	public double det(DoubleMatrix aM) throws MatrixException
+	{
+		int lSize = aM.getSizeX();
+		if (aM.getSizeY() != lSize) throw new MatrixDimensionException("Matrix must be square.");
+
+		DoubleMatrix lWork = aM.copy();
+		double[] lData = lWork.getData();
+		double rVal = 1d;
+
+		for (int iCol = 0; iCol < lSize; iCol++)
+		{
+			int lPivotRow = _findPivot(lData, lSize, lSize, iCol, iCol);
+			double lPivot = lData[lPivotRow * lSize + iCol];
+			if (lPivot == 0d) return 0d;
+
+			if (lPivotRow != iCol)
+			{
+				lWork.swapLines(iCol, lPivotRow, false);
+				rVal = -rVal;
+			}
+
+			rVal *= lPivot;
+			_eliminateBelow(lData, lSize, lSize, iCol, iCol);
+		}
+
+		return rVal;
+	}
+
+	/**
+	 * LU decomposition with partial pivoting (P*A = L*U).
+	 *
+	 * @param aMatrix the reference matrix
+	 * @return the LU decomposition
+	 * @throws MatrixException the matrix exception
+	 */
+	public DoubleLUDecomposition lu(DoubleMatrix aMatrix) throws MatrixException
+	{
+		return new DoubleLUDecomposition(aMatrix);
+	}
+
+	/**
+	 * Cholesky decomposition (A = L*L^T) of a symmetric positive definite matrix, see
+	 * {@link mkz.util.math.matrix.decomp.CholeskyDecomposition#isSpd() CholeskyDecomposition::isSpd}.
+	 *
+	 * @param aMatrix the reference matrix
+	 * @return the cholesky decomposition
+	 * @throws MatrixException the matrix exception
+	 */
+	public CholeskyDecomposition cholesky(DoubleMatrix aMatrix) throws MatrixException
+	{
+		return new CholeskyDecomposition(aMatrix);
+	}
+
+	/**
+	 * Householder QR decomposition (A = Q*R), solves least squares problems.
+	 *
+	 * @param aMatrix the reference matrix (sizeY &gt;= sizeX)
+	 * @return the QR decomposition
+	 * @throws MatrixException the matrix exception
+	 */
+	public QRDecomposition qr(DoubleMatrix aMatrix) throws MatrixException
+	{
+		return new QRDecomposition(aMatrix);
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////////
+	// TOOLS
+	//////////////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * [restricted] Scales the values of a into c.
+	 *
+	 * @param aA the reference a
+	 * @param aScale the reference scale
+	 * @param aC the reference c
+	 */
+	private static void _scale(double[] aA, double aScale, double[] aC)
+	{
+		VectorKernels.get().scale(aA, aScale, aC);
+	}
+
+	/**
+	 * [restricted] Check that both matrices have the same size.
+	 *
+	 * @param aM1 the reference m1
+	 * @param aM2 the reference m2
+	 * @throws MatrixDimensionException the matrix dimension exception
+	 */
+	private static void _checkSameSize(DoubleMatrix aM1, DoubleMatrix aM2) throws MatrixDimensionException
+	{
+		if (aM1.getSizeX() != aM2.getSizeX()) throw new MatrixDimensionException("M1.sizeX must match M2.sizeX.");
+		if (aM1.getSizeY() != aM2.getSizeY()) throw new MatrixDimensionException("M1.sizeY must match M2.sizeY.");
+	}
+
+	/**
+	 * [restricted] Finds the row (starting at aFromRow) with the biggest absolute value in column aCol.
+	 *
+	 * @param aData the reference data
+	 * @param aSizeX the reference size x
+	 * @param aSizeY the reference size y
+	 * @param aCol the reference column
+	 * @param aFromRow the reference first row
+	 * @return the pivot row
+	 */
+	private static int _findPivot(double[] aData, int aSizeX, int aSizeY, int aCol, int aFromRow)
+	{
+		int rVal = aFromRow;
+		double lMax = Math.abs(aData[aFromRow * aSizeX + aCol]);
+
+		for (int iY = aFromRow + 1; iY < aSizeY; iY++)
+		{
+			double lVal = Math.abs(aData[iY * aSizeX + aCol]);
+			if (lVal > lMax)
+			{
+				lMax = lVal;
+				rVal = iY;
+			}
+		}
+
+		return rVal;
+	}
+
+	/**
+	 * [restricted] Eliminates all values below the pivot (aRow, aCol).
+	 *
+	 * @param aData the reference data
+	 * @param aSizeX the reference size x
+	 * @param aSizeY the reference size y
+	 * @param aRow the reference pivot row
+	 * @param aCol the reference pivot column
+	 */
+	private static void _eliminateBelow(double[] aData, int aSizeX, int aSizeY, int aRow, int aCol)
+	{
+		int lOffP = aRow * aSizeX;
+		double lPivot = aData[lOffP + aCol];
+
+		for (int iY = aRow + 1; iY < aSizeY; iY++)
+		{
+			int lOffC = iY * aSizeX;
+			double lCur = aData[lOffC + aCol];
+			if (lCur == 0d) continue;
+
+			double lFactor = lCur / lPivot;
+			aData[lOffC + aCol] = 0d;
+			for (int iX = aCol + 1; iX < aSizeX; iX++)
+			{
+				aData[lOffC + iX] -= lFactor * aData[lOffP + iX];
+			}
+		}
+	}
+}
@@ -1,326 +1,1314 @@
-/**
- * File: MKZ_UtilsLib::MatrixOperator.java
- *
- * @author Aleistar Markczy
- * 
- */
-package mkz.util.math.matrix.op;
-
-import java.util.Arrays;
-import java.util.Comparator;
-import mkz.util.math.matrix.Matrix;
-import mkz.util.math.matrix.debug.MatrixDimensionException;
-import mkz.util.math.matrix.debug.MatrixException;
-import mkz.util.math.op.ArithmeticOperator;
-
-
-/**
- * Holds all implementations used to perform matrix operations in an entirely generic way. 
- * Uses an {@link mkz.util.math.op.ArithmeticOperator ArithmeticOperator} to perform math operations.
- *
- * @param <T> the generic type
- */
-public class MatrixOperator<T>
-{
-	
-	/** The member op. */
-	private ArithmeticOperator<T> mOp = null;
-	
-	/**
-	 * Instantiates a new matrix operator.
-	 *
-	 * @param aOperationBase the reference operation base
-	 */
-	public MatrixOperator(ArithmeticOperator<T> aOperationBase)
-	{
-		mOp = aOperationBase;
-	}
-	
-	/**
-	 * Adds the.
-	 *
-	 * @param aM1 the reference m1
-	 * @param aM2 the reference m2
-	 * @return the matrix
-	 * @throws MatrixException the matrix exception
-	 */
-	public Matrix<T> add(Matrix<T> aM1, Matrix<T> aM2) throws MatrixException
-	{
-		return Matrix.oneByOneOperation(aM1, aM2, mOp::add);
-	}
-
-	/**
-	 * Sub.
-	 *
-	 * @param aM1 the reference m1
-	 * @param aM2 the reference m2
-	 * @return the matrix
-	 * @throws MatrixException the matrix exception
-	 */
-	public Matrix<T> sub(Matrix<T> aM1, Matrix<T> aM2) throws MatrixException
-	{
-		return Matrix.oneByOneOperation(aM1, aM2, mOp::sub);
-	}
-
-	/**
-	 * Scale.
-	 *
-	 * @param aM the reference m
-	 * @param aScale the reference scale
-	 * @return the matrix
-	 * @throws MatrixException the matrix exception
-	 */
-	public Matrix<T> scale(Matrix<T> aM, T aScale) throws MatrixException
-	{
-		return Matrix.oneByAllOperation(aM, (a)->mOp.mpl(a,aScale));
-	}
-	
-	/**
-	 * Mpl.
-	 *
-	 * @param aM1 the reference m1
-	 * @param aM2 the reference m2
-	 * @return the matrix
-	 * @throws MatrixException the matrix exception
-	 */
-	public Matrix<T> mpl(Matrix<T> aM1, Matrix<T> aM2) throws MatrixException
-	{
-		if (aM1.getSizeX() != aM2.getSizeY()) throw new MatrixDimensionException("M1.sizeX must match M2.sizeY.");
-
-		Object[][] lContent = new Object[aM1.getSizeY()][aM2.getSizeX()];
-
-		for (int iSizeY = 0; iSizeY < lContent.length; iSizeY++)
-		{
-			for (int iSizeX = 0; iSizeX < lContent[0].length; iSizeX++)
-			{
-				T lVal = mOp.getZero();
-
-				for (int iMult = 0; iMult < aM1.getSizeX(); iMult++)
-				{
-					lVal = mOp.add(lVal,mOp.mpl(aM1.get(iMult, iSizeY), aM2.get(iSizeX, iMult)));
-				}
-
-				lContent[iSizeY][iSizeX] = lVal;
-			}
-		}
-
-		return new Matrix<T>(lContent);
-	}
-	
-	/**
-	 * Div.
-	 *
-	 * @param aM1 the reference m1
-	 * @param aM2 the reference m2
-	 * @return the matrix
-	 * @throws MatrixException the matrix exception
-	 */
-	public Matrix<T> div(Matrix<T> aM1, Matrix<T> aM2) throws MatrixException
-	{
-		return mpl(aM1,invert(aM2));
-	}
-	
-	/**
-	 * Ltm.
-	 *
-	 * @param aMatrix the reference matrix
-	 * @return the matrix
-	 * @throws MatrixException the matrix exception
-	 */
-	// Left Triangle Matrix (a.k.a. Gauss reduced mtx)
-	public Matrix<T> ltm(Matrix<T> aMatrix) throws MatrixException
-	{
-		Matrix<T> rVal = ltmSort(aMatrix);
-		for(int iYP=0;iYP<rVal.getSizeY()-1;iYP++)
-		{
-			T lPivot = rVal.get(iYP, iYP);
-			if(!mOp.getZero().equals(lPivot))
-			{
-				for(int iYC=iYP+1;iYC<rVal.getSizeY();iYC++)
-				{
-					T lCur = rVal.get(iYP, iYC);
-					
-					if(!mOp.getZero().equals(lCur))
-					{
-						// XXX could be optimized..
-						//
-						// PFactor*Current[i]-Pivot[i]*CFactor
-						Object[] lRow = Matrix.singleLineOperation(rVal, iYP, rVal, iYC, (a,b) -> mOp.sub(mOp.mpl(b, lPivot), mOp.mpl(a, lCur)), false);
-						rVal.setRow(iYC,lRow);
-					}
-				}
-			}
-		}
-		return rVal;
-	}
-	
-//	public Matrix<T> rtm(Matrix<T> aLtmMatrix) throws MatrixException
-//	{
-//		if(aLtmMatrix.getSizeX()<aLtmMatrix.getSizeY()) throw new MatrixDimensionException("Size X must at least be Size Y (sizeX="+aLtmMatrix.getSizeX()+", sizeY="+aLtmMatrix.getSizeY()+")");
-//		
-//		Matrix<T> rVal = aLtmMatrix.copy();
-//		for(int iYP=rVal.getSizeY()-1;iYP>0;iYP--)
-//		{
-//			T lPivot = rVal.get(iYP, iYP);
-//			if(!mOp.getZero().equals(lPivot))
-//			{
-//				for(int iYC=iYP-1;iYC>=0;iYC--)
-//				{
-//					T lCur = rVal.get(iYP, iYC);
-//					
-//					if(!mOp.getZero().equals(lCur))
-//					{
-//						// XXX could be optimized..
-//						//
-//						// PFactor*Current[i]-Pivot[i]*CFactor
-//						Object[] lRow = Matrix.singleLineOperation(rVal, iYP, rVal, iYC, (a,b) -> mOp.sub(mOp.mpl(b, lPivot), mOp.mpl(a, lCur)), false);
-//						rVal.setRow(iYC,lRow);
-//					}
-//				}
-//			}
-//		}
-//		return rVal;
-//		
-//	}
-
-	/**
- * Invert.
- *
- * @param aMatrix the reference matrix
- * @return the matrix
- * @throws MatrixException the matrix exception
- */
-public Matrix<T> invert(Matrix<T> aMatrix) throws MatrixException
-	{
-		if(aMatrix.getSizeX()!=aMatrix.getSizeY()) throw new MatrixDimensionException("Matrix must be square (sizeX="+aMatrix.getSizeX()+", sizeY="+aMatrix.getSizeY()+")");
-		
-		// append identity matrix and ltm sort
-		Matrix<T> rVal = ltm(Matrix.createAssembly(aMatrix, newIdentity(aMatrix.getSizeX()),false));
-		
-//		System.out.println("Pre jordan:");
-//		System.out.println(rVal);
-//		System.out.println();
-		
-		
-		for(int iYP=rVal.getSizeY()-1;iYP>0;iYP--)
-		{
-			T lPivot = rVal.get(iYP, iYP);
-			if(!mOp.getZero().equals(lPivot))
-			{
-				for(int iYC=iYP-1;iYC>=0;iYC--)
-				{
-					T lCur = rVal.get(iYP, iYC);
-					
-					if(!mOp.getZero().equals(lCur))
-					{
-						// XXX should be optimized..
-						//
-						// PFactor*Current[i]-Pivot[i]*CFactor
-						Object[] lRow = Matrix.singleLineOperation(rVal, iYP, rVal, iYC, (a,b) -> mOp.sub(mOp.mpl(b, lPivot), mOp.mpl(a, lCur)), false);
-						rVal.setRow(iYC,lRow);
-					}
-				}
-			}
-		}
-		
-//		System.out.println("Pre division:");
-//		System.out.println(rVal);
-//		System.out.println();
-		
-		for(int iYP=0;iYP<rVal.getSizeY();iYP++)
-		{
-			T lDivisor = rVal.get(iYP, iYP);
-//			System.out.println("Divisor is: " +lDivisor);
-			Object[] lRow = Matrix.singleLineOperation(rVal, iYP, (a)->mOp.div(a, lDivisor), false);
-			rVal.setRow(iYP,lRow);
-		}
-		
-//		System.out.println("Post division:");
-//		System.out.println(rVal);
-//		System.out.println();
-		
-		return Matrix.createHorizontalSplitted(rVal, aMatrix.getSizeX(), false);
-		
-	}
-	
-	/**
-	 * Det.
-	 *
-	 * @param aM the reference m
-	 * @return the t
-	 * @throws MatrixException the matrix exception
-	 */
-	public T det(Matrix<T> aM) throws MatrixException
-	{
-		int lSize = aM.getSizeX();
-		if(aM.getSizeY()!=lSize) throw new MatrixDimensionException("Matrix must be square.");
-		
-		// a
-		if(lSize==1) return aM.get(0, 0);
-		// ad-bc
-		else if(lSize==2) return mOp.sub(mOp.mpl(aM.get(0, 0), aM.get(1, 1)),mOp.mpl(aM.get(1, 0), aM.get(0, 1)));
-		else
-		{
-			T rVal = mOp.getZero();
-			for(int i=0; i<lSize; i++)
-			{
-				if(Matrix.SARRUS.test(i, 0)) rVal=mOp.sub(rVal, mOp.mpl(aM.get(i, 0), det(Matrix.createSubGrid(aM, i, 0))));
-				else rVal=mOp.add(rVal, mOp.mpl(aM.get(i, 0), det(Matrix.createSubGrid(aM, i, 0))));
-			}
-			
-			return rVal;
-		}
-	}
-	
-	/**
-	 * New identity.
-	 *
-	 * @param aSize the reference size
-	 * @return the matrix
-	 */
-	public Matrix<T> newIdentity(int aSize)
-	{
-		return Matrix.createIdentity(aSize, mOp.getZero(), mOp.getOne());
-	}
-	
-	/**
-	 * Ltm sort.
-	 *
-	 * @param aMatrix the reference matrix
-	 * @return the matrix
-	 */
-	public Matrix<T> ltmSort(Matrix<T> aMatrix)
-	{
-		// TODO gcd reduction
-		Matrix<T> r = aMatrix.copy(); 
-		T[][] lData = r.getData();
-		Arrays.sort(lData, mGaussComparator);
-		r.setData(lData);
-		return r;
-	}
-	
-	/** The member gauss comparator. */
-	private final Comparator<T[]> mGaussComparator = (t1,t2)->
-	{
-		int iVal = 0;
-		int lLastZero=0;
-		while(iVal<t1.length)
-		{
-			if(t1[iVal].equals(mOp.getZero()))
-			{
-				if(!t2[iVal].equals(mOp.getZero())) return 1;
-				// indicates last pos where both where 0
-				else lLastZero=iVal;
-			}
-			else
-			{
-				if(t2[iVal].equals(mOp.getZero())) return -1;
-			}
-			iVal++;
-		}
-		
-		if(lLastZero<t1.length-1) return mOp.compare(t1[lLastZero+1],t2[lLastZero+1]);
-		else return 0;
-	};
-	
-}
+/**
+ * File: MKZ_UtilsLib::MatrixOperator.java
+ *
+ * @author Aleistar MarkÃ³czy
+ * 
+ */
+package mkz.util.math.matrix.op;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import mkz.util.math.matrix.Matrix;
+import mkz.util.math.matrix.decomp.LUDecomposition;
+import mkz.util.math.matrix.expr.MatrixExpression;
+import mkz.util.math.matrix.op.definition.IMatrixOperation;
+import mkz.util.math.matrix.debug.MatrixDimensionException;
+import mkz.util.math.matrix.debug.MatrixException;
+import mkz.util.math.op.ArithmeticOperator;
+import mkz.util.math.op.DoubleArithmeticOperator;
+import mkz.util.math.op.IntArithmeticOperator;
+import mkz.util.math.op.LongArithmeticOperator;
+import mkz.util.math.simd.VectorKernels;
+import mkz.util.math.simd.definition.IVectorKernels;
+
+
+/**
+ * Holds all implementations used to perform matrix operations in an entirely generic way. 
+ * Uses an {@link mkz.util.math.op.ArithmeticOperator ArithmeticOperator} to perform math operations.
+ *
+ * @param <T> the generic type
+ */
+public class MatrixOperator<T>
+{
+	/**
+	 * The elimination modes of ltm and invert, see {@link MatrixOperator#setEliminationMode(EliminationMode)}.
+	 */
+	public static enum EliminationMode
+	{
+		/** Cross multiplication of the rows (pivot*row - cur*pivotRow), the entries grow exponentially. */
+		CROSS,
+		/** Cross multiplication, every new row is divided by the gcd of its entries (integer values only). */
+		CROSS_GCD,
+		/** Fraction-free (Bareiss) elimination, the entries are bounded by the size of the determinant. */
+		BAREISS
+	}
+	
+	
+	/** The default tile size of mpl, 64*64 elements fit into the L1/L2 cache of common CPUs. */
+	public static final int DEFAULT_BLOCK_SIZE = 64;
+
+	/** The member op. */
+	private ArithmeticOperator<T> mOp = null;
+
+	/** The maximum size of matrices whose determinant is computed by cofactor expansion. */
+	public static final int DET_COFACTOR_MAX_SIZE = 3;
+
+	/** The Constant BATCH_PENDING, state of a batch operation that has not started. */
+	private static final int BATCH_PENDING = 0;
+
+	/** The Constant BATCH_RUNNING, state of a running batch operation. */
+	private static final int BATCH_RUNNING = 1;
+
+	/** The Constant BATCH_DONE, state of a finished batch operation (result or error written). */
+	private static final int BATCH_DONE = 2;
+
+	/** The Constant BATCH_CANCELLED, state of a batch operation that will not run (interrupted). */
+	private static final int BATCH_CANCELLED = 3;
+
+	/** The member field division flag (lazy, see hasFieldDivision). */
+	private Boolean mFieldDivision = null;
+
+	/** The member exact flag (lazy, see isExact). */
+	private Boolean mExact = null;
+
+	/** The member elimination mode (null = automatic). */
+	private EliminationMode mEliminationMode = null;
+
+	/** The member block size (0 = automatic). */
+	private int mBlockSize = 0;
+
+	/** The default number of scalar multiplications below which a parallel mpl stays sequential. */
+	public static final long DEFAULT_PARALLEL_THRESHOLD = 64L * 64L * 64L;
+
+	/** The member parallel flag. */
+	private boolean mParallel = false;
+
+	/** The member fork join pool (null = common pool). */
+	private ForkJoinPool mPool = null;
+
+	/** The member parallel threshold. */
+	private long mParallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+
+	/** The default cutoff of mplStrassen, quadrants of this size or smaller are multiplied by mpl. */
+	public static final int DEFAULT_STRASSEN_CUTOFF = 128;
+
+	/** The member strassen cutoff. */
+	private int mStrassenCutoff = DEFAULT_STRASSEN_CUTOFF;
+
+	/** The member batch executor (null = the fork join pool of the parallel mode). */
+	private ExecutorService mBatchExecutor = null;
+
+	/** The member builtin type (null if the operator is not predefined). */
+	private final BuiltinKernels.Type mBuiltin;
+
+	/** The member fast path flag (use the kernels of the predefined operators). */
+	private boolean mFastPath = true;
+
+	/** The member add function (created once, so that element-wise calls don't allocate). */
+	private BiFunction<T, T, T> mAdd = null;
+
+	/** The member sub function. */
+	private BiFunction<T, T, T> mSub = null;
+
+	/**
+	 * Instantiates a new matrix operator.
+	 *
+	 * @param aOperationBase the reference operation base
+	 */
+	public MatrixOperator(ArithmeticOperator<T> aOperationBase)
+	{
+		mOp = aOperationBase;
+		mBuiltin = BuiltinKernels.of(aOperationBase);
+		_initFunctions();
+	}
+	
+	/**
+	 * Adds the.
+	 *
+	 * @param aM1 the reference m1
+	 * @param aM2 the reference m2
+	 * @return the matrix
+	 * @throws MatrixException the matrix exception
+	 */
+	public Matrix<T> add(Matrix<T> aM1, Matrix<T> aM2) throws MatrixException
+	{
+		return Matrix.oneByOneOperation(aM1, aM2, mAdd);
+	}
+
+	/**
+	 * Adds the, the result is written to the target (no allocation).
+	 *
+	 * @param aM1 the reference m1
+	 * @param aM2 the reference m2
+	 * @param aTarget the reference target (may be m1 or m2)
+	 * @return the target
+	 * @throws MatrixException the matrix exception
+	 */
+	public Matrix<T> add(Matrix<T> aM1, Matrix<T> aM2, Matrix<T> aTarget) throws MatrixException
+	{
+		return Matrix.oneByOneOperation(aM1, aM2, mAdd, aTarget);
+	}
+
+	/**
+	 * Adds m2 to m1 in place (m1 = m1 + m2).
+	 *
+	 * @param aM1 the reference m1 (overwritten)
+	 * @param aM2 the reference m2
+	 * @return m1
+	 * @throws MatrixException the matrix exception
+	 */
+	public Matrix<T> addInPlace(Matrix<T> aM1, Matrix<T> aM2) throws MatrixException
+	{
+		return Matrix.oneByOneOperation(aM1, aM2, mAdd, aM1);
+	}
+
+	/**
+	 * Sub.
+	 *
+	 * @param aM1 the reference m1
+	 * @param aM2 the reference m2
+	 * @return the matrix
+	 * @throws MatrixException the matrix exception
+	 */
+	public Matrix<T> sub(Matrix<T> aM1, Matrix<T> aM2) throws MatrixException
+	{
+		return Matrix.oneByOneOperation(aM1, aM2, mSub);
+	}
+
+	/**
+	 * Sub, the result is written to the target (no allocation).
+	 *
+	 * @param aM1 the reference m1
+	 * @param aM2 the reference m2
+	 * @param aTarget the reference target (may be m1 or m2)
+	 * @return the target
+	 * @throws MatrixException the matrix exception
+	 */
+	public Matrix<T> sub(Matrix<T> aM1, Matrix<T> aM2, Matrix<T> aTarget) throws MatrixException
+	{
+		return Matrix.oneByOneOperation(aM1, aM2, mSub, aTarget);
+	}
+
+	/**
+	 * Subtracts m2 from m1 in place (m1 = m1 - m2).
+	 *
+	 * @param aM1 the reference m1 (overwritten)
+	 * @param aM2 the reference m2
+	 * @return m1
+	 * @throws MatrixException the matrix exception
+	 */
+	public Matrix<T> subInPlace(Matrix<T> aM1, Matrix<T> aM2) throws MatrixException
+	{
+		return Matrix.oneByOneOperation(aM1, aM2, mSub, aM1);
+	}
+
+	/**
+	 * Scale.
+	 *
+	 * @param aM the reference m
+	 * @param aScale the reference scale
+	 * @return the matrix
+	 * @throws MatrixException the matrix exception
+	 */
+	public Matrix<T> scale(Matrix<T> aM, T aScale) throws MatrixException
+	{
+		return Matrix.oneByAllOperation(aM, _scaleFunction(aScale));
+	}
+
+	/**
+	 * Scale, the result is written to the target (no allocation).
+	 *
+	 * @param aM the reference m
+	 * @param aScale the reference scale
+	 * @param aTarget the reference target (may be m)
+	 * @return the target
+	 * @throws MatrixException the matrix exception
+	 */
+	public Matrix<T> scale(Matrix<T> aM, T aScale, Matrix<T> aTarget) throws MatrixException
+	{
+		return Matrix.oneByAllOperation(aM, _scaleFunction(aScale), aTarget);
+	}
+
+	/**
+	 * Scales m in place (m = m * scale).
+	 *
+	 * @param aM the reference m (overwritten)
+	 * @param aScale the reference scale
+	 * @return m
+	 * @throws MatrixException the matrix exception
+	 */
+	public Matrix<T> scaleInPlace(Matrix<T> aM, T aScale) throws MatrixException
+	{
+		return Matrix.oneByAllOperation(aM, _scaleFunction(aScale), aM);
+	}
+	
+	/**
+	 * Creates a lazy element-wise expression of the matrix (see {@link mkz.util.math.matrix.expr.MatrixExpression MatrixExpression}),
+	 * e.g. expr(A).scale(a).add(expr(B).sub(C)).eval() computes a*A+(B-C) in one pass without temporary matrices.
+	 *
+	 * @param aM the reference m
+	 * @return the matrix expression
+	 */
+	public MatrixExpression<T> expr(Matrix<T> aM)
+	{
+		return MatrixExpression.of(aM, mOp);
+	}
+	
+	/**
+	 * Mpl. Tiled (cache blocked) multiplication, the tile size can be configured by {@link #setBlockSize(int)}.
+	 * Large products are computed on a fork/join pool if the parallel mode is enabled ({@link #setParallel(boolean)}).
+	 * With a primitive specialized operator (e.g. {@link mkz.util.math.op.DoubleArithmeticOperator DoubleArithmeticOperator})
+	 * the products are summed up without boxing, with a predefined operator (see {@link #setFastPath(boolean)}) without
+	 * calling its functions (double and float rows by the {@link mkz.util.math.simd.VectorKernels vector kernels}).
+	 *
+	 * @param aM1 the reference m1
+	 * @param aM2 the reference m2
+	 * @return the matrix
+	 * @throws MatrixException the matrix exception
+	 */
+	public Matrix<T> mpl(Matrix<T> aM1, Matrix<T> aM2) throws MatrixException
+	{
+		if (aM1.getSizeX() != aM2.getSizeY()) throw new MatrixDimensionException("M1.sizeX must match M2.sizeY.");
+
+		int lSizeY = aM1.getSizeY();
+		int lSizeX = aM2.getSizeX();
+		int lSizeK = aM1.getSizeX();
+		int lBlock = getEffectiveBlockSize();
+		Object[][] lContent;
+
+		BuiltinKernels.Type lBuiltin = _builtin();
+
+		// predefined operators: plain java arithmetic
+		if (lBuiltin == BuiltinKernels.Type.DOUBLE)
+		{
+			IVectorKernels lKernels = VectorKernels.get();
+			double[][] lA = PrimitiveMpl.unboxDouble(aM1.getData());
+			double[][] lB = PrimitiveMpl.unboxDouble(aM2.getData());
+			double[][] lC = new double[lSizeY][lSizeX];
+			_mplRun((y0, y1, x0, x1) -> PrimitiveMpl.mplBlock(lKernels, lA, lB, lC, y0, y1, x0, x1, lSizeK, lBlock), lSizeY, lSizeX, lSizeK, lBlock);
+			lContent = PrimitiveMpl.box(lC);
+		}
+		else if (lBuiltin == BuiltinKernels.Type.FLOAT)
+		{
+			IVectorKernels lKernels = VectorKernels.get();
+			float[][] lA = PrimitiveMpl.unboxFloat(aM1.getData());
+			float[][] lB = PrimitiveMpl.unboxFloat(aM2.getData());
+			float[][] lC = new float[lSizeY][lSizeX];
+			_mplRun((y0, y1, x0, x1) -> PrimitiveMpl.mplBlock(lKernels, lA, lB, lC, y0, y1, x0, x1, lSizeK, lBlock), lSizeY, lSizeX, lSizeK, lBlock);
+			lContent = PrimitiveMpl.box(lC);
+		}
+		else if (lBuiltin == BuiltinKernels.Type.LONG)
+		{
+			long[][] lA = PrimitiveMpl.unboxLong(aM1.getData());
+			long[][] lB = PrimitiveMpl.unboxLong(aM2.getData());
+			long[][] lC = new long[lSizeY][lSizeX];
+			_mplRun((y0, y1, x0, x1) -> PrimitiveMpl.mplBlock(lA, lB, lC, y0, y1, x0, x1, lSizeK, lBlock), lSizeY, lSizeX, lSizeK, lBlock);
+			lContent = PrimitiveMpl.box(lC);
+		}
+		else if (lBuiltin == BuiltinKernels.Type.INT)
+		{
+			int[][] lA = PrimitiveMpl.unboxInt(aM1.getData());
+			int[][] lB = PrimitiveMpl.unboxInt(aM2.getData());
+			int[][] lC = new int[lSizeY][lSizeX];
+			_mplRun((y0, y1, x0, x1) -> PrimitiveMpl.mplBlock(lA, lB, lC, y0, y1, x0, x1, lSizeK, lBlock), lSizeY, lSizeX, lSizeK, lBlock);
+			lContent = PrimitiveMpl.box(lC);
+		}
+		// primitive specialized operators: unbox once, sum up without boxing, box the result once
+		else if (mOp instanceof DoubleArithmeticOperator)
+		{
+			DoubleArithmeticOperator lOp = (DoubleArithmeticOperator) mOp;
+			double[][] lA = PrimitiveMpl.unboxDouble(aM1.getData());
+			double[][] lB = PrimitiveMpl.unboxDouble(aM2.getData());
+			double[][] lC = new double[lSizeY][lSizeX];
+			for (double[] iRow : lC) Arrays.fill(iRow, lOp.getZeroAsDouble());
+			_mplRun((y0, y1, x0, x1) -> PrimitiveMpl.mplBlock(lOp, lA, lB, lC, y0, y1, x0, x1, lSizeK, lBlock), lSizeY, lSizeX, lSizeK, lBlock);
+			lContent = PrimitiveMpl.box(lC);
+		}
+		else if (mOp instanceof LongArithmeticOperator)
+		{
+			LongArithmeticOperator lOp = (LongArithmeticOperator) mOp;
+			long[][] lA = PrimitiveMpl.unboxLong(aM1.getData());
+			long[][] lB = PrimitiveMpl.unboxLong(aM2.getData());
+			long[][] lC = new long[lSizeY][lSizeX];
+			for (long[] iRow : lC) Arrays.fill(iRow, lOp.getZeroAsLong());
+			_mplRun((y0, y1, x0, x1) -> PrimitiveMpl.mplBlock(lOp, lA, lB, lC, y0, y1, x0, x1, lSizeK, lBlock), lSizeY, lSizeX, lSizeK, lBlock);
+			lContent = PrimitiveMpl.box(lC);
+		}
+		else if (mOp instanceof IntArithmeticOperator)
+		{
+			IntArithmeticOperator lOp = (IntArithmeticOperator) mOp;
+			int[][] lA = PrimitiveMpl.unboxInt(aM1.getData());
+			int[][] lB = PrimitiveMpl.unboxInt(aM2.getData());
+			int[][] lC = new int[lSizeY][lSizeX];
+			for (int[] iRow : lC) Arrays.fill(iRow, lOp.getZeroAsInt());
+			_mplRun((y0, y1, x0, x1) -> PrimitiveMpl.mplBlock(lOp, lA, lB, lC, y0, y1, x0, x1, lSizeK, lBlock), lSizeY, lSizeX, lSizeK, lBlock);
+			lContent = PrimitiveMpl.box(lC);
+		}
+		else
+		{
+			Object[][] lA = aM1.getData();
+			Object[][] lB = aM2.getData();
+			Object[][] lC = new Object[lSizeY][lSizeX];
+			for (Object[] iRow : lC) Arrays.fill(iRow, mOp.getZero());
+			_mplRun((y0, y1, x0, x1) -> _mplBlock(lA, lB, lC, y0, y1, x0, x1, lSizeK, lBlock), lSizeY, lSizeX, lSizeK, lBlock);
+			lContent = lC;
+		}
+
+		return new Matrix<T>(lContent);
+	}
+
+	/**
+	 * [restricted] Runs a block kernel over the whole result, on the fork/join pool if the product is big enough
+	 * and the parallel mode is enabled.
+	 *
+	 * @param aKernel the reference kernel
+	 * @param aSizeY the reference result size y
+	 * @param aSizeX the reference result size x
+	 * @param aSizeK the reference inner size
+	 * @param aBlock the reference tile size
+	 */
+	private void _mplRun(MplTask.IBlockKernel aKernel, int aSizeY, int aSizeX, int aSizeK, int aBlock)
+	{
+		if (isParallel(aSizeY, aSizeX, aSizeK)) getPool().invoke(new MplTask(aKernel, 0, aSizeY, 0, aSizeX, aBlock));
+		else aKernel.compute(0, aSizeY, 0, aSizeX);
+	}
+
+	/**
+	 * [restricted] Multiplies the rows aY0..aY1 and columns aX0..aX1 of the result in tiles of aBlock*aBlock
+	 * elements. The loop order i-k-j reads the rows of the right hand operand sequentially, the tiles
+	 * keep the touched part of it in the cache. For every result field the products are summed up in
+	 * ascending order of k, so the result is identical to the textbook triple loop.
+	 *
+	 * @param aA the reference left operand data
+	 * @param aB the reference right operand data
+	 * @param aC the reference result data (initialized with zero)
+	 * @param aY0 the reference first row (inclusive)
+	 * @param aY1 the reference last row (exclusive)
+	 * @param aX0 the reference first column (inclusive)
+	 * @param aX1 the reference last column (exclusive)
+	 * @param aSizeK the reference inner size (m1.sizeX)
+	 * @param aBlock the reference tile size
+	 */
+	@SuppressWarnings("unchecked")
+	protected void _mplBlock(Object[][] aA, Object[][] aB, Object[][] aC, int aY0, int aY1, int aX0, int aX1, int aSizeK, int aBlock)
+	{
+		for (int iKK = 0; iKK < aSizeK; iKK += aBlock)
+		{
+			int lKEnd = Math.min(iKK + aBlock, aSizeK);
+			for (int iXX = aX0; iXX < aX1; iXX += aBlock)
+			{
+				int lXEnd = Math.min(iXX + aBlock, aX1);
+				for (int iY = aY0; iY < aY1; iY++)
+				{
+					Object[] lRowA = aA[iY];
+					Object[] lRowC = aC[iY];
+					for (int iK = iKK; iK < lKEnd; iK++)
+					{
+						T lVal = (T) lRowA[iK];
+						Object[] lRowB = aB[iK];
+						for (int iX = iXX; iX < lXEnd; iX++)
+						{
+							lRowC[iX] = mOp.add((T) lRowC[iX], mOp.mpl(lVal, (T) lRowB[iX]));
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Mpl by Strassen-Winograd. The operands are padded with zeros to a square size, split into quadrants
+	 * and multiplied with 7 instead of 8 products per level (O(n^2.81)), quadrants not bigger than the cutoff
+	 * ({@link #setStrassenCutoff(int)}) are multiplied by {@link #mpl(Matrix, Matrix)}. Pays off for large
+	 * matrices of expensive types (e.g. BigDecimal). The result is exact for exact types, for floating types
+	 * the rounding differs from mpl (the error grows slightly with every level).
+	 *
+	 * @param aM1 the reference m1
+	 * @param aM2 the reference m2
+	 * @return the matrix
+	 * @throws MatrixException the matrix exception
+	 */
+	public Matrix<T> mplStrassen(Matrix<T> aM1, Matrix<T> aM2) throws MatrixException
+	{
+		if (aM1.getSizeX() != aM2.getSizeY()) throw new MatrixDimensionException("M1.sizeX must match M2.sizeY.");
+
+		int lSizeY = aM1.getSizeY();
+		int lSizeX = aM2.getSizeX();
+		int lSizeK = aM1.getSizeX();
+		if (Math.max(lSizeY, Math.max(lSizeX, lSizeK)) <= mStrassenCutoff) return mpl(aM1, aM2);
+
+		return new Matrix<T>(new StrassenMpl<T>(this, mOp, mStrassenCutoff).mpl(aM1.getData(), aM2.getData(), lSizeY, lSizeK, lSizeX));
+	}
+
+	/**
+	 * Sets the strassen cutoff. The biggest (padded) size that mplStrassen multiplies by mpl instead of
+	 * splitting it further, the best value depends on the type and the CPU (see the benchmarks).
+	 *
+	 * @param aCutoff the new strassen cutoff (at least 1)
+	 */
+	public void setStrassenCutoff(int aCutoff)
+	{
+		mStrassenCutoff = Math.max(1, aCutoff);
+	}
+
+	/**
+	 * Gets the strassen cutoff.
+	 *
+	 * @return the strassen cutoff
+	 */
+	public int getStrassenCutoff()
+	{
+		return mStrassenCutoff;
+	}
+
+	/**
+	 * Sets the block size. The tile size (number of rows/columns) that is used by mpl,
+	 * 0 or less selects it automatically.
+	 *
+	 * @param aBlockSize the new block size
+	 */
+	public void setBlockSize(int aBlockSize)
+	{
+		mBlockSize = aBlockSize;
+	}
+
+	/**
+	 * Gets the block size.
+	 *
+	 * @return the block size (0 or less when selected automatically)
+	 */
+	public int getBlockSize()
+	{
+		return mBlockSize;
+	}
+
+	/**
+	 * Gets the block size that is effectively used by mpl.
+	 *
+	 * @return the effective block size
+	 */
+	protected int getEffectiveBlockSize()
+	{
+		return mBlockSize > 0 ? mBlockSize : DEFAULT_BLOCK_SIZE;
+	}
+
+	/**
+	 * Sets the parallel mode. If enabled, mpl splits the result into row/column blocks that are computed
+	 * on a {@link java.util.concurrent.ForkJoinPool ForkJoinPool}. The result is identical to the sequential mpl.
+	 *
+	 * @param isParallel the is parallel
+	 */
+	public void setParallel(boolean isParallel)
+	{
+		mParallel = isParallel;
+	}
+
+	/**
+	 * Checks if is parallel.
+	 *
+	 * @return true, if is parallel
+	 */
+	public boolean isParallel()
+	{
+		return mParallel;
+	}
+
+	/**
+	 * Sets the fork join pool used in parallel mode.
+	 *
+	 * @param aPool the new pool (null = {@link java.util.concurrent.ForkJoinPool#commonPool() common pool})
+	 */
+	public void setPool(ForkJoinPool aPool)
+	{
+		mPool = aPool;
+	}
+
+	/**
+	 * Gets the fork join pool used in parallel mode.
+	 *
+	 * @return the pool
+	 */
+	public ForkJoinPool getPool()
+	{
+		return mPool != null ? mPool : ForkJoinPool.commonPool();
+	}
+
+	/**
+	 * Sets the parallel threshold. Number of scalar multiplications (m1.sizeY*m1.sizeX*m2.sizeX) below which
+	 * mpl stays sequential even in parallel mode.
+	 *
+	 * @param aThreshold the new parallel threshold
+	 */
+	public void setParallelThreshold(long aThreshold)
+	{
+		mParallelThreshold = aThreshold;
+	}
+
+	/**
+	 * Gets the parallel threshold.
+	 *
+	 * @return the parallel threshold
+	 */
+	public long getParallelThreshold()
+	{
+		return mParallelThreshold;
+	}
+
+	/**
+	 * Checks if a multiplication of the given size is computed in parallel.
+	 *
+	 * @param aSizeY the reference result size y
+	 * @param aSizeX the reference result size x
+	 * @param aSizeK the reference inner size
+	 * @return true, if is parallel
+	 */
+	protected boolean isParallel(int aSizeY, int aSizeX, int aSizeK)
+	{
+		return mParallel && (long) aSizeY * aSizeX * aSizeK >= mParallelThreshold;
+	}
+	
+	/**
+	 * Batch. Applies an operation to every input, the inputs are split into chunks (several per thread so that
+	 * idle threads take over the remaining ones) that run on the batch executor ({@link #setBatchExecutor(ExecutorService)},
+	 * by default the work stealing {@link #getPool() fork join pool}). Returns when all operations are done, the results
+	 * are in the order of the inputs. An operation that throws (e.g. a {@link mkz.util.math.matrix.debug.MatrixDimensionException
+	 * MatrixDimensionException}) is recorded in the result and does not abort the batch. If the calling thread is interrupted
+	 * the operations that didn't finish yet fail with the InterruptedException (the interrupt flag is restored), the result
+	 * is a snapshot that is not changed by chunks that are still running. With a single chunk or a fork join pool of
+	 * parallelism 1 the operations run in the calling thread.
+	 *
+	 * @param <A> the type of the inputs
+	 * @param <R> the type of the results
+	 * @param aInputs the reference inputs
+	 * @param aOperation the reference operation
+	 * @return the batch result
+	 */
+	@SuppressWarnings("unchecked")
+	public <A, R> BatchResult<R> batch(List<A> aInputs, IMatrixOperation<A, R> aOperation)
+	{
+		Object[] lInputs = aInputs.toArray();
+		int lSize = lInputs.length;
+		Object[] lResults = new Object[lSize];
+		Exception[] lErrors = new Exception[lSize];
+		// per index: BATCH_PENDING -> BATCH_RUNNING -> BATCH_DONE, or BATCH_PENDING -> BATCH_CANCELLED on interrupt
+		AtomicIntegerArray lState = new AtomicIntegerArray(lSize);
+
+		ExecutorService lExecutor = getBatchExecutor();
+		int lParallelism = lExecutor instanceof ForkJoinPool ? ((ForkJoinPool) lExecutor).getParallelism() : Runtime.getRuntime().availableProcessors();
+		int lChunk = Math.max(1, (lSize + lParallelism * 4 - 1) / (lParallelism * 4));
+
+		List<Callable<Void>> lTasks = new ArrayList<Callable<Void>>();
+		for (int iFrom = 0; iFrom < lSize; iFrom += lChunk)
+		{
+			int lFrom = iFrom;
+			int lTo = Math.min(lSize, iFrom + lChunk);
+			lTasks.add(() ->
+			{
+				for (int i = lFrom; i < lTo; i++)
+				{
+					if (!lState.compareAndSet(i, BATCH_PENDING, BATCH_RUNNING)) continue;
+					try
+					{
+						lResults[i] = aOperation.apply((A) lInputs[i]);
+					}
+					catch (Exception e)
+					{
+						lErrors[i] = e;
+					}
+					lState.set(i, BATCH_DONE);
+				}
+				return null;
+			});
+		}
+
+		// nothing to distribute, run in the calling thread
+		if (lTasks.size() == 1 || lParallelism == 1 && lExecutor instanceof ForkJoinPool)
+		{
+			for (Callable<Void> iTask : lTasks)
+			{
+				try
+				{
+					iTask.call();
+				}
+				catch (Exception e)
+				{
+					// not thrown, the operations catch all exceptions
+				}
+			}
+			return new BatchResult<R>(lResults, lErrors);
+		}
+
+		try
+		{
+			for (Future<Void> iFuture : lExecutor.invokeAll(lTasks))
+			{
+				try
+				{
+					iFuture.get();
+				}
+				catch (ExecutionException e)
+				{
+					// the operations catch all exceptions, only errors get here
+					if (e.getCause() instanceof Error) throw (Error) e.getCause();
+				}
+			}
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+
+			// snapshot, running chunks keep writing to lResults/lErrors
+			Object[] lResultsSnapshot = new Object[lSize];
+			Exception[] lErrorsSnapshot = new Exception[lSize];
+			for (int i = 0; i < lSize; i++)
+			{
+				lState.compareAndSet(i, BATCH_PENDING, BATCH_CANCELLED);
+				if (lState.get(i) == BATCH_DONE)
+				{
+					lResultsSnapshot[i] = lResults[i];
+					lErrorsSnapshot[i] = lErrors[i];
+				}
+				else
+				{
+					lErrorsSnapshot[i] = e;
+				}
+			}
+			return new BatchResult<R>(lResultsSnapshot, lErrorsSnapshot);
+		}
+
+		return new BatchResult<R>(lResults, lErrors);
+	}
+
+	/**
+	 * Batch invert, see {@link #batch(List, IMatrixOperation)}.
+	 *
+	 * @param aMatrices the reference matrices
+	 * @return the inverses
+	 */
+	public BatchResult<Matrix<T>> invertAll(List<Matrix<T>> aMatrices)
+	{
+		return batch(aMatrices, this::invert);
+	}
+
+	/**
+	 * Batch det, see {@link #batch(List, IMatrixOperation)}.
+	 *
+	 * @param aMatrices the reference matrices
+	 * @return the determinants
+	 */
+	public BatchResult<T> detAll(List<Matrix<T>> aMatrices)
+	{
+		return batch(aMatrices, this::det);
+	}
+
+	/**
+	 * Batch mpl of pairs (m1[i]*m2[i]), see {@link #batch(List, IMatrixOperation)}.
+	 *
+	 * @param aM1 the reference left operands
+	 * @param aM2 the reference right operands
+	 * @return the products
+	 * @throws MatrixDimensionException if the number of left and right operands mismatches
+	 */
+	public BatchResult<Matrix<T>> mplAll(List<Matrix<T>> aM1, List<Matrix<T>> aM2) throws MatrixDimensionException
+	{
+		if (aM1.size() != aM2.size()) throw new MatrixDimensionException("Number of operands must match (m1=" + aM1.size() + ", m2=" + aM2.size() + ")");
+		return batch(_indices(aM1.size()), (i) -> mpl(aM1.get(i), aM2.get(i)));
+	}
+
+	/**
+	 * Batch solve of pairs (A[i]*X[i] = B[i]), see {@link #batch(List, IMatrixOperation)}.
+	 *
+	 * @param aA the reference matrices a
+	 * @param aB the reference right hand sides b
+	 * @return the solutions
+	 * @throws MatrixDimensionException if the number of matrices and right hand sides mismatches
+	 */
+	public BatchResult<Matrix<T>> solveAll(List<Matrix<T>> aA, List<Matrix<T>> aB) throws MatrixDimensionException
+	{
+		if (aA.size() != aB.size()) throw new MatrixDimensionException("Number of operands must match (a=" + aA.size() + ", b=" + aB.size() + ")");
+		return batch(_indices(aA.size()), (i) -> solve(aA.get(i), aB.get(i)));
+	}
+
+	/**
+	 * Sets the executor of the batch operations.
+	 *
+	 * @param aExecutor the new batch executor (null = {@link #getPool()})
+	 */
+	public void setBatchExecutor(ExecutorService aExecutor)
+	{
+		mBatchExecutor = aExecutor;
+	}
+
+	/**
+	 * Gets the executor of the batch operations.
+	 *
+	 * @return the batch executor
+	 */
+	public ExecutorService getBatchExecutor()
+	{
+		return mBatchExecutor != null ? mBatchExecutor : getPool();
+	}
+
+	/**
+	 * Div. Computes m1*m2^-1 by solving X*m2 = m1 (i.e. m2^T*X^T = m1^T) through the LU decomposition
+	 * of m2 instead of forming the inverse. Exact operators ({@link #isExact()}, e.g. integer types or
+	 * BigDecimal whose division fails if not terminating) and failing divisions solve by fraction-free
+	 * elimination with one division by det(m2) at the end, see {@link #solve(Matrix, Matrix)}.
+	 *
+	 * @param aM1 the reference m1
+	 * @param aM2 the reference m2
+	 * @return the matrix
+	 * @throws MatrixException the matrix exception
+	 */
+	public Matrix<T> div(Matrix<T> aM1, Matrix<T> aM2) throws MatrixException
+	{
+		if(aM1.getSizeX()!=aM2.getSizeY()) throw new MatrixDimensionException("M1.sizeX must match M2.sizeY.");
+		
+		if(!isExact())
+		{
+			try
+			{
+				Matrix<T> rVal = Matrix.createTransposed(aM1);
+				lu(Matrix.createTransposedView(aM2)).solveInPlace(rVal);
+				return Matrix.createTransposed(rVal);
+			}
+			catch(ArithmeticException e)
+			{
+				// inexact division, fall back to the exact elimination
+			}
+		}
+		return Matrix.createTransposed(_solveBareiss(Matrix.createTransposedView(aM2), Matrix.createTransposedView(aM1)));
+	}
+	
+	/**
+	 * Solve. Solves the linear system A*X = B for X using the LU decomposition of A, all columns
+	 * of B are solved in one pass. To solve several systems with the same A reuse {@link #lu(Matrix)}.
+	 * Exact operators ({@link #isExact()}) and failing divisions eliminate [A|B] fraction-free (Bareiss)
+	 * to [det*I|adj(A)*B] and divide by det once, so X is exact whenever it is representable (e.g. integral
+	 * for integer types, terminating for BigDecimal).
+	 *
+	 * @param aA the reference a (square)
+	 * @param aB the reference b (A.sizeY rows, any number of columns)
+	 * @return the matrix x
+	 * @throws MatrixException if the sizes mismatch or A is singular
+	 */
+	public Matrix<T> solve(Matrix<T> aA, Matrix<T> aB) throws MatrixException
+	{
+		if(!isExact())
+		{
+			try
+			{
+				return lu(aA).solve(aB);
+			}
+			catch(ArithmeticException e)
+			{
+				// inexact division, fall back to the exact elimination
+			}
+		}
+		return _solveBareiss(aA, aB);
+	}
+	
+	/**
+	 * Ltm. Row echelon form, eliminated as set by {@link #setEliminationMode(EliminationMode)}.
+	 *
+	 * @param aMatrix the reference matrix
+	 * @return the matrix
+	 * @throws MatrixException the matrix exception
+	 */
+	// Left Triangle Matrix (a.k.a. Gauss reduced mtx)
+	public Matrix<T> ltm(Matrix<T> aMatrix) throws MatrixException
+	{
+		BuiltinKernels.Type lBuiltin = _builtin();
+		if(getEliminationMode()==EliminationMode.BAREISS)
+		{
+			if(lBuiltin==BuiltinKernels.Type.INT || lBuiltin==BuiltinKernels.Type.LONG) return new Matrix<T>(BuiltinKernels.ltmBareiss(lBuiltin, aMatrix.getData()));
+			
+			Matrix<T> rVal = aMatrix.copy();
+			new BareissElimination<T>(mOp, rVal.getData()).eliminate(rVal.getSizeX(), false);
+			return rVal;
+		}
+		
+		boolean isGcd = getEliminationMode()==EliminationMode.CROSS_GCD;
+		Matrix<T> rVal = ltmSort(aMatrix);
+		if(!isGcd && (lBuiltin==BuiltinKernels.Type.DOUBLE || lBuiltin==BuiltinKernels.Type.FLOAT) && rVal.getSizeX()>=rVal.getSizeY()-1)
+		{
+			return new Matrix<T>(BuiltinKernels.ltmCross(lBuiltin, rVal.getData()));
+		}
+		
+		for(int iYP=0;iYP<rVal.getSizeY()-1;iYP++)
+		{
+			T lPivot = rVal.get(iYP, iYP);
+			if(!mOp.getZero().equals(lPivot))
+			{
+				for(int iYC=iYP+1;iYC<rVal.getSizeY();iYC++)
+				{
+					T lCur = rVal.get(iYP, iYC);
+					
+					if(!mOp.getZero().equals(lCur))
+					{
+						// XXX could be optimized..
+						//
+						// PFactor*Current[i]-Pivot[i]*CFactor
+						Object[] lRow = Matrix.singleLineOperation(rVal, iYP, rVal, iYC, (a,b) -> mOp.sub(mOp.mpl(b, lPivot), mOp.mpl(a, lCur)), false);
+						if(isGcd) _normalizeRow(lRow);
+						rVal.setRow(iYC,lRow);
+					}
+				}
+			}
+		}
+		return rVal;
+	}
+	
+//	public Matrix<T> rtm(Matrix<T> aLtmMatrix) throws MatrixException
+//	{
+//		if(aLtmMatrix.getSizeX()<aLtmMatrix.getSizeY()) throw new MatrixDimensionException("Size X must at least be Size Y (sizeX="+aLtmMatrix.getSizeX()+", sizeY="+aLtmMatrix.getSizeY()+")");
+//		
+//		Matrix<T> rVal = aLtmMatrix.copy();
+//		for(int iYP=rVal.getSizeY()-1;iYP>0;iYP--)
+//		{
+//			T lPivot = rVal.get(iYP, iYP);
+//			if(!mOp.getZero().equals(lPivot))
+//			{
+//				for(int iYC=iYP-1;iYC>=0;iYC--)
+//				{
+//					T lCur = rVal.get(iYP, iYC);
+//					
+//					if(!mOp.getZero().equals(lCur))
+//					{
+//						// XXX could be optimized..
+//						//
+//						// PFactor*Current[i]-Pivot[i]*CFactor
+//						Object[] lRow = Matrix.singleLineOperation(rVal, iYP, rVal, iYC, (a,b) -> mOp.sub(mOp.mpl(b, lPivot), mOp.mpl(a, lCur)), false);
+//						rVal.setRow(iYC,lRow);
+//					}
+//				}
+//			}
+//		}
+//		return rVal;
+//		
+//	}
+
+	/**
+ * Invert.
+ *
+ * @param aMatrix the reference matrix
+ * @return the matrix
+ * @throws MatrixException the matrix exception
+ */
+public Matrix<T> invert(Matrix<T> aMatrix) throws MatrixException
+	{
+		if(aMatrix.getSizeX()!=aMatrix.getSizeY()) throw new MatrixDimensionException("Matrix must be square (sizeX="+aMatrix.getSizeX()+", sizeY="+aMatrix.getSizeY()+")");
+		
+		if(getEliminationMode()==EliminationMode.BAREISS) return _solveBareiss(aMatrix, newIdentity(aMatrix.getSizeX()));
+		
+		boolean isGcd = getEliminationMode()==EliminationMode.CROSS_GCD;
+		
+		BuiltinKernels.Type lBuiltin = _builtin();
+		if(!isGcd && (lBuiltin==BuiltinKernels.Type.DOUBLE || lBuiltin==BuiltinKernels.Type.FLOAT))
+		{
+			Matrix<T> lSorted = ltmSort(Matrix.createAssemblyView(aMatrix, newIdentity(aMatrix.getSizeX()),false));
+			return new Matrix<T>(BuiltinKernels.invertCross(lBuiltin, lSorted.getData(), aMatrix.getSizeX()));
+		}
+		
+		// append identity matrix (view, copied once by the ltm sort) and ltm sort
+		Matrix<T> rVal = ltm(Matrix.createAssemblyView(aMatrix, newIdentity(aMatrix.getSizeX()),false));
+		
+//		System.out.println("Pre jordan:");
+//		System.out.println(rVal);
+//		System.out.println();
+		
+		
+		for(int iYP=rVal.getSizeY()-1;iYP>0;iYP--)
+		{
+			T lPivot = rVal.get(iYP, iYP);
+			if(!mOp.getZero().equals(lPivot))
+			{
+				for(int iYC=iYP-1;iYC>=0;iYC--)
+				{
+					T lCur = rVal.get(iYP, iYC);
+					
+					if(!mOp.getZero().equals(lCur))
+					{
+						// XXX should be optimized..
+						//
+						// PFactor*Current[i]-Pivot[i]*CFactor
+						Object[] lRow = Matrix.singleLineOperation(rVal, iYP, rVal, iYC, (a,b) -> mOp.sub(mOp.mpl(b, lPivot), mOp.mpl(a, lCur)), false);
+						if(isGcd) _normalizeRow(lRow);
+						rVal.setRow(iYC,lRow);
+					}
+				}
+			}
+		}
+		
+//		System.out.println("Pre division:");
+//		System.out.println(rVal);
+//		System.out.println();
+		
+		for(int iYP=0;iYP<rVal.getSizeY();iYP++)
+		{
+			T lDivisor = rVal.get(iYP, iYP);
+//			System.out.println("Divisor is: " +lDivisor);
+			Object[] lRow = Matrix.singleLineOperation(rVal, iYP, (a)->mOp.div(a, lDivisor), false);
+			rVal.setRow(iYP,lRow);
+		}
+		
+//		System.out.println("Post division:");
+//		System.out.println(rVal);
+//		System.out.println();
+		
+		return Matrix.createHorizontalSplitted(rVal, aMatrix.getSizeX(), false);
+		
+	}
+	
+	/**
+	 * Det. Matrices up to the size {@link #DET_COFACTOR_MAX_SIZE} are expanded by cofactors (exact), bigger
+	 * matrices are computed from the LU decomposition in O(n^3). For exact types ({@link #isExact()}) or if the
+	 * division fails (e.g. non terminating BigDecimal), the exact fraction-free (Bareiss) elimination is used, also O(n^3).
+	 *
+	 * @param aM the reference m
+	 * @return the t
+	 * @throws MatrixException the matrix exception
+	 */
+	@SuppressWarnings("unchecked")
+	public T det(Matrix<T> aM) throws MatrixException
+	{
+		int lSize = aM.getSizeX();
+		if(aM.getSizeY()!=lSize) throw new MatrixDimensionException("Matrix must be square.");
+		
+		if(lSize<=DET_COFACTOR_MAX_SIZE) return detCofactor(aM);
+		
+		if(!isExact() && getEliminationMode()!=EliminationMode.BAREISS)
+		{
+			BuiltinKernels.Type lBuiltin = _builtin();
+			if(lBuiltin==BuiltinKernels.Type.DOUBLE || lBuiltin==BuiltinKernels.Type.FLOAT) return (T) BuiltinKernels.detLU(lBuiltin, aM.getData());
+			
+			try
+			{
+				return lu(aM).det();
+			}
+			catch(ArithmeticException e)
+			{
+				// inexact division, fall back to the exact elimination
+			}
+		}
+		
+		return detBareiss(aM);
+	}
+	
+	/**
+	 * Det. Fraction-free (Bareiss) elimination, exact for exact types (all divisions are exact) and O(n^3).
+	 *
+	 * @param aM the reference m
+	 * @return the t
+	 * @throws MatrixException the matrix exception
+	 */
+	@SuppressWarnings("unchecked")
+	public T detBareiss(Matrix<T> aM) throws MatrixException
+	{
+		int lSize = aM.getSizeX();
+		if(aM.getSizeY()!=lSize) throw new MatrixDimensionException("Matrix must be square.");
+		
+		BuiltinKernels.Type lBuiltin = _builtin();
+		if(lBuiltin==BuiltinKernels.Type.INT || lBuiltin==BuiltinKernels.Type.LONG) return (T) BuiltinKernels.detBareiss(lBuiltin, aM.getData());
+		
+		BareissElimination<T> lElimination = new BareissElimination<T>(mOp, aM.copy().getData());
+		lElimination.eliminate(lSize, false);
+		return lElimination.det();
+	}
+	
+	/**
+	 * Det. Recursive cofactor (laplace) expansion along the first row, exact but O(n!).
+	 *
+	 * @param aM the reference m
+	 * @return the t
+	 * @throws MatrixException the matrix exception
+	 */
+	public T detCofactor(Matrix<T> aM) throws MatrixException
+	{
+		int lSize = aM.getSizeX();
+		if(aM.getSizeY()!=lSize) throw new MatrixDimensionException("Matrix must be square.");
+		
+		// a
+		if(lSize==1) return aM.get(0, 0);
+		// ad-bc
+		else if(lSize==2) return mOp.sub(mOp.mpl(aM.get(0, 0), aM.get(1, 1)),mOp.mpl(aM.get(1, 0), aM.get(0, 1)));
+		else
+		{
+			T rVal = mOp.getZero();
+			for(int i=0; i<lSize; i++)
+			{
+				if(Matrix.SARRUS.test(i, 0)) rVal=mOp.sub(rVal, mOp.mpl(aM.get(i, 0), detCofactor(Matrix.createSubGridView(aM, i, 0))));
+				else rVal=mOp.add(rVal, mOp.mpl(aM.get(i, 0), detCofactor(Matrix.createSubGridView(aM, i, 0))));
+			}
+			
+			return rVal;
+		}
+	}
+	
+	/**
+	 * LU decomposition with partial pivoting (P*A = L*U).
+	 *
+	 * @param aMatrix the reference matrix
+	 * @return the LU decomposition
+	 * @throws MatrixException the matrix exception
+	 */
+	public LUDecomposition<T> lu(Matrix<T> aMatrix) throws MatrixException
+	{
+		return new LUDecomposition<T>(aMatrix, mOp, true);
+	}
+	
+	/**
+	 * Checks if the operator has a true division, i.e. 1/2 is fractal (not the case for integer types).
+	 *
+	 * @return true, if successful
+	 */
+	public boolean hasFieldDivision()
+	{
+		if(mFieldDivision==null)
+		{
+			try
+			{
+				mFieldDivision = mOp.isFractal(mOp.div(mOp.getOne(), mOp.add(mOp.getOne(), mOp.getOne())));
+			}
+			catch(ArithmeticException e)
+			{
+				mFieldDivision = false;
+			}
+		}
+		return mFieldDivision;
+	}
+	
+	/**
+	 * Checks if the operator is exact, i.e. it has no true division (integer types) or a division that cannot be
+	 * represented fails instead of being rounded (e.g. BigDecimal).
+	 *
+	 * @return true, if is exact
+	 */
+	public boolean isExact()
+	{
+		if(mExact==null)
+		{
+			try
+			{
+				mExact = !hasFieldDivision() || !mOp.isFractal(mOp.div(mOp.getOne(), mOp.add(mOp.getOne(), mOp.add(mOp.getOne(), mOp.getOne()))));
+			}
+			catch(ArithmeticException e)
+			{
+				mExact = true;
+			}
+		}
+		return mExact;
+	}
+	
+	/**
+	 * Sets the elimination mode of ltm and invert (and det for {@link EliminationMode#BAREISS BAREISS}).
+	 *
+	 * @param aMode the new elimination mode (null = automatic, BAREISS for exact types, CROSS otherwise)
+	 */
+	public void setEliminationMode(EliminationMode aMode)
+	{
+		mEliminationMode = aMode;
+	}
+	
+	/**
+	 * Gets the elimination mode that is effectively used.
+	 *
+	 * @return the elimination mode
+	 */
+	public EliminationMode getEliminationMode()
+	{
+		if(mEliminationMode!=null) return mEliminationMode;
+		return isExact() ? EliminationMode.BAREISS : EliminationMode.CROSS;
+	}
+	
+	/**
+	 * Enables or disables the fast path of the predefined operators ({@link mkz.util.math.AOP#INT AOP::INT},
+	 * {@link mkz.util.math.AOP#LONG AOP::LONG}, {@link mkz.util.math.AOP#FLOAT AOP::FLOAT} and
+	 * {@link mkz.util.math.AOP#DOUBLE AOP::DOUBLE}, recognized by identity). add, sub, scale, mpl, ltm, invert and det
+	 * then work on primitive values with the plain java operators instead of calling the functions of the operator,
+	 * the results are identical. Other operators always use the generic implementation. Enabled by default.
+	 *
+	 * @param isFastPath the new fast path flag
+	 */
+	public void setFastPath(boolean isFastPath)
+	{
+		mFastPath = isFastPath;
+		_initFunctions();
+	}
+	
+	/**
+	 * Checks if the fast path is used (predefined operator and not disabled).
+	 *
+	 * @return true, if is fast path
+	 */
+	public boolean isFastPath()
+	{
+		return _builtin()!=null;
+	}
+	
+	/**
+	 * New identity.
+	 *
+	 * @param aSize the reference size
+	 * @return the matrix
+	 */
+	public Matrix<T> newIdentity(int aSize)
+	{
+		return Matrix.createIdentity(aSize, mOp.getZero(), mOp.getOne());
+	}
+	
+	/**
+	 * Ltm sort.
+	 *
+	 * @param aMatrix the reference matrix
+	 * @return the matrix
+	 */
+	public Matrix<T> ltmSort(Matrix<T> aMatrix)
+	{
+		Matrix<T> r = aMatrix.copy(); 
+		T[][] lData = r.getData();
+		Arrays.sort(lData, mGaussComparator);
+		r.setData(lData);
+		return r;
+	}
+	
+	/**
+	 * [restricted] Solve by fraction-free Gauss-Jordan elimination of [A|B] to [det*I|adj(A)*B], then divides by
+	 * det once (no inexact intermediate divisions). The inverse is solved with B = I.
+	 *
+	 * @param aA the reference a (square)
+	 * @param aB the reference b (A.sizeY rows)
+	 * @return the matrix x
+	 * @throws MatrixException if the sizes mismatch or A is singular
+	 */
+	@SuppressWarnings("unchecked")
+	private Matrix<T> _solveBareiss(Matrix<T> aA, Matrix<T> aB) throws MatrixException
+	{
+		int lSize = aA.getSizeX();
+		if(aA.getSizeY()!=lSize) throw new MatrixDimensionException("Matrix must be square (sizeX="+lSize+", sizeY="+aA.getSizeY()+")");
+		if(aB.getSizeY()!=lSize) throw new MatrixDimensionException("B.sizeY must match the size of A (sizeY="+aB.getSizeY()+", size="+lSize+")");
+		
+		int lCols = aB.getSizeX();
+		Object[][] lRows = Matrix.createAssembly(aA, aB, false).getData();
+		
+		BuiltinKernels.Type lBuiltin = _builtin();
+		if(lBuiltin==BuiltinKernels.Type.INT || lBuiltin==BuiltinKernels.Type.LONG)
+		{
+			Object[][] lContent = BuiltinKernels.solveBareiss(lBuiltin, lRows, lSize);
+			if(lContent==null) throw new MatrixException("Matrix is singular.");
+			return new Matrix<T>(lContent);
+		}
+		
+		if(new BareissElimination<T>(mOp, lRows).eliminate(lSize, true)<lSize) throw new MatrixException("Matrix is singular.");
+		
+		Object[][] lContent = new Object[lSize][lCols];
+		for(int iY=0;iY<lSize;iY++)
+		{
+			T lDivisor = (T) lRows[iY][iY];
+			for(int iX=0;iX<lCols;iX++) lContent[iY][iX] = mOp.div((T) lRows[iY][lSize+iX], lDivisor);
+		}
+		return new Matrix<T>(lContent);
+	}
+	
+	/**
+	 * [restricted] Divides a row by the gcd of its entries (CROSS_GCD mode), rows with fractal entries are left unchanged.
+	 *
+	 * @param aRow the reference row (modified)
+	 */
+	@SuppressWarnings("unchecked")
+	private void _normalizeRow(Object[] aRow)
+	{
+		try
+		{
+			T lGcd = mOp.getZero();
+			for(Object iVal:aRow) lGcd = mOp.gcd(lGcd, mOp.abs((T) iVal));
+			if(mOp.compare(lGcd, mOp.getOne())<=0) return;
+			for(int i=0;i<aRow.length;i++) aRow[i] = mOp.div((T) aRow[i], lGcd);
+		}
+		catch(ArithmeticException e)
+		{
+			// fractal values, no integer gcd
+		}
+	}
+	
+	/**
+	 * [restricted] Gets the builtin type if the fast path is used.
+	 *
+	 * @return the builtin type, null for the generic implementation
+	 */
+	private BuiltinKernels.Type _builtin()
+	{
+		return mFastPath ? mBuiltin : null;
+	}
+	
+	/**
+	 * [restricted] Creates the element-wise add and sub functions.
+	 */
+	private void _initFunctions()
+	{
+		BuiltinKernels.Type lBuiltin = _builtin();
+		mAdd = lBuiltin!=null ? BuiltinKernels.add(lBuiltin) : (a,b)->mOp.add(a,b);
+		mSub = lBuiltin!=null ? BuiltinKernels.sub(lBuiltin) : (a,b)->mOp.sub(a,b);
+	}
+	
+	/**
+	 * [restricted] Creates the element-wise scale function.
+	 *
+	 * @param aScale the reference scale
+	 * @return the function
+	 */
+	private Function<T, T> _scaleFunction(T aScale)
+	{
+		BuiltinKernels.Type lBuiltin = _builtin();
+		return lBuiltin!=null ? BuiltinKernels.scale(lBuiltin, aScale) : (a)->mOp.mpl(a,aScale);
+	}
+	
+	/**
+	 * [restricted] List of the indices 0..size-1 (inputs of a batch over pairs).
+	 *
+	 * @param aSize the reference size
+	 * @return the list
+	 */
+	private static List<Integer> _indices(int aSize)
+	{
+		List<Integer> rVal = new ArrayList<Integer>(aSize);
+		for (int i = 0; i < aSize; i++) rVal.add(i);
+		return rVal;
+	}
+	
+	/** The member gauss comparator. */
+	private final Comparator<T[]> mGaussComparator = (t1,t2)->
+	{
+		int iVal = 0;
+		int lLastZero=0;
+		while(iVal<t1.length)
+		{
+			if(t1[iVal].equals(mOp.getZero()))
+			{
+				if(!t2[iVal].equals(mOp.getZero())) return 1;
+				// indicates last pos where both where 0
+				else lLastZero=iVal;
+			}
+			else
+			{
+				if(t2[iVal].equals(mOp.getZero())) return -1;
+			}
+			iVal++;
+		}
+		
+		if(lLastZero<t1.length-1) return mOp.compare(t1[lLastZero+1],t2[lLastZero+1]);
+		else return 0;
+	};
+	
+}
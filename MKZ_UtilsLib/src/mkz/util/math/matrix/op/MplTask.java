@@ -0,0 +1,104 @@
+/**
+ * File: MKZ_UtilsLib::MplTask.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.math.matrix.op;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * The Class MplTask. Fork/join task of the parallel matrix multiplication. The result matrix is split
+ * into row/column blocks until a block is not bigger than one tile, each block is then computed
+ * completely (over the whole inner size) by one task. Since every result field is owned by exactly one
+ * task, the result is identical to the sequential multiplication.
+ */
+class MplTask extends RecursiveAction
+{
+	/**
+	 * The Interface IBlockKernel. Computes the result fields of the rows aY0..aY1 and columns aX0..aX1.
+	 */
+	@FunctionalInterface
+	interface IBlockKernel
+	{
+		/**
+		 * Computes a block of the result.
+		 *
+		 * @param aY0 the reference first row (inclusive)
+		 * @param aY1 the reference last row (exclusive)
+		 * @param aX0 the reference first column (inclusive)
+		 * @param aX1 the reference last column (exclusive)
+		 */
+		public void compute(int aY0, int aY1, int aX0, int aX1);
+	}
+
+	/** The Constant serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/** The member kernel. */
+	private final IBlockKernel mKernel;
+
+	/** The member block bounds. */
+	private final int mY0, mY1, mX0, mX1;
+
+	/** The member block size. */
+	private final int mBlock;
+
+	/**
+	 * Instantiates a new mpl task.
+	 *
+	 * @param aKernel the reference kernel
+	 * @param aY0 the reference first row (inclusive)
+	 * @param aY1 the reference last row (exclusive)
+	 * @param aX0 the reference first column (inclusive)
+	 * @param aX1 the reference last column (exclusive)
+	 * @param aBlock the reference block size
+	 */
+	MplTask(IBlockKernel aKernel, int aY0, int aY1, int aX0, int aX1, int aBlock)
+	{
+		mKernel = aKernel;
+		mY0 = aY0;
+		mY1 = aY1;
+		mX0 = aX0;
+		mX1 = aX1;
+		mBlock = aBlock;
+	}
+
+	/* (non-Javadoc)
+	 * @see java.util.concurrent.RecursiveAction#compute()
+	 */
+	@Override
+	protected void compute()
+	{
+		int lRows = mY1 - mY0;
+		int lCols = mX1 - mX0;
+
+		if (lRows <= mBlock && lCols <= mBlock)
+		{
+			mKernel.compute(mY0, mY1, mX0, mX1);
+		}
+		else if (lRows >= lCols)
+		{
+			int lMid = mY0 + _half(lRows);
+			invokeAll(new MplTask(mKernel, mY0, lMid, mX0, mX1, mBlock), new MplTask(mKernel, lMid, mY1, mX0, mX1, mBlock));
+		}
+		else
+		{
+			int lMid = mX0 + _half(lCols);
+			invokeAll(new MplTask(mKernel, mY0, mY1, mX0, lMid, mBlock), new MplTask(mKernel, mY0, mY1, lMid, mX1, mBlock));
+		}
+	}
+
+	/**
+	 * [restricted] Half of the size, rounded up to a multiple of the block size so that the tiles stay aligned.
+	 *
+	 * @param aSize the reference size
+	 * @return the int
+	 */
+	private int _half(int aSize)
+	{
+		int lBlocks = (aSize + mBlock - 1) / mBlock;
+		return Math.min(aSize - 1, Math.max(1, lBlocks / 2) * mBlock);
+	}
+}
@@ -0,0 +1,429 @@
+/**
+ * File: MKZ_UtilsLib::PrimitiveMpl.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.math.matrix.op;
+
+import mkz.util.math.op.DoubleArithmeticOperator;
+import mkz.util.math.op.IntArithmeticOperator;
+import mkz.util.math.op.LongArithmeticOperator;
+import mkz.util.math.simd.definition.IVectorKernels;
+
+/**
+ * The Class PrimitiveMpl. Tiled multiplication kernels for the primitive specialized operators, used by
+ * {@link mkz.util.math.matrix.op.MatrixOperator#mpl(mkz.util.math.matrix.Matrix, mkz.util.math.matrix.Matrix) MatrixOperator::mpl}.
+ * The operands are unboxed once, the products are summed up without boxing (same order as the generic kernel,
+ * so the results are identical) and the result is boxed once.
+ */
+final class PrimitiveMpl
+{
+	/**
+	 * Instantiates a new primitive mpl.
+	 */
+	private PrimitiveMpl()
+	{
+	}
+
+	/**
+	 * Unboxes the data of a matrix.
+	 *
+	 * @param aData the reference data
+	 * @return the double[][]
+	 */
+	static double[][] unboxDouble(Object[][] aData)
+	{
+		double[][] rVal = new double[aData.length][];
+		for (int iY = 0; iY < aData.length; iY++)
+		{
+			Object[] lRow = aData[iY];
+			double[] lOut = rVal[iY] = new double[lRow.length];
+			for (int iX = 0; iX < lRow.length; iX++) lOut[iX] = (Double) lRow[iX];
+		}
+		return rVal;
+	}
+
+	/**
+	 * Boxes the data of a matrix.
+	 *
+	 * @param aData the reference data
+	 * @return the object[][]
+	 */
+	static Object[][] box(double[][] aData)
+	{
+		Object[][] rVal = new Object[aData.length][];
+		for (int iY = 0; iY < aData.length; iY++)
+		{
+			double[] lRow = aData[iY];
+			Object[] lOut = rVal[iY] = new Object[lRow.length];
+			for (int iX = 0; iX < lRow.length; iX++) lOut[iX] = lRow[iX];
+		}
+		return rVal;
+	}
+
+	/**
+	 * Multiplies a block of the result (see {@link mkz.util.math.matrix.op.MatrixOperator#_mplBlock(Object[][], Object[][], Object[][], int, int, int, int, int, int) MatrixOperator::_mplBlock}).
+	 *
+	 * @param aOp the reference operator
+	 * @param aA the reference left operand data
+	 * @param aB the reference right operand data
+	 * @param aC the reference result data (initialized with zero)
+	 * @param aY0 the reference first row (inclusive)
+	 * @param aY1 the reference last row (exclusive)
+	 * @param aX0 the reference first column (inclusive)
+	 * @param aX1 the reference last column (exclusive)
+	 * @param aSizeK the reference inner size
+	 * @param aBlock the reference tile size
+	 */
+	static void mplBlock(DoubleArithmeticOperator aOp, double[][] aA, double[][] aB, double[][] aC, int aY0, int aY1, int aX0, int aX1, int aSizeK, int aBlock)
+	{
+		for (int iKK = 0; iKK < aSizeK; iKK += aBlock)
+		{
+			int lKEnd = Math.min(iKK + aBlock, aSizeK);
+			for (int iXX = aX0; iXX < aX1; iXX += aBlock)
+			{
+				int lXEnd = Math.min(iXX + aBlock, aX1);
+				for (int iY = aY0; iY < aY1; iY++)
+				{
+					double[] lRowA = aA[iY];
+					double[] lRowC = aC[iY];
+					for (int iK = iKK; iK < lKEnd; iK++)
+					{
+						double lVal = lRowA[iK];
+						double[] lRowB = aB[iK];
+						for (int iX = iXX; iX < lXEnd; iX++)
+						{
+							lRowC[iX] = aOp.addAsDouble(lRowC[iX], aOp.mplAsDouble(lVal, lRowB[iX]));
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Unboxes the data of a matrix.
+	 *
+	 * @param aData the reference data
+	 * @return the long[][]
+	 */
+	static long[][] unboxLong(Object[][] aData)
+	{
+		long[][] rVal = new long[aData.length][];
+		for (int iY = 0; iY < aData.length; iY++)
+		{
+			Object[] lRow = aData[iY];
+			long[] lOut = rVal[iY] = new long[lRow.length];
+			for (int iX = 0; iX < lRow.length; iX++) lOut[iX] = (Long) lRow[iX];
+		}
+		return rVal;
+	}
+
+	/**
+	 * Boxes the data of a matrix.
+	 *
+	 * @param aData the reference data
+	 * @return the object[][]
+	 */
+	static Object[][] box(long[][] aData)
+	{
+		Object[][] rVal = new Object[aData.length][];
+		for (int iY = 0; iY < aData.length; iY++)
+		{
+			long[] lRow = aData[iY];
+			Object[] lOut = rVal[iY] = new Object[lRow.length];
+			for (int iX = 0; iX < lRow.length; iX++) lOut[iX] = lRow[iX];
+		}
+		return rVal;
+	}
+
+	/**
+	 * Multiplies a block of the result (see {@link mkz.util.math.matrix.op.MatrixOperator#_mplBlock(Object[][], Object[][], Object[][], int, int, int, int, int, int) MatrixOperator::_mplBlock}).
+	 *
+	 * @param aOp the reference operator
+	 * @param aA the reference left operand data
+	 * @param aB the reference right operand data
+	 * @param aC the reference result data (initialized with zero)
+	 * @param aY0 the reference first row (inclusive)
+	 * @param aY1 the reference last row (exclusive)
+	 * @param aX0 the reference first column (inclusive)
+	 * @param aX1 the reference last column (exclusive)
+	 * @param aSizeK the reference inner size
+	 * @param aBlock the reference tile size
+	 */
+	static void mplBlock(LongArithmeticOperator aOp, long[][] aA, long[][] aB, long[][] aC, int aY0, int aY1, int aX0, int aX1, int aSizeK, int aBlock)
+	{
+		for (int iKK = 0; iKK < aSizeK; iKK += aBlock)
+		{
+			int lKEnd = Math.min(iKK + aBlock, aSizeK);
+			for (int iXX = aX0; iXX < aX1; iXX += aBlock)
+			{
+				int lXEnd = Math.min(iXX + aBlock, aX1);
+				for (int iY = aY0; iY < aY1; iY++)
+				{
+					long[] lRowA = aA[iY];
+					long[] lRowC = aC[iY];
+					for (int iK = iKK; iK < lKEnd; iK++)
+					{
+						long lVal = lRowA[iK];
+						long[] lRowB = aB[iK];
+						for (int iX = iXX; iX < lXEnd; iX++)
+						{
+							lRowC[iX] = aOp.addAsLong(lRowC[iX], aOp.mplAsLong(lVal, lRowB[iX]));
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Unboxes the data of a matrix.
+	 *
+	 * @param aData the reference data
+	 * @return the int[][]
+	 */
+	static int[][] unboxInt(Object[][] aData)
+	{
+		int[][] rVal = new int[aData.length][];
+		for (int iY = 0; iY < aData.length; iY++)
+		{
+			Object[] lRow = aData[iY];
+			int[] lOut = rVal[iY] = new int[lRow.length];
+			for (int iX = 0; iX < lRow.length; iX++) lOut[iX] = (Integer) lRow[iX];
+		}
+		return rVal;
+	}
+
+	/**
+	 * Boxes the data of a matrix.
+	 *
+	 * @param aData the reference data
+	 * @return the object[][]
+	 */
+	static Object[][] box(int[][] aData)
+	{
+		Object[][] rVal = new Object[aData.length][];
+		for (int iY = 0; iY < aData.length; iY++)
+		{
+			int[] lRow = aData[iY];
+			Object[] lOut = rVal[iY] = new Object[lRow.length];
+			for (int iX = 0; iX < lRow.length; iX++) lOut[iX] = lRow[iX];
+		}
+		return rVal;
+	}
+
+	/**
+	 * Multiplies a block of the result (see {@link mkz.util.math.matrix.op.MatrixOperator#_mplBlock(Object[][], Object[][], Object[][], int, int, int, int, int, int) MatrixOperator::_mplBlock}).
+	 *
+	 * @param aOp the reference operator
+	 * @param aA the reference left operand data
+	 * @param aB the reference right operand data
+	 * @param aC the reference result data (initialized with zero)
+	 * @param aY0 the reference first row (inclusive)
+	 * @param aY1 the reference last row (exclusive)
+	 * @param aX0 the reference first column (inclusive)
+	 * @param aX1 the reference last column (exclusive)
+	 * @param aSizeK the reference inner size
+	 * @param aBlock the reference tile size
+	 */
+	static void mplBlock(IntArithmeticOperator aOp, int[][] aA, int[][] aB, int[][] aC, int aY0, int aY1, int aX0, int aX1, int aSizeK, int aBlock)
+	{
+		for (int iKK = 0; iKK < aSizeK; iKK += aBlock)
+		{
+			int lKEnd = Math.min(iKK + aBlock, aSizeK);
+			for (int iXX = aX0; iXX < aX1; iXX += aBlock)
+			{
+				int lXEnd = Math.min(iXX + aBlock, aX1);
+				for (int iY = aY0; iY < aY1; iY++)
+				{
+					int[] lRowA = aA[iY];
+					int[] lRowC = aC[iY];
+					for (int iK = iKK; iK < lKEnd; iK++)
+					{
+						int lVal = lRowA[iK];
+						int[] lRowB = aB[iK];
+						for (int iX = iXX; iX < lXEnd; iX++)
+						{
+							lRowC[iX] = aOp.addAsInt(lRowC[iX], aOp.mplAsInt(lVal, lRowB[iX]));
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Unboxes the data of a matrix.
+	 *
+	 * @param aData the reference data
+	 * @return the float[][]
+	 */
+	static float[][] unboxFloat(Object[][] aData)
+	{
+		float[][] rVal = new float[aData.length][];
+		for (int iY = 0; iY < aData.length; iY++)
+		{
+			Object[] lRow = aData[iY];
+			float[] lOut = rVal[iY] = new float[lRow.length];
+			for (int iX = 0; iX < lRow.length; iX++) lOut[iX] = (Float) lRow[iX];
+		}
+		return rVal;
+	}
+
+	/**
+	 * Boxes the data of a matrix.
+	 *
+	 * @param aData the reference data
+	 * @return the object[][]
+	 */
+	static Object[][] box(float[][] aData)
+	{
+		Object[][] rVal = new Object[aData.length][];
+		for (int iY = 0; iY < aData.length; iY++)
+		{
+			float[] lRow = aData[iY];
+			Object[] lOut = rVal[iY] = new Object[lRow.length];
+			for (int iX = 0; iX < lRow.length; iX++) lOut[iX] = lRow[iX];
+		}
+		return rVal;
+	}
+
+	/**
+	 * Multiplies a block of the result for {@link mkz.util.math.AOP#DOUBLE AOP::DOUBLE}, the rows are updated by the
+	 * axpy kernel (c + a*b, the same operations as the operator).
+	 *
+	 * @param aKernels the reference kernels
+	 * @param aA the reference left operand data
+	 * @param aB the reference right operand data
+	 * @param aC the reference result data (initialized with zero)
+	 * @param aY0 the reference first row (inclusive)
+	 * @param aY1 the reference last row (exclusive)
+	 * @param aX0 the reference first column (inclusive)
+	 * @param aX1 the reference last column (exclusive)
+	 * @param aSizeK the reference inner size
+	 * @param aBlock the reference tile size
+	 */
+	static void mplBlock(IVectorKernels aKernels, double[][] aA, double[][] aB, double[][] aC, int aY0, int aY1, int aX0, int aX1, int aSizeK, int aBlock)
+	{
+		for (int iKK = 0; iKK < aSizeK; iKK += aBlock)
+		{
+			int lKEnd = Math.min(iKK + aBlock, aSizeK);
+			for (int iXX = aX0; iXX < aX1; iXX += aBlock)
+			{
+				int lLength = Math.min(iXX + aBlock, aX1) - iXX;
+				for (int iY = aY0; iY < aY1; iY++)
+				{
+					double[] lRowA = aA[iY];
+					double[] lRowC = aC[iY];
+					for (int iK = iKK; iK < lKEnd; iK++) aKernels.axpy(lRowA[iK], aB[iK], iXX, lRowC, iXX, lLength);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Multiplies a block of the result for {@link mkz.util.math.AOP#FLOAT AOP::FLOAT} (float accumulation as the operator).
+	 *
+	 * @param aKernels the reference kernels
+	 * @param aA the reference left operand data
+	 * @param aB the reference right operand data
+	 * @param aC the reference result data (initialized with zero)
+	 * @param aY0 the reference first row (inclusive)
+	 * @param aY1 the reference last row (exclusive)
+	 * @param aX0 the reference first column (inclusive)
+	 * @param aX1 the reference last column (exclusive)
+	 * @param aSizeK the reference inner size
+	 * @param aBlock the reference tile size
+	 */
+	static void mplBlock(IVectorKernels aKernels, float[][] aA, float[][] aB, float[][] aC, int aY0, int aY1, int aX0, int aX1, int aSizeK, int aBlock)
+	{
+		for (int iKK = 0; iKK < aSizeK; iKK += aBlock)
+		{
+			int lKEnd = Math.min(iKK + aBlock, aSizeK);
+			for (int iXX = aX0; iXX < aX1; iXX += aBlock)
+			{
+				int lLength = Math.min(iXX + aBlock, aX1) - iXX;
+				for (int iY = aY0; iY < aY1; iY++)
+				{
+					float[] lRowA = aA[iY];
+					float[] lRowC = aC[iY];
+					for (int iK = iKK; iK < lKEnd; iK++) aKernels.axpy(lRowA[iK], aB[iK], iXX, lRowC, iXX, lLength);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Multiplies a block of the result for {@link mkz.util.math.AOP#LONG AOP::LONG} (plain long arithmetic).
+	 *
+	 * @param aA the reference left operand data
+	 * @param aB the reference right operand data
+	 * @param aC the reference result data (initialized with zero)
+	 * @param aY0 the reference first row (inclusive)
+	 * @param aY1 the reference last row (exclusive)
+	 * @param aX0 the reference first column (inclusive)
+	 * @param aX1 the reference last column (exclusive)
+	 * @param aSizeK the reference inner size
+	 * @param aBlock the reference tile size
+	 */
+	static void mplBlock(long[][] aA, long[][] aB, long[][] aC, int aY0, int aY1, int aX0, int aX1, int aSizeK, int aBlock)
+	{
+		for (int iKK = 0; iKK < aSizeK; iKK += aBlock)
+		{
+			int lKEnd = Math.min(iKK + aBlock, aSizeK);
+			for (int iXX = aX0; iXX < aX1; iXX += aBlock)
+			{
+				int lXEnd = Math.min(iXX + aBlock, aX1);
+				for (int iY = aY0; iY < aY1; iY++)
+				{
+					long[] lRowA = aA[iY];
+					long[] lRowC = aC[iY];
+					for (int iK = iKK; iK < lKEnd; iK++)
+					{
+						long lVal = lRowA[iK];
+						long[] lRowB = aB[iK];
+						for (int iX = iXX; iX < lXEnd; iX++) lRowC[iX] += lVal * lRowB[iX];
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Multiplies a block of the result for {@link mkz.util.math.AOP#INT AOP::INT} (plain int arithmetic).
+	 *
+	 * @param aA the reference left operand data
+	 * @param aB the reference right operand data
+	 * @param aC the reference result data (initialized with zero)
+	 * @param aY0 the reference first row (inclusive)
+	 * @param aY1 the reference last row (exclusive)
+	 * @param aX0 the reference first column (inclusive)
+	 * @param aX1 the reference last column (exclusive)
+	 * @param aSizeK the reference inner size
+	 * @param aBlock the reference tile size
+	 */
+	static void mplBlock(int[][] aA, int[][] aB, int[][] aC, int aY0, int aY1, int aX0, int aX1, int aSizeK, int aBlock)
+	{
+		for (int iKK = 0; iKK < aSizeK; iKK += aBlock)
+		{
+			int lKEnd = Math.min(iKK + aBlock, aSizeK);
+			for (int iXX = aX0; iXX < aX1; iXX += aBlock)
+			{
+				int lXEnd = Math.min(iXX + aBlock, aX1);
+				for (int iY = aY0; iY < aY1; iY++)
+				{
+					int[] lRowA = aA[iY];
+					int[] lRowC = aC[iY];
+					for (int iK = iKK; iK < lKEnd; iK++)
+					{
+						int lVal = lRowA[iK];
+						int[] lRowB = aB[iK];
+						for (int iX = iXX; iX < lXEnd; iX++) lRowC[iX] += lVal * lRowB[iX];
+					}
+				}
+			}
+		}
+	}
+}
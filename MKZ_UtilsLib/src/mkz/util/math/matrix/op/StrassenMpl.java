@@ -0,0 +1,231 @@
+/**
+ * File: MKZ_UtilsLib::StrassenMpl.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.math.matrix.op;
+
+import java.util.Arrays;
+
+import mkz.util.math.matrix.Matrix;
+import mkz.util.math.matrix.debug.MatrixException;
+import mkz.util.math.op.ArithmeticOperator;
+
+/**
+ * The Class StrassenMpl. Strassen-Winograd multiplication (7 multiplications and 15 additions per level instead of 8
+ * multiplications), used by {@link mkz.util.math.matrix.op.MatrixOperator#mplStrassen(Matrix, Matrix) MatrixOperator::mplStrassen}.
+ * The operands are padded with zeros to a square size of leaf*2^levels (leaf &lt;= cutoff), the quadrants are
+ * multiplied recursively until they are not bigger than the cutoff, then the normal (tiled) mpl of the matrix
+ * operator computes the product. Only uses add, sub and mpl of the arithmetic operator, so the result is exact
+ * for exact types (e.g. int, BigDecimal).
+ *
+ * @param <T> the generic type
+ */
+final class StrassenMpl<T>
+{
+	/** The member matrix operator (computes the leaves). */
+	private final MatrixOperator<T> mMatrixOp;
+
+	/** The member op. */
+	private final ArithmeticOperator<T> mOp;
+
+	/** The member cutoff. */
+	private final int mCutoff;
+
+	/**
+	 * Instantiates a new strassen mpl.
+	 *
+	 * @param aMatrixOp the reference matrix operator
+	 * @param aOp the reference arithmetic operator
+	 * @param aCutoff the reference cutoff (biggest size that is multiplied by the normal mpl, at least 1)
+	 */
+	StrassenMpl(MatrixOperator<T> aMatrixOp, ArithmeticOperator<T> aOp, int aCutoff)
+	{
+		mMatrixOp = aMatrixOp;
+		mOp = aOp;
+		mCutoff = Math.max(1, aCutoff);
+	}
+
+	/**
+	 * Multiplies a (sizeY*sizeK) by b (sizeK*sizeX).
+	 *
+	 * @param aA the reference left operand data
+	 * @param aB the reference right operand data
+	 * @param aSizeY the reference result size y
+	 * @param aSizeK the reference inner size
+	 * @param aSizeX the reference result size x
+	 * @return the result data (sizeY*sizeX)
+	 * @throws MatrixException the matrix exception
+	 */
+	Object[][] mpl(Object[][] aA, Object[][] aB, int aSizeY, int aSizeK, int aSizeX) throws MatrixException
+	{
+		int lSize = paddedSize(Math.max(aSizeY, Math.max(aSizeK, aSizeX)), mCutoff);
+		Object[][] lC = _mpl(_pad(aA, aSizeY, aSizeK, lSize), _pad(aB, aSizeK, aSizeX, lSize), lSize);
+
+		if (lSize == aSizeY && lSize == aSizeX) return lC;
+
+		Object[][] rVal = new Object[aSizeY][];
+		for (int iY = 0; iY < aSizeY; iY++) rVal[iY] = Arrays.copyOf(lC[iY], aSizeX);
+		return rVal;
+	}
+
+	/**
+	 * Gets the padded size, the smallest leaf*2^levels that is not smaller than the size where leaf &lt;= cutoff.
+	 *
+	 * @param aSize the reference size
+	 * @param aCutoff the reference cutoff
+	 * @return the padded size
+	 */
+	static int paddedSize(int aSize, int aCutoff)
+	{
+		int lLevels = 0;
+		int lLeaf = aSize;
+		while (lLeaf > aCutoff)
+		{
+			lLevels++;
+			lLeaf = (aSize + (1 << lLevels) - 1) >> lLevels;
+		}
+		return lLeaf << lLevels;
+	}
+
+	/**
+	 * [restricted] Multiplies two square matrices of the (padded) size, recursively.
+	 *
+	 * @param aA the reference a
+	 * @param aB the reference b
+	 * @param aSize the reference size
+	 * @return the object[][]
+	 * @throws MatrixException the matrix exception
+	 */
+	private Object[][] _mpl(Object[][] aA, Object[][] aB, int aSize) throws MatrixException
+	{
+		if (aSize <= mCutoff) return mMatrixOp.mpl(new Matrix<T>(aA), new Matrix<T>(aB)).getData();
+
+		int lHalf = aSize / 2;
+		Object[][] lA11 = _quadrant(aA, 0, 0, lHalf);
+		Object[][] lA12 = _quadrant(aA, 0, lHalf, lHalf);
+		Object[][] lA21 = _quadrant(aA, lHalf, 0, lHalf);
+		Object[][] lA22 = _quadrant(aA, lHalf, lHalf, lHalf);
+		Object[][] lB11 = _quadrant(aB, 0, 0, lHalf);
+		Object[][] lB12 = _quadrant(aB, 0, lHalf, lHalf);
+		Object[][] lB21 = _quadrant(aB, lHalf, 0, lHalf);
+		Object[][] lB22 = _quadrant(aB, lHalf, lHalf, lHalf);
+
+		Object[][] lS1 = _add(lA21, lA22);
+		Object[][] lS2 = _sub(lS1, lA11);
+		Object[][] lS3 = _sub(lA11, lA21);
+		Object[][] lS4 = _sub(lA12, lS2);
+		Object[][] lT1 = _sub(lB12, lB11);
+		Object[][] lT2 = _sub(lB22, lT1);
+		Object[][] lT3 = _sub(lB22, lB12);
+		Object[][] lT4 = _sub(lT2, lB21);
+
+		Object[][] lM1 = _mpl(lA11, lB11, lHalf);
+		Object[][] lM2 = _mpl(lA12, lB21, lHalf);
+		Object[][] lM3 = _mpl(lS4, lB22, lHalf);
+		Object[][] lM4 = _mpl(lA22, lT4, lHalf);
+		Object[][] lM5 = _mpl(lS1, lT1, lHalf);
+		Object[][] lM6 = _mpl(lS2, lT2, lHalf);
+		Object[][] lM7 = _mpl(lS3, lT3, lHalf);
+
+		Object[][] lU2 = _add(lM1, lM6);
+		Object[][] lU3 = _add(lU2, lM7);
+		Object[][] lU4 = _add(lU2, lM5);
+
+		Object[][] rVal = new Object[aSize][aSize];
+		_place(rVal, _add(lM1, lM2), 0, 0);
+		_place(rVal, _add(lU4, lM3), 0, lHalf);
+		_place(rVal, _sub(lU3, lM4), lHalf, 0);
+		_place(rVal, _add(lU3, lM5), lHalf, lHalf);
+		return rVal;
+	}
+
+	/**
+	 * [restricted] Copies the data into a square array of the size, missing fields are zero.
+	 *
+	 * @param aData the reference data
+	 * @param aSizeY the reference size y of the data
+	 * @param aSizeX the reference size x of the data
+	 * @param aSize the reference padded size
+	 * @return the object[][]
+	 */
+	private Object[][] _pad(Object[][] aData, int aSizeY, int aSizeX, int aSize)
+	{
+		Object[][] rVal = new Object[aSize][];
+		for (int iY = 0; iY < aSize; iY++)
+		{
+			Object[] lRow = rVal[iY] = new Object[aSize];
+			if (iY < aSizeY) System.arraycopy(aData[iY], 0, lRow, 0, aSizeX);
+			Arrays.fill(lRow, iY < aSizeY ? aSizeX : 0, aSize, mOp.getZero());
+		}
+		return rVal;
+	}
+
+	/**
+	 * [restricted] Copies a quadrant.
+	 *
+	 * @param aData the reference data
+	 * @param aY0 the reference first row
+	 * @param aX0 the reference first column
+	 * @param aHalf the reference size of the quadrant
+	 * @return the object[][]
+	 */
+	private static Object[][] _quadrant(Object[][] aData, int aY0, int aX0, int aHalf)
+	{
+		Object[][] rVal = new Object[aHalf][];
+		for (int iY = 0; iY < aHalf; iY++) rVal[iY] = Arrays.copyOfRange(aData[aY0 + iY], aX0, aX0 + aHalf);
+		return rVal;
+	}
+
+	/**
+	 * [restricted] Copies a quadrant into the result.
+	 *
+	 * @param aTarget the reference target
+	 * @param aQuadrant the reference quadrant
+	 * @param aY0 the reference first row
+	 * @param aX0 the reference first column
+	 */
+	private static void _place(Object[][] aTarget, Object[][] aQuadrant, int aY0, int aX0)
+	{
+		for (int iY = 0; iY < aQuadrant.length; iY++) System.arraycopy(aQuadrant[iY], 0, aTarget[aY0 + iY], aX0, aQuadrant[iY].length);
+	}
+
+	/**
+	 * [restricted] Adds the.
+	 *
+	 * @param aA the reference a
+	 * @param aB the reference b
+	 * @return the object[][]
+	 */
+	@SuppressWarnings("unchecked")
+	private Object[][] _add(Object[][] aA, Object[][] aB)
+	{
+		Object[][] rVal = new Object[aA.length][aA.length];
+		for (int iY = 0; iY < aA.length; iY++)
+		{
+			Object[] lA = aA[iY], lB = aB[iY], lC = rVal[iY];
+			for (int iX = 0; iX < lC.length; iX++) lC[iX] = mOp.add((T) lA[iX], (T) lB[iX]);
+		}
+		return rVal;
+	}
+
+	/**
+	 * [restricted] Sub.
+	 *
+	 * @param aA the reference a
+	 * @param aB the reference b
+	 * @return the object[][]
+	 */
+	@SuppressWarnings("unchecked")
+	private Object[][] _sub(Object[][] aA, Object[][] aB)
+	{
+		Object[][] rVal = new Object[aA.length][aA.length];
+		for (int iY = 0; iY < aA.length; iY++)
+		{
+			Object[] lA = aA[iY], lB = aB[iY], lC = rVal[iY];
+			for (int iX = 0; iX < lC.length; iX++) lC[iX] = mOp.sub((T) lA[iX], (T) lB[iX]);
+		}
+		return rVal;
+	}
+}
@@ -0,0 +1,29 @@
+/**
+ * File: MKZ_UtilsLib::IMatrixOperation.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.math.matrix.op.definition;
+
+import mkz.util.math.matrix.debug.MatrixException;
+
+/**
+ * The Interface IMatrixOperation. One operation of a batch, see
+ * {@link mkz.util.math.matrix.op.MatrixOperator#batch(java.util.List, IMatrixOperation) MatrixOperator::batch}.
+ *
+ * @param <A> the type of the input
+ * @param <R> the type of the result
+ */
+@FunctionalInterface
+public interface IMatrixOperation<A, R>
+{
+	/**
+	 * Applies the operation to one input.
+	 *
+	 * @param aInput the reference input
+	 * @return the result
+	 * @throws MatrixException the matrix exception
+	 */
+	public R apply(A aInput) throws MatrixException;
+}
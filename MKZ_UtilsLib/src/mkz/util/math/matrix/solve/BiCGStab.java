@@ -0,0 +1,102 @@
+/**
+ * File: MKZ_UtilsLib::BiCGStab.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.math.matrix.solve;
+
+import mkz.util.math.matrix.debug.MatrixException;
+import mkz.util.math.matrix.solve.definition.ILinearOperator;
+
+/**
+ * The Class BiCGStab. Biconjugate gradient stabilized method (van der Vorst, right preconditioned) for regular
+ * non-symmetric matrices, two matrix-vector products and 8n additional memory per iteration. The residual is not
+ * monotone, the method can break down (then a not converged result is returned, GMRES is the robust alternative).
+ */
+public class BiCGStab extends IterativeSolver
+{
+	/**
+	 * Instantiates a new BiCGSTAB solver with the default options.
+	 */
+	public BiCGStab()
+	{
+		this(new SolverOptions());
+	}
+
+	/**
+	 * Instantiates a new BiCGSTAB solver.
+	 *
+	 * @param aOptions the reference options
+	 */
+	public BiCGStab(SolverOptions aOptions)
+	{
+		super(aOptions);
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.matrix.solve.IterativeSolver#_solve(mkz.util.math.matrix.solve.definition.ILinearOperator, double[], double[], double)
+	 */
+	@Override
+	protected SolverResult _solve(ILinearOperator aA, double[] aB, double[] rX, double aNormB) throws MatrixException
+	{
+		int lSize = aA.getSize();
+		double lTolerance = mOptions.getTolerance();
+
+		double[] lR = new double[lSize];
+		_residual(aA, aB, rX, lR);
+		double lResidual = _norm(lR) / aNormB;
+		if (lResidual <= lTolerance) return new SolverResult(rX, 0, lResidual, true);
+
+		double[] lRHat = lR.clone();
+		double[] lP = new double[lSize];
+		double[] lV = new double[lSize];
+		double[] lPHat = new double[lSize];
+		double[] lSHat = new double[lSize];
+		double[] lT = new double[lSize];
+		double lRho = 1d, lAlpha = 1d, lOmega = 1d;
+
+		for (int iK = 1; iK <= mOptions.getMaxIterations(); iK++)
+		{
+			double lRhoNew = _dot(lRHat, lR);
+			if (lRhoNew == 0d) return new SolverResult(rX, iK - 1, lResidual, false);
+
+			// p = r + beta*(p - omega*v)
+			double lBeta = (lRhoNew / lRho) * (lAlpha / lOmega);
+			for (int i = 0; i < lSize; i++) lP[i] = lR[i] + lBeta * (lP[i] - lOmega * lV[i]);
+			lRho = lRhoNew;
+
+			_precondition(lP, lPHat);
+			aA.apply(lPHat, lV);
+			double lRHatV = _dot(lRHat, lV);
+			if (lRHatV == 0d) return new SolverResult(rX, iK - 1, lResidual, false);
+			lAlpha = lRho / lRHatV;
+
+			// s = r - alpha*v (stored in r)
+			_axpy(-lAlpha, lV, lR);
+			_axpy(lAlpha, lPHat, rX);
+			lResidual = _norm(lR) / aNormB;
+			if (lResidual <= lTolerance)
+			{
+				_notify(iK, lResidual);
+				return new SolverResult(rX, iK, lResidual, true);
+			}
+
+			_precondition(lR, lSHat);
+			aA.apply(lSHat, lT);
+			double lTT = _dot(lT, lT);
+			lOmega = lTT == 0d ? 0d : _dot(lT, lR) / lTT;
+
+			// x = x + omega*s^, r = s - omega*t
+			_axpy(lOmega, lSHat, rX);
+			_axpy(-lOmega, lT, lR);
+
+			lResidual = _norm(lR) / aNormB;
+			if (!_notify(iK, lResidual)) return new SolverResult(rX, iK, lResidual, false);
+			if (lResidual <= lTolerance) return new SolverResult(rX, iK, lResidual, true);
+			if (lOmega == 0d) return new SolverResult(rX, iK, lResidual, false);
+		}
+
+		return new SolverResult(rX, mOptions.getMaxIterations(), lResidual, false);
+	}
+}
@@ -0,0 +1,82 @@
+/**
+ * File: MKZ_UtilsLib::ConjugateGradient.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.math.matrix.solve;
+
+import mkz.util.math.matrix.debug.MatrixException;
+import mkz.util.math.matrix.solve.definition.ILinearOperator;
+
+/**
+ * The Class ConjugateGradient. (Preconditioned) conjugate gradient method for symmetric positive definite matrices,
+ * one matrix-vector product and 4n additional memory per iteration. Converges in at most n iterations in exact
+ * arithmetic, the number of iterations needed grows with the square root of the condition of A.
+ */
+public class ConjugateGradient extends IterativeSolver
+{
+	/**
+	 * Instantiates a new conjugate gradient solver with the default options.
+	 */
+	public ConjugateGradient()
+	{
+		this(new SolverOptions());
+	}
+
+	/**
+	 * Instantiates a new conjugate gradient solver.
+	 *
+	 * @param aOptions the reference options
+	 */
+	public ConjugateGradient(SolverOptions aOptions)
+	{
+		super(aOptions);
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.matrix.solve.IterativeSolver#_solve(mkz.util.math.matrix.solve.definition.ILinearOperator, double[], double[], double)
+	 */
+	@Override
+	protected SolverResult _solve(ILinearOperator aA, double[] aB, double[] rX, double aNormB) throws MatrixException
+	{
+		int lSize = aA.getSize();
+		double lTolerance = mOptions.getTolerance();
+
+		double[] lR = new double[lSize];
+		_residual(aA, aB, rX, lR);
+		double lResidual = _norm(lR) / aNormB;
+		if (lResidual <= lTolerance) return new SolverResult(rX, 0, lResidual, true);
+
+		double[] lZ = new double[lSize];
+		double[] lQ = new double[lSize];
+		_precondition(lR, lZ);
+		double[] lP = lZ.clone();
+		double lRZ = _dot(lR, lZ);
+
+		for (int iK = 1; iK <= mOptions.getMaxIterations(); iK++)
+		{
+			aA.apply(lP, lQ);
+			double lPQ = _dot(lP, lQ);
+			if (!(lPQ > 0d)) throw new MatrixException("Matrix is not symmetric positive definite.");
+
+			double lAlpha = lRZ / lPQ;
+			_axpy(lAlpha, lP, rX);
+			_axpy(-lAlpha, lQ, lR);
+
+			lResidual = _norm(lR) / aNormB;
+			if (!_notify(iK, lResidual)) return new SolverResult(rX, iK, lResidual, false);
+			if (lResidual <= lTolerance) return new SolverResult(rX, iK, lResidual, true);
+
+			_precondition(lR, lZ);
+			double lRZNew = _dot(lR, lZ);
+			double lBeta = lRZNew / lRZ;
+			lRZ = lRZNew;
+
+			// p = z + beta*p
+			for (int i = 0; i < lSize; i++) lP[i] = lZ[i] + lBeta * lP[i];
+		}
+
+		return new SolverResult(rX, mOptions.getMaxIterations(), lResidual, false);
+	}
+}
@@ -0,0 +1,141 @@
+/**
+ * File: MKZ_UtilsLib::GMRES.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.math.matrix.solve;
+
+import java.util.Arrays;
+
+import mkz.util.math.matrix.debug.MatrixException;
+import mkz.util.math.matrix.solve.definition.ILinearOperator;
+
+/**
+ * The Class GMRES. Restarted generalized minimal residual method GMRES(m) (right preconditioned, modified Gram-Schmidt,
+ * givens rotations) for any regular matrix. Minimizes the residual over the krylov space, so the residual never grows
+ * within a cycle, one matrix-vector product per iteration but O(m*n) work and (m+1)*n memory for the basis. After m
+ * iterations ({@link mkz.util.math.matrix.solve.SolverOptions#setRestart(int) restart}) the basis is dropped and the
+ * method restarts at the current x.
+ */
+public class GMRES extends IterativeSolver
+{
+	/**
+	 * Instantiates a new GMRES solver with the default options.
+	 */
+	public GMRES()
+	{
+		this(new SolverOptions());
+	}
+
+	/**
+	 * Instantiates a new GMRES solver.
+	 *
+	 * @param aOptions the reference options
+	 */
+	public GMRES(SolverOptions aOptions)
+	{
+		super(aOptions);
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.matrix.solve.IterativeSolver#_solve(mkz.util.math.matrix.solve.definition.ILinearOperator, double[], double[], double)
+	 */
+	@Override
+	protected SolverResult _solve(ILinearOperator aA, double[] aB, double[] rX, double aNormB) throws MatrixException
+	{
+		int lSize = aA.getSize();
+		int lMaxIterations = mOptions.getMaxIterations();
+		int lRestart = Math.min(mOptions.getRestart(), lSize);
+		double lTolerance = mOptions.getTolerance();
+
+		double[] lR = new double[lSize];
+		_residual(aA, aB, rX, lR);
+		double lBeta = _norm(lR);
+		double lResidual = lBeta / aNormB;
+		if (lResidual <= lTolerance) return new SolverResult(rX, 0, lResidual, true);
+
+		double[][] lV = new double[lRestart + 1][lSize];
+		double[][] lH = new double[lRestart + 1][lRestart];
+		double[] lCos = new double[lRestart];
+		double[] lSin = new double[lRestart];
+		double[] lG = new double[lRestart + 1];
+		double[] lY = new double[lRestart];
+		double[] lZ = new double[lSize];
+		int lIteration = 0;
+
+		while (lIteration < lMaxIterations)
+		{
+			for (int i = 0; i < lSize; i++) lV[0][i] = lR[i] / lBeta;
+			Arrays.fill(lG, 0d);
+			lG[0] = lBeta;
+
+			int lCols = 0;
+			boolean isAborted = false;
+			while (lCols < lRestart && lIteration < lMaxIterations)
+			{
+				int iJ = lCols++;
+				lIteration++;
+
+				// w = A*M^-1*v_j, orthogonalized against v_0..v_j
+				double[] lW = lV[iJ + 1];
+				_precondition(lV[iJ], lZ);
+				aA.apply(lZ, lW);
+				for (int i = 0; i <= iJ; i++)
+				{
+					lH[i][iJ] = _dot(lW, lV[i]);
+					_axpy(-lH[i][iJ], lV[i], lW);
+				}
+				double lNormW = _norm(lW);
+				lH[iJ + 1][iJ] = lNormW;
+				if (lNormW != 0d) for (int i = 0; i < lSize; i++) lW[i] /= lNormW;
+
+				// previous rotations, then the new one eliminating h(j+1,j)
+				for (int i = 0; i < iJ; i++)
+				{
+					double lTemp = lCos[i] * lH[i][iJ] + lSin[i] * lH[i + 1][iJ];
+					lH[i + 1][iJ] = -lSin[i] * lH[i][iJ] + lCos[i] * lH[i + 1][iJ];
+					lH[i][iJ] = lTemp;
+				}
+				double lDenom = Math.hypot(lH[iJ][iJ], lNormW);
+				lCos[iJ] = lDenom == 0d ? 1d : lH[iJ][iJ] / lDenom;
+				lSin[iJ] = lDenom == 0d ? 0d : lNormW / lDenom;
+				lH[iJ][iJ] = lDenom;
+				lH[iJ + 1][iJ] = 0d;
+				lG[iJ + 1] = -lSin[iJ] * lG[iJ];
+				lG[iJ] = lCos[iJ] * lG[iJ];
+
+				lResidual = Math.abs(lG[iJ + 1]) / aNormB;
+				if (!_notify(lIteration, lResidual))
+				{
+					isAborted = true;
+					break;
+				}
+				// lucky breakdown: the krylov space is invariant, x is exact
+				if (lResidual <= lTolerance || lNormW == 0d) break;
+			}
+
+			// x = x + M^-1*V*y where H*y = g (upper triangle)
+			for (int iY = lCols - 1; iY >= 0; iY--)
+			{
+				double lSum = lG[iY];
+				for (int iK = iY + 1; iK < lCols; iK++) lSum -= lH[iY][iK] * lY[iK];
+				lY[iY] = lH[iY][iY] == 0d ? 0d : lSum / lH[iY][iY];
+			}
+			Arrays.fill(lR, 0d);
+			for (int i = 0; i < lCols; i++) _axpy(lY[i], lV[i], lR);
+			_precondition(lR, lZ);
+			_axpy(1d, lZ, rX);
+
+			if (isAborted) return new SolverResult(rX, lIteration, lResidual, false);
+
+			// restart at the true residual
+			_residual(aA, aB, rX, lR);
+			lBeta = _norm(lR);
+			lResidual = lBeta / aNormB;
+			if (lResidual <= lTolerance) return new SolverResult(rX, lIteration, lResidual, true);
+		}
+
+		return new SolverResult(rX, lIteration, lResidual, false);
+	}
+}
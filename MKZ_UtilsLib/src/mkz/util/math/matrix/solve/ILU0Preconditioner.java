@@ -0,0 +1,151 @@
+/**
+ * File: MKZ_UtilsLib::ILU0Preconditioner.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.math.matrix.solve;
+
+import java.util.Arrays;
+
+import mkz.util.math.matrix.DoubleMatrix;
+import mkz.util.math.matrix.debug.MatrixDimensionException;
+import mkz.util.math.matrix.debug.MatrixException;
+import mkz.util.math.matrix.solve.definition.IPreconditioner;
+import mkz.util.math.matrix.sparse.CSRMatrix;
+
+/**
+ * The Class ILU0Preconditioner. Incomplete LU factorization without fill-in, L and U are restricted to the non zero
+ * pattern of A (L has a unit diagonal and is stored below, U on and above the diagonal). Costs one forward and one
+ * back substitution (O(nnz)) per application, usually reduces the iterations a lot more than
+ * {@link mkz.util.math.matrix.solve.JacobiPreconditioner Jacobi}.
+ */
+public class ILU0Preconditioner implements IPreconditioner
+{
+	/** The member size. */
+	protected int mSize = 0;
+
+	/** The member row pointers (CSR). */
+	protected int[] mPtr = null;
+
+	/** The member column indices (CSR, ascending within each row). */
+	protected int[] mIdx = null;
+
+	/** The member factorized values (L below, U on and above the diagonal). */
+	protected double[] mLU = null;
+
+	/** The member positions of the diagonal values. */
+	protected int[] mDiag = null;
+
+	/**
+	 * Instantiates a new ILU(0) preconditioner of a CSR matrix (the matrix is not modified).
+	 *
+	 * @param aMatrix the reference matrix (square, every diagonal value stored)
+	 * @throws MatrixException if the matrix is not square or a pivot is zero
+	 */
+	public ILU0Preconditioner(CSRMatrix<? extends Number> aMatrix) throws MatrixException
+	{
+		_init(aMatrix.getSizeX(), aMatrix.getSizeY(), aMatrix.getPointers(), aMatrix.getIndices(), LinearOperators.unbox(aMatrix));
+	}
+
+	/**
+	 * Instantiates a new ILU(0) preconditioner of a dense matrix, the pattern are the non zero values.
+	 *
+	 * @param aMatrix the reference matrix (square)
+	 * @throws MatrixException if the matrix is not square or a pivot is zero
+	 */
+	public ILU0Preconditioner(DoubleMatrix aMatrix) throws MatrixException
+	{
+		int lSizeX = aMatrix.getSizeX();
+		int lSizeY = aMatrix.getSizeY();
+		double[] lData = aMatrix.getData();
+
+		int[] lPtr = new int[lSizeY + 1];
+		for (int i = 0; i < lData.length; i++) if (lData[i] != 0d) lPtr[i / lSizeX + 1]++;
+		for (int iY = 0; iY < lSizeY; iY++) lPtr[iY + 1] += lPtr[iY];
+
+		int[] lIdx = new int[lPtr[lSizeY]];
+		double[] lValues = new double[lPtr[lSizeY]];
+		int lPos = 0;
+		for (int i = 0; i < lData.length; i++)
+		{
+			if (lData[i] == 0d) continue;
+			lIdx[lPos] = i % lSizeX;
+			lValues[lPos++] = lData[i];
+		}
+
+		_init(lSizeX, lSizeY, lPtr, lIdx, lValues);
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.matrix.solve.definition.IPreconditioner#apply(double[], double[])
+	 */
+	@Override
+	public void apply(double[] aR, double[] rZ)
+	{
+		// L*y = r (unit diagonal)
+		for (int iY = 0; iY < mSize; iY++)
+		{
+			double lSum = aR[iY];
+			for (int i = mPtr[iY]; i < mDiag[iY]; i++) lSum -= mLU[i] * rZ[mIdx[i]];
+			rZ[iY] = lSum;
+		}
+
+		// U*z = y
+		for (int iY = mSize - 1; iY >= 0; iY--)
+		{
+			double lSum = rZ[iY];
+			for (int i = mDiag[iY] + 1; i < mPtr[iY + 1]; i++) lSum -= mLU[i] * rZ[mIdx[i]];
+			rZ[iY] = lSum / mLU[mDiag[iY]];
+		}
+	}
+
+	/**
+	 * [restricted] Factorizes the values in place (IKJ variant, updates outside of the pattern are dropped).
+	 *
+	 * @param aSizeX the reference size x
+	 * @param aSizeY the reference size y
+	 * @param aPtr the reference row pointers
+	 * @param aIdx the reference column indices
+	 * @param aValues the reference values (factorized in place)
+	 * @throws MatrixException if the matrix is not square or a pivot is zero
+	 */
+	private void _init(int aSizeX, int aSizeY, int[] aPtr, int[] aIdx, double[] aValues) throws MatrixException
+	{
+		if (aSizeX != aSizeY) throw new MatrixDimensionException("Matrix must be square (sizeX=" + aSizeX + ", sizeY=" + aSizeY + ")");
+		mSize = aSizeX;
+		mPtr = aPtr;
+		mIdx = aIdx;
+		mLU = aValues;
+		mDiag = new int[mSize];
+
+		// position of each column in the current row, -1 if not in the pattern
+		int[] lPos = new int[mSize];
+		Arrays.fill(lPos, -1);
+
+		for (int iY = 0; iY < mSize; iY++)
+		{
+			mDiag[iY] = -1;
+			for (int i = mPtr[iY]; i < mPtr[iY + 1]; i++)
+			{
+				lPos[mIdx[i]] = i;
+				if (mIdx[i] == iY) mDiag[iY] = i;
+			}
+			if (mDiag[iY] < 0) throw new MatrixException("Diagonal value is zero (row " + iY + ")");
+
+			for (int i = mPtr[iY]; i < mDiag[iY]; i++)
+			{
+				int lK = mIdx[i];
+				double lFactor = mLU[i] /= mLU[mDiag[lK]];
+				for (int iJ = mDiag[lK] + 1; iJ < mPtr[lK + 1]; iJ++)
+				{
+					int lPosJ = lPos[mIdx[iJ]];
+					if (lPosJ >= 0) mLU[lPosJ] -= lFactor * mLU[iJ];
+				}
+			}
+			if (mLU[mDiag[iY]] == 0d) throw new MatrixException("Zero pivot in the incomplete factorization (row " + iY + ")");
+
+			for (int i = mPtr[iY]; i < mPtr[iY + 1]; i++) lPos[mIdx[i]] = -1;
+		}
+	}
+}
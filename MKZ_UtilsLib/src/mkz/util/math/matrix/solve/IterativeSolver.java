@@ -0,0 +1,186 @@
+/**
+ * File: MKZ_UtilsLib::IterativeSolver.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.math.matrix.solve;
+
+import mkz.util.math.matrix.debug.MatrixDimensionException;
+import mkz.util.math.matrix.debug.MatrixException;
+import mkz.util.math.matrix.solve.definition.ILinearOperator;
+import mkz.util.math.matrix.solve.definition.IPreconditioner;
+import mkz.util.math.matrix.solve.definition.IResidualListener;
+import mkz.util.math.simd.VectorKernels;
+import mkz.util.math.simd.definition.IVectorKernels;
+
+/**
+ * The Class IterativeSolver. Base of the krylov solvers for A*x = b that only need the matrix-vector product of A
+ * ({@link mkz.util.math.matrix.solve.definition.ILinearOperator ILinearOperator}), so large sparse systems can be
+ * solved without the O(n^2) memory and O(n^3) time of a direct elimination. The solvers are
+ * {@link mkz.util.math.matrix.solve.ConjugateGradient ConjugateGradient} (symmetric positive definite A),
+ * {@link mkz.util.math.matrix.solve.BiCGStab BiCGStab} and {@link mkz.util.math.matrix.solve.GMRES GMRES} (any regular A),
+ * tolerance, iteration limit, preconditioner and residual listener are set by the
+ * {@link mkz.util.math.matrix.solve.SolverOptions SolverOptions}. A solver holds no state besides its options, the
+ * same instance can be used by several threads.
+ */
+public abstract class IterativeSolver
+{
+	/** The member options. */
+	protected SolverOptions mOptions = null;
+
+	/** The member kernels (dot and axpy). */
+	protected final IVectorKernels mKernels = VectorKernels.get();
+
+	/**
+	 * Instantiates a new iterative solver.
+	 *
+	 * @param aOptions the reference options
+	 */
+	protected IterativeSolver(SolverOptions aOptions)
+	{
+		mOptions = aOptions;
+	}
+
+	/**
+	 * Gets the options.
+	 *
+	 * @return the options
+	 */
+	public SolverOptions getOptions()
+	{
+		return mOptions;
+	}
+
+	/**
+	 * Sets the options.
+	 *
+	 * @param aOptions the new options
+	 */
+	public void setOptions(SolverOptions aOptions)
+	{
+		mOptions = aOptions;
+	}
+
+	/**
+	 * Solves A*x = b starting at x = 0.
+	 *
+	 * @param aA the reference A
+	 * @param aB the reference b (not modified)
+	 * @return the solver result
+	 * @throws MatrixException if the sizes mismatch or the method is not applicable to A
+	 */
+	public SolverResult solve(ILinearOperator aA, double[] aB) throws MatrixException
+	{
+		return solve(aA, aB, null);
+	}
+
+	/**
+	 * Solves A*x = b starting at the initial guess x0 (e.g. the solution of a similar system).
+	 *
+	 * @param aA the reference A
+	 * @param aB the reference b (not modified)
+	 * @param aX0 the reference initial guess (not modified, null: zero)
+	 * @return the solver result
+	 * @throws MatrixException if the sizes mismatch or the method is not applicable to A
+	 */
+	public SolverResult solve(ILinearOperator aA, double[] aB, double[] aX0) throws MatrixException
+	{
+		int lSize = aA.getSize();
+		if (aB.length != lSize) throw new MatrixDimensionException("b must have the size of A (length=" + aB.length + ", size=" + lSize + ")");
+		if (aX0 != null && aX0.length != lSize) throw new MatrixDimensionException("x0 must have the size of A (length=" + aX0.length + ", size=" + lSize + ")");
+
+		double[] lX = aX0 == null ? new double[lSize] : aX0.clone();
+		double lNormB = _norm(aB);
+		if (lNormB == 0d) return new SolverResult(new double[lSize], 0, 0d, true);
+
+		return _solve(aA, aB, lX, lNormB);
+	}
+
+	/**
+	 * [restricted] Runs the method.
+	 *
+	 * @param aA the reference A
+	 * @param aB the reference b
+	 * @param rX the return x (initial guess, updated in place)
+	 * @param aNormB the reference norm of b (not zero)
+	 * @return the solver result
+	 * @throws MatrixException if the method is not applicable to A
+	 */
+	protected abstract SolverResult _solve(ILinearOperator aA, double[] aB, double[] rX, double aNormB) throws MatrixException;
+
+	/**
+	 * [restricted] Computes the residual r = b - A*x.
+	 *
+	 * @param aA the reference A
+	 * @param aB the reference b
+	 * @param aX the reference x
+	 * @param rR the return r
+	 */
+	protected void _residual(ILinearOperator aA, double[] aB, double[] aX, double[] rR)
+	{
+		aA.apply(aX, rR);
+		mKernels.sub(aB, rR, rR);
+	}
+
+	/**
+	 * [restricted] Applies the preconditioner z = M^-1*r (copies r if there is none).
+	 *
+	 * @param aR the reference r
+	 * @param rZ the return z
+	 */
+	protected void _precondition(double[] aR, double[] rZ)
+	{
+		IPreconditioner lPreconditioner = mOptions.getPreconditioner();
+		if (lPreconditioner == null) System.arraycopy(aR, 0, rZ, 0, aR.length);
+		else lPreconditioner.apply(aR, rZ);
+	}
+
+	/**
+	 * [restricted] Notifies the residual listener.
+	 *
+	 * @param aIteration the reference iteration
+	 * @param aResidual the reference relative residual
+	 * @return true, to continue
+	 */
+	protected boolean _notify(int aIteration, double aResidual)
+	{
+		IResidualListener lListener = mOptions.getResidualListener();
+		return lListener == null || lListener.onIteration(aIteration, aResidual);
+	}
+
+	/**
+	 * [restricted] Dot product.
+	 *
+	 * @param aA the reference a
+	 * @param aB the reference b
+	 * @return the double
+	 */
+	protected double _dot(double[] aA, double[] aB)
+	{
+		return mKernels.dot(aA, aB);
+	}
+
+	/**
+	 * [restricted] Euclidean norm.
+	 *
+	 * @param aA the reference a
+	 * @return the double
+	 */
+	protected double _norm(double[] aA)
+	{
+		return Math.sqrt(mKernels.dot(aA, aA));
+	}
+
+	/**
+	 * [restricted] Axpy, y = alpha*x + y.
+	 *
+	 * @param aAlpha the reference alpha
+	 * @param aX the reference x
+	 * @param rY the return y
+	 */
+	protected void _axpy(double aAlpha, double[] aX, double[] rY)
+	{
+		mKernels.axpy(aAlpha, aX, 0, rY, 0, rY.length);
+	}
+}
@@ -0,0 +1,96 @@
+/**
+ * File: MKZ_UtilsLib::JacobiPreconditioner.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.math.matrix.solve;
+
+import mkz.util.math.matrix.DoubleMatrix;
+import mkz.util.math.matrix.debug.MatrixDimensionException;
+import mkz.util.math.matrix.debug.MatrixException;
+import mkz.util.math.matrix.solve.definition.IPreconditioner;
+import mkz.util.math.matrix.sparse.CSRMatrix;
+
+/**
+ * The Class JacobiPreconditioner. Diagonal preconditioner M = diag(A), cheap (O(n) per application) and effective for
+ * diagonally dominant matrices with badly scaled rows.
+ */
+public class JacobiPreconditioner implements IPreconditioner
+{
+	/** The member inverted diagonal. */
+	protected double[] mInvDiag = null;
+
+	/**
+	 * Instantiates a new jacobi preconditioner.
+	 *
+	 * @param aDiagonal the reference diagonal of the matrix (not modified)
+	 * @throws MatrixException if a diagonal value is zero
+	 */
+	public JacobiPreconditioner(double[] aDiagonal) throws MatrixException
+	{
+		mInvDiag = new double[aDiagonal.length];
+		for (int i = 0; i < aDiagonal.length; i++)
+		{
+			if (aDiagonal[i] == 0d) throw new MatrixException("Diagonal value is zero (row " + i + ")");
+			mInvDiag[i] = 1d / aDiagonal[i];
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.matrix.solve.definition.IPreconditioner#apply(double[], double[])
+	 */
+	@Override
+	public void apply(double[] aR, double[] rZ)
+	{
+		for (int i = 0; i < mInvDiag.length; i++) rZ[i] = aR[i] * mInvDiag[i];
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////////
+	// FACTORY TOOLS
+	//////////////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Creates a jacobi preconditioner from a dense matrix.
+	 *
+	 * @param aMatrix the reference matrix (square)
+	 * @return the jacobi preconditioner
+	 * @throws MatrixException if the matrix is not square or a diagonal value is zero
+	 */
+	public static JacobiPreconditioner createFrom(DoubleMatrix aMatrix) throws MatrixException
+	{
+		int lSize = aMatrix.getSizeX();
+		if (aMatrix.getSizeY() != lSize) throw new MatrixDimensionException("Matrix must be square (sizeX=" + lSize + ", sizeY=" + aMatrix.getSizeY() + ")");
+
+		double[] lData = aMatrix.getData();
+		double[] lDiag = new double[lSize];
+		for (int i = 0; i < lSize; i++) lDiag[i] = lData[i * lSize + i];
+		return new JacobiPreconditioner(lDiag);
+	}
+
+	/**
+	 * Creates a jacobi preconditioner from a CSR matrix.
+	 *
+	 * @param aMatrix the reference matrix (square)
+	 * @return the jacobi preconditioner
+	 * @throws MatrixException if the matrix is not square or a diagonal value is zero
+	 */
+	public static JacobiPreconditioner createFrom(CSRMatrix<? extends Number> aMatrix) throws MatrixException
+	{
+		int lSize = aMatrix.getSizeX();
+		if (aMatrix.getSizeY() != lSize) throw new MatrixDimensionException("Matrix must be square (sizeX=" + lSize + ", sizeY=" + aMatrix.getSizeY() + ")");
+
+		int[] lPtr = aMatrix.getPointers();
+		int[] lIdx = aMatrix.getIndices();
+		Object[] lValues = aMatrix.getValues();
+		double[] lDiag = new double[lSize];
+		for (int iY = 0; iY < lSize; iY++)
+		{
+			for (int i = lPtr[iY]; i < lPtr[iY + 1]; i++)
+			{
+				if (lIdx[i] == iY) lDiag[iY] = ((Number) lValues[i]).doubleValue();
+			}
+		}
+		return new JacobiPreconditioner(lDiag);
+	}
+}
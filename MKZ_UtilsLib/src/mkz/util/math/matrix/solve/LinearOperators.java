@@ -0,0 +1,178 @@
+/**
+ * File: MKZ_UtilsLib::LinearOperators.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.math.matrix.solve;
+
+import java.util.Arrays;
+
+import mkz.util.math.matrix.DoubleMatrix;
+import mkz.util.math.matrix.Matrix;
+import mkz.util.math.matrix.debug.MatrixDimensionException;
+import mkz.util.math.matrix.debug.MatrixException;
+import mkz.util.math.matrix.solve.definition.ILinearOperator;
+import mkz.util.math.matrix.sparse.CSCMatrix;
+import mkz.util.math.matrix.sparse.CSRMatrix;
+import mkz.util.math.matrix.sparse.SparseMatrix;
+
+/**
+ * The Class LinearOperators. Factory of {@link mkz.util.math.matrix.solve.definition.ILinearOperator linear operators}
+ * for the dense and sparse matrix types. The values are unboxed once when the operator is created, later changes of
+ * a generic or sparse matrix are not seen by the operator (changes of a DoubleMatrix are).
+ */
+public final class LinearOperators
+{
+	/**
+	 * Instantiates a new linear operators.
+	 */
+	private LinearOperators()
+	{
+	}
+
+	/**
+	 * Creates the operator of a dense matrix (works on the data of the matrix).
+	 *
+	 * @param aMatrix the reference matrix (square)
+	 * @return the linear operator
+	 * @throws MatrixDimensionException if the matrix is not square
+	 */
+	public static ILinearOperator createFrom(DoubleMatrix aMatrix) throws MatrixDimensionException
+	{
+		final int lSize = _checkSquare(aMatrix.getSizeX(), aMatrix.getSizeY());
+		final double[] lData = aMatrix.getData();
+
+		return new ILinearOperator()
+		{
+			@Override
+			public int getSize()
+			{
+				return lSize;
+			}
+
+			@Override
+			public void apply(double[] aX, double[] rY)
+			{
+				for (int iY = 0; iY < lSize; iY++)
+				{
+					int lOff = iY * lSize;
+					double lSum = 0d;
+					for (int iX = 0; iX < lSize; iX++) lSum += lData[lOff + iX] * aX[iX];
+					rY[iY] = lSum;
+				}
+			}
+		};
+	}
+
+	/**
+	 * Creates the operator of a generic dense matrix (converted to a {@link mkz.util.math.matrix.DoubleMatrix DoubleMatrix}).
+	 *
+	 * @param aMatrix the reference matrix (square)
+	 * @return the linear operator
+	 * @throws MatrixException if the matrix is not square
+	 */
+	public static ILinearOperator createFrom(Matrix<Double> aMatrix) throws MatrixException
+	{
+		return createFrom(DoubleMatrix.createFrom(aMatrix));
+	}
+
+	/**
+	 * Creates the operator of a CSR matrix, O(nnz) per product.
+	 *
+	 * @param aMatrix the reference matrix (square)
+	 * @return the linear operator
+	 * @throws MatrixDimensionException if the matrix is not square
+	 */
+	public static ILinearOperator createFrom(CSRMatrix<? extends Number> aMatrix) throws MatrixDimensionException
+	{
+		final int lSize = _checkSquare(aMatrix.getSizeX(), aMatrix.getSizeY());
+		final int[] lPtr = aMatrix.getPointers();
+		final int[] lIdx = aMatrix.getIndices();
+		final double[] lValues = unbox(aMatrix);
+
+		return new ILinearOperator()
+		{
+			@Override
+			public int getSize()
+			{
+				return lSize;
+			}
+
+			@Override
+			public void apply(double[] aX, double[] rY)
+			{
+				for (int iY = 0; iY < lSize; iY++)
+				{
+					double lSum = 0d;
+					for (int i = lPtr[iY]; i < lPtr[iY + 1]; i++) lSum += lValues[i] * aX[lIdx[i]];
+					rY[iY] = lSum;
+				}
+			}
+		};
+	}
+
+	/**
+	 * Creates the operator of a CSC matrix, O(nnz) per product.
+	 *
+	 * @param aMatrix the reference matrix (square)
+	 * @return the linear operator
+	 * @throws MatrixDimensionException if the matrix is not square
+	 */
+	public static ILinearOperator createFrom(CSCMatrix<? extends Number> aMatrix) throws MatrixDimensionException
+	{
+		final int lSize = _checkSquare(aMatrix.getSizeX(), aMatrix.getSizeY());
+		final int[] lPtr = aMatrix.getPointers();
+		final int[] lIdx = aMatrix.getIndices();
+		final double[] lValues = unbox(aMatrix);
+
+		return new ILinearOperator()
+		{
+			@Override
+			public int getSize()
+			{
+				return lSize;
+			}
+
+			@Override
+			public void apply(double[] aX, double[] rY)
+			{
+				Arrays.fill(rY, 0, lSize, 0d);
+				for (int iX = 0; iX < lSize; iX++)
+				{
+					double lX = aX[iX];
+					if (lX == 0d) continue;
+					for (int i = lPtr[iX]; i < lPtr[iX + 1]; i++) rY[lIdx[i]] += lValues[i] * lX;
+				}
+			}
+		};
+	}
+
+	/**
+	 * Unboxes the stored values of a sparse matrix (the first nnz values).
+	 *
+	 * @param aMatrix the reference matrix
+	 * @return the values
+	 */
+	static double[] unbox(SparseMatrix<? extends Number> aMatrix)
+	{
+		Object[] lValues = aMatrix.getValues();
+		double[] rVal = new double[aMatrix.getNonZeros()];
+		for (int i = 0; i < rVal.length; i++) rVal[i] = ((Number) lValues[i]).doubleValue();
+		return rVal;
+	}
+
+	/**
+	 * [restricted] Checks that a matrix is square.
+	 *
+	 * @param aSizeX the reference size x
+	 * @param aSizeY the reference size y
+	 * @return the size
+	 * @throws MatrixDimensionException if the matrix is not square
+	 */
+	private static int _checkSquare(int aSizeX, int aSizeY) throws MatrixDimensionException
+	{
+		if (aSizeX != aSizeY) throw new MatrixDimensionException("Matrix must be square (sizeX=" + aSizeX + ", sizeY=" + aSizeY + ")");
+		return aSizeX;
+	}
+}
@@ -0,0 +1,144 @@
+/**
+ * File: MKZ_UtilsLib::SolverOptions.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.math.matrix.solve;
+
+import mkz.util.math.matrix.solve.definition.IPreconditioner;
+import mkz.util.math.matrix.solve.definition.IResidualListener;
+
+/**
+ * The Class SolverOptions. Settings of an {@link mkz.util.math.matrix.solve.IterativeSolver iterative solver}, the solver
+ * stops as soon as the relative residual |b - A*x| / |b| is not bigger than the tolerance or the iteration limit is
+ * reached.
+ */
+public class SolverOptions
+{
+	/** The default tolerance. */
+	public static final double DEFAULT_TOLERANCE = 1e-8;
+
+	/** The default max iterations. */
+	public static final int DEFAULT_MAX_ITERATIONS = 1000;
+
+	/** The default restart (GMRES). */
+	public static final int DEFAULT_RESTART = 30;
+
+	/** The member tolerance (relative residual). */
+	protected double mTolerance = DEFAULT_TOLERANCE;
+
+	/** The member max iterations. */
+	protected int mMaxIterations = DEFAULT_MAX_ITERATIONS;
+
+	/** The member restart (size of the krylov space of GMRES). */
+	protected int mRestart = DEFAULT_RESTART;
+
+	/** The member preconditioner (null: none). */
+	protected IPreconditioner mPreconditioner = null;
+
+	/** The member residual listener (null: none). */
+	protected IResidualListener mListener = null;
+
+	/**
+	 * Gets the tolerance.
+	 *
+	 * @return the tolerance
+	 */
+	public double getTolerance()
+	{
+		return mTolerance;
+	}
+
+	/**
+	 * Sets the tolerance (relative residual |b - A*x| / |b|).
+	 *
+	 * @param aTolerance the new tolerance (positive)
+	 * @throws IllegalArgumentException if the tolerance is not positive
+	 */
+	public void setTolerance(double aTolerance)
+	{
+		if (!(aTolerance > 0d)) throw new IllegalArgumentException("Tolerance must be positive: " + aTolerance);
+		mTolerance = aTolerance;
+	}
+
+	/**
+	 * Gets the max iterations.
+	 *
+	 * @return the max iterations
+	 */
+	public int getMaxIterations()
+	{
+		return mMaxIterations;
+	}
+
+	/**
+	 * Sets the max iterations (matrix-vector products for CG and GMRES, twice as many for BiCGSTAB).
+	 *
+	 * @param aMaxIterations the new max iterations (at least 1)
+	 */
+	public void setMaxIterations(int aMaxIterations)
+	{
+		mMaxIterations = Math.max(1, aMaxIterations);
+	}
+
+	/**
+	 * Gets the restart.
+	 *
+	 * @return the restart
+	 */
+	public int getRestart()
+	{
+		return mRestart;
+	}
+
+	/**
+	 * Sets the restart of GMRES (number of basis vectors kept, memory is restart*n doubles).
+	 *
+	 * @param aRestart the new restart (at least 1)
+	 */
+	public void setRestart(int aRestart)
+	{
+		mRestart = Math.max(1, aRestart);
+	}
+
+	/**
+	 * Gets the preconditioner.
+	 *
+	 * @return the preconditioner
+	 */
+	public IPreconditioner getPreconditioner()
+	{
+		return mPreconditioner;
+	}
+
+	/**
+	 * Sets the preconditioner (null: none). CG needs a symmetric positive definite preconditioner.
+	 *
+	 * @param aPreconditioner the new preconditioner
+	 */
+	public void setPreconditioner(IPreconditioner aPreconditioner)
+	{
+		mPreconditioner = aPreconditioner;
+	}
+
+	/**
+	 * Gets the residual listener.
+	 *
+	 * @return the residual listener
+	 */
+	public IResidualListener getResidualListener()
+	{
+		return mListener;
+	}
+
+	/**
+	 * Sets the residual listener (null: none), called after every iteration.
+	 *
+	 * @param aListener the new residual listener
+	 */
+	public void setResidualListener(IResidualListener aListener)
+	{
+		mListener = aListener;
+	}
+}
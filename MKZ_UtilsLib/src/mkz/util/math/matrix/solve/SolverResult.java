@@ -0,0 +1,93 @@
+/**
+ * File: MKZ_UtilsLib::SolverResult.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.math.matrix.solve;
+
+/**
+ * The Class SolverResult. Result of an {@link mkz.util.math.matrix.solve.IterativeSolver iterative solver}: the last
+ * approximation of x, also if the solver didn't converge.
+ */
+public class SolverResult
+{
+	/** The member solution. */
+	private final double[] mSolution;
+
+	/** The member iterations. */
+	private final int mIterations;
+
+	/** The member relative residual. */
+	private final double mResidual;
+
+	/** The member converged flag. */
+	private final boolean mConverged;
+
+	/**
+	 * Instantiates a new solver result.
+	 *
+	 * @param aSolution the reference solution
+	 * @param aIterations the reference iterations
+	 * @param aResidual the reference relative residual
+	 * @param isConverged the reference converged flag
+	 */
+	SolverResult(double[] aSolution, int aIterations, double aResidual, boolean isConverged)
+	{
+		mSolution = aSolution;
+		mIterations = aIterations;
+		mResidual = aResidual;
+		mConverged = isConverged;
+	}
+
+	/**
+	 * Gets the solution x (the array is not copied).
+	 *
+	 * @return the solution
+	 */
+	public double[] getSolution()
+	{
+		return mSolution;
+	}
+
+	/**
+	 * Gets the number of iterations.
+	 *
+	 * @return the iterations
+	 */
+	public int getIterations()
+	{
+		return mIterations;
+	}
+
+	/**
+	 * Gets the relative residual |b - A*x| / |b| of the last iteration (as updated by the solver, may differ
+	 * slightly from the one recomputed from x).
+	 *
+	 * @return the residual
+	 */
+	public double getResidual()
+	{
+		return mResidual;
+	}
+
+	/**
+	 * Checks if the tolerance has been reached (false if the iteration limit was hit, the listener aborted or
+	 * the method broke down).
+	 *
+	 * @return true, if is converged
+	 */
+	public boolean isConverged()
+	{
+		return mConverged;
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString()
+	{
+		return (mConverged ? "converged" : "not converged") + " after " + mIterations + " iterations, residual=" + mResidual;
+	}
+}
@@ -0,0 +1,30 @@
+/**
+ * File: MKZ_UtilsLib::ILinearOperator.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.math.matrix.solve.definition;
+
+/**
+ * The Interface ILinearOperator. A square matrix that is only known by its matrix-vector product, the input of the
+ * {@link mkz.util.math.matrix.solve.IterativeSolver iterative solvers}. Operators for dense and sparse matrices are
+ * created by {@link mkz.util.math.matrix.solve.LinearOperators LinearOperators}.
+ */
+public interface ILinearOperator
+{
+	/**
+	 * Gets the size (number of rows and columns).
+	 *
+	 * @return the size
+	 */
+	public int getSize();
+
+	/**
+	 * Computes the matrix-vector product y = A*x.
+	 *
+	 * @param aX the reference x (not modified)
+	 * @param rY the return y (overwritten, never the same array as x)
+	 */
+	public void apply(double[] aX, double[] rY);
+}
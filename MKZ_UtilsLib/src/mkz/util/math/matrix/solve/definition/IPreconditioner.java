@@ -0,0 +1,23 @@
+/**
+ * File: MKZ_UtilsLib::IPreconditioner.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.math.matrix.solve.definition;
+
+/**
+ * The Interface IPreconditioner. Approximate inverse M^-1 of the system matrix, applied once (CG, GMRES) or twice
+ * (BiCGSTAB) per iteration of an {@link mkz.util.math.matrix.solve.IterativeSolver iterative solver}.
+ */
+@FunctionalInterface
+public interface IPreconditioner
+{
+	/**
+	 * Solves M*z = r.
+	 *
+	 * @param aR the reference r (not modified)
+	 * @param rZ the return z (overwritten, never the same array as r)
+	 */
+	public void apply(double[] aR, double[] rZ);
+}
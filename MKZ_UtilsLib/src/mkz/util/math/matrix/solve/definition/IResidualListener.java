@@ -0,0 +1,24 @@
+/**
+ * File: MKZ_UtilsLib::IResidualListener.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.math.matrix.solve.definition;
+
+/**
+ * The Interface IResidualListener. Called by the {@link mkz.util.math.matrix.solve.IterativeSolver iterative solvers}
+ * after every iteration to watch (or abort) the convergence.
+ */
+@FunctionalInterface
+public interface IResidualListener
+{
+	/**
+	 * Called after an iteration.
+	 *
+	 * @param aIteration the reference iteration (starting at 1)
+	 * @param aResidual the reference relative residual |b - A*x| / |b|
+	 * @return true to continue, false to abort the solver
+	 */
+	public boolean onIteration(int aIteration, double aResidual);
+}
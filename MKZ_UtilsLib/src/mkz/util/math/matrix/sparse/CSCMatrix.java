@@ -0,0 +1,112 @@
+/**
+ * File: MKZ_UtilsLib::CSCMatrix.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.math.matrix.sparse;
+
+import mkz.util.math.matrix.Matrix;
+import mkz.util.math.matrix.debug.MatrixDimensionException;
+import mkz.util.math.matrix.debug.MatrixException;
+import mkz.util.math.op.ArithmeticOperator;
+
+/**
+ * The Class CSCMatrix. Sparse matrix in compressed sparse column format: the non zero values of column x are stored
+ * at the positions ptr[x]..ptr[x+1]-1 together with their row index (see {@link mkz.util.math.matrix.sparse.SparseMatrix SparseMatrix}).
+ *
+ * @param <T> the generic type
+ */
+public class CSCMatrix<T> extends SparseMatrix<T>
+{
+	/**
+	 * Instantiates a new CSC matrix on top of the given arrays (the arrays are not copied).
+	 *
+	 * @param aSizeX the reference size x
+	 * @param aSizeY the reference size y
+	 * @param aColPtr the reference column pointers (length sizeX+1)
+	 * @param aRowIdx the reference row indices (ascending within each column)
+	 * @param aValues the reference values
+	 * @param aZero the reference zero value
+	 * @throws MatrixDimensionException if the arrays don't match the sizes
+	 */
+	public CSCMatrix(int aSizeX, int aSizeY, int[] aColPtr, int[] aRowIdx, Object[] aValues, T aZero) throws MatrixDimensionException
+	{
+		super(aSizeX, aSizeY, aSizeX, aColPtr, aRowIdx, aValues, aZero);
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.matrix.sparse.SparseMatrix#isRowMajor()
+	 */
+	@Override
+	public boolean isRowMajor()
+	{
+		return false;
+	}
+
+	/**
+	 * Converts to the compressed sparse row format (O(nnz)).
+	 *
+	 * @return the CSR matrix
+	 * @throws MatrixDimensionException the matrix dimension exception
+	 */
+	public CSRMatrix<T> toCSR() throws MatrixDimensionException
+	{
+		int lNonZeros = getNonZeros();
+		int[] lPtr = new int[mSizeY + 1];
+		int[] lIdx = new int[lNonZeros];
+		Object[] lValues = new Object[lNonZeros];
+
+		_transposeInto(mSizeY, lPtr, lIdx, lValues);
+		return new CSRMatrix<T>(mSizeX, mSizeY, lPtr, lIdx, lValues, mZero);
+	}
+
+	/**
+	 * Gets the transposed matrix in CSR format. The CSC arrays of a matrix are the CSR arrays of its
+	 * transposed, so no data is copied (the result shares the storage of this matrix).
+	 *
+	 * @return the transposed
+	 * @throws MatrixDimensionException the matrix dimension exception
+	 */
+	public CSRMatrix<T> getTransposed() throws MatrixDimensionException
+	{
+		return new CSRMatrix<T>(mSizeY, mSizeX, mPtr, mIdx, mValues, mZero);
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////////
+	// FACTORY TOOLS
+	//////////////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Creates a CSC matrix from a dense matrix, all values that compare equal to zero are dropped.
+	 *
+	 * @param <T> the generic type
+	 * @param aMatrix the reference matrix
+	 * @param aOp the reference arithmetic operator
+	 * @return the CSC matrix
+	 * @throws MatrixException the matrix exception
+	 */
+	public static <T> CSCMatrix<T> createFrom(Matrix<T> aMatrix, ArithmeticOperator<T> aOp) throws MatrixException
+	{
+		return CSRMatrix.createFrom(aMatrix, aOp).toCSC();
+	}
+
+	/**
+	 * Creates a CSC matrix from coordinate triplets (x[i], y[i], values[i]) in any order, see
+	 * {@link mkz.util.math.matrix.sparse.CSRMatrix#createFromTriplets CSRMatrix::createFromTriplets}.
+	 *
+	 * @param <T> the generic type
+	 * @param aSizeX the reference size x
+	 * @param aSizeY the reference size y
+	 * @param aX the reference column indices
+	 * @param aY the reference row indices
+	 * @param aValues the reference values
+	 * @param aOp the reference arithmetic operator
+	 * @return the CSC matrix
+	 * @throws MatrixDimensionException if the triplet arrays differ in length or hold invalid coordinates
+	 */
+	public static <T> CSCMatrix<T> createFromTriplets(int aSizeX, int aSizeY, int[] aX, int[] aY, Object[] aValues, ArithmeticOperator<T> aOp) throws MatrixDimensionException
+	{
+		return CSRMatrix.createFromTriplets(aSizeY, aSizeX, aY, aX, aValues, aOp).getTransposed();
+	}
+}
@@ -0,0 +1,189 @@
+/**
+ * File: MKZ_UtilsLib::CSRMatrix.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.math.matrix.sparse;
+
+import java.util.Arrays;
+
+import mkz.util.math.matrix.Matrix;
+import mkz.util.math.matrix.debug.MatrixDimensionException;
+import mkz.util.math.matrix.debug.MatrixException;
+import mkz.util.math.op.ArithmeticOperator;
+
+/**
+ * The Class CSRMatrix. Sparse matrix in compressed sparse row format: the non zero values of row y are stored
+ * at the positions ptr[y]..ptr[y+1]-1 together with their column index (see {@link mkz.util.math.matrix.sparse.SparseMatrix SparseMatrix}).
+ *
+ * @param <T> the generic type
+ */
+public class CSRMatrix<T> extends SparseMatrix<T>
+{
+	/**
+	 * Instantiates a new CSR matrix on top of the given arrays (the arrays are not copied).
+	 *
+	 * @param aSizeX the reference size x
+	 * @param aSizeY the reference size y
+	 * @param aRowPtr the reference row pointers (length sizeY+1)
+	 * @param aColIdx the reference column indices (ascending within each row)
+	 * @param aValues the reference values
+	 * @param aZero the reference zero value
+	 * @throws MatrixDimensionException if the arrays don't match the sizes
+	 */
+	public CSRMatrix(int aSizeX, int aSizeY, int[] aRowPtr, int[] aColIdx, Object[] aValues, T aZero) throws MatrixDimensionException
+	{
+		super(aSizeX, aSizeY, aSizeY, aRowPtr, aColIdx, aValues, aZero);
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.matrix.sparse.SparseMatrix#isRowMajor()
+	 */
+	@Override
+	public boolean isRowMajor()
+	{
+		return true;
+	}
+
+	/**
+	 * Converts to the compressed sparse column format (O(nnz)).
+	 *
+	 * @return the CSC matrix
+	 * @throws MatrixDimensionException the matrix dimension exception
+	 */
+	public CSCMatrix<T> toCSC() throws MatrixDimensionException
+	{
+		int lNonZeros = getNonZeros();
+		int[] lPtr = new int[mSizeX + 1];
+		int[] lIdx = new int[lNonZeros];
+		Object[] lValues = new Object[lNonZeros];
+
+		_transposeInto(mSizeX, lPtr, lIdx, lValues);
+		return new CSCMatrix<T>(mSizeX, mSizeY, lPtr, lIdx, lValues, mZero);
+	}
+
+	/**
+	 * Gets the transposed matrix in CSC format. The CSR arrays of a matrix are the CSC arrays of its
+	 * transposed, so no data is copied (the result shares the storage of this matrix).
+	 *
+	 * @return the transposed
+	 * @throws MatrixDimensionException the matrix dimension exception
+	 */
+	public CSCMatrix<T> getTransposed() throws MatrixDimensionException
+	{
+		return new CSCMatrix<T>(mSizeY, mSizeX, mPtr, mIdx, mValues, mZero);
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////////
+	// FACTORY TOOLS
+	//////////////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Creates a CSR matrix from a dense matrix, all values that compare equal to zero are dropped.
+	 *
+	 * @param <T> the generic type
+	 * @param aMatrix the reference matrix
+	 * @param aOp the reference arithmetic operator
+	 * @return the CSR matrix
+	 * @throws MatrixException the matrix exception
+	 */
+	public static <T> CSRMatrix<T> createFrom(Matrix<T> aMatrix, ArithmeticOperator<T> aOp) throws MatrixException
+	{
+		int lSizeX = aMatrix.getSizeX();
+		int lSizeY = aMatrix.getSizeY();
+		T lZero = aOp.getZero();
+
+		int[] lPtr = new int[lSizeY + 1];
+		for (int iY = 0; iY < lSizeY; iY++)
+		{
+			int lCount = 0;
+			for (int iX = 0; iX < lSizeX; iX++) if (aOp.compare(aMatrix.get(iX, iY), lZero) != 0) lCount++;
+			lPtr[iY + 1] = lPtr[iY] + lCount;
+		}
+
+		int[] lIdx = new int[lPtr[lSizeY]];
+		Object[] lValues = new Object[lPtr[lSizeY]];
+		int lPos = 0;
+		for (int iY = 0; iY < lSizeY; iY++)
+		{
+			for (int iX = 0; iX < lSizeX; iX++)
+			{
+				T lVal = aMatrix.get(iX, iY);
+				if (aOp.compare(lVal, lZero) != 0)
+				{
+					lIdx[lPos] = iX;
+					lValues[lPos++] = lVal;
+				}
+			}
+		}
+
+		return new CSRMatrix<T>(lSizeX, lSizeY, lPtr, lIdx, lValues, lZero);
+	}
+
+	/**
+	 * Creates a CSR matrix from coordinate triplets (x[i], y[i], values[i]) in any order. Duplicate
+	 * coordinates are summed up, values that are (or sum up to) zero are dropped. Runs in O(nnz+sizeX+sizeY).
+	 *
+	 * @param <T> the generic type
+	 * @param aSizeX the reference size x
+	 * @param aSizeY the reference size y
+	 * @param aX the reference column indices
+	 * @param aY the reference row indices
+	 * @param aValues the reference values
+	 * @param aOp the reference arithmetic operator
+	 * @return the CSR matrix
+	 * @throws MatrixDimensionException if the triplet arrays differ in length or hold invalid coordinates
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> CSRMatrix<T> createFromTriplets(int aSizeX, int aSizeY, int[] aX, int[] aY, Object[] aValues, ArithmeticOperator<T> aOp) throws MatrixDimensionException
+	{
+		int lCount = aValues.length;
+		if (aX.length != lCount || aY.length != lCount) throw new MatrixDimensionException("Triplet arrays must have the same length: x=" + aX.length + "; y=" + aY.length + "; values=" + lCount);
+		for (int i = 0; i < lCount; i++)
+		{
+			if (aX[i] < 0 || aX[i] >= aSizeX || aY[i] < 0 || aY[i] >= aSizeY) throw new MatrixDimensionException("Invalid field x=" + aX[i] + "; y=" + aY[i] + "; sizeX=" + aSizeX + "; sizeY=" + aSizeY);
+		}
+
+		// radix sort: first by column, then (stable) by row
+		int[] lColPtr = new int[aSizeX + 1];
+		for (int i = 0; i < lCount; i++) lColPtr[aX[i] + 1]++;
+		for (int i = 0; i < aSizeX; i++) lColPtr[i + 1] += lColPtr[i];
+		int[] lByCol = new int[lCount];
+		for (int i = 0; i < lCount; i++) lByCol[lColPtr[aX[i]]++] = i;
+
+		int[] lRowPtr = new int[aSizeY + 1];
+		for (int i = 0; i < lCount; i++) lRowPtr[aY[i] + 1]++;
+		for (int i = 0; i < aSizeY; i++) lRowPtr[i + 1] += lRowPtr[i];
+		int[] lNext = Arrays.copyOf(lRowPtr, aSizeY);
+		int[] lSorted = new int[lCount];
+		for (int i = 0; i < lCount; i++) lSorted[lNext[aY[lByCol[i]]]++] = lByCol[i];
+
+		// merge duplicates, drop zeros
+		int[] lPtr = new int[aSizeY + 1];
+		int[] lIdx = new int[lCount];
+		Object[] lValues = new Object[lCount];
+		int lPos = 0;
+		T lZero = aOp.getZero();
+
+		for (int iY = 0; iY < aSizeY; iY++)
+		{
+			int i = lRowPtr[iY];
+			while (i < lRowPtr[iY + 1])
+			{
+				int lCol = aX[lSorted[i]];
+				T lSum = (T) aValues[lSorted[i++]];
+				while (i < lRowPtr[iY + 1] && aX[lSorted[i]] == lCol) lSum = aOp.add(lSum, (T) aValues[lSorted[i++]]);
+
+				if (aOp.compare(lSum, lZero) != 0)
+				{
+					lIdx[lPos] = lCol;
+					lValues[lPos++] = lSum;
+				}
+			}
+			lPtr[iY + 1] = lPos;
+		}
+
+		return new CSRMatrix<T>(aSizeX, aSizeY, lPtr, lIdx, lValues, lZero);
+	}
+}
@@ -0,0 +1,243 @@
+/**
+ * File: MKZ_UtilsLib::SparseMatrix.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.math.matrix.sparse;
+
+import java.util.Arrays;
+
+import mkz.util.math.matrix.Matrix;
+import mkz.util.math.matrix.debug.MatrixDimensionException;
+
+/**
+ * The Class SparseMatrix. Base of the compressed sparse matrix formats {@link mkz.util.math.matrix.sparse.CSRMatrix CSR}
+ * (compressed rows) and {@link mkz.util.math.matrix.sparse.CSCMatrix CSC} (compressed columns). Only the non zero elements
+ * are stored: the values and minor indices (column for CSR, row for CSC) of the major line i (row for CSR, column for CSC)
+ * are found at the positions ptr[i]..ptr[i+1]-1 of the value and index arrays, ordered by the minor index. For arithmetic
+ * operations use the {@link mkz.util.math.matrix.sparse.op.SparseMatrixOperator SparseMatrixOperator}
+ * (or {@link mkz.util.math.AOP.SMTX AOP::SMTX} for standard types).
+ *
+ * @param <T> the generic type
+ */
+public abstract class SparseMatrix<T>
+{
+	/** The member size x. */
+	protected int mSizeX = 0;
+
+	/** The member size y. */
+	protected int mSizeY = 0;
+
+	/** The member pointers (start of each major line, length majorSize+1). */
+	protected int[] mPtr = null;
+
+	/** The member minor indices. */
+	protected int[] mIdx = null;
+
+	/** The member values. */
+	protected Object[] mValues = null;
+
+	/** The member zero (value of all fields that are not stored). */
+	protected T mZero = null;
+
+	/**
+	 * Instantiates a new sparse matrix on top of the given arrays (the arrays are not copied).
+	 *
+	 * @param aSizeX the reference size x
+	 * @param aSizeY the reference size y
+	 * @param aMajorSize the reference major size (sizeY for CSR, sizeX for CSC)
+	 * @param aPtr the reference pointers
+	 * @param aIdx the reference minor indices
+	 * @param aValues the reference values
+	 * @param aZero the reference zero value
+	 * @throws MatrixDimensionException if the arrays don't match the sizes
+	 */
+	protected SparseMatrix(int aSizeX, int aSizeY, int aMajorSize, int[] aPtr, int[] aIdx, Object[] aValues, T aZero) throws MatrixDimensionException
+	{
+		if (aPtr.length != aMajorSize + 1) throw new MatrixDimensionException("Pointer array must have majorSize+1 elements: length=" + aPtr.length + "; majorSize=" + aMajorSize);
+		int lNonZeros = aPtr[aMajorSize];
+		if (aIdx.length < lNonZeros || aValues.length < lNonZeros) throw new MatrixDimensionException("Index and value arrays must hold " + lNonZeros + " elements: indices=" + aIdx.length + "; values=" + aValues.length);
+
+		mSizeX = aSizeX;
+		mSizeY = aSizeY;
+		mPtr = aPtr;
+		mIdx = aIdx;
+		mValues = aValues;
+		mZero = aZero;
+	}
+
+	/**
+	 * Checks if the major lines are rows (CSR).
+	 *
+	 * @return true, if is row major
+	 */
+	public abstract boolean isRowMajor();
+
+	/**
+	 * Gets the.
+	 *
+	 * @param x the x
+	 * @param y the y
+	 * @return the t
+	 * @throws MatrixDimensionException the matrix dimension exception
+	 */
+	public T get(int x, int y) throws MatrixDimensionException
+	{
+		if (x < 0 || y < 0 || x >= mSizeX || y >= mSizeY) throw new MatrixDimensionException("Invalid field x=" + x + "; y=" + y + "; sizeX=" + mSizeX + "; sizeY=" + mSizeY);
+		return isRowMajor() ? _get(y, x) : _get(x, y);
+	}
+
+	/**
+	 * Gets the size x.
+	 *
+	 * @return the size x
+	 */
+	public int getSizeX()
+	{
+		return mSizeX;
+	}
+
+	/**
+	 * Gets the size y.
+	 *
+	 * @return the size y
+	 */
+	public int getSizeY()
+	{
+		return mSizeY;
+	}
+
+	/**
+	 * Gets the number of stored (non zero) elements.
+	 *
+	 * @return the non zeros
+	 */
+	public int getNonZeros()
+	{
+		return mPtr[mPtr.length - 1];
+	}
+
+	/**
+	 * Gets the pointers (backing array, no copy).
+	 *
+	 * @return the pointers
+	 */
+	public int[] getPointers()
+	{
+		return mPtr;
+	}
+
+	/**
+	 * Gets the minor indices (backing array, no copy).
+	 *
+	 * @return the indices
+	 */
+	public int[] getIndices()
+	{
+		return mIdx;
+	}
+
+	/**
+	 * Gets the values (backing array, no copy).
+	 *
+	 * @return the values
+	 */
+	public Object[] getValues()
+	{
+		return mValues;
+	}
+
+	/**
+	 * Gets the zero.
+	 *
+	 * @return the zero
+	 */
+	public T getZero()
+	{
+		return mZero;
+	}
+
+	/**
+	 * Converts to a dense matrix.
+	 *
+	 * @return the matrix
+	 */
+	public Matrix<T> toMatrix()
+	{
+		Object[][] lContent = new Object[mSizeY][mSizeX];
+		for (Object[] iRow : lContent) Arrays.fill(iRow, mZero);
+
+		for (int iMajor = 0; iMajor < mPtr.length - 1; iMajor++)
+		{
+			for (int i = mPtr[iMajor]; i < mPtr[iMajor + 1]; i++)
+			{
+				if (isRowMajor()) lContent[iMajor][mIdx[i]] = mValues[i];
+				else lContent[mIdx[i]][iMajor] = mValues[i];
+			}
+		}
+
+		return new Matrix<T>(lContent);
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString()
+	{
+		return toMatrix().toString();
+	}
+
+	/**
+	 * [restricted] Gets the value at the major/minor position (binary search in the major line).
+	 *
+	 * @param aMajor the reference major
+	 * @param aMinor the reference minor
+	 * @return the t
+	 */
+	@SuppressWarnings("unchecked")
+	protected T _get(int aMajor, int aMinor)
+	{
+		int lLow = mPtr[aMajor];
+		int lHigh = mPtr[aMajor + 1] - 1;
+
+		while (lLow <= lHigh)
+		{
+			int lMid = (lLow + lHigh) >>> 1;
+			if (mIdx[lMid] < aMinor) lLow = lMid + 1;
+			else if (mIdx[lMid] > aMinor) lHigh = lMid - 1;
+			else return (T) mValues[lMid];
+		}
+
+		return mZero;
+	}
+
+	/**
+	 * [restricted] Computes the compressed arrays of the other orientation (counting sort in O(nnz)), i.e. converts
+	 * CSR arrays to CSC arrays and vice versa. The output arrays must have the sizes minorSize+1 and nnz.
+	 *
+	 * @param aMinorSize the reference minor size
+	 * @param rPtr the return pointers
+	 * @param rIdx the return indices
+	 * @param rValues the return values
+	 */
+	protected void _transposeInto(int aMinorSize, int[] rPtr, int[] rIdx, Object[] rValues)
+	{
+		int lNonZeros = getNonZeros();
+
+		for (int i = 0; i < lNonZeros; i++) rPtr[mIdx[i] + 1]++;
+		for (int i = 0; i < aMinorSize; i++) rPtr[i + 1] += rPtr[i];
+
+		int[] lNext = Arrays.copyOf(rPtr, aMinorSize);
+		for (int iMajor = 0; iMajor < mPtr.length - 1; iMajor++)
+		{
+			for (int i = mPtr[iMajor]; i < mPtr[iMajor + 1]; i++)
+			{
+				int lPos = lNext[mIdx[i]]++;
+				rIdx[lPos] = iMajor;
+				rValues[lPos] = mValues[i];
+			}
+		}
+	}
+}
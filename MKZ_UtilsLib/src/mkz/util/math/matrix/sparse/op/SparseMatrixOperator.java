@@ -0,0 +1,453 @@
+/**
+ * File: MKZ_UtilsLib::SparseMatrixOperator.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.math.matrix.sparse.op;
+
+import java.util.Arrays;
+
+import mkz.util.math.matrix.Matrix;
+import mkz.util.math.matrix.debug.MatrixDimensionException;
+import mkz.util.math.matrix.debug.MatrixException;
+import mkz.util.math.matrix.sparse.CSCMatrix;
+import mkz.util.math.matrix.sparse.CSRMatrix;
+import mkz.util.math.matrix.sparse.SparseMatrix;
+import mkz.util.math.op.ArithmeticOperator;
+
+/**
+ * Holds all implementations used to perform sparse matrix operations in an entirely generic way.
+ * Uses an {@link mkz.util.math.op.ArithmeticOperator ArithmeticOperator} to perform math operations, only
+ * the stored (non zero) elements are touched. Results that cancel out to zero are not stored.
+ *
+ * @param <T> the generic type
+ */
+public class SparseMatrixOperator<T>
+{
+	/** The member op. */
+	private ArithmeticOperator<T> mOp = null;
+
+	/**
+	 * Instantiates a new sparse matrix operator.
+	 *
+	 * @param aOperationBase the reference operation base
+	 */
+	public SparseMatrixOperator(ArithmeticOperator<T> aOperationBase)
+	{
+		mOp = aOperationBase;
+	}
+
+	/**
+	 * Adds the.
+	 *
+	 * @param aM1 the reference m1
+	 * @param aM2 the reference m2
+	 * @return the CSR matrix
+	 * @throws MatrixException the matrix exception
+	 */
+	public CSRMatrix<T> add(CSRMatrix<T> aM1, CSRMatrix<T> aM2) throws MatrixException
+	{
+		_checkSameSize(aM1, aM2);
+		Object[] lRes = _merge(aM1, aM2, false);
+		return new CSRMatrix<T>(aM1.getSizeX(), aM1.getSizeY(), (int[]) lRes[0], (int[]) lRes[1], (Object[]) lRes[2], mOp.getZero());
+	}
+
+	/**
+	 * Adds the.
+	 *
+	 * @param aM1 the reference m1
+	 * @param aM2 the reference m2
+	 * @return the CSC matrix
+	 * @throws MatrixException the matrix exception
+	 */
+	public CSCMatrix<T> add(CSCMatrix<T> aM1, CSCMatrix<T> aM2) throws MatrixException
+	{
+		_checkSameSize(aM1, aM2);
+		Object[] lRes = _merge(aM1, aM2, false);
+		return new CSCMatrix<T>(aM1.getSizeX(), aM1.getSizeY(), (int[]) lRes[0], (int[]) lRes[1], (Object[]) lRes[2], mOp.getZero());
+	}
+
+	/**
+	 * Sub.
+	 *
+	 * @param aM1 the reference m1
+	 * @param aM2 the reference m2
+	 * @return the CSR matrix
+	 * @throws MatrixException the matrix exception
+	 */
+	public CSRMatrix<T> sub(CSRMatrix<T> aM1, CSRMatrix<T> aM2) throws MatrixException
+	{
+		_checkSameSize(aM1, aM2);
+		Object[] lRes = _merge(aM1, aM2, true);
+		return new CSRMatrix<T>(aM1.getSizeX(), aM1.getSizeY(), (int[]) lRes[0], (int[]) lRes[1], (Object[]) lRes[2], mOp.getZero());
+	}
+
+	/**
+	 * Sub.
+	 *
+	 * @param aM1 the reference m1
+	 * @param aM2 the reference m2
+	 * @return the CSC matrix
+	 * @throws MatrixException the matrix exception
+	 */
+	public CSCMatrix<T> sub(CSCMatrix<T> aM1, CSCMatrix<T> aM2) throws MatrixException
+	{
+		_checkSameSize(aM1, aM2);
+		Object[] lRes = _merge(aM1, aM2, true);
+		return new CSCMatrix<T>(aM1.getSizeX(), aM1.getSizeY(), (int[]) lRes[0], (int[]) lRes[1], (Object[]) lRes[2], mOp.getZero());
+	}
+
+	/**
+	 * Scale.
+	 *
+	 * @param aM the reference m
+	 * @param aScale the reference scale
+	 * @return the CSR matrix
+	 * @throws MatrixException the matrix exception
+	 */
+	public CSRMatrix<T> scale(CSRMatrix<T> aM, T aScale) throws MatrixException
+	{
+		Object[] lRes = _scale(aM, aScale);
+		return new CSRMatrix<T>(aM.getSizeX(), aM.getSizeY(), (int[]) lRes[0], (int[]) lRes[1], (Object[]) lRes[2], mOp.getZero());
+	}
+
+	/**
+	 * Scale.
+	 *
+	 * @param aM the reference m
+	 * @param aScale the reference scale
+	 * @return the CSC matrix
+	 * @throws MatrixException the matrix exception
+	 */
+	public CSCMatrix<T> scale(CSCMatrix<T> aM, T aScale) throws MatrixException
+	{
+		Object[] lRes = _scale(aM, aScale);
+		return new CSCMatrix<T>(aM.getSizeX(), aM.getSizeY(), (int[]) lRes[0], (int[]) lRes[1], (Object[]) lRes[2], mOp.getZero());
+	}
+
+	/**
+	 * Transpose (result in the same format, O(nnz)). For a transposed matrix in the
+	 * other format without copying see {@link mkz.util.math.matrix.sparse.CSRMatrix#getTransposed() CSRMatrix::getTransposed}.
+	 *
+	 * @param aM the reference m
+	 * @return the CSR matrix
+	 * @throws MatrixException the matrix exception
+	 */
+	public CSRMatrix<T> transpose(CSRMatrix<T> aM) throws MatrixException
+	{
+		return aM.toCSC().getTransposed();
+	}
+
+	/**
+	 * Transpose (result in the same format, O(nnz)).
+	 *
+	 * @param aM the reference m
+	 * @return the CSC matrix
+	 * @throws MatrixException the matrix exception
+	 */
+	public CSCMatrix<T> transpose(CSCMatrix<T> aM) throws MatrixException
+	{
+		return aM.toCSR().getTransposed();
+	}
+
+	/**
+	 * Mpl (sparse * dense). Each stored element a(k,y) adds a(k,y)*row k of m2 to row y of the result.
+	 *
+	 * @param aM1 the reference m1
+	 * @param aM2 the reference m2
+	 * @return the matrix
+	 * @throws MatrixException the matrix exception
+	 */
+	@SuppressWarnings("unchecked")
+	public Matrix<T> mpl(CSRMatrix<T> aM1, Matrix<T> aM2) throws MatrixException
+	{
+		if (aM1.getSizeX() != aM2.getSizeY()) throw new MatrixDimensionException("M1.sizeX must match M2.sizeY.");
+
+		int[] lPtr = aM1.getPointers();
+		int[] lIdx = aM1.getIndices();
+		Object[] lValues = aM1.getValues();
+		Object[][] lB = aM2.getData();
+		int lSizeX = aM2.getSizeX();
+
+		Object[][] lContent = new Object[aM1.getSizeY()][lSizeX];
+		for (int iY = 0; iY < lContent.length; iY++)
+		{
+			Object[] lRowC = lContent[iY];
+			Arrays.fill(lRowC, mOp.getZero());
+
+			for (int i = lPtr[iY]; i < lPtr[iY + 1]; i++)
+			{
+				T lVal = (T) lValues[i];
+				Object[] lRowB = lB[lIdx[i]];
+				for (int iX = 0; iX < lSizeX; iX++) lRowC[iX] = mOp.add((T) lRowC[iX], mOp.mpl(lVal, (T) lRowB[iX]));
+			}
+		}
+
+		return new Matrix<T>(lContent);
+	}
+
+	/**
+	 * Mpl (dense * sparse). Each result field (x,y) is the product of row y of m1 with the stored elements of column x of m2.
+	 *
+	 * @param aM1 the reference m1
+	 * @param aM2 the reference m2
+	 * @return the matrix
+	 * @throws MatrixException the matrix exception
+	 */
+	@SuppressWarnings("unchecked")
+	public Matrix<T> mpl(Matrix<T> aM1, CSCMatrix<T> aM2) throws MatrixException
+	{
+		if (aM1.getSizeX() != aM2.getSizeY()) throw new MatrixDimensionException("M1.sizeX must match M2.sizeY.");
+
+		int[] lPtr = aM2.getPointers();
+		int[] lIdx = aM2.getIndices();
+		Object[] lValues = aM2.getValues();
+		Object[][] lA = aM1.getData();
+		int lSizeX = aM2.getSizeX();
+
+		Object[][] lContent = new Object[aM1.getSizeY()][lSizeX];
+		for (int iY = 0; iY < lContent.length; iY++)
+		{
+			Object[] lRowA = lA[iY];
+			for (int iX = 0; iX < lSizeX; iX++)
+			{
+				T lSum = mOp.getZero();
+				for (int i = lPtr[iX]; i < lPtr[iX + 1]; i++) lSum = mOp.add(lSum, mOp.mpl((T) lRowA[lIdx[i]], (T) lValues[i]));
+				lContent[iY][iX] = lSum;
+			}
+		}
+
+		return new Matrix<T>(lContent);
+	}
+
+	/**
+	 * Mpl (sparse * sparse) using Gustavson's row by row algorithm, O(flops) with one dense accumulator row.
+	 *
+	 * @param aM1 the reference m1
+	 * @param aM2 the reference m2
+	 * @return the CSR matrix
+	 * @throws MatrixException the matrix exception
+	 */
+	@SuppressWarnings("unchecked")
+	public CSRMatrix<T> mpl(CSRMatrix<T> aM1, CSRMatrix<T> aM2) throws MatrixException
+	{
+		if (aM1.getSizeX() != aM2.getSizeY()) throw new MatrixDimensionException("M1.sizeX must match M2.sizeY.");
+
+		int lSizeY = aM1.getSizeY();
+		int lSizeX = aM2.getSizeX();
+		int[] lPtrA = aM1.getPointers(), lIdxA = aM1.getIndices();
+		int[] lPtrB = aM2.getPointers(), lIdxB = aM2.getIndices();
+		Object[] lValA = aM1.getValues(), lValB = aM2.getValues();
+
+		Object[] lAcc = new Object[lSizeX];
+		int[] lMarker = new int[lSizeX];
+		Arrays.fill(lMarker, -1);
+		int[] lCols = new int[lSizeX];
+
+		int[] rPtr = new int[lSizeY + 1];
+		int[] rIdx = new int[Math.max(16, aM1.getNonZeros() + aM2.getNonZeros())];
+		Object[] rValues = new Object[rIdx.length];
+		int lPos = 0;
+
+		for (int iY = 0; iY < lSizeY; iY++)
+		{
+			int lColCount = 0;
+			for (int iA = lPtrA[iY]; iA < lPtrA[iY + 1]; iA++)
+			{
+				T lVal = (T) lValA[iA];
+				int lK = lIdxA[iA];
+				for (int iB = lPtrB[lK]; iB < lPtrB[lK + 1]; iB++)
+				{
+					int lCol = lIdxB[iB];
+					T lProd = mOp.mpl(lVal, (T) lValB[iB]);
+					if (lMarker[lCol] != iY)
+					{
+						lMarker[lCol] = iY;
+						lAcc[lCol] = lProd;
+						lCols[lColCount++] = lCol;
+					}
+					else lAcc[lCol] = mOp.add((T) lAcc[lCol], lProd);
+				}
+			}
+
+			Arrays.sort(lCols, 0, lColCount);
+			if (lPos + lColCount > rIdx.length)
+			{
+				int lNewSize = Math.max(rIdx.length * 2, lPos + lColCount);
+				rIdx = Arrays.copyOf(rIdx, lNewSize);
+				rValues = Arrays.copyOf(rValues, lNewSize);
+			}
+
+			for (int i = 0; i < lColCount; i++)
+			{
+				T lVal = (T) lAcc[lCols[i]];
+				lAcc[lCols[i]] = null;
+				if (_isZero(lVal)) continue;
+				rIdx[lPos] = lCols[i];
+				rValues[lPos++] = lVal;
+			}
+			rPtr[iY + 1] = lPos;
+		}
+
+		return new CSRMatrix<T>(lSizeX, lSizeY, rPtr, Arrays.copyOf(rIdx, lPos), Arrays.copyOf(rValues, lPos), mOp.getZero());
+	}
+
+	/**
+	 * Mpl (sparse * sparse), computed as (m2^T * m1^T)^T on the shared CSR storage of the transposed operands.
+	 *
+	 * @param aM1 the reference m1
+	 * @param aM2 the reference m2
+	 * @return the CSC matrix
+	 * @throws MatrixException the matrix exception
+	 */
+	public CSCMatrix<T> mpl(CSCMatrix<T> aM1, CSCMatrix<T> aM2) throws MatrixException
+	{
+		if (aM1.getSizeX() != aM2.getSizeY()) throw new MatrixDimensionException("M1.sizeX must match M2.sizeY.");
+		return mpl(aM2.getTransposed(), aM1.getTransposed()).getTransposed();
+	}
+
+	/**
+	 * Converts a dense matrix to CSR.
+	 *
+	 * @param aM the reference m
+	 * @return the CSR matrix
+	 * @throws MatrixException the matrix exception
+	 */
+	public CSRMatrix<T> toCSR(Matrix<T> aM) throws MatrixException
+	{
+		return CSRMatrix.createFrom(aM, mOp);
+	}
+
+	/**
+	 * Converts a dense matrix to CSC.
+	 *
+	 * @param aM the reference m
+	 * @return the CSC matrix
+	 * @throws MatrixException the matrix exception
+	 */
+	public CSCMatrix<T> toCSC(Matrix<T> aM) throws MatrixException
+	{
+		return CSCMatrix.createFrom(aM, mOp);
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////////
+	// TOOLS
+	//////////////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * [restricted] Merges the major lines of two matrices of the same format (add or subtract).
+	 *
+	 * @param aM1 the reference m1
+	 * @param aM2 the reference m2
+	 * @param isSubtraction the is subtraction
+	 * @return the compressed arrays {pointers, indices, values}
+	 */
+	@SuppressWarnings("unchecked")
+	private Object[] _merge(SparseMatrix<T> aM1, SparseMatrix<T> aM2, boolean isSubtraction)
+	{
+		int[] lPtrA = aM1.getPointers(), lIdxA = aM1.getIndices();
+		int[] lPtrB = aM2.getPointers(), lIdxB = aM2.getIndices();
+		Object[] lValA = aM1.getValues(), lValB = aM2.getValues();
+		int lMajorSize = lPtrA.length - 1;
+
+		int lMax = aM1.getNonZeros() + aM2.getNonZeros();
+		int[] rPtr = new int[lMajorSize + 1];
+		int[] rIdx = new int[lMax];
+		Object[] rValues = new Object[lMax];
+		int lPos = 0;
+
+		for (int iMajor = 0; iMajor < lMajorSize; iMajor++)
+		{
+			int iA = lPtrA[iMajor], lEndA = lPtrA[iMajor + 1];
+			int iB = lPtrB[iMajor], lEndB = lPtrB[iMajor + 1];
+
+			while (iA < lEndA || iB < lEndB)
+			{
+				int lIdx;
+				T lVal;
+
+				if (iB >= lEndB || (iA < lEndA && lIdxA[iA] < lIdxB[iB]))
+				{
+					lIdx = lIdxA[iA];
+					lVal = (T) lValA[iA++];
+				}
+				else if (iA >= lEndA || lIdxB[iB] < lIdxA[iA])
+				{
+					lIdx = lIdxB[iB];
+					lVal = isSubtraction ? mOp.sub(mOp.getZero(), (T) lValB[iB++]) : (T) lValB[iB++];
+				}
+				else
+				{
+					lIdx = lIdxA[iA];
+					lVal = isSubtraction ? mOp.sub((T) lValA[iA++], (T) lValB[iB++]) : mOp.add((T) lValA[iA++], (T) lValB[iB++]);
+				}
+
+				if (_isZero(lVal)) continue;
+				rIdx[lPos] = lIdx;
+				rValues[lPos++] = lVal;
+			}
+			rPtr[iMajor + 1] = lPos;
+		}
+
+		return new Object[] { rPtr, Arrays.copyOf(rIdx, lPos), Arrays.copyOf(rValues, lPos) };
+	}
+
+	/**
+	 * [restricted] Scales all stored values.
+	 *
+	 * @param aM the reference m
+	 * @param aScale the reference scale
+	 * @return the compressed arrays {pointers, indices, values}
+	 */
+	@SuppressWarnings("unchecked")
+	private Object[] _scale(SparseMatrix<T> aM, T aScale)
+	{
+		int[] lPtr = aM.getPointers(), lIdx = aM.getIndices();
+		Object[] lValues = aM.getValues();
+		int lMajorSize = lPtr.length - 1;
+
+		int[] rPtr = new int[lMajorSize + 1];
+		int[] rIdx = new int[aM.getNonZeros()];
+		Object[] rValues = new Object[rIdx.length];
+		int lPos = 0;
+
+		for (int iMajor = 0; iMajor < lMajorSize; iMajor++)
+		{
+			for (int i = lPtr[iMajor]; i < lPtr[iMajor + 1]; i++)
+			{
+				T lVal = mOp.mpl((T) lValues[i], aScale);
+				if (_isZero(lVal)) continue;
+				rIdx[lPos] = lIdx[i];
+				rValues[lPos++] = lVal;
+			}
+			rPtr[iMajor + 1] = lPos;
+		}
+
+		return new Object[] { rPtr, Arrays.copyOf(rIdx, lPos), Arrays.copyOf(rValues, lPos) };
+	}
+
+	/**
+	 * [restricted] Check that both matrices have the same size.
+	 *
+	 * @param aM1 the reference m1
+	 * @param aM2 the reference m2
+	 * @throws MatrixDimensionException the matrix dimension exception
+	 */
+	private static void _checkSameSize(SparseMatrix<?> aM1, SparseMatrix<?> aM2) throws MatrixDimensionException
+	{
+		if (aM1.getSizeX() != aM2.getSizeX()) throw new MatrixDimensionException("M1.sizeX must match M2.sizeX.");
+		if (aM1.getSizeY() != aM2.getSizeY()) throw new MatrixDimensionException("M1.sizeY must match M2.sizeY.");
+	}
+
+	/**
+	 * [restricted] Checks if a value is zero.
+	 *
+	 * @param aValue the reference value
+	 * @return true, if is zero
+	 */
+	private boolean _isZero(T aValue)
+	{
+		return mOp.compare(aValue, mOp.getZero()) == 0;
+	}
+}
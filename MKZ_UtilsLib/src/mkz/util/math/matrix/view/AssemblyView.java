@@ -0,0 +1,87 @@
+/**
+ * File: MKZ_UtilsLib::AssemblyView.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.math.matrix.view;
+
+import mkz.util.math.matrix.Matrix;
+import mkz.util.math.matrix.debug.MatrixDimensionException;
+
+/**
+ * The Class AssemblyView. View of two matrices concatenated horizontally (m2 right of m1) or vertically (m2 below m1).
+ *
+ * @param <T> the generic type
+ */
+public class AssemblyView<T> extends MatrixView<T>
+{
+	/** The member first and second parent. */
+	private final Matrix<T> mM1, mM2;
+
+	/** The member vertical flag. */
+	private final boolean mVertical;
+
+	/**
+	 * Instantiates a new assembly view.
+	 *
+	 * @param aM1 the reference m1
+	 * @param aM2 the reference m2
+	 * @param vertical the vertical
+	 * @throws MatrixDimensionException if the matrices can't be concatenated
+	 */
+	public AssemblyView(Matrix<T> aM1, Matrix<T> aM2, boolean vertical) throws MatrixDimensionException
+	{
+		if (vertical && aM1.getSizeX() != aM2.getSizeX()) throw new MatrixDimensionException("Matrices must have the same sizeX for vertical assembly (m1.sizeX=" + aM1.getSizeX() + ", m2.sizeX=" + aM2.getSizeX() + ")");
+		if (!vertical && aM1.getSizeY() != aM2.getSizeY()) throw new MatrixDimensionException("Matrices must have the same sizeY for horizontal assembly (m1.sizeY=" + aM1.getSizeY() + ", m2.sizeY=" + aM2.getSizeY() + ")");
+		mM1 = aM1;
+		mM2 = aM2;
+		mVertical = vertical;
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.matrix.Matrix#getSizeX()
+	 */
+	@Override
+	public int getSizeX()
+	{
+		return mVertical ? mM1.getSizeX() : mM1.getSizeX() + mM2.getSizeX();
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.matrix.Matrix#getSizeY()
+	 */
+	@Override
+	public int getSizeY()
+	{
+		return mVertical ? mM1.getSizeY() + mM2.getSizeY() : mM1.getSizeY();
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.matrix.view.MatrixView#_get(int, int)
+	 */
+	@Override
+	protected T _get(int x, int y)
+	{
+		if (mVertical) return y < mM1.getSizeY() ? _get(mM1, x, y) : _get(mM2, x, y - mM1.getSizeY());
+		return x < mM1.getSizeX() ? _get(mM1, x, y) : _get(mM2, x - mM1.getSizeX(), y);
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.matrix.view.MatrixView#_set(int, int, java.lang.Object)
+	 */
+	@Override
+	protected void _set(int x, int y, T aValue)
+	{
+		if (mVertical)
+		{
+			if (y < mM1.getSizeY()) _set(mM1, x, y, aValue);
+			else _set(mM2, x, y - mM1.getSizeY(), aValue);
+		}
+		else
+		{
+			if (x < mM1.getSizeX()) _set(mM1, x, y, aValue);
+			else _set(mM2, x - mM1.getSizeX(), y, aValue);
+		}
+	}
+}
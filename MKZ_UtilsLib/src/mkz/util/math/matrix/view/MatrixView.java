@@ -0,0 +1,260 @@
+/**
+ * File: MKZ_UtilsLib::MatrixView.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.math.matrix.view;
+
+import mkz.util.math.matrix.Matrix;
+import mkz.util.math.matrix.debug.MatrixDimensionException;
+
+/**
+ * The Class MatrixView. Base of the lightweight matrices that don't hold their own data but remap the indices
+ * onto the storage of one or more parent matrices (no copy is made). Changes of the parent are visible in the
+ * view and {@link #set(int, int, Object) set} writes through to the parent. Since there's no backing array,
+ * {@link #getData() getData} and {@link #copy() copy} return a materialized (independent) copy of the view.
+ * Views are created by the factories of the {@link mkz.util.math.matrix.Matrix Matrix} class (e.g.
+ * {@link mkz.util.math.matrix.Matrix#createTransposedView(Matrix) createTransposedView}).
+ *
+ * @param <T> the generic type
+ */
+public abstract class MatrixView<T> extends Matrix<T>
+{
+	/**
+	 * [restricted] Gets the field of the parent storage.
+	 *
+	 * @param x the x
+	 * @param y the y
+	 * @return the t
+	 */
+	protected abstract T _get(int x, int y);
+
+	/**
+	 * [restricted] Sets the field of the parent storage.
+	 *
+	 * @param x the x
+	 * @param y the y
+	 * @param aValue the reference value
+	 */
+	protected abstract void _set(int x, int y, T aValue);
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.matrix.Matrix#get(int, int)
+	 */
+	@Override
+	public T get(int x, int y) throws MatrixDimensionException
+	{
+		_check(x, y);
+		return _get(x, y);
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.matrix.Matrix#set(int, int, java.lang.Object)
+	 */
+	@Override
+	public void set(int x, int y, T aValue) throws MatrixDimensionException
+	{
+		_check(x, y);
+		_set(x, y, aValue);
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.matrix.Matrix#set(int, int, double)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public void set(int x, int y, double aValue) throws MatrixDimensionException
+	{
+		set(x, y, (T) (Object) aValue);
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.matrix.Matrix#isView()
+	 */
+	@Override
+	public boolean isView()
+	{
+		return true;
+	}
+
+	/**
+	 * Materializes the view into a new matrix with its own storage.
+	 *
+	 * @return the matrix
+	 */
+	public Matrix<T> materialize()
+	{
+		return new Matrix<T>(_materialize());
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.matrix.Matrix#copy()
+	 */
+	@Override
+	public Matrix<T> copy()
+	{
+		return materialize();
+	}
+
+	/**
+	 * Gets the data, since a view has no backing array this is a materialized copy (changes are not written to the view).
+	 *
+	 * @return the data
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public T[][] getData()
+	{
+		return (T[][]) _materialize();
+	}
+
+	/**
+	 * Not supported, a view has no backing array.
+	 *
+	 * @param aData the reference data
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public void setData(Object[][] aData)
+	{
+		throw new UnsupportedOperationException("A matrix view has no backing data.");
+	}
+
+	/**
+	 * Sets the row, the values are written through to the parent.
+	 *
+	 * @param idx the idx
+	 * @param aRow the reference row
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public void setRow(int idx, Object[] aRow)
+	{
+		for (int iX = 0; iX < getSizeX(); iX++) _set(iX, idx, (T) aRow[iX]);
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.matrix.Matrix#swapLines(int, int, boolean)
+	 */
+	@Override
+	public void swapLines(int aLine1, int aLine2, boolean swapColumns)
+	{
+		int lLength = swapColumns ? getSizeY() : getSizeX();
+		for (int i = 0; i < lLength; i++)
+		{
+			if (swapColumns)
+			{
+				T lVal = _get(aLine1, i);
+				_set(aLine1, i, _get(aLine2, i));
+				_set(aLine2, i, lVal);
+			}
+			else
+			{
+				T lVal = _get(i, aLine1);
+				_set(i, aLine1, _get(i, aLine2));
+				_set(i, aLine2, lVal);
+			}
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.matrix.Matrix#toString()
+	 */
+	@Override
+	public String toString()
+	{
+		return materialize().toString();
+	}
+
+	/**
+	 * [restricted] Copies the fields of the view into a new array.
+	 *
+	 * @return the object[][]
+	 */
+	protected Object[][] _materialize()
+	{
+		Object[][] rVal = new Object[getSizeY()][getSizeX()];
+		for (int iY = 0; iY < rVal.length; iY++)
+		{
+			for (int iX = 0; iX < rVal[iY].length; iX++)
+			{
+				rVal[iY][iX] = _get(iX, iY);
+			}
+		}
+		return rVal;
+	}
+
+	/**
+	 * [restricted] Checks the field indices.
+	 *
+	 * @param x the x
+	 * @param y the y
+	 * @throws MatrixDimensionException the matrix dimension exception
+	 */
+	protected void _check(int x, int y) throws MatrixDimensionException
+	{
+		if (x < 0 || y < 0 || x >= getSizeX() || y >= getSizeY()) throw new MatrixDimensionException("Invalid field x=" + x + "; y=" + y + "; sizeX=" + getSizeX() + "; sizeY=" + getSizeY());
+	}
+
+	/**
+	 * [restricted] Gets a field of a parent. The indices are valid by construction of the view, an invalid index
+	 * (i.e. the parent has been resized by setData) is reported as IndexOutOfBoundsException.
+	 *
+	 * @param <T> the generic type
+	 * @param aParent the reference parent
+	 * @param x the x
+	 * @param y the y
+	 * @return the t
+	 */
+	protected static <T> T _get(Matrix<T> aParent, int x, int y)
+	{
+		try
+		{
+			return aParent.get(x, y);
+		}
+		catch (MatrixDimensionException e)
+		{
+			throw new IndexOutOfBoundsException(e.getMessage());
+		}
+	}
+
+	/**
+	 * [restricted] Sets a field of a parent (see {@link #_get(Matrix, int, int)}).
+	 *
+	 * @param <T> the generic type
+	 * @param aParent the reference parent
+	 * @param x the x
+	 * @param y the y
+	 * @param aValue the reference value
+	 */
+	protected static <T> void _set(Matrix<T> aParent, int x, int y, T aValue)
+	{
+		try
+		{
+			aParent.set(x, y, aValue);
+		}
+		catch (MatrixDimensionException e)
+		{
+			throw new IndexOutOfBoundsException(e.getMessage());
+		}
+	}
+
+	/**
+	 * [restricted] Checks that the range lies within the matrix.
+	 *
+	 * @param aMatrix the reference matrix
+	 * @param aX the reference first column
+	 * @param aY the reference first row
+	 * @param aSizeX the reference size x
+	 * @param aSizeY the reference size y
+	 * @throws MatrixDimensionException the matrix dimension exception
+	 */
+	protected static void _checkRange(Matrix<?> aMatrix, int aX, int aY, int aSizeX, int aSizeY) throws MatrixDimensionException
+	{
+		if (aX < 0 || aY < 0 || aSizeX < 0 || aSizeY < 0 || aX + aSizeX > aMatrix.getSizeX() || aY + aSizeY > aMatrix.getSizeY())
+		{
+			throw new MatrixDimensionException("Invalid range x=" + aX + "; y=" + aY + "; sizeX=" + aSizeX + "; sizeY=" + aSizeY + " for matrix sizeX=" + aMatrix.getSizeX() + "; sizeY=" + aMatrix.getSizeY());
+		}
+	}
+}
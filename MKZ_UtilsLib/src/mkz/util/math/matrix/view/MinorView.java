@@ -0,0 +1,76 @@
+/**
+ * File: MKZ_UtilsLib::MinorView.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.math.matrix.view;
+
+import mkz.util.math.matrix.Matrix;
+import mkz.util.math.matrix.debug.MatrixDimensionException;
+
+/**
+ * The Class MinorView. View of a matrix with one column and one row removed (sub grid used for cofactors).
+ *
+ * @param <T> the generic type
+ */
+public class MinorView<T> extends MatrixView<T>
+{
+	/** The member parent. */
+	private final Matrix<T> mParent;
+
+	/** The member removed column and row. */
+	private final int mRemovedX, mRemovedY;
+
+	/**
+	 * Instantiates a new minor view.
+	 *
+	 * @param aParent the reference parent
+	 * @param aX the reference removed column
+	 * @param aY the reference removed row
+	 * @throws MatrixDimensionException if the column or row doesn't exist
+	 */
+	public MinorView(Matrix<T> aParent, int aX, int aY) throws MatrixDimensionException
+	{
+		_checkRange(aParent, aX, aY, 1, 1);
+		mParent = aParent;
+		mRemovedX = aX;
+		mRemovedY = aY;
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.matrix.Matrix#getSizeX()
+	 */
+	@Override
+	public int getSizeX()
+	{
+		return mParent.getSizeX() - 1;
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.matrix.Matrix#getSizeY()
+	 */
+	@Override
+	public int getSizeY()
+	{
+		return mParent.getSizeY() - 1;
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.matrix.view.MatrixView#_get(int, int)
+	 */
+	@Override
+	protected T _get(int x, int y)
+	{
+		return _get(mParent, x < mRemovedX ? x : x + 1, y < mRemovedY ? y : y + 1);
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.matrix.view.MatrixView#_set(int, int, java.lang.Object)
+	 */
+	@Override
+	protected void _set(int x, int y, T aValue)
+	{
+		_set(mParent, x < mRemovedX ? x : x + 1, y < mRemovedY ? y : y + 1, aValue);
+	}
+}
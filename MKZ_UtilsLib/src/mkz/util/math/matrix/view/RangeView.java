@@ -0,0 +1,83 @@
+/**
+ * File: MKZ_UtilsLib::RangeView.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.math.matrix.view;
+
+import mkz.util.math.matrix.Matrix;
+import mkz.util.math.matrix.debug.MatrixDimensionException;
+
+/**
+ * The Class RangeView. View of a contiguous block of rows and columns of a matrix (e.g. one half of a split).
+ *
+ * @param <T> the generic type
+ */
+public class RangeView<T> extends MatrixView<T>
+{
+	/** The member parent. */
+	private final Matrix<T> mParent;
+
+	/** The member offset of the first column and row. */
+	private final int mOffsetX, mOffsetY;
+
+	/** The member size of the range. */
+	private final int mRangeX, mRangeY;
+
+	/**
+	 * Instantiates a new range view of the rows aY..aY+aSizeY-1 and columns aX..aX+aSizeX-1.
+	 *
+	 * @param aParent the reference parent
+	 * @param aX the reference first column
+	 * @param aY the reference first row
+	 * @param aSizeX the reference size x
+	 * @param aSizeY the reference size y
+	 * @throws MatrixDimensionException if the range exceeds the parent
+	 */
+	public RangeView(Matrix<T> aParent, int aX, int aY, int aSizeX, int aSizeY) throws MatrixDimensionException
+	{
+		_checkRange(aParent, aX, aY, aSizeX, aSizeY);
+		mParent = aParent;
+		mOffsetX = aX;
+		mOffsetY = aY;
+		mRangeX = aSizeX;
+		mRangeY = aSizeY;
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.matrix.Matrix#getSizeX()
+	 */
+	@Override
+	public int getSizeX()
+	{
+		return mRangeX;
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.matrix.Matrix#getSizeY()
+	 */
+	@Override
+	public int getSizeY()
+	{
+		return mRangeY;
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.matrix.view.MatrixView#_get(int, int)
+	 */
+	@Override
+	protected T _get(int x, int y)
+	{
+		return _get(mParent, mOffsetX + x, mOffsetY + y);
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.matrix.view.MatrixView#_set(int, int, java.lang.Object)
+	 */
+	@Override
+	protected void _set(int x, int y, T aValue)
+	{
+		_set(mParent, mOffsetX + x, mOffsetY + y, aValue);
+	}
+}
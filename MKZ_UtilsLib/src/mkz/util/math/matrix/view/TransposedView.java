@@ -0,0 +1,66 @@
+/**
+ * File: MKZ_UtilsLib::TransposedView.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.math.matrix.view;
+
+import mkz.util.math.matrix.Matrix;
+
+/**
+ * The Class TransposedView. Transposed view of a matrix, the field (x,y) of the view is the field (y,x) of the parent.
+ *
+ * @param <T> the generic type
+ */
+public class TransposedView<T> extends MatrixView<T>
+{
+	/** The member parent. */
+	private final Matrix<T> mParent;
+
+	/**
+	 * Instantiates a new transposed view.
+	 *
+	 * @param aParent the reference parent
+	 */
+	public TransposedView(Matrix<T> aParent)
+	{
+		mParent = aParent;
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.matrix.Matrix#getSizeX()
+	 */
+	@Override
+	public int getSizeX()
+	{
+		return mParent.getSizeY();
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.matrix.Matrix#getSizeY()
+	 */
+	@Override
+	public int getSizeY()
+	{
+		return mParent.getSizeX();
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.matrix.view.MatrixView#_get(int, int)
+	 */
+	@Override
+	protected T _get(int x, int y)
+	{
+		return _get(mParent, y, x);
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.matrix.view.MatrixView#_set(int, int, java.lang.Object)
+	 */
+	@Override
+	protected void _set(int x, int y, T aValue)
+	{
+		_set(mParent, y, x, aValue);
+	}
+}
@@ -0,0 +1,315 @@
+/**
+ * File: MKZ_UtilsLib::DoubleArithmeticOperator.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.math.op;
+
+import java.util.function.DoubleBinaryOperator;
+
+import mkz.util.math.simd.VectorKernels;
+
+/**
+ * The Class DoubleArithmeticOperator. Double operator with primitive (double) variants of the basic operations
+ * (e.g. {@link #addAsDouble(double, double)}) that work without boxing. The generic operations of the base class
+ * give the same results (they delegate to the primitive functions). Matrix and complex number operators use
+ * the primitive functions in their hot loops if their operator is of this type, see {@link mkz.util.math.AOP#DOUBLE AOP::DOUBLE}.
+ * The bulk functions of {@link mkz.util.math.AOP#DOUBLE AOP::DOUBLE} are plain loops (the
+ * {@link mkz.util.math.simd.VectorKernels VectorKernels} for add, sub, mpl and axpy), see
+ * {@link mkz.util.math.op.PrimitiveArithmeticOperator PrimitiveArithmeticOperator}.
+ */
+public class DoubleArithmeticOperator extends PrimitiveArithmeticOperator<Double, double[]>
+{
+	/** The member primitive add function. */
+	protected final DoubleBinaryOperator mDoubleAdd;
+
+	/** The member primitive sub function. */
+	protected final DoubleBinaryOperator mDoubleSub;
+
+	/** The member primitive mpl function. */
+	protected final DoubleBinaryOperator mDoubleMpl;
+
+	/** The member primitive div function. */
+	protected final DoubleBinaryOperator mDoubleDiv;
+
+	/** The member primitive modulus function. */
+	protected final DoubleBinaryOperator mDoubleMod;
+
+	/** The member primitive zero. */
+	protected final double mDoubleZero;
+
+	/** The member primitive one. */
+	protected final double mDoubleOne;
+
+	/**
+	 * Instantiates a new double arithmetic operator.
+	 *
+	 * @param aZeroValue the reference zero value (e.g. 0)
+	 * @param aOneValue the reference one value (e.g. 1)
+	 * @param aAddFunction the reference add function (e.g. a+b)
+	 * @param aSubtractFunction the reference subtract function (e.g. a-b)
+	 * @param aMultiplyFunction the reference multiply function (e.g. a*b)
+	 * @param aDivisionFunction the reference division function (e.g. a/b)
+	 * @param aModulusFunction the reference modulus function (e.g. a%b)
+	 */
+	public DoubleArithmeticOperator
+	/////////////////////////////////////////
+	(
+		double 				aZeroValue,
+		double 				aOneValue,
+		DoubleBinaryOperator 	aAddFunction,
+		DoubleBinaryOperator 	aSubtractFunction,
+		DoubleBinaryOperator 	aMultiplyFunction,
+		DoubleBinaryOperator 	aDivisionFunction,
+		DoubleBinaryOperator 	aModulusFunction
+	)
+	/////////////////////////////////////////
+	{
+		super(aZeroValue, aOneValue, (a,b)->aAddFunction.applyAsDouble(a,b), (a,b)->aSubtractFunction.applyAsDouble(a,b), (a,b)->aMultiplyFunction.applyAsDouble(a,b),
+				(a,b)->aDivisionFunction.applyAsDouble(a,b), (a,b)->aModulusFunction.applyAsDouble(a,b), Double::compare);
+		mDoubleAdd=aAddFunction;
+		mDoubleSub=aSubtractFunction;
+		mDoubleMpl=aMultiplyFunction;
+		mDoubleDiv=aDivisionFunction;
+		mDoubleMod=aModulusFunction;
+		mDoubleZero=aZeroValue;
+		mDoubleOne=aOneValue;
+	}
+
+	/////////////////////////////////////////////////
+	// Primitive Functions
+	/////////////////////////////////////////////////
+
+	/**
+	 * Adds the (primitive).
+	 *
+	 * @param aA the reference a
+	 * @param aB the reference b
+	 * @return the double
+	 */
+	public double addAsDouble(double aA, double aB){ return mDoubleAdd.applyAsDouble(aA, aB); }
+
+	/**
+	 * Sub (primitive).
+	 *
+	 * @param aA the reference a
+	 * @param aB the reference b
+	 * @return the double
+	 */
+	public double subAsDouble(double aA, double aB){ return mDoubleSub.applyAsDouble(aA, aB); }
+
+	/**
+	 * Mpl (primitive).
+	 *
+	 * @param aA the reference a
+	 * @param aB the reference b
+	 * @return the double
+	 */
+	public double mplAsDouble(double aA, double aB){ return mDoubleMpl.applyAsDouble(aA, aB); }
+
+	/**
+	 * Div (primitive).
+	 *
+	 * @param aA the reference a
+	 * @param aB the reference b
+	 * @return the double
+	 */
+	public double divAsDouble(double aA, double aB){ return mDoubleDiv.applyAsDouble(aA, aB); }
+
+	/**
+	 * Mod (primitive).
+	 *
+	 * @param aA the reference a
+	 * @param aB the reference b
+	 * @return the double
+	 */
+	public double modAsDouble(double aA, double aB){ return mDoubleMod.applyAsDouble(aA, aB); }
+
+	/**
+	 * Compare (primitive).
+	 *
+	 * @param aA the reference a
+	 * @param aB the reference b
+	 * @return the int
+	 */
+	public int compareAsDouble(double aA, double aB){ return Double.compare(aA, aB); }
+
+	/**
+	 * Gets the zero (primitive).
+	 *
+	 * @return the zero
+	 */
+	public double getZeroAsDouble(){ return mDoubleZero; }
+
+	/**
+	 * Gets the one (primitive).
+	 *
+	 * @return the one
+	 */
+	public double getOneAsDouble(){ return mDoubleOne; }
+
+	/**
+	 * Abs (primitive), same semantic as {@link #abs(Object)}.
+	 *
+	 * @param aA the reference a
+	 * @return the double
+	 */
+	public double absAsDouble(double aA)
+	{
+		if(Double.compare(aA, mDoubleZero)<0) return subAsDouble(aA, addAsDouble(aA, aA));
+		else return aA;
+	}
+
+	/////////////////////////////////////////////////
+	// Bulk Functions (primitive)
+	/////////////////////////////////////////////////
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.op.PrimitiveArithmeticOperator#add(java.lang.Object, java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public void add(double[] aA, double[] aB, double[] rOut)
+	{
+		_checkLength(aA.length, aB.length, rOut.length);
+		if(isBuiltin()) VectorKernels.get().add(aA, aB, rOut);
+		else for(int i=0;i<rOut.length;i++) rOut[i] = mDoubleAdd.applyAsDouble(aA[i], aB[i]);
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.op.PrimitiveArithmeticOperator#sub(java.lang.Object, java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public void sub(double[] aA, double[] aB, double[] rOut)
+	{
+		_checkLength(aA.length, aB.length, rOut.length);
+		if(isBuiltin()) VectorKernels.get().sub(aA, aB, rOut);
+		else for(int i=0;i<rOut.length;i++) rOut[i] = mDoubleSub.applyAsDouble(aA[i], aB[i]);
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.op.PrimitiveArithmeticOperator#mpl(java.lang.Object, java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public void mpl(double[] aA, double[] aB, double[] rOut)
+	{
+		_checkLength(aA.length, aB.length, rOut.length);
+		if(isBuiltin()) VectorKernels.get().mpl(aA, aB, rOut);
+		else for(int i=0;i<rOut.length;i++) rOut[i] = mDoubleMpl.applyAsDouble(aA[i], aB[i]);
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.op.PrimitiveArithmeticOperator#div(java.lang.Object, java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public void div(double[] aA, double[] aB, double[] rOut)
+	{
+		_checkLength(aA.length, aB.length, rOut.length);
+		if(isBuiltin()) for(int i=0;i<rOut.length;i++) rOut[i] = aA[i] / aB[i];
+		else for(int i=0;i<rOut.length;i++) rOut[i] = mDoubleDiv.applyAsDouble(aA[i], aB[i]);
+	}
+
+	/**
+	 * Dot product (sum of a[i] * b[i], summed up in ascending order).
+	 *
+	 * @param aA the reference a
+	 * @param aB the reference b
+	 * @return the double
+	 */
+	public double dot(double[] aA, double[] aB)
+	{
+		_checkLength(aA.length, aB.length, aA.length);
+		double rVal = mDoubleZero;
+		if(isBuiltin()) for(int i=0;i<aA.length;i++) rVal += aA[i] * aB[i];
+		else for(int i=0;i<aA.length;i++) rVal = mDoubleAdd.applyAsDouble(rVal, mDoubleMpl.applyAsDouble(aA[i], aB[i]));
+		return rVal;
+	}
+
+	/**
+	 * Sum (summed up in ascending order).
+	 *
+	 * @param aArr the reference array
+	 * @return the double
+	 */
+	public double sum(double[] aArr)
+	{
+		double rVal = mDoubleZero;
+		if(isBuiltin()) for(double iArr:aArr) rVal += iArr;
+		else for(double iArr:aArr) rVal = mDoubleAdd.applyAsDouble(rVal, iArr);
+		return rVal;
+	}
+
+	/**
+	 * Axpy, adds a scaled array to another array in place (y[i] = alpha * x[i] + y[i]).
+	 *
+	 * @param aAlpha the reference alpha
+	 * @param aX the reference x
+	 * @param rY the return y (overwritten)
+	 */
+	public void axpy(double aAlpha, double[] aX, double[] rY)
+	{
+		_checkLength(aX.length, rY.length, rY.length);
+		if(isBuiltin()) VectorKernels.get().axpy(aAlpha, aX, 0, rY, 0, rY.length);
+		else for(int i=0;i<rY.length;i++) rY[i] = mDoubleAdd.applyAsDouble(mDoubleMpl.applyAsDouble(aAlpha, aX[i]), rY[i]);
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.op.PrimitiveArithmeticOperator#prefixSum(java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public void prefixSum(double[] aArr, double[] rOut)
+	{
+		_checkLength(aArr.length, rOut.length, rOut.length);
+		double lSum = mDoubleZero;
+		if(isBuiltin()) for(int i=0;i<rOut.length;i++) rOut[i] = lSum += aArr[i];
+		else for(int i=0;i<rOut.length;i++) rOut[i] = lSum = mDoubleAdd.applyAsDouble(lSum, aArr[i]);
+	}
+
+	/**
+	 * Dot product of boxed arrays, summed up without boxing the intermediate results.
+	 *
+	 * @param aA the reference a
+	 * @param aB the reference b
+	 * @return the double
+	 */
+	@Override
+	public Double dot(Double[] aA, Double[] aB)
+	{
+		_checkLength(aA.length, aB.length, aA.length);
+		double rVal = mDoubleZero;
+		if(isBuiltin()) for(int i=0;i<aA.length;i++) rVal += aA[i] * aB[i];
+		else for(int i=0;i<aA.length;i++) rVal = mDoubleAdd.applyAsDouble(rVal, mDoubleMpl.applyAsDouble(aA[i], aB[i]));
+		return rVal;
+	}
+
+	/**
+	 * Sum of a boxed array, summed up without boxing the intermediate results.
+	 *
+	 * @param aArr the reference array
+	 * @return the double
+	 */
+	@Override
+	public Double sum(Double[] aArr)
+	{
+		double rVal = mDoubleZero;
+		if(isBuiltin()) for(Double iArr:aArr) rVal += iArr;
+		else for(Double iArr:aArr) rVal = mDoubleAdd.applyAsDouble(rVal, iArr);
+		return rVal;
+	}
+
+	/**
+	 * Axpy of boxed arrays, only the result is boxed.
+	 *
+	 * @param aAlpha the reference alpha
+	 * @param aX the reference x
+	 * @param rY the return y (overwritten)
+	 */
+	@Override
+	public void axpy(Double aAlpha, Double[] aX, Double[] rY)
+	{
+		_checkLength(aX.length, rY.length, rY.length);
+		double lAlpha = aAlpha;
+		if(isBuiltin()) for(int i=0;i<rY.length;i++) rY[i] = lAlpha * aX[i] + rY[i];
+		else for(int i=0;i<rY.length;i++) rY[i] = mDoubleAdd.applyAsDouble(mDoubleMpl.applyAsDouble(lAlpha, aX[i]), rY[i]);
+	}
+}
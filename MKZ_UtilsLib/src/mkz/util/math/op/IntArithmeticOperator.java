@@ -0,0 +1,312 @@
+/**
+ * File: MKZ_UtilsLib::IntArithmeticOperator.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.math.op;
+
+import java.util.function.IntBinaryOperator;
+
+/**
+ * The Class IntArithmeticOperator. Integer operator with primitive (int) variants of the basic operations
+ * (e.g. {@link #addAsInt(int, int)}) that work without boxing. The generic operations of the base class
+ * give the same results (they delegate to the primitive functions). Matrix and complex number operators use
+ * the primitive functions in their hot loops if their operator is of this type, see {@link mkz.util.math.AOP#INT AOP::INT}.
+ * The bulk functions of {@link mkz.util.math.AOP#INT AOP::INT} are plain loops, see
+ * {@link mkz.util.math.op.PrimitiveArithmeticOperator PrimitiveArithmeticOperator}.
+ */
+public class IntArithmeticOperator extends PrimitiveArithmeticOperator<Integer, int[]>
+{
+	/** The member primitive add function. */
+	protected final IntBinaryOperator mIntAdd;
+
+	/** The member primitive sub function. */
+	protected final IntBinaryOperator mIntSub;
+
+	/** The member primitive mpl function. */
+	protected final IntBinaryOperator mIntMpl;
+
+	/** The member primitive div function. */
+	protected final IntBinaryOperator mIntDiv;
+
+	/** The member primitive modulus function. */
+	protected final IntBinaryOperator mIntMod;
+
+	/** The member primitive zero. */
+	protected final int mIntZero;
+
+	/** The member primitive one. */
+	protected final int mIntOne;
+
+	/**
+	 * Instantiates a new int arithmetic operator.
+	 *
+	 * @param aZeroValue the reference zero value (e.g. 0)
+	 * @param aOneValue the reference one value (e.g. 1)
+	 * @param aAddFunction the reference add function (e.g. a+b)
+	 * @param aSubtractFunction the reference subtract function (e.g. a-b)
+	 * @param aMultiplyFunction the reference multiply function (e.g. a*b)
+	 * @param aDivisionFunction the reference division function (e.g. a/b)
+	 * @param aModulusFunction the reference modulus function (e.g. a%b)
+	 */
+	public IntArithmeticOperator
+	/////////////////////////////////////////
+	(
+		int 				aZeroValue,
+		int 				aOneValue,
+		IntBinaryOperator 	aAddFunction,
+		IntBinaryOperator 	aSubtractFunction,
+		IntBinaryOperator 	aMultiplyFunction,
+		IntBinaryOperator 	aDivisionFunction,
+		IntBinaryOperator 	aModulusFunction
+	)
+	/////////////////////////////////////////
+	{
+		super(aZeroValue, aOneValue, (a,b)->aAddFunction.applyAsInt(a,b), (a,b)->aSubtractFunction.applyAsInt(a,b), (a,b)->aMultiplyFunction.applyAsInt(a,b),
+				(a,b)->aDivisionFunction.applyAsInt(a,b), (a,b)->aModulusFunction.applyAsInt(a,b), Integer::compare);
+		mIntAdd=aAddFunction;
+		mIntSub=aSubtractFunction;
+		mIntMpl=aMultiplyFunction;
+		mIntDiv=aDivisionFunction;
+		mIntMod=aModulusFunction;
+		mIntZero=aZeroValue;
+		mIntOne=aOneValue;
+	}
+
+	/////////////////////////////////////////////////
+	// Primitive Functions
+	/////////////////////////////////////////////////
+
+	/**
+	 * Adds the (primitive).
+	 *
+	 * @param aA the reference a
+	 * @param aB the reference b
+	 * @return the int
+	 */
+	public int addAsInt(int aA, int aB){ return mIntAdd.applyAsInt(aA, aB); }
+
+	/**
+	 * Sub (primitive).
+	 *
+	 * @param aA the reference a
+	 * @param aB the reference b
+	 * @return the int
+	 */
+	public int subAsInt(int aA, int aB){ return mIntSub.applyAsInt(aA, aB); }
+
+	/**
+	 * Mpl (primitive).
+	 *
+	 * @param aA the reference a
+	 * @param aB the reference b
+	 * @return the int
+	 */
+	public int mplAsInt(int aA, int aB){ return mIntMpl.applyAsInt(aA, aB); }
+
+	/**
+	 * Div (primitive).
+	 *
+	 * @param aA the reference a
+	 * @param aB the reference b
+	 * @return the int
+	 */
+	public int divAsInt(int aA, int aB){ return mIntDiv.applyAsInt(aA, aB); }
+
+	/**
+	 * Mod (primitive).
+	 *
+	 * @param aA the reference a
+	 * @param aB the reference b
+	 * @return the int
+	 */
+	public int modAsInt(int aA, int aB){ return mIntMod.applyAsInt(aA, aB); }
+
+	/**
+	 * Compare (primitive).
+	 *
+	 * @param aA the reference a
+	 * @param aB the reference b
+	 * @return the int
+	 */
+	public int compareAsInt(int aA, int aB){ return Integer.compare(aA, aB); }
+
+	/**
+	 * Gets the zero (primitive).
+	 *
+	 * @return the zero
+	 */
+	public int getZeroAsInt(){ return mIntZero; }
+
+	/**
+	 * Gets the one (primitive).
+	 *
+	 * @return the one
+	 */
+	public int getOneAsInt(){ return mIntOne; }
+
+	/**
+	 * Abs (primitive), same semantic as {@link #abs(Object)}.
+	 *
+	 * @param aA the reference a
+	 * @return the int
+	 */
+	public int absAsInt(int aA)
+	{
+		if(Integer.compare(aA, mIntZero)<0) return subAsInt(aA, addAsInt(aA, aA));
+		else return aA;
+	}
+
+	/////////////////////////////////////////////////
+	// Bulk Functions (primitive)
+	/////////////////////////////////////////////////
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.op.PrimitiveArithmeticOperator#add(java.lang.Object, java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public void add(int[] aA, int[] aB, int[] rOut)
+	{
+		_checkLength(aA.length, aB.length, rOut.length);
+		if(isBuiltin()) for(int i=0;i<rOut.length;i++) rOut[i] = aA[i] + aB[i];
+		else for(int i=0;i<rOut.length;i++) rOut[i] = mIntAdd.applyAsInt(aA[i], aB[i]);
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.op.PrimitiveArithmeticOperator#sub(java.lang.Object, java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public void sub(int[] aA, int[] aB, int[] rOut)
+	{
+		_checkLength(aA.length, aB.length, rOut.length);
+		if(isBuiltin()) for(int i=0;i<rOut.length;i++) rOut[i] = aA[i] - aB[i];
+		else for(int i=0;i<rOut.length;i++) rOut[i] = mIntSub.applyAsInt(aA[i], aB[i]);
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.op.PrimitiveArithmeticOperator#mpl(java.lang.Object, java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public void mpl(int[] aA, int[] aB, int[] rOut)
+	{
+		_checkLength(aA.length, aB.length, rOut.length);
+		if(isBuiltin()) for(int i=0;i<rOut.length;i++) rOut[i] = aA[i] * aB[i];
+		else for(int i=0;i<rOut.length;i++) rOut[i] = mIntMpl.applyAsInt(aA[i], aB[i]);
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.op.PrimitiveArithmeticOperator#div(java.lang.Object, java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public void div(int[] aA, int[] aB, int[] rOut)
+	{
+		_checkLength(aA.length, aB.length, rOut.length);
+		if(isBuiltin()) for(int i=0;i<rOut.length;i++) rOut[i] = aA[i] / aB[i];
+		else for(int i=0;i<rOut.length;i++) rOut[i] = mIntDiv.applyAsInt(aA[i], aB[i]);
+	}
+
+	/**
+	 * Dot product (sum of a[i] * b[i], summed up in ascending order).
+	 *
+	 * @param aA the reference a
+	 * @param aB the reference b
+	 * @return the int
+	 */
+	public int dot(int[] aA, int[] aB)
+	{
+		_checkLength(aA.length, aB.length, aA.length);
+		int rVal = mIntZero;
+		if(isBuiltin()) for(int i=0;i<aA.length;i++) rVal += aA[i] * aB[i];
+		else for(int i=0;i<aA.length;i++) rVal = mIntAdd.applyAsInt(rVal, mIntMpl.applyAsInt(aA[i], aB[i]));
+		return rVal;
+	}
+
+	/**
+	 * Sum (summed up in ascending order).
+	 *
+	 * @param aArr the reference array
+	 * @return the int
+	 */
+	public int sum(int[] aArr)
+	{
+		int rVal = mIntZero;
+		if(isBuiltin()) for(int iArr:aArr) rVal += iArr;
+		else for(int iArr:aArr) rVal = mIntAdd.applyAsInt(rVal, iArr);
+		return rVal;
+	}
+
+	/**
+	 * Axpy, adds a scaled array to another array in place (y[i] = alpha * x[i] + y[i]).
+	 *
+	 * @param aAlpha the reference alpha
+	 * @param aX the reference x
+	 * @param rY the return y (overwritten)
+	 */
+	public void axpy(int aAlpha, int[] aX, int[] rY)
+	{
+		_checkLength(aX.length, rY.length, rY.length);
+		if(isBuiltin()) for(int i=0;i<rY.length;i++) rY[i] = aAlpha * aX[i] + rY[i];
+		else for(int i=0;i<rY.length;i++) rY[i] = mIntAdd.applyAsInt(mIntMpl.applyAsInt(aAlpha, aX[i]), rY[i]);
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.op.PrimitiveArithmeticOperator#prefixSum(java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public void prefixSum(int[] aArr, int[] rOut)
+	{
+		_checkLength(aArr.length, rOut.length, rOut.length);
+		int lSum = mIntZero;
+		if(isBuiltin()) for(int i=0;i<rOut.length;i++) rOut[i] = lSum += aArr[i];
+		else for(int i=0;i<rOut.length;i++) rOut[i] = lSum = mIntAdd.applyAsInt(lSum, aArr[i]);
+	}
+
+	/**
+	 * Dot product of boxed arrays, summed up without boxing the intermediate results.
+	 *
+	 * @param aA the reference a
+	 * @param aB the reference b
+	 * @return the int
+	 */
+	@Override
+	public Integer dot(Integer[] aA, Integer[] aB)
+	{
+		_checkLength(aA.length, aB.length, aA.length);
+		int rVal = mIntZero;
+		if(isBuiltin()) for(int i=0;i<aA.length;i++) rVal += aA[i] * aB[i];
+		else for(int i=0;i<aA.length;i++) rVal = mIntAdd.applyAsInt(rVal, mIntMpl.applyAsInt(aA[i], aB[i]));
+		return rVal;
+	}
+
+	/**
+	 * Sum of a boxed array, summed up without boxing the intermediate results.
+	 *
+	 * @param aArr the reference array
+	 * @return the int
+	 */
+	@Override
+	public Integer sum(Integer[] aArr)
+	{
+		int rVal = mIntZero;
+		if(isBuiltin()) for(Integer iArr:aArr) rVal += iArr;
+		else for(Integer iArr:aArr) rVal = mIntAdd.applyAsInt(rVal, iArr);
+		return rVal;
+	}
+
+	/**
+	 * Axpy of boxed arrays, only the result is boxed.
+	 *
+	 * @param aAlpha the reference alpha
+	 * @param aX the reference x
+	 * @param rY the return y (overwritten)
+	 */
+	@Override
+	public void axpy(Integer aAlpha, Integer[] aX, Integer[] rY)
+	{
+		_checkLength(aX.length, rY.length, rY.length);
+		int lAlpha = aAlpha;
+		if(isBuiltin()) for(int i=0;i<rY.length;i++) rY[i] = lAlpha * aX[i] + rY[i];
+		else for(int i=0;i<rY.length;i++) rY[i] = mIntAdd.applyAsInt(mIntMpl.applyAsInt(lAlpha, aX[i]), rY[i]);
+	}
+}
@@ -0,0 +1,312 @@
+/**
+ * File: MKZ_UtilsLib::LongArithmeticOperator.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.math.op;
+
+import java.util.function.LongBinaryOperator;
+
+/**
+ * The Class LongArithmeticOperator. Long operator with primitive (long) variants of the basic operations
+ * (e.g. {@link #addAsLong(long, long)}) that work without boxing. The generic operations of the base class
+ * give the same results (they delegate to the primitive functions). Matrix and complex number operators use
+ * the primitive functions in their hot loops if their operator is of this type, see {@link mkz.util.math.AOP#LONG AOP::LONG}.
+ * The bulk functions of {@link mkz.util.math.AOP#LONG AOP::LONG} are plain loops, see
+ * {@link mkz.util.math.op.PrimitiveArithmeticOperator PrimitiveArithmeticOperator}.
+ */
+public class LongArithmeticOperator extends PrimitiveArithmeticOperator<Long, long[]>
+{
+	/** The member primitive add function. */
+	protected final LongBinaryOperator mLongAdd;
+
+	/** The member primitive sub function. */
+	protected final LongBinaryOperator mLongSub;
+
+	/** The member primitive mpl function. */
+	protected final LongBinaryOperator mLongMpl;
+
+	/** The member primitive div function. */
+	protected final LongBinaryOperator mLongDiv;
+
+	/** The member primitive modulus function. */
+	protected final LongBinaryOperator mLongMod;
+
+	/** The member primitive zero. */
+	protected final long mLongZero;
+
+	/** The member primitive one. */
+	protected final long mLongOne;
+
+	/**
+	 * Instantiates a new long arithmetic operator.
+	 *
+	 * @param aZeroValue the reference zero value (e.g. 0)
+	 * @param aOneValue the reference one value (e.g. 1)
+	 * @param aAddFunction the reference add function (e.g. a+b)
+	 * @param aSubtractFunction the reference subtract function (e.g. a-b)
+	 * @param aMultiplyFunction the reference multiply function (e.g. a*b)
+	 * @param aDivisionFunction the reference division function (e.g. a/b)
+	 * @param aModulusFunction the reference modulus function (e.g. a%b)
+	 */
+	public LongArithmeticOperator
+	/////////////////////////////////////////
+	(
+		long 				aZeroValue,
+		long 				aOneValue,
+		LongBinaryOperator 	aAddFunction,
+		LongBinaryOperator 	aSubtractFunction,
+		LongBinaryOperator 	aMultiplyFunction,
+		LongBinaryOperator 	aDivisionFunction,
+		LongBinaryOperator 	aModulusFunction
+	)
+	/////////////////////////////////////////
+	{
+		super(aZeroValue, aOneValue, (a,b)->aAddFunction.applyAsLong(a,b), (a,b)->aSubtractFunction.applyAsLong(a,b), (a,b)->aMultiplyFunction.applyAsLong(a,b),
+				(a,b)->aDivisionFunction.applyAsLong(a,b), (a,b)->aModulusFunction.applyAsLong(a,b), Long::compare);
+		mLongAdd=aAddFunction;
+		mLongSub=aSubtractFunction;
+		mLongMpl=aMultiplyFunction;
+		mLongDiv=aDivisionFunction;
+		mLongMod=aModulusFunction;
+		mLongZero=aZeroValue;
+		mLongOne=aOneValue;
+	}
+
+	/////////////////////////////////////////////////
+	// Primitive Functions
+	/////////////////////////////////////////////////
+
+	/**
+	 * Adds the (primitive).
+	 *
+	 * @param aA the reference a
+	 * @param aB the reference b
+	 * @return the long
+	 */
+	public long addAsLong(long aA, long aB){ return mLongAdd.applyAsLong(aA, aB); }
+
+	/**
+	 * Sub (primitive).
+	 *
+	 * @param aA the reference a
+	 * @param aB the reference b
+	 * @return the long
+	 */
+	public long subAsLong(long aA, long aB){ return mLongSub.applyAsLong(aA, aB); }
+
+	/**
+	 * Mpl (primitive).
+	 *
+	 * @param aA the reference a
+	 * @param aB the reference b
+	 * @return the long
+	 */
+	public long mplAsLong(long aA, long aB){ return mLongMpl.applyAsLong(aA, aB); }
+
+	/**
+	 * Div (primitive).
+	 *
+	 * @param aA the reference a
+	 * @param aB the reference b
+	 * @return the long
+	 */
+	public long divAsLong(long aA, long aB){ return mLongDiv.applyAsLong(aA, aB); }
+
+	/**
+	 * Mod (primitive).
+	 *
+	 * @param aA the reference a
+	 * @param aB the reference b
+	 * @return the long
+	 */
+	public long modAsLong(long aA, long aB){ return mLongMod.applyAsLong(aA, aB); }
+
+	/**
+	 * Compare (primitive).
+	 *
+	 * @param aA the reference a
+	 * @param aB the reference b
+	 * @return the int
+	 */
+	public int compareAsLong(long aA, long aB){ return Long.compare(aA, aB); }
+
+	/**
+	 * Gets the zero (primitive).
+	 *
+	 * @return the zero
+	 */
+	public long getZeroAsLong(){ return mLongZero; }
+
+	/**
+	 * Gets the one (primitive).
+	 *
+	 * @return the one
+	 */
+	public long getOneAsLong(){ return mLongOne; }
+
+	/**
+	 * Abs (primitive), same semantic as {@link #abs(Object)}.
+	 *
+	 * @param aA the reference a
+	 * @return the long
+	 */
+	public long absAsLong(long aA)
+	{
+		if(Long.compare(aA, mLongZero)<0) return subAsLong(aA, addAsLong(aA, aA));
+		else return aA;
+	}
+
+	/////////////////////////////////////////////////
+	// Bulk Functions (primitive)
+	/////////////////////////////////////////////////
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.op.PrimitiveArithmeticOperator#add(java.lang.Object, java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public void add(long[] aA, long[] aB, long[] rOut)
+	{
+		_checkLength(aA.length, aB.length, rOut.length);
+		if(isBuiltin()) for(int i=0;i<rOut.length;i++) rOut[i] = aA[i] + aB[i];
+		else for(int i=0;i<rOut.length;i++) rOut[i] = mLongAdd.applyAsLong(aA[i], aB[i]);
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.op.PrimitiveArithmeticOperator#sub(java.lang.Object, java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public void sub(long[] aA, long[] aB, long[] rOut)
+	{
+		_checkLength(aA.length, aB.length, rOut.length);
+		if(isBuiltin()) for(int i=0;i<rOut.length;i++) rOut[i] = aA[i] - aB[i];
+		else for(int i=0;i<rOut.length;i++) rOut[i] = mLongSub.applyAsLong(aA[i], aB[i]);
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.op.PrimitiveArithmeticOperator#mpl(java.lang.Object, java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public void mpl(long[] aA, long[] aB, long[] rOut)
+	{
+		_checkLength(aA.length, aB.length, rOut.length);
+		if(isBuiltin()) for(int i=0;i<rOut.length;i++) rOut[i] = aA[i] * aB[i];
+		else for(int i=0;i<rOut.length;i++) rOut[i] = mLongMpl.applyAsLong(aA[i], aB[i]);
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.op.PrimitiveArithmeticOperator#div(java.lang.Object, java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public void div(long[] aA, long[] aB, long[] rOut)
+	{
+		_checkLength(aA.length, aB.length, rOut.length);
+		if(isBuiltin()) for(int i=0;i<rOut.length;i++) rOut[i] = aA[i] / aB[i];
+		else for(int i=0;i<rOut.length;i++) rOut[i] = mLongDiv.applyAsLong(aA[i], aB[i]);
+	}
+
+	/**
+	 * Dot product (sum of a[i] * b[i], summed up in ascending order).
+	 *
+	 * @param aA the reference a
+	 * @param aB the reference b
+	 * @return the long
+	 */
+	public long dot(long[] aA, long[] aB)
+	{
+		_checkLength(aA.length, aB.length, aA.length);
+		long rVal = mLongZero;
+		if(isBuiltin()) for(int i=0;i<aA.length;i++) rVal += aA[i] * aB[i];
+		else for(int i=0;i<aA.length;i++) rVal = mLongAdd.applyAsLong(rVal, mLongMpl.applyAsLong(aA[i], aB[i]));
+		return rVal;
+	}
+
+	/**
+	 * Sum (summed up in ascending order).
+	 *
+	 * @param aArr the reference array
+	 * @return the long
+	 */
+	public long sum(long[] aArr)
+	{
+		long rVal = mLongZero;
+		if(isBuiltin()) for(long iArr:aArr) rVal += iArr;
+		else for(long iArr:aArr) rVal = mLongAdd.applyAsLong(rVal, iArr);
+		return rVal;
+	}
+
+	/**
+	 * Axpy, adds a scaled array to another array in place (y[i] = alpha * x[i] + y[i]).
+	 *
+	 * @param aAlpha the reference alpha
+	 * @param aX the reference x
+	 * @param rY the return y (overwritten)
+	 */
+	public void axpy(long aAlpha, long[] aX, long[] rY)
+	{
+		_checkLength(aX.length, rY.length, rY.length);
+		if(isBuiltin()) for(int i=0;i<rY.length;i++) rY[i] = aAlpha * aX[i] + rY[i];
+		else for(int i=0;i<rY.length;i++) rY[i] = mLongAdd.applyAsLong(mLongMpl.applyAsLong(aAlpha, aX[i]), rY[i]);
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.op.PrimitiveArithmeticOperator#prefixSum(java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public void prefixSum(long[] aArr, long[] rOut)
+	{
+		_checkLength(aArr.length, rOut.length, rOut.length);
+		long lSum = mLongZero;
+		if(isBuiltin()) for(int i=0;i<rOut.length;i++) rOut[i] = lSum += aArr[i];
+		else for(int i=0;i<rOut.length;i++) rOut[i] = lSum = mLongAdd.applyAsLong(lSum, aArr[i]);
+	}
+
+	/**
+	 * Dot product of boxed arrays, summed up without boxing the intermediate results.
+	 *
+	 * @param aA the reference a
+	 * @param aB the reference b
+	 * @return the long
+	 */
+	@Override
+	public Long dot(Long[] aA, Long[] aB)
+	{
+		_checkLength(aA.length, aB.length, aA.length);
+		long rVal = mLongZero;
+		if(isBuiltin()) for(int i=0;i<aA.length;i++) rVal += aA[i] * aB[i];
+		else for(int i=0;i<aA.length;i++) rVal = mLongAdd.applyAsLong(rVal, mLongMpl.applyAsLong(aA[i], aB[i]));
+		return rVal;
+	}
+
+	/**
+	 * Sum of a boxed array, summed up without boxing the intermediate results.
+	 *
+	 * @param aArr the reference array
+	 * @return the long
+	 */
+	@Override
+	public Long sum(Long[] aArr)
+	{
+		long rVal = mLongZero;
+		if(isBuiltin()) for(Long iArr:aArr) rVal += iArr;
+		else for(Long iArr:aArr) rVal = mLongAdd.applyAsLong(rVal, iArr);
+		return rVal;
+	}
+
+	/**
+	 * Axpy of boxed arrays, only the result is boxed.
+	 *
+	 * @param aAlpha the reference alpha
+	 * @param aX the reference x
+	 * @param rY the return y (overwritten)
+	 */
+	@Override
+	public void axpy(Long aAlpha, Long[] aX, Long[] rY)
+	{
+		_checkLength(aX.length, rY.length, rY.length);
+		long lAlpha = aAlpha;
+		if(isBuiltin()) for(int i=0;i<rY.length;i++) rY[i] = lAlpha * aX[i] + rY[i];
+		else for(int i=0;i<rY.length;i++) rY[i] = mLongAdd.applyAsLong(mLongMpl.applyAsLong(lAlpha, aX[i]), rY[i]);
+	}
+}
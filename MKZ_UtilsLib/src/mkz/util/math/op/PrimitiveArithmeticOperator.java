@@ -0,0 +1,105 @@
+/**
+ * File: MKZ_UtilsLib::PrimitiveArithmeticOperator.java
+ *
+ * @author Aleistar Markóczy
+ *
+ */
+package mkz.util.math.op;
+
+import java.util.Comparator;
+import java.util.function.BiFunction;
+
+import mkz.util.math.AOP;
+
+/**
+ * The Class PrimitiveArithmeticOperator. Common base of the operators with primitive variants of the basic
+ * operations ({@link mkz.util.math.op.DoubleArithmeticOperator DoubleArithmeticOperator},
+ * {@link mkz.util.math.op.LongArithmeticOperator LongArithmeticOperator} and
+ * {@link mkz.util.math.op.IntArithmeticOperator IntArithmeticOperator}), A is the primitive array type of the bulk
+ * functions. The bulk functions of the predefined operators ({@link #isBuiltin()}) are plain loops with the java
+ * operators, the other operators apply their functions per element, the results are identical.
+ *
+ * @param <T> the generic type
+ * @param <A> the primitive array type (e.g. double[])
+ */
+public abstract class PrimitiveArithmeticOperator<T extends Number, A> extends ArithmeticOperator<T>
+{
+	/**
+	 * Instantiates a new primitive arithmetic operator, see
+	 * {@link mkz.util.math.op.ArithmeticOperator#ArithmeticOperator(Object, Object, BiFunction, BiFunction, BiFunction, BiFunction, BiFunction, Comparator) ArithmeticOperator}.
+	 *
+	 * @param aZeroValue the reference zero value
+	 * @param aOneValue the reference one value
+	 * @param aAddFunction the reference add function
+	 * @param aSubtractFunction the reference subtract function
+	 * @param aMultiplyFunction the reference multiply function
+	 * @param aDivisionFunction the reference division function
+	 * @param aModulusFunction the reference modulus function
+	 * @param aNumberComparator the reference number comparator
+	 */
+	protected PrimitiveArithmeticOperator(T aZeroValue, T aOneValue, BiFunction<T, T, T> aAddFunction, BiFunction<T, T, T> aSubtractFunction,
+			BiFunction<T, T, T> aMultiplyFunction, BiFunction<T, T, T> aDivisionFunction, BiFunction<T, T, T> aModulusFunction, Comparator<T> aNumberComparator)
+	{
+		super(aZeroValue, aOneValue, aAddFunction, aSubtractFunction, aMultiplyFunction, aDivisionFunction, aModulusFunction, aNumberComparator);
+	}
+
+	/**
+	 * Checks if this is one of the predefined operators ({@link mkz.util.math.AOP#INT AOP::INT},
+	 * {@link mkz.util.math.AOP#LONG AOP::LONG} or {@link mkz.util.math.AOP#DOUBLE AOP::DOUBLE}, recognized by
+	 * identity), whose functions are the plain java operators.
+	 *
+	 * @return true, if is builtin
+	 */
+	public final boolean isBuiltin()
+	{
+		return this == AOP.DOUBLE || this == AOP.LONG || this == AOP.INT;
+	}
+
+	/////////////////////////////////////////////////
+	// Bulk Functions (primitive)
+	/////////////////////////////////////////////////
+
+	/**
+	 * Element-wise addition of two arrays (out[i] = a[i] + b[i]), the output may be one of the inputs.
+	 *
+	 * @param aA the reference a
+	 * @param aB the reference b
+	 * @param rOut the return output array
+	 */
+	public abstract void add(A aA, A aB, A rOut);
+
+	/**
+	 * Element-wise subtraction of two arrays (out[i] = a[i] - b[i]), the output may be one of the inputs.
+	 *
+	 * @param aA the reference a
+	 * @param aB the reference b
+	 * @param rOut the return output array
+	 */
+	public abstract void sub(A aA, A aB, A rOut);
+
+	/**
+	 * Element-wise multiplication of two arrays (out[i] = a[i] * b[i]), the output may be one of the inputs.
+	 *
+	 * @param aA the reference a
+	 * @param aB the reference b
+	 * @param rOut the return output array
+	 */
+	public abstract void mpl(A aA, A aB, A rOut);
+
+	/**
+	 * Element-wise division of two arrays (out[i] = a[i] / b[i]), the output may be one of the inputs.
+	 *
+	 * @param aA the reference a
+	 * @param aB the reference b
+	 * @param rOut the return output array
+	 */
+	public abstract void div(A aA, A aB, A rOut);
+
+	/**
+	 * Prefix sum (out[i] = a[0] + ... + a[i]), the output may be the input.
+	 *
+	 * @param aArr the reference array
+	 * @param rOut the return output array
+	 */
+	public abstract void prefixSum(A aArr, A rOut);
+}
@@ -0,0 +1,150 @@
+/**
+ * File: MKZ_UtilsLib::ScalarKernels.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.math.simd;
+
+import mkz.util.math.simd.definition.IVectorKernels;
+
+/**
+ * The Class ScalarKernels. Plain loop implementation of the kernels, used when the Vector API isn't available.
+ */
+public class ScalarKernels implements IVectorKernels
+{
+	/* (non-Javadoc)
+	 * @see mkz.util.math.simd.definition.IVectorKernels#add(double[], double[], double[])
+	 */
+	@Override
+	public void add(double[] aA, double[] aB, double[] rOut)
+	{
+		_checkLength(aA.length, aB.length, rOut.length);
+		for (int i = 0; i < rOut.length; i++) rOut[i] = aA[i] + aB[i];
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.simd.definition.IVectorKernels#sub(double[], double[], double[])
+	 */
+	@Override
+	public void sub(double[] aA, double[] aB, double[] rOut)
+	{
+		_checkLength(aA.length, aB.length, rOut.length);
+		for (int i = 0; i < rOut.length; i++) rOut[i] = aA[i] - aB[i];
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.simd.definition.IVectorKernels#mpl(double[], double[], double[])
+	 */
+	@Override
+	public void mpl(double[] aA, double[] aB, double[] rOut)
+	{
+		_checkLength(aA.length, aB.length, rOut.length);
+		for (int i = 0; i < rOut.length; i++) rOut[i] = aA[i] * aB[i];
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.simd.definition.IVectorKernels#scale(double[], double, double[])
+	 */
+	@Override
+	public void scale(double[] aA, double aScale, double[] rOut)
+	{
+		_checkLength(aA.length, rOut.length, rOut.length);
+		for (int i = 0; i < rOut.length; i++) rOut[i] = aA[i] * aScale;
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.simd.definition.IVectorKernels#axpy(double, double[], int, double[], int, int)
+	 */
+	@Override
+	public void axpy(double aAlpha, double[] aX, int aOffX, double[] rY, int aOffY, int aLength)
+	{
+		for (int i = 0; i < aLength; i++) rY[aOffY + i] += aAlpha * aX[aOffX + i];
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.simd.definition.IVectorKernels#dot(double[], double[])
+	 */
+	@Override
+	public double dot(double[] aA, double[] aB)
+	{
+		_checkLength(aA.length, aB.length, aA.length);
+		double rVal = 0;
+		for (int i = 0; i < aA.length; i++) rVal += aA[i] * aB[i];
+		return rVal;
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.simd.definition.IVectorKernels#add(float[], float[], float[])
+	 */
+	@Override
+	public void add(float[] aA, float[] aB, float[] rOut)
+	{
+		_checkLength(aA.length, aB.length, rOut.length);
+		for (int i = 0; i < rOut.length; i++) rOut[i] = aA[i] + aB[i];
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.simd.definition.IVectorKernels#sub(float[], float[], float[])
+	 */
+	@Override
+	public void sub(float[] aA, float[] aB, float[] rOut)
+	{
+		_checkLength(aA.length, aB.length, rOut.length);
+		for (int i = 0; i < rOut.length; i++) rOut[i] = aA[i] - aB[i];
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.simd.definition.IVectorKernels#mpl(float[], float[], float[])
+	 */
+	@Override
+	public void mpl(float[] aA, float[] aB, float[] rOut)
+	{
+		_checkLength(aA.length, aB.length, rOut.length);
+		for (int i = 0; i < rOut.length; i++) rOut[i] = aA[i] * aB[i];
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.simd.definition.IVectorKernels#scale(float[], float, float[])
+	 */
+	@Override
+	public void scale(float[] aA, float aScale, float[] rOut)
+	{
+		_checkLength(aA.length, rOut.length, rOut.length);
+		for (int i = 0; i < rOut.length; i++) rOut[i] = aA[i] * aScale;
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.simd.definition.IVectorKernels#axpy(float, float[], int, float[], int, int)
+	 */
+	@Override
+	public void axpy(float aAlpha, float[] aX, int aOffX, float[] rY, int aOffY, int aLength)
+	{
+		for (int i = 0; i < aLength; i++) rY[aOffY + i] += aAlpha * aX[aOffX + i];
+	}
+
+	/* (non-Javadoc)
+	 * @see mkz.util.math.simd.definition.IVectorKernels#dot(float[], float[])
+	 */
+	@Override
+	public float dot(float[] aA, float[] aB)
+	{
+		_checkLength(aA.length, aB.length, aA.length);
+		float rVal = 0;
+		for (int i = 0; i < aA.length; i++) rVal += aA[i] * aB[i];
+		return rVal;
+	}
+
+	/**
+	 * [restricted] Checks that the arrays have the same length.
+	 *
+	 * @param aLength1 the reference length 1
+	 * @param aLength2 the reference length 2
+	 * @param aLength3 the reference length 3
+	 * @throws IllegalArgumentException if the lengths mismatch
+	 */
+	protected static void _checkLength(int aLength1, int aLength2, int aLength3)
+	{
+		if (aLength1 != aLength2 || aLength1 != aLength3) throw new IllegalArgumentException("Array lengths must match: " + aLength1 + ", " + aLength2 + ", " + aLength3);
+	}
+}
@@ -0,0 +1,74 @@
+/**
+ * File: MKZ_UtilsLib::VectorKernels.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.math.simd;
+
+import mkz.util.math.simd.definition.IVectorKernels;
+
+/**
+ * The Class VectorKernels. Gives access to the best available {@link mkz.util.math.simd.definition.IVectorKernels kernels}.
+ * The SIMD kernels (Vector API) are used if the library has been built on JDK 17+ (Maven profile "vector-api") and the
+ * JVM runs with "--add-modules jdk.incubator.vector", otherwise the scalar kernels are used. The SIMD kernels can be
+ * disabled by the system property "mkz.simd=false".
+ */
+public class VectorKernels
+{
+	/** The name of the SIMD implementation (loaded reflectively, compiled from src-jdk17). */
+	private static final String VECTOR_API_KERNELS = "mkz.util.math.simd.VectorApiKernels";
+
+	/** The member kernels. */
+	private static final IVectorKernels mKernels = _load();
+
+	/**
+	 * Instantiates a new vector kernels.
+	 */
+	private VectorKernels()
+	{
+	}
+
+	/**
+	 * Gets the kernels.
+	 *
+	 * @return the kernels
+	 */
+	public static IVectorKernels get()
+	{
+		return mKernels;
+	}
+
+	/**
+	 * Checks if the SIMD kernels are used.
+	 *
+	 * @return true, if is vectorized
+	 */
+	public static boolean isVectorized()
+	{
+		return !(mKernels.getClass() == ScalarKernels.class);
+	}
+
+	/**
+	 * [restricted] Loads the SIMD kernels, falls back to the scalar kernels if the class or the module
+	 * jdk.incubator.vector is missing (or the JVM is older than the class).
+	 *
+	 * @return the vector kernels
+	 */
+	private static IVectorKernels _load()
+	{
+		if ("false".equalsIgnoreCase(System.getProperty("mkz.simd"))) return new ScalarKernels();
+
+		try
+		{
+			IVectorKernels rVal = (IVectorKernels) Class.forName(VECTOR_API_KERNELS).getConstructor().newInstance();
+			// touch the species, fails here if the module isn't resolved
+			rVal.dot(new double[1], new double[1]);
+			return rVal;
+		}
+		catch (Throwable t)
+		{
+			return new ScalarKernels();
+		}
+	}
+}
@@ -0,0 +1,130 @@
+/**
+ * File: MKZ_UtilsLib::IVectorKernels.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.util.math.simd.definition;
+
+/**
+ * The Interface IVectorKernels. Kernels of the double and float hot loops (element-wise operations, dot product and
+ * the axpy inner loop of the matrix multiplication). Implemented by a scalar fallback and, on JDK 17+ with the module
+ * jdk.incubator.vector, by SIMD kernels, see {@link mkz.util.math.simd.VectorKernels VectorKernels}. Except for the dot
+ * product, all implementations give bit-identical results (no fused multiply-add).
+ */
+public interface IVectorKernels
+{
+	/**
+	 * Element-wise addition (out[i] = a[i] + b[i]), the output may be one of the inputs.
+	 *
+	 * @param aA the reference a
+	 * @param aB the reference b
+	 * @param rOut the return output array
+	 */
+	public void add(double[] aA, double[] aB, double[] rOut);
+
+	/**
+	 * Element-wise subtraction (out[i] = a[i] - b[i]), the output may be one of the inputs.
+	 *
+	 * @param aA the reference a
+	 * @param aB the reference b
+	 * @param rOut the return output array
+	 */
+	public void sub(double[] aA, double[] aB, double[] rOut);
+
+	/**
+	 * Element-wise multiplication (out[i] = a[i] * b[i]), the output may be one of the inputs.
+	 *
+	 * @param aA the reference a
+	 * @param aB the reference b
+	 * @param rOut the return output array
+	 */
+	public void mpl(double[] aA, double[] aB, double[] rOut);
+
+	/**
+	 * Scales an array (out[i] = a[i] * scale), the output may be the input.
+	 *
+	 * @param aA the reference a
+	 * @param aScale the reference scale
+	 * @param rOut the return output array
+	 */
+	public void scale(double[] aA, double aScale, double[] rOut);
+
+	/**
+	 * Axpy on array ranges (y[offY+i] = alpha * x[offX+i] + y[offY+i] for i in 0..length-1), the inner loop of the matrix multiplication.
+	 *
+	 * @param aAlpha the reference alpha
+	 * @param aX the reference x
+	 * @param aOffX the reference offset of x
+	 * @param rY the return y (overwritten)
+	 * @param aOffY the reference offset of y
+	 * @param aLength the reference length
+	 */
+	public void axpy(double aAlpha, double[] aX, int aOffX, double[] rY, int aOffY, int aLength);
+
+	/**
+	 * Dot product. The SIMD implementation sums up in lanes, the result may differ from the scalar sum in the last bits.
+	 *
+	 * @param aA the reference a
+	 * @param aB the reference b
+	 * @return the double
+	 */
+	public double dot(double[] aA, double[] aB);
+
+	/**
+	 * Element-wise addition (out[i] = a[i] + b[i]), the output may be one of the inputs.
+	 *
+	 * @param aA the reference a
+	 * @param aB the reference b
+	 * @param rOut the return output array
+	 */
+	public void add(float[] aA, float[] aB, float[] rOut);
+
+	/**
+	 * Element-wise subtraction (out[i] = a[i] - b[i]), the output may be one of the inputs.
+	 *
+	 * @param aA the reference a
+	 * @param aB the reference b
+	 * @param rOut the return output array
+	 */
+	public void sub(float[] aA, float[] aB, float[] rOut);
+
+	/**
+	 * Element-wise multiplication (out[i] = a[i] * b[i]), the output may be one of the inputs.
+	 *
+	 * @param aA the reference a
+	 * @param aB the reference b
+	 * @param rOut the return output array
+	 */
+	public void mpl(float[] aA, float[] aB, float[] rOut);
+
+	/**
+	 * Scales an array (out[i] = a[i] * scale), the output may be the input.
+	 *
+	 * @param aA the reference a
+	 * @param aScale the reference scale
+	 * @param rOut the return output array
+	 */
+	public void scale(float[] aA, float aScale, float[] rOut);
+
+	/**
+	 * Axpy on array ranges (y[offY+i] = alpha * x[offX+i] + y[offY+i] for i in 0..length-1), the inner loop of the matrix multiplication.
+	 *
+	 * @param aAlpha the reference alpha
+	 * @param aX the reference x
+	 * @param aOffX the reference offset of x
+	 * @param rY the return y (overwritten)
+	 * @param aOffY the reference offset of y
+	 * @param aLength the reference length
+	 */
+	public void axpy(float aAlpha, float[] aX, int aOffX, float[] rY, int aOffY, int aLength);
+
+	/**
+	 * Dot product. The SIMD implementation sums up in lanes, the result may differ from the scalar sum in the last bits.
+	 *
+	 * @param aA the reference a
+	 * @param aB the reference b
+	 * @return the float
+	 */
+	public float dot(float[] aA, float[] aB);
+}
@@ -0,0 +1,107 @@
+/**
+ * File: MKZ_UtilsLib_Bench::ArithmeticBenchmark.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mkz.util.math.AOP;
+
+/**
+ * The Class ArithmeticBenchmark. Measures the boxing overhead of the generic {@link mkz.util.math.op.ArithmeticOperator
+ * ArithmeticOperator} against plain primitive arithmetic (dot product of two arrays).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArithmeticBenchmark
+{
+	/** The length of the arrays. */
+	@Param({ "1024", "65536" })
+	public int length;
+
+	/** The member primitive values. */
+	private double[] mA, mB;
+
+	/** The member boxed values. */
+	private Double[] mBoxedA, mBoxedB;
+
+	/**
+	 * Setup.
+	 */
+	@Setup
+	public void setup()
+	{
+		Random lRnd = new Random(BenchData.SEED);
+		mA = new double[length];
+		mB = new double[length];
+		mBoxedA = new Double[length];
+		mBoxedB = new Double[length];
+
+		for (int i = 0; i < length; i++)
+		{
+			mA[i] = lRnd.nextDouble();
+			mB[i] = lRnd.nextDouble();
+			mBoxedA[i] = mA[i];
+			mBoxedB[i] = mB[i];
+		}
+	}
+
+	/**
+	 * Dot product with primitive doubles (baseline).
+	 *
+	 * @return the double
+	 */
+	@Benchmark
+	public double dotPrimitive()
+	{
+		double rVal = 0;
+		for (int i = 0; i < length; i++) rVal += mA[i] * mB[i];
+		return rVal;
+	}
+
+	/**
+	 * Dot product with boxed doubles and plain arithmetic (cost of unboxing/boxing only).
+	 *
+	 * @return the double
+	 */
+	@Benchmark
+	public Double dotBoxed()
+	{
+		Double rVal = 0d;
+		for (int i = 0; i < length; i++) rVal = rVal + mBoxedA[i] * mBoxedB[i];
+		return rVal;
+	}
+
+	/**
+	 * Dot product through {@link mkz.util.math.AOP#DOUBLE AOP::DOUBLE} (boxing plus functional dispatch).
+	 *
+	 * @return the double
+	 */
+	@Benchmark
+	public Double dotOperator()
+	{
+		Double rVal = AOP.DOUBLE.getZero();
+		for (int i = 0; i < length; i++) rVal = AOP.DOUBLE.add(rVal, AOP.DOUBLE.mpl(mBoxedA[i], mBoxedB[i]));
+		return rVal;
+	}
+}
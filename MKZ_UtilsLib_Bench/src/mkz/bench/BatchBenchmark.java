@@ -0,0 +1,88 @@
+/**
+ * File: MKZ_UtilsLib_Bench::BatchBenchmark.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mkz.util.math.AOP;
+import mkz.util.math.matrix.Matrix;
+import mkz.util.math.matrix.debug.MatrixException;
+import mkz.util.math.matrix.op.BatchResult;
+
+/**
+ * The Class BatchBenchmark. Measures the inversion of many small matrices in a loop against
+ * {@link mkz.util.math.matrix.op.MatrixOperator#invertAll(List) MatrixOperator::invertAll}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BatchBenchmark
+{
+	/** The number of matrices. */
+	@Param({ "10000" })
+	public int count;
+
+	/** The size of the matrices. */
+	@Param({ "4", "16" })
+	public int size;
+
+	/** The member matrices. */
+	private List<Matrix<Double>> mMatrices;
+
+	/**
+	 * Setup.
+	 */
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void setup()
+	{
+		mMatrices = new ArrayList<Matrix<Double>>(count);
+		for (int i = 0; i < count; i++) mMatrices.add((Matrix<Double>) (Matrix<?>) BenchData.matrix("DOUBLE", size, BenchData.SEED + i));
+	}
+
+	/**
+	 * Invert one by one (baseline).
+	 *
+	 * @return the list
+	 * @throws MatrixException the matrix exception
+	 */
+	@Benchmark
+	public List<Matrix<Double>> invertLoop() throws MatrixException
+	{
+		List<Matrix<Double>> rVal = new ArrayList<Matrix<Double>>(count);
+		for (Matrix<Double> iMatrix : mMatrices) rVal.add(AOP.MTX.DOUBLE.invert(iMatrix));
+		return rVal;
+	}
+
+	/**
+	 * Invert as batch on the fork join pool.
+	 *
+	 * @return the batch result
+	 */
+	@Benchmark
+	public BatchResult<Matrix<Double>> invertAll()
+	{
+		return AOP.MTX.DOUBLE.invertAll(mMatrices);
+	}
+}
@@ -0,0 +1,95 @@
+/**
+ * File: MKZ_UtilsLib_Bench::BenchData.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.bench;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import mkz.util.math.AOP;
+import mkz.util.math.matrix.Matrix;
+import mkz.util.math.matrix.op.MatrixOperator;
+
+/**
+ * The Class BenchData. Creates the reproducible (seeded) input data of the benchmarks.
+ */
+public final class BenchData
+{
+	/** The seed of all random data. */
+	public static final long SEED = 42L;
+
+	/**
+	 * Instantiates a new bench data.
+	 */
+	private BenchData()
+	{
+	}
+
+	/**
+	 * Gets the predefined matrix operator of a type (name of the constant in {@link mkz.util.math.AOP.MTX AOP::MTX}).
+	 *
+	 * @param aType the reference type (BYTE, INT, DOUBLE, FLOAT or BIG_DECIMAL)
+	 * @return the matrix operator
+	 */
+	@SuppressWarnings("unchecked")
+	public static MatrixOperator<Object> operator(String aType)
+	{
+		switch (aType)
+		{
+		case "BYTE": return (MatrixOperator<Object>) (MatrixOperator<?>) AOP.MTX.BYTE;
+		case "INT": return (MatrixOperator<Object>) (MatrixOperator<?>) AOP.MTX.INT;
+		case "DOUBLE": return (MatrixOperator<Object>) (MatrixOperator<?>) AOP.MTX.DOUBLE;
+		case "FLOAT": return (MatrixOperator<Object>) (MatrixOperator<?>) AOP.MTX.FLOAT;
+		case "BIG_DECIMAL": return (MatrixOperator<Object>) (MatrixOperator<?>) AOP.MTX.BIG_DECIMAL;
+		default: throw new IllegalArgumentException("Unknown type: " + aType);
+		}
+	}
+
+	/**
+	 * Creates a square matrix of random small integers (1..9) converted to the type, so that exact types
+	 * don't overflow and the matrix is almost never singular.
+	 *
+	 * @param aType the reference type
+	 * @param aSize the reference size
+	 * @param aSeed the reference seed
+	 * @return the matrix
+	 */
+	public static Matrix<Object> matrix(String aType, int aSize, long aSeed)
+	{
+		Random lRnd = new Random(aSeed);
+		Object[][] lContent = new Object[aSize][aSize];
+
+		for (int iY = 0; iY < aSize; iY++)
+		{
+			for (int iX = 0; iX < aSize; iX++)
+			{
+				lContent[iY][iX] = value(aType, 1 + lRnd.nextInt(9));
+			}
+		}
+
+		return new Matrix<Object>(lContent);
+	}
+
+	/**
+	 * Converts an int to the type.
+	 *
+	 * @param aType the reference type
+	 * @param aValue the reference value
+	 * @return the object
+	 */
+	public static Object value(String aType, int aValue)
+	{
+		switch (aType)
+		{
+		case "BYTE": return (byte) aValue;
+		case "INT": return aValue;
+		case "DOUBLE": return (double) aValue;
+		case "FLOAT": return (float) aValue;
+		case "BIG_DECIMAL": return BigDecimal.valueOf(aValue);
+		default: throw new IllegalArgumentException("Unknown type: " + aType);
+		}
+	}
+}
@@ -0,0 +1,98 @@
+/**
+ * File: MKZ_UtilsLib_Bench::FileBenchmark.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.bench;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mkz.util.file.FileHandler;
+
+/**
+ * The Class FileBenchmark. Measures {@link mkz.util.file.FileHandler#loadFileText(String, String) FileHandler::loadFileText}
+ * on generated text files (every tenth line is a comment that gets filtered).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FileBenchmark
+{
+	/** The file size in MB. */
+	@Param({ "1", "16" })
+	public int sizeMB;
+
+	/** The member file. */
+	private Path mFile;
+
+	/**
+	 * Setup.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Setup
+	public void setup() throws IOException
+	{
+		mFile = Files.createTempFile("mkz-bench", ".txt");
+		Random lRnd = new Random(BenchData.SEED);
+		long lBytes = sizeMB * 1024L * 1024L;
+
+		try (BufferedWriter lWriter = Files.newBufferedWriter(mFile, StandardCharsets.UTF_8))
+		{
+			long lWritten = 0;
+			for (int iLine = 0; lWritten < lBytes; iLine++)
+			{
+				String lLine = (iLine % 10 == 0 ? "# comment " : "  value ") + lRnd.nextLong() + " " + lRnd.nextDouble() + "  ";
+				lWriter.write(lLine);
+				lWriter.newLine();
+				lWritten += lLine.length() + 1;
+			}
+		}
+	}
+
+	/**
+	 * Tear down.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@TearDown
+	public void tearDown() throws IOException
+	{
+		Files.deleteIfExists(mFile);
+	}
+
+	/**
+	 * Load file text.
+	 *
+	 * @return the array list
+	 */
+	@Benchmark
+	public ArrayList<String> loadFileText()
+	{
+		return FileHandler.loadFileText(mFile.toString(), "#", StandardCharsets.UTF_8, true);
+	}
+}
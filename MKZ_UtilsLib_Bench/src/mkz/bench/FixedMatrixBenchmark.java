@@ -0,0 +1,138 @@
+/**
+ * File: MKZ_UtilsLib_Bench::FixedMatrixBenchmark.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mkz.util.math.AOP;
+import mkz.util.math.matrix.Matrix;
+import mkz.util.math.matrix.debug.MatrixException;
+import mkz.util.math.matrix.fixed.Matrix4;
+
+/**
+ * The Class FixedMatrixBenchmark. Measures 4x4 mpl, det and invert of {@link mkz.util.math.matrix.fixed.Matrix4 Matrix4}
+ * (allocation free variants) against the generic {@link mkz.util.math.matrix.Matrix Matrix} with
+ * {@link mkz.util.math.AOP.MTX#DOUBLE AOP::MTX::DOUBLE}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FixedMatrixBenchmark
+{
+	/** The member fixed operands and target. */
+	private Matrix4 mA, mB, mTarget;
+
+	/** The member generic operands. */
+	private Matrix<Double> mGenericA, mGenericB;
+
+	/**
+	 * Setup.
+	 */
+	@Setup
+	public void setup()
+	{
+		Random lRnd = new Random(BenchData.SEED);
+		mGenericA = new Matrix<Double>(4, 4, lRnd::nextDouble);
+		mGenericB = new Matrix<Double>(4, 4, lRnd::nextDouble);
+		mTarget = new Matrix4();
+
+		try
+		{
+			mA = Matrix4.createFrom(mGenericA);
+			mB = Matrix4.createFrom(mGenericB);
+		}
+		catch (MatrixException e)
+		{
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Mpl of Matrix4 into a target.
+	 *
+	 * @return the matrix 4
+	 */
+	@Benchmark
+	public Matrix4 mplFixed()
+	{
+		return mA.mpl(mB, mTarget);
+	}
+
+	/**
+	 * Mpl of the generic matrix.
+	 *
+	 * @return the matrix
+	 * @throws MatrixException the matrix exception
+	 */
+	@Benchmark
+	public Matrix<Double> mplGeneric() throws MatrixException
+	{
+		return AOP.MTX.DOUBLE.mpl(mGenericA, mGenericB);
+	}
+
+	/**
+	 * Det of Matrix4.
+	 *
+	 * @return the double
+	 */
+	@Benchmark
+	public double detFixed()
+	{
+		return mA.det();
+	}
+
+	/**
+	 * Det of the generic matrix.
+	 *
+	 * @return the double
+	 * @throws MatrixException the matrix exception
+	 */
+	@Benchmark
+	public double detGeneric() throws MatrixException
+	{
+		return AOP.MTX.DOUBLE.det(mGenericA);
+	}
+
+	/**
+	 * Invert of Matrix4 into a target.
+	 *
+	 * @return the matrix 4
+	 * @throws MatrixException the matrix exception
+	 */
+	@Benchmark
+	public Matrix4 invertFixed() throws MatrixException
+	{
+		return mA.invert(mTarget);
+	}
+
+	/**
+	 * Invert of the generic matrix.
+	 *
+	 * @return the matrix
+	 * @throws MatrixException the matrix exception
+	 */
+	@Benchmark
+	public Matrix<Double> invertGeneric() throws MatrixException
+	{
+		return AOP.MTX.DOUBLE.invert(mGenericA);
+	}
+}
@@ -0,0 +1,113 @@
+/**
+ * File: MKZ_UtilsLib_Bench::IOBenchmark.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import mkz.util.io.IO;
+
+/**
+ * The Class IOBenchmark. Measures the throughput of {@link mkz.util.io.IO#dbOutD(String) IO::dbOutD} with the log level
+ * enabled (message formatted and passed to an override that only consumes it) and disabled (filtered by the log level),
+ * with the synchronous and the asynchronous output (the message is enqueued, the writer thread calls the override).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IOBenchmark
+{
+	/** The logging enabled flag. */
+	@Param({ "true", "false" })
+	public boolean enabled;
+
+	/** The async output flag. */
+	@Param({ "false", "true" })
+	public boolean async;
+
+	/** The member number of messages written by the async writer. */
+	private long mWritten;
+
+	/** The member previous log level. */
+	private int mLogLevel;
+
+	/**
+	 * Setup.
+	 *
+	 * @param aBlackhole the reference blackhole
+	 */
+	@Setup
+	public void setup(Blackhole aBlackhole)
+	{
+		mLogLevel = IO.Options.log_level;
+		IO.Options.log_level = enabled ? IO.Options.LOG_DEBUG : IO.Options.LOG_WARN;
+		if (async)
+		{
+			// the blackhole must not be used by the writer thread
+			IO.Options.debug_print_override = (aMessage) -> mWritten++;
+			IO.setAsync(true);
+		}
+		else
+		{
+			IO.Options.debug_print_override = aBlackhole::consume;
+		}
+	}
+
+	/**
+	 * Tear down.
+	 */
+	@TearDown
+	public void tearDown()
+	{
+		IO.setAsync(false);
+		IO.Options.log_level = mLogLevel;
+		IO.Options.debug_print_override = null;
+	}
+
+	/**
+	 * Db out D.
+	 */
+	@Benchmark
+	public void dbOutD()
+	{
+		IO.dbOutD("benchmark message");
+	}
+
+	/**
+	 * Db out D with a supplier.
+	 */
+	@Benchmark
+	public void dbOutDSupplier()
+	{
+		IO.dbOutD(() -> "benchmark message " + mLogLevel);
+	}
+
+	/**
+	 * Db out D with a format.
+	 */
+	@Benchmark
+	public void dbOutDFormat()
+	{
+		IO.dbOutD("benchmark message {}", mLogLevel);
+	}
+}
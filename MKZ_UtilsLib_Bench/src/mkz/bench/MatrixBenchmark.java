@@ -0,0 +1,217 @@
+/**
+ * File: MKZ_UtilsLib_Bench::MatrixBenchmark.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mkz.util.math.matrix.Matrix;
+import mkz.util.math.matrix.debug.MatrixException;
+import mkz.util.math.matrix.op.MatrixOperator;
+
+/**
+ * The Class MatrixBenchmark. Measures {@link mkz.util.math.matrix.op.MatrixOperator MatrixOperator} mpl, invert and det
+ * across sizes and {@link mkz.util.math.AOP.MTX AOP::MTX} types. Exact types (integers, BigDecimal) use the fraction-free
+ * (Bareiss) elimination for det, whose entries grow with the size, they are measured in a separate state. The parameter
+ * fastPath compares the primitive kernels of the predefined operators with the generic implementation (no effect for
+ * BIG_DECIMAL).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatrixBenchmark
+{
+	/**
+	 * The Class MplState. Input of the multiplication.
+	 */
+	@State(Scope.Benchmark)
+	public static class MplState
+	{
+		/** The type. */
+		@Param({ "INT", "DOUBLE", "FLOAT", "BIG_DECIMAL" })
+		public String type;
+
+		/** The size. */
+		@Param({ "16", "64", "256" })
+		public int size;
+
+		/** The fast path flag. */
+		@Param({ "true", "false" })
+		public boolean fastPath;
+
+		/** The operator. */
+		MatrixOperator<Object> mOp;
+
+		/** The member m1. */
+		Matrix<Object> mM1;
+
+		/** The member m2. */
+		Matrix<Object> mM2;
+
+		/**
+		 * Setup.
+		 */
+		@Setup
+		public void setup()
+		{
+			mOp = BenchData.operator(type);
+			mOp.setFastPath(fastPath);
+			mM1 = BenchData.matrix(type, size, BenchData.SEED);
+			mM2 = BenchData.matrix(type, size, BenchData.SEED + 1);
+		}
+	}
+
+	/**
+	 * The Class FloatingState. Input of invert and det for floating types.
+	 */
+	@State(Scope.Benchmark)
+	public static class FloatingState
+	{
+		/** The type. */
+		@Param({ "DOUBLE", "FLOAT" })
+		public String type;
+
+		/** The size. */
+		@Param({ "8", "32", "128" })
+		public int size;
+
+		/** The fast path flag. */
+		@Param({ "true", "false" })
+		public boolean fastPath;
+
+		/** The operator. */
+		MatrixOperator<Object> mOp;
+
+		/** The member m. */
+		Matrix<Object> mM;
+
+		/**
+		 * Setup.
+		 */
+		@Setup
+		public void setup()
+		{
+			mOp = BenchData.operator(type);
+			mOp.setFastPath(fastPath);
+			mM = BenchData.matrix(type, size, BenchData.SEED);
+		}
+	}
+
+	/**
+	 * The Class ExactState. Input of det for exact types.
+	 */
+	@State(Scope.Benchmark)
+	public static class ExactState
+	{
+		/** The type. */
+		@Param({ "INT", "BIG_DECIMAL" })
+		public String type;
+
+		/** The size. */
+		@Param({ "4", "8", "32" })
+		public int size;
+
+		/** The fast path flag. */
+		@Param({ "true", "false" })
+		public boolean fastPath;
+
+		/** The operator. */
+		MatrixOperator<Object> mOp;
+
+		/** The member m. */
+		Matrix<Object> mM;
+
+		/**
+		 * Setup.
+		 */
+		@Setup
+		public void setup()
+		{
+			mOp = BenchData.operator(type);
+			mOp.setFastPath(fastPath);
+			mM = BenchData.matrix(type, size, BenchData.SEED);
+		}
+	}
+
+	/**
+	 * Mpl.
+	 *
+	 * @param aState the reference state
+	 * @return the matrix
+	 * @throws MatrixException the matrix exception
+	 */
+	@Benchmark
+	public Matrix<Object> mpl(MplState aState) throws MatrixException
+	{
+		return aState.mOp.mpl(aState.mM1, aState.mM2);
+	}
+
+	/**
+	 * Mpl by Strassen-Winograd with the default cutoff (only recurses for the sizes above the cutoff).
+	 *
+	 * @param aState the reference state
+	 * @return the matrix
+	 * @throws MatrixException the matrix exception
+	 */
+	@Benchmark
+	public Matrix<Object> mplStrassen(MplState aState) throws MatrixException
+	{
+		return aState.mOp.mplStrassen(aState.mM1, aState.mM2);
+	}
+
+	/**
+	 * Invert.
+	 *
+	 * @param aState the reference state
+	 * @return the matrix
+	 * @throws MatrixException the matrix exception
+	 */
+	@Benchmark
+	public Matrix<Object> invert(FloatingState aState) throws MatrixException
+	{
+		return aState.mOp.invert(aState.mM);
+	}
+
+	/**
+	 * Det.
+	 *
+	 * @param aState the reference state
+	 * @return the object
+	 * @throws MatrixException the matrix exception
+	 */
+	@Benchmark
+	public Object det(FloatingState aState) throws MatrixException
+	{
+		return aState.mOp.det(aState.mM);
+	}
+
+	/**
+	 * Det exact.
+	 *
+	 * @param aState the reference state
+	 * @return the object
+	 * @throws MatrixException the matrix exception
+	 */
+	@Benchmark
+	public Object detExact(ExactState aState) throws MatrixException
+	{
+		return aState.mOp.det(aState.mM);
+	}
+}
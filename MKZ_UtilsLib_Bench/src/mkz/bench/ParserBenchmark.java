@@ -0,0 +1,100 @@
+/**
+ * File: MKZ_UtilsLib_Bench::ParserBenchmark.java
+ *
+ * @author Aleistar MarkÃ³czy
+ *
+ */
+package mkz.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mkz.util.jcli.Parser;
+
+/**
+ * The Class ParserBenchmark. Measures the dispatch of {@link mkz.util.jcli.Parser#exec(String[]) Parser::exec} with many
+ * registered commands, calling the first, the middle and the last registered command.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParserBenchmark
+{
+	/** The number of commands. */
+	@Param({ "10", "100", "1000" })
+	public int commands;
+
+	/** The member parser. */
+	private Parser<Integer> mParser;
+
+	/** The member calls. */
+	private String[] mFirst, mMiddle, mLast;
+
+	/**
+	 * Setup.
+	 */
+	@Setup
+	public void setup()
+	{
+		mParser = new Parser<Integer>();
+		for (int i = 0; i < commands; i++)
+		{
+			final int lIdx = i;
+			mParser.addCommand("cmd" + i, (a) -> lIdx);
+		}
+
+		mFirst = new String[] { "cmd0", "arg" };
+		mMiddle = new String[] { "cmd" + commands / 2, "arg" };
+		mLast = new String[] { "cmd" + (commands - 1), "arg" };
+	}
+
+	/**
+	 * Exec first.
+	 *
+	 * @return the integer
+	 * @throws Exception the exception
+	 */
+	@Benchmark
+	public Integer execFirst() throws Exception
+	{
+		return mParser.exec(mFirst);
+	}
+
+	/**
+	 * Exec middle.
+	 *
+	 * @return the integer
+	 * @throws Exception the exception
+	 */
+	@Benchmark
+	public Integer execMiddle() throws Exception
+	{
+		return mParser.exec(mMiddle);
+	}
+
+	/**
+	 * Exec last.
+	 *
+	 * @return the integer
+	 * @throws Exception the exception
+	 */
+	@Benchmark
+	public Integer execLast() throws Exception
+	{
+		return mParser.exec(mLast);
+	}
+}